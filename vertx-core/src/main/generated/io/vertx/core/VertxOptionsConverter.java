@@ -22,6 +22,21 @@ public class VertxOptionsConverter {
             obj.setWorkerPoolSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "workerPoolMinSize":
+          if (member.getValue() instanceof Number) {
+            obj.setWorkerPoolMinSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "workerPoolTargetLatency":
+          if (member.getValue() instanceof Number) {
+            obj.setWorkerPoolTargetLatency(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "workerPoolTargetLatencyUnit":
+          if (member.getValue() instanceof String) {
+            obj.setWorkerPoolTargetLatencyUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
         case "blockedThreadCheckInterval":
           if (member.getValue() instanceof Number) {
             obj.setBlockedThreadCheckInterval(((Number)member.getValue()).longValue());
@@ -122,6 +137,36 @@ public class VertxOptionsConverter {
             obj.setUseDaemonThread((Boolean)member.getValue());
           }
           break;
+        case "timerWheelEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setTimerWheelEnabled((Boolean)member.getValue());
+          }
+          break;
+        case "timerWheelTickDuration":
+          if (member.getValue() instanceof Number) {
+            obj.setTimerWheelTickDuration(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "timerWheelTickDurationUnit":
+          if (member.getValue() instanceof String) {
+            obj.setTimerWheelTickDurationUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
+        case "eventLoopSamplingInterval":
+          if (member.getValue() instanceof Number) {
+            obj.setEventLoopSamplingInterval(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "eventLoopSamplingIntervalUnit":
+          if (member.getValue() instanceof String) {
+            obj.setEventLoopSamplingIntervalUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
+        case "eventLoopSlowTaskSamples":
+          if (member.getValue() instanceof Number) {
+            obj.setEventLoopSlowTaskSamples(((Number)member.getValue()).intValue());
+          }
+          break;
       }
     }
   }
@@ -133,6 +178,11 @@ public class VertxOptionsConverter {
    static void toJson(VertxOptions obj, java.util.Map<String, Object> json) {
     json.put("eventLoopPoolSize", obj.getEventLoopPoolSize());
     json.put("workerPoolSize", obj.getWorkerPoolSize());
+    json.put("workerPoolMinSize", obj.getWorkerPoolMinSize());
+    json.put("workerPoolTargetLatency", obj.getWorkerPoolTargetLatency());
+    if (obj.getWorkerPoolTargetLatencyUnit() != null) {
+      json.put("workerPoolTargetLatencyUnit", obj.getWorkerPoolTargetLatencyUnit().name());
+    }
     json.put("blockedThreadCheckInterval", obj.getBlockedThreadCheckInterval());
     json.put("maxEventLoopExecuteTime", obj.getMaxEventLoopExecuteTime());
     json.put("maxWorkerExecuteTime", obj.getMaxWorkerExecuteTime());
@@ -175,5 +225,15 @@ public class VertxOptionsConverter {
     if (obj.getUseDaemonThread() != null) {
       json.put("useDaemonThread", obj.getUseDaemonThread());
     }
+    json.put("timerWheelEnabled", obj.isTimerWheelEnabled());
+    json.put("timerWheelTickDuration", obj.getTimerWheelTickDuration());
+    if (obj.getTimerWheelTickDurationUnit() != null) {
+      json.put("timerWheelTickDurationUnit", obj.getTimerWheelTickDurationUnit().name());
+    }
+    json.put("eventLoopSamplingInterval", obj.getEventLoopSamplingInterval());
+    if (obj.getEventLoopSamplingIntervalUnit() != null) {
+      json.put("eventLoopSamplingIntervalUnit", obj.getEventLoopSamplingIntervalUnit().name());
+    }
+    json.put("eventLoopSlowTaskSamples", obj.getEventLoopSlowTaskSamples());
   }
 }
@@ -77,6 +77,41 @@ public class EventBusOptionsConverter {
             obj.setClusterNodeMetadata(((JsonObject)member.getValue()).copy());
           }
           break;
+        case "clusterWriteBatching":
+          if (member.getValue() instanceof Boolean) {
+            obj.setClusterWriteBatching((Boolean)member.getValue());
+          }
+          break;
+        case "clusterWriteBatchMaxMessages":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterWriteBatchMaxMessages(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "clusterWriteBatchMaxBytes":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterWriteBatchMaxBytes(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "clusterCompactWireProtocol":
+          if (member.getValue() instanceof Boolean) {
+            obj.setClusterCompactWireProtocol((Boolean)member.getValue());
+          }
+          break;
+        case "clusterConnectionsPerNode":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterConnectionsPerNode(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "clusterNegativeCacheTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterNegativeCacheTimeout(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "clusterLocalityKey":
+          if (member.getValue() instanceof String) {
+            obj.setClusterLocalityKey((String)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -107,5 +142,14 @@ public class EventBusOptionsConverter {
     if (obj.getClusterNodeMetadata() != null) {
       json.put("clusterNodeMetadata", obj.getClusterNodeMetadata());
     }
+    json.put("clusterWriteBatching", obj.isClusterWriteBatching());
+    json.put("clusterWriteBatchMaxMessages", obj.getClusterWriteBatchMaxMessages());
+    json.put("clusterWriteBatchMaxBytes", obj.getClusterWriteBatchMaxBytes());
+    json.put("clusterCompactWireProtocol", obj.isClusterCompactWireProtocol());
+    json.put("clusterConnectionsPerNode", obj.getClusterConnectionsPerNode());
+    json.put("clusterNegativeCacheTimeout", obj.getClusterNegativeCacheTimeout());
+    if (obj.getClusterLocalityKey() != null) {
+      json.put("clusterLocalityKey", obj.getClusterLocalityKey());
+    }
   }
 }
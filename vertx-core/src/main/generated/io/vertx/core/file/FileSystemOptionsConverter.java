@@ -32,6 +32,16 @@ public class FileSystemOptionsConverter {
             obj.setFileCacheDirAsExactPath((Boolean)member.getValue());
           }
           break;
+        case "openFileCacheMaxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setOpenFileCacheMaxSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "openFileCacheValidationPeriod":
+          if (member.getValue() instanceof Number) {
+            obj.setOpenFileCacheValidationPeriod(((Number)member.getValue()).longValue());
+          }
+          break;
       }
     }
   }
@@ -47,5 +57,7 @@ public class FileSystemOptionsConverter {
       json.put("fileCacheDir", obj.getFileCacheDir());
     }
     json.put("fileCacheDirAsExactPath", obj.isFileCacheDirAsExactPath());
+    json.put("openFileCacheMaxSize", obj.getOpenFileCacheMaxSize());
+    json.put("openFileCacheValidationPeriod", obj.getOpenFileCacheValidationPeriod());
   }
 }
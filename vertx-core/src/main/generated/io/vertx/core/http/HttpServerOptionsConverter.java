@@ -62,6 +62,16 @@ public class HttpServerOptionsConverter {
             obj.setMaxChunkSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "dateHeader":
+          if (member.getValue() instanceof Boolean) {
+            obj.setDateHeader((Boolean)member.getValue());
+          }
+          break;
+        case "maxInternedHeaderValues":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxInternedHeaderValues(((Number)member.getValue()).intValue());
+          }
+          break;
         case "maxInitialLineLength":
           if (member.getValue() instanceof Number) {
             obj.setMaxInitialLineLength(((Number)member.getValue()).intValue());
@@ -187,6 +197,26 @@ public class HttpServerOptionsConverter {
             obj.setStrictThreadMode((Boolean)member.getValue());
           }
           break;
+        case "virtualThreadPerRequest":
+          if (member.getValue() instanceof Boolean) {
+            obj.setVirtualThreadPerRequest((Boolean)member.getValue());
+          }
+          break;
+        case "staticContentCacheMaxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setStaticContentCacheMaxSize(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "staticContentCacheMaxEntrySize":
+          if (member.getValue() instanceof Number) {
+            obj.setStaticContentCacheMaxEntrySize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "staticContentCacheValidationPeriod":
+          if (member.getValue() instanceof Number) {
+            obj.setStaticContentCacheValidationPeriod(((Number)member.getValue()).longValue());
+          }
+          break;
         case "http2MultiplexImplementation":
           if (member.getValue() instanceof Boolean) {
             obj.setHttp2MultiplexImplementation((Boolean)member.getValue());
@@ -214,6 +244,8 @@ public class HttpServerOptionsConverter {
     }
     json.put("handle100ContinueAutomatically", obj.isHandle100ContinueAutomatically());
     json.put("maxChunkSize", obj.getMaxChunkSize());
+    json.put("dateHeader", obj.isDateHeader());
+    json.put("maxInternedHeaderValues", obj.getMaxInternedHeaderValues());
     json.put("maxInitialLineLength", obj.getMaxInitialLineLength());
     json.put("maxHeaderSize", obj.getMaxHeaderSize());
     json.put("maxFormAttributeSize", obj.getMaxFormAttributeSize());
@@ -250,6 +282,10 @@ public class HttpServerOptionsConverter {
       json.put("http2RstFloodWindowDurationTimeUnit", obj.getHttp2RstFloodWindowDurationTimeUnit().name());
     }
     json.put("strictThreadMode", obj.getStrictThreadMode());
+    json.put("virtualThreadPerRequest", obj.isVirtualThreadPerRequest());
+    json.put("staticContentCacheMaxSize", obj.getStaticContentCacheMaxSize());
+    json.put("staticContentCacheMaxEntrySize", obj.getStaticContentCacheMaxEntrySize());
+    json.put("staticContentCacheValidationPeriod", obj.getStaticContentCacheValidationPeriod());
     json.put("http2MultiplexImplementation", obj.getHttp2MultiplexImplementation());
   }
 }
@@ -52,6 +52,26 @@ public class PoolOptionsConverter {
             obj.setMaxWaitQueueSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "sharded":
+          if (member.getValue() instanceof Boolean) {
+            obj.setSharded((Boolean)member.getValue());
+          }
+          break;
+        case "minSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMinSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "warmUp":
+          if (member.getValue() instanceof Boolean) {
+            obj.setWarmUp((Boolean)member.getValue());
+          }
+          break;
+        case "warmUpRate":
+          if (member.getValue() instanceof Number) {
+            obj.setWarmUpRate(((Number)member.getValue()).intValue());
+          }
+          break;
       }
     }
   }
@@ -71,5 +91,9 @@ public class PoolOptionsConverter {
     json.put("cleanerPeriod", obj.getCleanerPeriod());
     json.put("eventLoopSize", obj.getEventLoopSize());
     json.put("maxWaitQueueSize", obj.getMaxWaitQueueSize());
+    json.put("sharded", obj.isSharded());
+    json.put("minSize", obj.getMinSize());
+    json.put("warmUp", obj.isWarmUp());
+    json.put("warmUpRate", obj.getWarmUpRate());
   }
 }
@@ -122,6 +122,51 @@ public class VertxOptions {
    */
   public static final boolean DEFAULT_USE_DAEMON_THREAD = false;
 
+  /**
+   * The default minimum number of worker threads of an adaptive worker pool = 1
+   */
+  public static final int DEFAULT_WORKER_POOL_MIN_SIZE = 1;
+
+  /**
+   * The default target queue latency of the worker pool = 0, i.e the worker pool is not adaptive
+   */
+  public static final long DEFAULT_WORKER_POOL_TARGET_LATENCY = 0;
+
+  /**
+   * The default target queue latency unit of the worker pool = {@link TimeUnit#MILLISECONDS}
+   */
+  public static final TimeUnit DEFAULT_WORKER_POOL_TARGET_LATENCY_UNIT = TimeUnit.MILLISECONDS;
+
+  /**
+   * The default value of the timer wheel usage = false
+   */
+  public static final boolean DEFAULT_TIMER_WHEEL_ENABLED = false;
+
+  /**
+   * The default value of the timer wheel tick duration = 10
+   */
+  public static final long DEFAULT_TIMER_WHEEL_TICK_DURATION = 10;
+
+  /**
+   * The default value of the timer wheel tick duration unit = {@link TimeUnit#MILLISECONDS}
+   */
+  public static final TimeUnit DEFAULT_TIMER_WHEEL_TICK_DURATION_UNIT = TimeUnit.MILLISECONDS;
+
+  /**
+   * The default value of the event-loop sampling interval = 10
+   */
+  public static final long DEFAULT_EVENT_LOOP_SAMPLING_INTERVAL = 10;
+
+  /**
+   * The default value of the event-loop sampling interval unit = {@link TimeUnit#MILLISECONDS}
+   */
+  public static final TimeUnit DEFAULT_EVENT_LOOP_SAMPLING_INTERVAL_UNIT = TimeUnit.MILLISECONDS;
+
+  /**
+   * The default number of slow event-loop tasks sampled per interval = 3
+   */
+  public static final int DEFAULT_EVENT_LOOP_SLOW_TASK_SAMPLES = 3;
+
   private int eventLoopPoolSize = DEFAULT_EVENT_LOOP_POOL_SIZE;
   private int workerPoolSize = DEFAULT_WORKER_POOL_SIZE;
   private int internalBlockingPoolSize = DEFAULT_INTERNAL_BLOCKING_POOL_SIZE;
@@ -144,6 +189,15 @@ public class VertxOptions {
   private TimeUnit blockedThreadCheckIntervalUnit = DEFAULT_BLOCKED_THREAD_CHECK_INTERVAL_UNIT;
   private boolean disableTCCL = DEFAULT_DISABLE_TCCL;
   private Boolean useDaemonThread = DEFAULT_USE_DAEMON_THREAD;
+  private int workerPoolMinSize = DEFAULT_WORKER_POOL_MIN_SIZE;
+  private long workerPoolTargetLatency = DEFAULT_WORKER_POOL_TARGET_LATENCY;
+  private TimeUnit workerPoolTargetLatencyUnit = DEFAULT_WORKER_POOL_TARGET_LATENCY_UNIT;
+  private boolean timerWheelEnabled = DEFAULT_TIMER_WHEEL_ENABLED;
+  private long timerWheelTickDuration = DEFAULT_TIMER_WHEEL_TICK_DURATION;
+  private TimeUnit timerWheelTickDurationUnit = DEFAULT_TIMER_WHEEL_TICK_DURATION_UNIT;
+  private long eventLoopSamplingInterval = DEFAULT_EVENT_LOOP_SAMPLING_INTERVAL;
+  private TimeUnit eventLoopSamplingIntervalUnit = DEFAULT_EVENT_LOOP_SAMPLING_INTERVAL_UNIT;
+  private int eventLoopSlowTaskSamples = DEFAULT_EVENT_LOOP_SLOW_TASK_SAMPLES;
 
   /**
    * Default constructor
@@ -179,6 +233,15 @@ public class VertxOptions {
     this.tracingOptions = other.tracingOptions != null ? other.tracingOptions.copy() : null;
     this.disableTCCL = other.disableTCCL;
     this.useDaemonThread = other.useDaemonThread;
+    this.workerPoolMinSize = other.workerPoolMinSize;
+    this.workerPoolTargetLatency = other.workerPoolTargetLatency;
+    this.workerPoolTargetLatencyUnit = other.workerPoolTargetLatencyUnit;
+    this.timerWheelEnabled = other.timerWheelEnabled;
+    this.timerWheelTickDuration = other.timerWheelTickDuration;
+    this.timerWheelTickDurationUnit = other.timerWheelTickDurationUnit;
+    this.eventLoopSamplingInterval = other.eventLoopSamplingInterval;
+    this.eventLoopSamplingIntervalUnit = other.eventLoopSamplingIntervalUnit;
+    this.eventLoopSlowTaskSamples = other.eventLoopSlowTaskSamples;
   }
 
   /**
@@ -239,6 +302,73 @@ public class VertxOptions {
     return this;
   }
 
+  /**
+   * @return the minimum number of worker threads of an adaptive worker pool
+   */
+  public int getWorkerPoolMinSize() {
+    return workerPoolMinSize;
+  }
+
+  /**
+   * Set the minimum number of worker threads of an adaptive worker pool, this is only used when a
+   * {@link #setWorkerPoolTargetLatency target latency} is set.
+   *
+   * @param workerPoolMinSize the minimum number of threads
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setWorkerPoolMinSize(int workerPoolMinSize) {
+    if (workerPoolMinSize < 1) {
+      throw new IllegalArgumentException("workerPoolMinSize must be > 0");
+    }
+    this.workerPoolMinSize = workerPoolMinSize;
+    return this;
+  }
+
+  /**
+   * @return the target queue latency of the worker pool, in {@link VertxOptions#setWorkerPoolTargetLatencyUnit workerPoolTargetLatencyUnit}
+   */
+  public long getWorkerPoolTargetLatency() {
+    return workerPoolTargetLatency;
+  }
+
+  /**
+   * Set the target queue latency of the worker pool, in {@link VertxOptions#setWorkerPoolTargetLatencyUnit workerPoolTargetLatencyUnit}.
+   * <p/>
+   * When set to a positive value, the worker pool becomes adaptive: it grows up to {@link #setWorkerPoolSize workerPoolSize}
+   * threads while the time tasks wait in the queue exceeds the target latency and it shrinks down to
+   * {@link #setWorkerPoolMinSize workerPoolMinSize} threads when it stays well under the target latency.
+   * <p/>
+   * The default value is {@code 0}, the worker pool has a fixed size.
+   *
+   * @param workerPoolTargetLatency the target latency
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setWorkerPoolTargetLatency(long workerPoolTargetLatency) {
+    if (workerPoolTargetLatency < 0) {
+      throw new IllegalArgumentException("workerPoolTargetLatency must be >= 0");
+    }
+    this.workerPoolTargetLatency = workerPoolTargetLatency;
+    return this;
+  }
+
+  /**
+   * @return the time unit of {@code workerPoolTargetLatency}
+   */
+  public TimeUnit getWorkerPoolTargetLatencyUnit() {
+    return workerPoolTargetLatencyUnit;
+  }
+
+  /**
+   * Set the time unit of {@code workerPoolTargetLatency}.
+   *
+   * @param workerPoolTargetLatencyUnit the time unit of {@code workerPoolTargetLatency}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setWorkerPoolTargetLatencyUnit(TimeUnit workerPoolTargetLatencyUnit) {
+    this.workerPoolTargetLatencyUnit = workerPoolTargetLatencyUnit;
+    return this;
+  }
+
   /**
    * Get the value of blocked thread check period, in {@link VertxOptions#setBlockedThreadCheckIntervalUnit blockedThreadCheckIntervalUnit}.
    * <p>
@@ -679,6 +809,140 @@ public class VertxOptions {
     return this;
   }
 
+  /**
+   * @return whether timeouts are scheduled on a per event-loop timer wheel
+   */
+  public boolean isTimerWheelEnabled() {
+    return timerWheelEnabled;
+  }
+
+  /**
+   * Set whether timeouts are scheduled on a per event-loop hashed timer wheel instead of the event-loop scheduler.
+   * <p/>
+   * Timeouts, such as HTTP client request timeouts or event bus send timeouts, are usually cancelled before they fire,
+   * the timer wheel schedules and cancels them in constant time, at the expense of firing them with the precision
+   * of a {@link #setTimerWheelTickDuration tick}. This does not apply to timers set with {@link Vertx#setTimer} or
+   * {@link Vertx#setPeriodic}.
+   *
+   * @param timerWheelEnabled {@code true} to schedule timeouts on a timer wheel
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerWheelEnabled(boolean timerWheelEnabled) {
+    this.timerWheelEnabled = timerWheelEnabled;
+    return this;
+  }
+
+  /**
+   * @return the duration of a timer wheel tick, in {@link VertxOptions#setTimerWheelTickDurationUnit timerWheelTickDurationUnit}
+   */
+  public long getTimerWheelTickDuration() {
+    return timerWheelTickDuration;
+  }
+
+  /**
+   * Set the duration of a timer wheel tick, in {@link VertxOptions#setTimerWheelTickDurationUnit timerWheelTickDurationUnit},
+   * this is the resolution of the timeouts scheduled on the timer wheel.
+   * <p/>
+   * The default value is {@code 10} {@link TimeUnit#MILLISECONDS}.
+   *
+   * @param timerWheelTickDuration the tick duration
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerWheelTickDuration(long timerWheelTickDuration) {
+    if (timerWheelTickDuration < 1) {
+      throw new IllegalArgumentException("timerWheelTickDuration must be > 0");
+    }
+    this.timerWheelTickDuration = timerWheelTickDuration;
+    return this;
+  }
+
+  /**
+   * @return the time unit of {@code timerWheelTickDuration}
+   */
+  public TimeUnit getTimerWheelTickDurationUnit() {
+    return timerWheelTickDurationUnit;
+  }
+
+  /**
+   * Set the time unit of {@code timerWheelTickDuration}.
+   *
+   * @param timerWheelTickDurationUnit the time unit of {@code timerWheelTickDuration}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerWheelTickDurationUnit(TimeUnit timerWheelTickDurationUnit) {
+    this.timerWheelTickDurationUnit = timerWheelTickDurationUnit;
+    return this;
+  }
+
+  /**
+   * @return the event-loop sampling interval, in {@link VertxOptions#setEventLoopSamplingIntervalUnit eventLoopSamplingIntervalUnit}
+   */
+  public long getEventLoopSamplingInterval() {
+    return eventLoopSamplingInterval;
+  }
+
+  /**
+   * Set the interval at which event-loops are sampled when the {@link io.vertx.core.spi.metrics.VertxMetrics} provides
+   * event-loop metrics, in {@link VertxOptions#setEventLoopSamplingIntervalUnit eventLoopSamplingIntervalUnit}.
+   * <p>
+   * Each sample reports the event-loop utilization and the stack traces of the slowest tasks executing for longer
+   * than the interval.
+   * <p>
+   * The default value is {@link VertxOptions#DEFAULT_EVENT_LOOP_SAMPLING_INTERVAL}.
+   *
+   * @param eventLoopSamplingInterval the sampling interval
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setEventLoopSamplingInterval(long eventLoopSamplingInterval) {
+    if (eventLoopSamplingInterval < 1) {
+      throw new IllegalArgumentException("eventLoopSamplingInterval must be > 0");
+    }
+    this.eventLoopSamplingInterval = eventLoopSamplingInterval;
+    return this;
+  }
+
+  /**
+   * @return the time unit of {@code eventLoopSamplingInterval}
+   */
+  public TimeUnit getEventLoopSamplingIntervalUnit() {
+    return eventLoopSamplingIntervalUnit;
+  }
+
+  /**
+   * Set the time unit of {@code eventLoopSamplingInterval}.
+   *
+   * @param eventLoopSamplingIntervalUnit the time unit of {@code eventLoopSamplingInterval}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setEventLoopSamplingIntervalUnit(TimeUnit eventLoopSamplingIntervalUnit) {
+    this.eventLoopSamplingIntervalUnit = eventLoopSamplingIntervalUnit;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of slow event-loop tasks stack traces sampled per interval
+   */
+  public int getEventLoopSlowTaskSamples() {
+    return eventLoopSlowTaskSamples;
+  }
+
+  /**
+   * Set the maximum number of slow event-loop tasks stack traces sampled per interval, {@code 0} disables stack
+   * traces sampling.
+   * <p>
+   * The default value is {@link VertxOptions#DEFAULT_EVENT_LOOP_SLOW_TASK_SAMPLES}.
+   *
+   * @param eventLoopSlowTaskSamples the number of samples
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setEventLoopSlowTaskSamples(int eventLoopSlowTaskSamples) {
+    if (eventLoopSlowTaskSamples < 0) {
+      throw new IllegalArgumentException("eventLoopSlowTaskSamples must be >= 0");
+    }
+    this.eventLoopSlowTaskSamples = eventLoopSlowTaskSamples;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     VertxOptionsConverter.toJson(this, json);
@@ -690,6 +954,9 @@ public class VertxOptions {
     return "VertxOptions{" +
         "eventLoopPoolSize=" + eventLoopPoolSize +
         ", workerPoolSize=" + workerPoolSize +
+        ", workerPoolMinSize=" + workerPoolMinSize +
+        ", workerPoolTargetLatencyUnit=" + workerPoolTargetLatencyUnit +
+        ", workerPoolTargetLatency=" + workerPoolTargetLatency +
         ", internalBlockingPoolSize=" + internalBlockingPoolSize +
         ", blockedThreadCheckIntervalUnit=" + blockedThreadCheckIntervalUnit +
         ", blockedThreadCheckInterval=" + blockedThreadCheckInterval +
@@ -710,6 +977,12 @@ public class VertxOptions {
         ", warningExceptionTime=" + warningExceptionTime +
         ", disableTCCL=" + disableTCCL +
         ", useDaemonThread=" + useDaemonThread +
+        ", timerWheelEnabled=" + timerWheelEnabled +
+        ", timerWheelTickDurationUnit=" + timerWheelTickDurationUnit +
+        ", timerWheelTickDuration=" + timerWheelTickDuration +
+        ", eventLoopSamplingIntervalUnit=" + eventLoopSamplingIntervalUnit +
+        ", eventLoopSamplingInterval=" + eventLoopSamplingInterval +
+        ", eventLoopSlowTaskSamples=" + eventLoopSlowTaskSamples +
         '}';
   }
 }
@@ -116,6 +116,32 @@ public interface EventBus extends Measured {
   @Fluent
   EventBus publish(String address, @Nullable Object message, DeliveryOptions options);
 
+  /**
+   * Publish a batch of messages.<p>
+   * The messages will be delivered in order to all handlers registered to the address. The handlers are resolved
+   * once for the whole batch and each handler is scheduled once, when the event-bus is clustered the messages sent
+   * to a node are written with a single flush.
+   *
+   * @param address  the address to publish them to
+   * @param messages  the messages
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  @GenIgnore
+  EventBus publishAll(String address, Iterable<?> messages);
+
+  /**
+   * Like {@link #publishAll(String, Iterable)} but specifying {@code options} that can be used to configure the delivery.
+   *
+   * @param address  the address to publish them to
+   * @param messages  the messages
+   * @param options  the delivery options
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  @GenIgnore
+  EventBus publishAll(String address, Iterable<?> messages, DeliveryOptions options);
+
   /**
    * Create a message consumer against the specified options address.
    * <p>
@@ -61,11 +61,53 @@ public class EventBusOptions extends TCPSSLOptions {
    */
   public static final long DEFAULT_CLUSTER_PING_REPLY_INTERVAL = TimeUnit.SECONDS.toMillis(20);
 
+  /**
+   * The default value of cluster write batching = false.
+   */
+  public static final boolean DEFAULT_CLUSTER_WRITE_BATCHING = false;
+
+  /**
+   * The default maximum number of messages in a cluster write batch = 64.
+   */
+  public static final int DEFAULT_CLUSTER_WRITE_BATCH_MAX_MESSAGES = 64;
+
+  /**
+   * The default maximum number of bytes in a cluster write batch = 65536.
+   */
+  public static final int DEFAULT_CLUSTER_WRITE_BATCH_MAX_BYTES = 64 * 1024;
+
+  /**
+   * The default value of cluster compact wire protocol = true.
+   */
+  public static final boolean DEFAULT_CLUSTER_COMPACT_WIRE_PROTOCOL = true;
+
+  /**
+   * The default number of connections opened to each cluster node = 1.
+   */
+  public static final int DEFAULT_CLUSTER_CONNECTIONS_PER_NODE = 1;
+
+  /**
+   * The default time during which the absence of handlers for an address is cached = 0 ms (disabled).
+   */
+  public static final long DEFAULT_CLUSTER_NEGATIVE_CACHE_TIMEOUT = 0L;
+
+  /**
+   * The default cluster node metadata key holding the locality of a node = null (disabled).
+   */
+  public static final String DEFAULT_CLUSTER_LOCALITY_KEY = null;
+
   private String clusterPublicHost = DEFAULT_CLUSTER_PUBLIC_HOST;
   private int clusterPublicPort = DEFAULT_CLUSTER_PUBLIC_PORT;
   private long clusterPingInterval = DEFAULT_CLUSTER_PING_INTERVAL;
   private long clusterPingReplyInterval = DEFAULT_CLUSTER_PING_REPLY_INTERVAL;
   private JsonObject clusterNodeMetadata;
+  private boolean clusterWriteBatching = DEFAULT_CLUSTER_WRITE_BATCHING;
+  private int clusterWriteBatchMaxMessages = DEFAULT_CLUSTER_WRITE_BATCH_MAX_MESSAGES;
+  private int clusterWriteBatchMaxBytes = DEFAULT_CLUSTER_WRITE_BATCH_MAX_BYTES;
+  private boolean clusterCompactWireProtocol = DEFAULT_CLUSTER_COMPACT_WIRE_PROTOCOL;
+  private int clusterConnectionsPerNode = DEFAULT_CLUSTER_CONNECTIONS_PER_NODE;
+  private long clusterNegativeCacheTimeout = DEFAULT_CLUSTER_NEGATIVE_CACHE_TIMEOUT;
+  private String clusterLocalityKey = DEFAULT_CLUSTER_LOCALITY_KEY;
 
   // Attributes used to configure the server of the event bus when the event bus is clustered.
 
@@ -143,6 +185,13 @@ public class EventBusOptions extends TCPSSLOptions {
     this.clusterPingInterval = other.clusterPingInterval;
     this.clusterPingReplyInterval = other.clusterPingReplyInterval;
     this.clusterNodeMetadata = other.clusterNodeMetadata == null ? null : other.clusterNodeMetadata.copy();
+    this.clusterWriteBatching = other.clusterWriteBatching;
+    this.clusterWriteBatchMaxMessages = other.clusterWriteBatchMaxMessages;
+    this.clusterWriteBatchMaxBytes = other.clusterWriteBatchMaxBytes;
+    this.clusterCompactWireProtocol = other.clusterCompactWireProtocol;
+    this.clusterConnectionsPerNode = other.clusterConnectionsPerNode;
+    this.clusterNegativeCacheTimeout = other.clusterNegativeCacheTimeout;
+    this.clusterLocalityKey = other.clusterLocalityKey;
 
     this.port = other.port;
     this.host = other.host;
@@ -654,4 +703,171 @@ public class EventBusOptions extends TCPSSLOptions {
     this.clusterNodeMetadata = clusterNodeMetadata;
     return this;
   }
+
+  /**
+   * @return whether messages written to other cluster nodes are flushed in batches
+   */
+  public boolean isClusterWriteBatching() {
+    return clusterWriteBatching;
+  }
+
+  /**
+   * Set whether messages written to other cluster nodes are flushed in batches.
+   * <p>
+   * When enabled, the messages sent to a node are accumulated and written to the connection with a single flush,
+   * once per event-loop turn or as soon as {@link #getClusterWriteBatchMaxMessages()} or
+   * {@link #getClusterWriteBatchMaxBytes()} is reached.
+   * <p>
+   * The default value is {@code false}: each message is flushed individually.
+   *
+   * @param clusterWriteBatching {@code true} to batch writes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterWriteBatching(boolean clusterWriteBatching) {
+    this.clusterWriteBatching = clusterWriteBatching;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of messages in a cluster write batch
+   */
+  public int getClusterWriteBatchMaxMessages() {
+    return clusterWriteBatchMaxMessages;
+  }
+
+  /**
+   * Set the maximum number of messages in a cluster write batch, when reached the batch is flushed immediately.
+   *
+   * @param clusterWriteBatchMaxMessages the maximum number of messages
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterWriteBatchMaxMessages(int clusterWriteBatchMaxMessages) {
+    if (clusterWriteBatchMaxMessages < 1) {
+      throw new IllegalArgumentException("clusterWriteBatchMaxMessages must be greater than 0");
+    }
+    this.clusterWriteBatchMaxMessages = clusterWriteBatchMaxMessages;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of bytes in a cluster write batch
+   */
+  public int getClusterWriteBatchMaxBytes() {
+    return clusterWriteBatchMaxBytes;
+  }
+
+  /**
+   * Set the maximum number of bytes in a cluster write batch, when reached the batch is flushed immediately.
+   *
+   * @param clusterWriteBatchMaxBytes the maximum number of bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterWriteBatchMaxBytes(int clusterWriteBatchMaxBytes) {
+    if (clusterWriteBatchMaxBytes < 1) {
+      throw new IllegalArgumentException("clusterWriteBatchMaxBytes must be greater than 0");
+    }
+    this.clusterWriteBatchMaxBytes = clusterWriteBatchMaxBytes;
+    return this;
+  }
+
+  /**
+   * @return whether the compact wire protocol is negotiated with other cluster nodes
+   */
+  public boolean isClusterCompactWireProtocol() {
+    return clusterCompactWireProtocol;
+  }
+
+  /**
+   * Set whether the compact wire protocol is negotiated with other cluster nodes.
+   * <p>
+   * With the compact wire protocol, the addresses, node ids and codec names sent repeatedly on a connection are
+   * replaced by short identifiers. Nodes that do not support it keep using the regular wire protocol.
+   * <p>
+   * The default value is {@code true}.
+   *
+   * @param clusterCompactWireProtocol {@code true} to negotiate the compact wire protocol
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterCompactWireProtocol(boolean clusterCompactWireProtocol) {
+    this.clusterCompactWireProtocol = clusterCompactWireProtocol;
+    return this;
+  }
+
+  /**
+   * @return the number of connections opened to each cluster node
+   */
+  public int getClusterConnectionsPerNode() {
+    return clusterConnectionsPerNode;
+  }
+
+  /**
+   * Set the number of connections opened to each cluster node.
+   * <p>
+   * Messages are spread across the connections by address, the messages sent to the same address always use
+   * the same connection and keep their order. Several connections avoid that a large message delays the messages
+   * sent to other addresses and let the traffic to a node use more than one event-loop.
+   * <p>
+   * The default value is {@code 1}.
+   *
+   * @param clusterConnectionsPerNode the number of connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterConnectionsPerNode(int clusterConnectionsPerNode) {
+    if (clusterConnectionsPerNode < 1) {
+      throw new IllegalArgumentException("clusterConnectionsPerNode must be greater than 0");
+    }
+    this.clusterConnectionsPerNode = clusterConnectionsPerNode;
+    return this;
+  }
+
+  /**
+   * @return the time in milliseconds during which the absence of handlers for an address is cached
+   */
+  public long getClusterNegativeCacheTimeout() {
+    return clusterNegativeCacheTimeout;
+  }
+
+  /**
+   * Set the time in milliseconds during which the absence of handlers for an address is cached by the default node
+   * selector.
+   * <p>
+   * When enabled, sending messages to an address without handlers does not query the cluster manager every time.
+   * The cached answer is discarded as soon as a handler is registered for the address.
+   * <p>
+   * The default value is {@code 0}: the absence of handlers is not cached.
+   *
+   * @param clusterNegativeCacheTimeout the timeout in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterNegativeCacheTimeout(long clusterNegativeCacheTimeout) {
+    if (clusterNegativeCacheTimeout < 0) {
+      throw new IllegalArgumentException("clusterNegativeCacheTimeout must be greater than or equal to 0");
+    }
+    this.clusterNegativeCacheTimeout = clusterNegativeCacheTimeout;
+    return this;
+  }
+
+  /**
+   * @return the {@link #getClusterNodeMetadata() cluster node metadata} key holding the locality of a node
+   */
+  public String getClusterLocalityKey() {
+    return clusterLocalityKey;
+  }
+
+  /**
+   * Set the {@link #getClusterNodeMetadata() cluster node metadata} key holding the locality of a node, e.g. a rack
+   * or a zone.
+   * <p>
+   * When set, the default node selector sends messages to the nodes having the same locality than this node,
+   * other nodes are selected only when no such node has a handler for the address. Publishing is not affected.
+   * <p>
+   * Not used by default.
+   *
+   * @param clusterLocalityKey the metadata key
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterLocalityKey(String clusterLocalityKey) {
+    this.clusterLocalityKey = clusterLocalityKey;
+    return this;
+  }
 }
@@ -11,11 +11,15 @@
 
 package io.vertx.core.eventbus;
 
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.streams.ReadStream;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * An event bus consumer object representing a stream of message to an {@link EventBus} address that can
  * be read from.
@@ -38,6 +42,27 @@ public interface MessageConsumer<T> extends ReadStream<Message<T>> {
   @Override
   MessageConsumer<T> handler(Handler<Message<T>> handler);
 
+  /**
+   * Set a handler receiving the messages of this consumer in batches, this registers the consumer like
+   * {@link #handler(Handler)} does.
+   * <p>
+   * A batch is delivered as soon as {@code maxBatch} messages have been received or when {@code maxLinger} has
+   * elapsed since the first message of the batch has been received, whichever happens first. The {@link #pause()},
+   * {@link #resume()} and {@link #fetch(long)} methods control the flow of individual messages.
+   * <p>
+   * When inbound interceptors or a tracer are configured, messages are not batched: each message goes through the
+   * interceptors and the tracer and is delivered to the handler as a batch of one message.
+   * <p>
+   * Calling {@link #handler(Handler)} or {@link #unregister()} discards the messages of the pending batch.
+   *
+   * @param maxBatch the maximum number of messages of a batch
+   * @param maxLinger the maximum time a message waits before its batch is delivered, truncated to the millisecond with a minimum of one millisecond
+   * @param handler the batch handler, {@code null} unregisters the consumer
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  MessageConsumer<T> batchHandler(int maxBatch, Duration maxLinger, Handler<List<Message<T>>> handler);
+
   @Override
   MessageConsumer<T> pause();
 
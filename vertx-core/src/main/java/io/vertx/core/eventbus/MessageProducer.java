@@ -12,9 +12,14 @@
 package io.vertx.core.eventbus;
 
 import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 
+import java.util.List;
+
+import static io.vertx.codegen.annotations.GenIgnore.PERMITTED_TYPE;
+
 /**
  * Represents a stream of message that can be written to.
  * <p>
@@ -54,6 +59,19 @@ public interface MessageProducer<T> {
    */
   Future<Void> write(T body);
 
+  /**
+   * Write a batch of messages to the event-bus, either sending or publishing.
+   * <p>
+   * The messages are delivered in order, the handlers are resolved once for the whole batch and each handler is
+   * scheduled once. When the event-bus is clustered, the messages sent to a node are written with a single flush.
+   * <p>
+   * The returned {@link Future} completion is the same as for {@link #write(Object)}.
+   *
+   * @param bodies the message bodies
+   */
+  @GenIgnore(PERMITTED_TYPE)
+  Future<Void> writeAll(List<T> bodies);
+
   /**
    * Closes the producer, this method should be called when the message producer is not used anymore.
    *
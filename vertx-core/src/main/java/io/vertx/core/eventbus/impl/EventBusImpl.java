@@ -11,8 +11,10 @@
 
 package io.vertx.core.eventbus.impl;
 
+import io.netty.channel.EventLoop;
 import io.vertx.core.*;
 import io.vertx.core.eventbus.*;
+import io.vertx.core.eventbus.impl.clustered.ClusteredMessage;
 import io.vertx.core.impl.Arguments;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxInternal;
@@ -23,7 +25,9 @@ import io.vertx.core.spi.metrics.VertxMetrics;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -118,15 +122,32 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   @Override
   public EventBus send(String address, Object message, DeliveryOptions options) {
     MessageImpl msg = createMessage(true, isLocalOnly(options), address, options.getHeaders(), message, options.getCodecName());
-    sendOrPubInternal(msg, options, null);
+    if (isFastPath(address)) {
+      checkStarted();
+      deliverMessageLocally(msg);
+    } else {
+      sendOrPubInternal(msg, options, null);
+    }
     return this;
   }
 
   @Override
   public <T> Future<Message<T>> request(String address, Object message, DeliveryOptions options) {
     MessageImpl msg = createMessage(true, isLocalOnly(options), address, options.getHeaders(), message, options.getCodecName());
-    ReplyHandler<T> handler = createReplyHandler(msg, true, options);
-    sendOrPubInternal(msg, options, handler);
+    ReplyHandler<T> handler;
+    if (isFastPath(address)) {
+      checkStarted();
+      // The reply handler is not registered, replies are delivered directly to it
+      handler = new ReplyHandler<>(this, vertx.getOrCreateContext(), replySequence.incrementAndGet(), msg.address, true, options.getSendTimeout());
+      msg.replyHandler = handler;
+      ReplyException failure = deliverMessageLocally(msg);
+      if (failure != null) {
+        handler.fail(failure);
+      }
+    } else {
+      handler = createReplyHandler(msg, true, options);
+      sendOrPubInternal(msg, options, handler);
+    }
     return handler.result();
   }
 
@@ -163,7 +184,24 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
 
   @Override
   public EventBus publish(String address, Object message, DeliveryOptions options) {
-    sendOrPubInternal(createMessage(false, isLocalOnly(options), address, options.getHeaders(), message, options.getCodecName()), options, null);
+    MessageImpl msg = createMessage(false, isLocalOnly(options), address, options.getHeaders(), message, options.getCodecName());
+    if (isFastPath(address)) {
+      checkStarted();
+      deliverMessageLocally(msg);
+    } else {
+      sendOrPubInternal(msg, options, null);
+    }
+    return this;
+  }
+
+  @Override
+  public EventBus publishAll(String address, Iterable<?> messages) {
+    return publishAll(address, messages, new DeliveryOptions());
+  }
+
+  @Override
+  public EventBus publishAll(String address, Iterable<?> messages, DeliveryOptions options) {
+    sendOrPubAll(false, isLocalOnly(options), address, messages, options);
     return this;
   }
 
@@ -330,7 +368,7 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   }
 
   private <T> void removeLocalRegistration(HandlerHolder<T> holder) {
-    String address = holder.getHandler().address;
+    String address = holder.getHandler().address();
     handlerMap.compute(address, (key, val) -> {
       if (val == null) {
         return null;
@@ -351,6 +389,69 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
     }
   }
 
+  /**
+   * Deliver a reply directly to a reply handler that has not been registered.
+   */
+  <T> void sendReply(ReplyHandler<T> replyHandler, Object body, DeliveryOptions options) {
+    MessageCodec codec = codecManager.lookupCodec(body, options.getCodecName(), true);
+    @SuppressWarnings("unchecked")
+    MessageImpl<?, T> reply = new MessageImpl(null, options.getHeaders(), body, codec, true, this);
+    reply.replyTarget = replyHandler;
+    replyHandler.receive(reply.copyBeforeReceive());
+  }
+
+  /**
+   * Whether messages can bypass the send context: the event bus is local and there are no metrics, no tracer and no
+   * outbound interceptors.
+   */
+  boolean isFastPath() {
+    return metrics == null && outboundInterceptors.length == 0 && !vertx.isClustered() && vertx.tracer() == null;
+  }
+
+  /**
+   * Whether a message sent to {@code address} can bypass the send context: on top of {@link #isFastPath()}, the
+   * sender must run on an event loop context and every handler of the address must be on the same event loop.
+   */
+  private boolean isFastPath(String address) {
+    if (!isFastPath()) {
+      return false;
+    }
+    EventLoop eventLoop = currentEventLoop();
+    if (eventLoop == null) {
+      return false;
+    }
+    ConcurrentCyclicSequence<HandlerHolder> handlers = handlerMap.get(address);
+    if (handlers != null) {
+      for (HandlerHolder holder : handlers) {
+        if (!isOnEventLoop(holder.getContext(), eventLoop)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Whether a reply can be delivered directly to {@code replyHandler}, i.e. the replier runs on the event loop of
+   * the reply handler.
+   */
+  boolean isFastPath(ReplyHandler<?> replyHandler) {
+    if (!isFastPath()) {
+      return false;
+    }
+    EventLoop eventLoop = currentEventLoop();
+    return eventLoop != null && isOnEventLoop(replyHandler.context, eventLoop);
+  }
+
+  private EventLoop currentEventLoop() {
+    ContextInternal current = vertx.getContext();
+    return current != null && current.isEventLoopContext() ? current.nettyEventLoop() : null;
+  }
+
+  private static boolean isOnEventLoop(ContextInternal context, EventLoop eventLoop) {
+    return context.isEventLoopContext() && context.nettyEventLoop() == eventLoop;
+  }
+
   protected <T> void sendOrPub(ContextInternal ctx, MessageImpl<?, T> message, DeliveryOptions options, Promise<Void> writePromise) {
     sendLocally(message, writePromise);
   }
@@ -359,6 +460,19 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
     sendOrPub(sendContext.ctx, sendContext.message, sendContext.options, sendContext);
   }
 
+  protected void sendOrPubAll(ContextInternal ctx, List<MessageImpl<?, ?>> messages, DeliveryOptions options, Promise<Void> writePromise) {
+    sendAllLocally(messages, writePromise);
+  }
+
+  protected void sendAllLocally(List<MessageImpl<?, ?>> messages, Promise<Void> writePromise) {
+    ReplyException failure = deliverMessagesLocally(messages);
+    if (failure != null) {
+      writePromise.tryFail(failure);
+    } else {
+      writePromise.tryComplete();
+    }
+  }
+
   protected <T> void sendLocally(MessageImpl<?, T> message, Promise<Void> writePromise) {
     ReplyException failure = deliverMessageLocally(message);
     if (failure != null) {
@@ -407,6 +521,61 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
     }
   }
 
+  /**
+   * Like {@link #deliverMessageLocally(MessageImpl)} for a batch of messages sent to the same address, each handler
+   * receives its messages at once.
+   */
+  protected ReplyException deliverMessagesLocally(List<MessageImpl<?, ?>> messages) {
+    MessageImpl<?, ?> first = messages.get(0);
+    String address = first.address();
+    boolean send = first.isSend();
+    ConcurrentCyclicSequence<HandlerHolder> handlers = handlerMap.get(address);
+    boolean messageLocal = isMessageLocal(first);
+    if (handlers != null) {
+      if (send) {
+        Map<HandlerHolder, List<MessageImpl<?, ?>>> batches = new LinkedHashMap<>();
+        for (MessageImpl<?, ?> msg : messages) {
+          HandlerHolder holder = nextHandler(handlers, messageLocal);
+          if (metrics != null) {
+            metrics.messageSent(address, false, true, false);
+            metrics.messageReceived(address, false, messageLocal, holder != null ? 1 : 0);
+          }
+          if (holder != null) {
+            batches.computeIfAbsent(holder, h -> new ArrayList<>()).add(msg.copyBeforeReceive());
+          }
+        }
+        for (Map.Entry<HandlerHolder, List<MessageImpl<?, ?>>> batch : batches.entrySet()) {
+          batch.getKey().handler.receive(batch.getValue());
+        }
+      } else {
+        if (metrics != null) {
+          for (int i = 0;i < messages.size();i++) {
+            metrics.messageSent(address, true, true, false);
+            metrics.messageReceived(address, true, messageLocal, handlers.size());
+          }
+        }
+        for (HandlerHolder holder : handlers) {
+          if (messageLocal || !holder.isLocalOnly()) {
+            List<MessageImpl<?, ?>> batch = new ArrayList<>(messages.size());
+            for (MessageImpl<?, ?> msg : messages) {
+              batch.add(msg.copyBeforeReceive());
+            }
+            holder.handler.receive(batch);
+          }
+        }
+      }
+      return null;
+    } else {
+      if (metrics != null) {
+        for (int i = 0;i < messages.size();i++) {
+          metrics.messageSent(address, !send, true, false);
+          metrics.messageReceived(address, !send, messageLocal, 0);
+        }
+      }
+      return new ReplyException(ReplyFailure.NO_HANDLERS, "No handlers for address " + address);
+    }
+  }
+
   protected HandlerHolder nextHandler(ConcurrentCyclicSequence<HandlerHolder> handlers, boolean messageLocal) {
     return handlers.next();
   }
@@ -418,7 +587,11 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   }
 
   protected String generateReplyAddress() {
-    return "__vertx.reply." + Long.toString(replySequence.incrementAndGet());
+    return replyAddress(replySequence.incrementAndGet());
+  }
+
+  static String replyAddress(long id) {
+    return "__vertx.reply." + Long.toString(id);
   }
 
   <T> ReplyHandler<T> createReplyHandler(MessageImpl message,
@@ -461,6 +634,39 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
     });
   }
 
+  Future<Void> sendOrPubAll(boolean send, boolean localOnly, String address, Iterable<?> bodies, DeliveryOptions options) {
+    checkStarted();
+    List<MessageImpl<?, ?>> messages = new ArrayList<>();
+    for (Object body : bodies) {
+      messages.add(createMessage(send, localOnly, address, options.getHeaders(), body, options.getCodecName()));
+    }
+    ContextInternal ctx = vertx.getOrCreateContext();
+    if (messages.isEmpty()) {
+      return ctx.succeededFuture();
+    }
+    if (outboundInterceptors.length > 0 || vertx.tracer() != null) {
+      // Interceptors and tracing apply to each message
+      List<Future<Void>> futures = new ArrayList<>(messages.size());
+      for (MessageImpl<?, ?> msg : messages) {
+        futures.add(sendOrPubInternal(msg, options, null));
+      }
+      return Future.all(futures).mapEmpty();
+    }
+    Promise<Void> promise = ctx.promise();
+    sendOrPubAll(ctx, messages, options, promise);
+    Future<Void> future = promise.future();
+    if (send) {
+      return future;
+    }
+    return future.recover(throwable -> {
+      // For publish, we only care if there are no handlers
+      if (throwable instanceof ReplyException) {
+        return Future.failedFuture(throwable);
+      }
+      return Future.succeededFuture();
+    });
+  }
+
   private Future<Void> unregisterAll() {
     // Unregister all handlers explicitly - don't rely on context hooks
     List<Future<?>> futures = new ArrayList<>();
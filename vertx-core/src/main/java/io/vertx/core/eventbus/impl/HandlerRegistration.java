@@ -21,6 +21,7 @@ import io.vertx.core.spi.tracing.TagExtractor;
 import io.vertx.core.spi.tracing.VertxTracer;
 import io.vertx.core.tracing.TracingPolicy;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 public abstract class HandlerRegistration<T> implements Closeable {
@@ -53,21 +54,37 @@ public abstract class HandlerRegistration<T> implements Closeable {
     });
   }
 
+  @SuppressWarnings("unchecked")
+  void receive(List<MessageImpl<?, ?>> msgs) {
+    if (bus.metrics != null) {
+      for (MessageImpl<?, ?> msg : msgs) {
+        bus.metrics.scheduleMessage(metric, msg.isLocal());
+      }
+    }
+    context.executor().execute(() -> doReceive((List<Message<T>>) (List<?>) msgs));
+  }
+
   public String address() {
     return address;
   }
 
   protected abstract void doReceive(Message<T> msg);
 
+  protected void doReceive(List<Message<T>> msgs) {
+    for (Message<T> msg : msgs) {
+      doReceive(msg);
+    }
+  }
+
   protected abstract void dispatchMessage(Message<T> msg, ContextInternal context, Handler<Message<T>> handler);
 
   synchronized void register(boolean broadcast, boolean localOnly, Completable<Void> promise) {
     if (registered != null) {
       throw new IllegalStateException();
     }
-    registered = bus.addRegistration(address, this, broadcast, localOnly, promise);
+    registered = bus.addRegistration(address(), this, broadcast, localOnly, promise);
     if (bus.metrics != null) {
-      metric = bus.metrics.handlerRegistered(address);
+      metric = bus.metrics.handlerRegistered(address());
     }
   }
 
@@ -102,6 +119,16 @@ public abstract class HandlerRegistration<T> implements Closeable {
     }
   }
 
+  void dispatchMessages(Handler<List<Message<T>>> handler, List<Message<T>> messages, ContextInternal context) {
+    if (bus.metrics != null) {
+      Object m = metric;
+      for (Message<T> message : messages) {
+        bus.metrics.messageDelivered(m, ((MessageImpl<?, T>) message).isLocal());
+      }
+    }
+    context.dispatch(messages, handler);
+  }
+
   private void dispatch(ContextInternal ctx, MessageImpl<?, T> message, Handler<Message<T>> handler) {
     Object m = metric;
     VertxTracer tracer = ctx.tracer();
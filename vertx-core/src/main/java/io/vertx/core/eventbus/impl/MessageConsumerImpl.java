@@ -18,8 +18,15 @@ import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.concurrent.InboundMessageQueue;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.core.impl.Arguments;
 import io.vertx.core.streams.ReadStream;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
 /**
  */
 public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements MessageConsumer<T> {
@@ -35,6 +42,12 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
   private Promise<Void> result;
   private boolean registered;
   private boolean full;
+  private Handler<List<Message<T>>> batchHandler;
+  private int maxBatch;
+  private long maxLinger;
+  // Batch state, only accessed from the consumer context
+  private List<Message<T>> batch;
+  private long lingerTimerId = -1L;
 
   MessageConsumerImpl(ContextInternal context, EventBusImpl eventBus, String address, boolean localOnly, int maxBufferedMessages) {
     super(context, eventBus, address, false);
@@ -53,10 +66,20 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
       @Override
       protected void handleMessage(Message<T> msg) {
         Handler<Message<T>> handler;
+        boolean batching;
         synchronized (MessageConsumerImpl.this) {
           handler = MessageConsumerImpl.this.handler;
+          batching = batchHandler != null;
         }
-        if (handler != null) {
+        if (batching) {
+          if (context.tracer() != null || bus.inboundInterceptors().length > 0) {
+            // Tracing and inbound interceptors operate on a single message, deliver each message as its own batch
+            flushBatch();
+            dispatchMessage(MessageConsumerImpl.this::batchSingleton, (MessageImpl<?, T>) msg, context.duplicate());
+          } else {
+            batchMessage(msg);
+          }
+        } else if (handler != null) {
           dispatchMessage(handler, (MessageImpl<?, T>) msg, context.duplicate());
         } else {
           handleDiscard(msg, false);
@@ -78,6 +101,10 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
   @Override
   public synchronized Future<Void> unregister() {
     handler = null;
+    if (batchHandler != null) {
+      batchHandler = null;
+      clearBatch();
+    }
     if (endHandler != null) {
       endHandler.handle(null);
     }
@@ -117,6 +144,21 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
     }
   }
 
+  @Override
+  protected void doReceive(List<Message<T>> messages) {
+    // The messages are pulled one by one, the queue pauses the producer when it reaches its high water mark and the
+    // following messages are discarded
+    pending.write(() -> messages.stream().filter(this::accept).iterator());
+  }
+
+  private boolean accept(Message<T> message) {
+    if (full) {
+      handleDiscard(message, true);
+      return false;
+    }
+    return true;
+  }
+
   @Override
   protected void dispatchMessage(Message<T> msg, ContextInternal context, Handler<Message<T>> handler) {
     if (handler == null) {
@@ -135,28 +177,131 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
   @Override
   public synchronized MessageConsumer<T> handler(Handler<Message<T>> h) {
     if (h != null) {
-      synchronized (this) {
-        handler = h;
-        if (!registered) {
-          registered = true;
-          Promise<Void> p = result;
-          Promise<Void> registration = context.promise();
-          register(true, localOnly, registration);
-          registration.future().onComplete(ar -> {
-            if (ar.succeeded()) {
-              p.tryComplete();
-            } else {
-              p.tryFail(ar.cause());
-            }
-          });
-        }
+      if (batchHandler != null) {
+        batchHandler = null;
+        clearBatch();
       }
+      handler = h;
+      register();
     } else {
       unregister();
     }
     return this;
   }
 
+  private void register() {
+    if (!registered) {
+      registered = true;
+      Promise<Void> p = result;
+      Promise<Void> registration = context.promise();
+      register(true, localOnly, registration);
+      registration.future().onComplete(ar -> {
+        if (ar.succeeded()) {
+          p.tryComplete();
+        } else {
+          p.tryFail(ar.cause());
+        }
+      });
+    }
+  }
+
+  @Override
+  public MessageConsumer<T> batchHandler(int maxBatch, Duration maxLinger, Handler<List<Message<T>>> handler) {
+    Arguments.require(maxBatch > 0, "maxBatch must be > 0");
+    Objects.requireNonNull(maxLinger, "No null maxLinger accepted");
+    Arguments.require(!maxLinger.isNegative(), "maxLinger must be >= 0");
+    if (handler == null) {
+      return handler(null);
+    }
+    synchronized (this) {
+      this.handler = null;
+      this.batchHandler = handler;
+      this.maxBatch = maxBatch;
+      this.maxLinger = Math.max(1L, maxLinger.toMillis());
+      register();
+    }
+    return this;
+  }
+
+  private void batchSingleton(Message<T> msg) {
+    Handler<List<Message<T>>> handler;
+    synchronized (this) {
+      handler = batchHandler;
+    }
+    if (handler != null) {
+      handler.handle(Collections.singletonList(msg));
+    } else {
+      // Switched away from batching while the message was intercepted
+      handleDiscard(msg, false);
+    }
+  }
+
+  private void batchMessage(Message<T> msg) {
+    int max;
+    long linger;
+    synchronized (this) {
+      if (batchHandler == null) {
+        // Switched away from batching
+        handleDiscard(msg, false);
+        return;
+      }
+      max = maxBatch;
+      linger = maxLinger;
+    }
+    if (batch == null) {
+      batch = new ArrayList<>(Math.min(max, 64));
+    }
+    batch.add(msg);
+    if (batch.size() >= max) {
+      flushBatch();
+    } else if (lingerTimerId == -1L) {
+      lingerTimerId = context.setTimer(linger, id -> {
+        lingerTimerId = -1L;
+        flushBatch();
+      });
+    }
+  }
+
+  private void flushBatch() {
+    if (lingerTimerId != -1L) {
+      context.owner().cancelTimer(lingerTimerId);
+      lingerTimerId = -1L;
+    }
+    List<Message<T>> messages = batch;
+    if (messages != null) {
+      batch = null;
+      Handler<List<Message<T>>> handler;
+      synchronized (this) {
+        handler = batchHandler;
+      }
+      if (handler != null) {
+        dispatchMessages(handler, messages, context.duplicate());
+      } else {
+        messages.forEach(msg -> handleDiscard(msg, false));
+      }
+    }
+  }
+
+  /**
+   * Cancel the linger timer and discard the messages of the current batch, the batch state is only accessed from
+   * the consumer context.
+   */
+  private void clearBatch() {
+    if (!context.executor().inThread()) {
+      context.executor().execute(this::clearBatch);
+      return;
+    }
+    if (lingerTimerId != -1L) {
+      context.owner().cancelTimer(lingerTimerId);
+      lingerTimerId = -1L;
+    }
+    List<Message<T>> messages = batch;
+    if (messages != null) {
+      batch = null;
+      messages.forEach(msg -> handleDiscard(msg, false));
+    }
+  }
+
   @Override
   public ReadStream<T> bodyStream() {
     return new BodyReadStream<>(this);
@@ -32,6 +32,10 @@ public class MessageImpl<U, V> implements Message<V> {
   protected V receivedBody;
   protected boolean send;
   protected Object trace;
+  // Local fast path: the handler receiving the replies to this message
+  ReplyHandler<?> replyHandler;
+  // Local fast path: the handler this reply is delivered to
+  ReplyHandler<?> replyTarget;
 
   public MessageImpl(EventBusImpl bus) {
     this.bus = bus;
@@ -52,6 +56,8 @@ public class MessageImpl<U, V> implements Message<V> {
     this.bus = other.bus;
     this.address = other.address;
     this.replyAddress = other.replyAddress;
+    this.replyHandler = other.replyHandler;
+    this.replyTarget = other.replyTarget;
     this.messageCodec = other.messageCodec;
     if (other.headers != null) {
       List<Map.Entry<String, String>> entries = other.headers.entries();
@@ -73,7 +79,8 @@ public class MessageImpl<U, V> implements Message<V> {
 
   @Override
   public String address() {
-    return address;
+    ReplyHandler<?> target = replyTarget;
+    return target != null ? target.unregisteredAddress() : address;
   }
 
   @Override
@@ -95,12 +102,17 @@ public class MessageImpl<U, V> implements Message<V> {
 
   @Override
   public String replyAddress() {
-    return replyAddress;
+    // The reply handler owns its address, this message only reads it
+    ReplyHandler<?> handler = replyHandler;
+    return handler != null ? handler.replyAddress() : replyAddress;
   }
 
   @Override
   public void reply(Object message, DeliveryOptions options) {
-    if (replyAddress != null) {
+    ReplyHandler<?> handler = replyHandler;
+    if (handler != null && !handler.isRegistered() && bus.isFastPath(handler)) {
+      bus.sendReply(handler, message, options);
+    } else if (replyAddress() != null) {
       MessageImpl reply = createReply(message, options);
       bus.sendReply(reply, options, null);
     }
@@ -108,7 +120,7 @@ public class MessageImpl<U, V> implements Message<V> {
 
   @Override
   public <R> Future<Message<R>> replyAndRequest(Object message, DeliveryOptions options) {
-    if (replyAddress != null) {
+    if (replyAddress() != null) {
       MessageImpl reply = createReply(message, options);
       ReplyHandler<R> handler = bus.createReplyHandler(reply, false, options);
       bus.sendReply(reply, options, handler);
@@ -119,7 +131,7 @@ public class MessageImpl<U, V> implements Message<V> {
   }
 
   protected MessageImpl createReply(Object message, DeliveryOptions options) {
-    MessageImpl reply = bus.createMessage(true, isLocal(), replyAddress, options.getHeaders(), message, options.getCodecName());
+    MessageImpl reply = bus.createMessage(true, isLocal(), replyAddress(), options.getHeaders(), message, options.getCodecName());
     reply.trace = trace;
     return reply;
   }
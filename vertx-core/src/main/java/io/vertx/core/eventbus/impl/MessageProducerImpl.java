@@ -16,6 +16,8 @@ import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.*;
 import io.vertx.core.internal.ContextInternal;
 
+import java.util.List;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -49,6 +51,11 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
     return bus.sendOrPubInternal(msg, options, null);
   }
 
+  @Override
+  public Future<Void> writeAll(List<T> bodies) {
+    return bus.sendOrPubAll(send, localOnly, address, bodies, options);
+  }
+
   @Override
   public String address() {
     return address;
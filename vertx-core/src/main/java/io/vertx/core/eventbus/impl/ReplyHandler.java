@@ -30,16 +30,70 @@ class ReplyHandler<T> extends HandlerRegistration<T> implements Handler<Long> {
   private final long timeoutID;
   private final long timeout;
   private final String repliedAddress;
+  private final long id;
+  private volatile String replyAddress;
+  private boolean done;
   Object trace;
 
   ReplyHandler(EventBusImpl eventBus, ContextInternal context, String address, String repliedAddress, boolean src, long timeout) {
+    this(eventBus, context, address, 0L, repliedAddress, src, timeout);
+  }
+
+  /**
+   * Create a reply handler identified by {@code id}, its address is only created and registered when requested with
+   * {@link #replyAddress()}.
+   */
+  ReplyHandler(EventBusImpl eventBus, ContextInternal context, long id, String repliedAddress, boolean src, long timeout) {
+    this(eventBus, context, null, id, repliedAddress, src, timeout);
+  }
+
+  private ReplyHandler(EventBusImpl eventBus, ContextInternal context, String address, long id, String repliedAddress, boolean src, long timeout) {
     super(context, eventBus, address, src);
     this.result = context.promise();
     this.repliedAddress = repliedAddress;
-    this.timeoutID = context.setTimer(timeout, this);
+    this.id = id;
+    this.timeoutID = context.setTimeout(timeout, this);
     this.timeout = timeout;
   }
 
+  /**
+   * @return the address of this handler, registering it when needed
+   */
+  synchronized String replyAddress() {
+    String addr = address();
+    if (addr == null) {
+      addr = EventBusImpl.replyAddress(id);
+      replyAddress = addr;
+      if (!done) {
+        register();
+      }
+    }
+    return addr;
+  }
+
+  /**
+   * @return the address of this handler without registering it
+   */
+  String unregisteredAddress() {
+    String addr = address();
+    return addr != null ? addr : EventBusImpl.replyAddress(id);
+  }
+
+  @Override
+  public String address() {
+    return address != null ? address : replyAddress;
+  }
+
+  private void release() {
+    synchronized (this) {
+      done = true;
+      if (!isRegistered()) {
+        return;
+      }
+    }
+    unregister();
+  }
+
   private void trace(Object reply, Throwable failure) {
     VertxTracer tracer = context.tracer();
     Object trace = this.trace;
@@ -54,7 +108,7 @@ class ReplyHandler<T> extends HandlerRegistration<T> implements Handler<Long> {
 
   void fail(ReplyException failure) {
     if (context.owner().cancelTimer(timeoutID)) {
-      unregister();
+      release();
       doFail(failure);
     }
   }
@@ -69,8 +123,8 @@ class ReplyHandler<T> extends HandlerRegistration<T> implements Handler<Long> {
 
   @Override
   public void handle(Long id) {
-    unregister();
-    doFail(new ReplyException(ReplyFailure.TIMEOUT, "Timed out after waiting " + timeout + "(ms) for a reply. address: " + address + ", repliedAddress: " + repliedAddress));
+    release();
+    doFail(new ReplyException(ReplyFailure.TIMEOUT, "Timed out after waiting " + timeout + "(ms) for a reply. address: " + unregisteredAddress() + ", repliedAddress: " + repliedAddress));
   }
 
   @Override
@@ -85,7 +139,7 @@ class ReplyHandler<T> extends HandlerRegistration<T> implements Handler<Long> {
   @Override
   protected void dispatchMessage(Message<T> reply, ContextInternal context, Handler<Message<T>> handler /* null */) {
     if (context.owner().cancelTimer(timeoutID)) {
-      unregister();
+      release();
       if (reply.body() instanceof ReplyException) {
         doFail((ReplyException) reply.body());
       } else {
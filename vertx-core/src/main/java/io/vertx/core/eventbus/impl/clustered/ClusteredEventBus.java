@@ -38,6 +38,7 @@ import java.net.NetworkInterface;
 import java.net.SocketException;
 import java.util.Enumeration;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -59,7 +60,8 @@ public final class ClusteredEventBus extends EventBusImpl {
   private final AtomicLong handlerSequence = new AtomicLong(0);
   private final NetClient client;
 
-  private final ConcurrentMap<String, OutboundConnection> outboundConnections = new ConcurrentHashMap<>();
+  // One map per connection index, a remote node has one connection in each map
+  private final ConcurrentMap<String, OutboundConnection>[] outboundConnections;
   private final ContextInternal context;
 
   private NodeInfo nodeInfo;
@@ -81,6 +83,16 @@ public final class ClusteredEventBus extends EventBusImpl {
       .withCloseFuture(new CloseFuture())
       .build();
     this.client = client;
+    this.outboundConnections = createOutboundConnections(this.options.getClusterConnectionsPerNode());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ConcurrentMap<String, OutboundConnection>[] createOutboundConnections(int connectionsPerNode) {
+    ConcurrentMap<String, OutboundConnection>[] maps = new ConcurrentMap[connectionsPerNode];
+    for (int i = 0;i < connectionsPerNode;i++) {
+      maps[i] = new ConcurrentHashMap<>();
+    }
+    return maps;
   }
 
   CodecManager codecManager() {
@@ -239,6 +251,48 @@ public final class ClusteredEventBus extends EventBusImpl {
     }
   }
 
+  @Override
+  protected void sendOrPubAll(ContextInternal ctx, List<MessageImpl<?, ?>> messages, DeliveryOptions options, Promise<Void> writePromise) {
+    MessageImpl<?, ?> first = messages.get(0);
+    if (options.isLocalOnly()) {
+      sendAllLocally(messages, writePromise);
+    } else if (first.isSend()) {
+      // The batch goes to a single node
+      nodeSelector.selectForSend(first.address(), (nodeId, failure) -> {
+        if (failure == null) {
+          sendAllToNode(nodeId, messages, writePromise);
+        } else {
+          sendOrPublishFailed(writePromise, failure);
+        }
+      });
+    } else {
+      nodeSelector.selectForPublish(first.address(), (nodeIds, failure) -> {
+        if (failure == null) {
+          boolean sentRemote = false;
+          if (nodeIds != null) {
+            for (String nid : nodeIds) {
+              sentRemote = true;
+              sendAllToNode(nid, messages, writePromise);
+            }
+          }
+          if (!sentRemote) {
+            sendAllLocally(messages, writePromise);
+          }
+        } else {
+          sendOrPublishFailed(writePromise, failure);
+        }
+      });
+    }
+  }
+
+  private void sendAllToNode(String nodeId, List<MessageImpl<?, ?>> messages, Promise<Void> writePromise) {
+    if (nodeId != null && !nodeId.equals(this.nodeId)) {
+      getOutboundConnection(nodeId, messages.get(0).address()).writeMessages(messages, writePromise);
+    } else {
+      sendAllLocally(messages, writePromise);
+    }
+  }
+
   private void sendOrPublishFailed(Promise<Void> promise, Throwable cause) {
     if (log.isDebugEnabled()) {
       log.error("Failed to send message", cause);
@@ -343,35 +397,49 @@ public final class ClusteredEventBus extends EventBusImpl {
   }
 
   private void sendRemote(String remoteNodeId, MessageImpl<?, ?> message, Promise<Void> writePromise) {
-    OutboundConnection outboundConnection = getOutboundConnection(remoteNodeId);
+    OutboundConnection outboundConnection = getOutboundConnection(remoteNodeId, message.address());
     outboundConnection.writeMessage(message, writePromise);
   }
 
-  private OutboundConnection getOutboundConnection(String remoteNodeId) {
-    OutboundConnection conn = outboundConnections.get(remoteNodeId);
+  private OutboundConnection getOutboundConnection(String remoteNodeId, String address) {
+    // Messages sent to the same address always use the same connection to preserve ordering
+    ConcurrentMap<String, OutboundConnection> connections = outboundConnections.length == 1 ? outboundConnections[0] :
+      outboundConnections[(address.hashCode() & 0x7FFFFFFF) % outboundConnections.length];
+    OutboundConnection conn = connections.get(remoteNodeId);
     if (conn == null) {
       conn = new OutboundConnection(this, remoteNodeId);
-      OutboundConnection prev = outboundConnections.putIfAbsent(remoteNodeId, conn);
+      OutboundConnection prev = connections.putIfAbsent(remoteNodeId, conn);
       if (prev != null) {
         conn = prev;
       } else {
-        connect(conn);
+        connect(connections, conn);
       }
     }
     return conn;
   }
 
-  private void connect(OutboundConnection conn) {
+  private Future<NetSocket> connect(NodeInfo info) {
+    if (outboundConnections.length == 1) {
+      return client.connect(info.port(), info.host());
+    }
+    // Spread the connections to a node across the event-loops
+    ContextInternal ctx = vertx.createEventLoopContext();
+    Promise<NetSocket> promise = ctx.promise();
+    ctx.runOnContext(v -> client.connect(info.port(), info.host()).onComplete(promise));
+    return promise.future();
+  }
+
+  private void connect(ConcurrentMap<String, OutboundConnection> connections, OutboundConnection conn) {
     Promise<NodeInfo> promise = Promise.promise();
     clusterManager.getNodeInfo(conn.remoteNodeId(), promise);
     promise.future()
-      .flatMap(info -> client.connect(info.port(), info.host()))
+      .flatMap(this::connect)
       .onComplete(ar -> {
         if (ar.succeeded()) {
           NetSocket connection = ar.result();
           connection.handler(conn);
           connection.closeHandler(v -> {
-            if (outboundConnections.remove(conn.remoteNodeId(), conn)) {
+            if (connections.remove(conn.remoteNodeId(), conn)) {
               if (log.isDebugEnabled()) {
                 log.debug("Cluster connection closed for server " + conn.remoteNodeId());
               }
@@ -383,7 +451,7 @@ public final class ClusteredEventBus extends EventBusImpl {
           if (log.isWarnEnabled()) {
             log.warn("Connecting to server " + conn.remoteNodeId() + " failed", ar.cause());
           }
-          outboundConnections.remove(conn.remoteNodeId(), conn);
+          connections.remove(conn.remoteNodeId(), conn);
           conn.handleClose(ar.cause());
         }
       });
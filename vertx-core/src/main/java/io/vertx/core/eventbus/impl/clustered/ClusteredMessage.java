@@ -11,6 +11,9 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.util.CharsetUtil;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
@@ -21,6 +24,7 @@ import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.eventbus.impl.CodecManager;
 import io.vertx.core.eventbus.impl.EventBusImpl;
 import io.vertx.core.eventbus.impl.MessageImpl;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
 
@@ -36,11 +40,33 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
 
   private static final byte WIRE_PROTOCOL_VERSION = 2;
 
+  /**
+   * The compact wire protocol version, negotiated per connection, see {@link WireDictionary}.
+   */
+  static final byte COMPACT_WIRE_PROTOCOL_VERSION = 3;
+
+  // Compact wire protocol string tags
+  private static final int STRING_REF = 1;
+  private static final int STRING_DEFINE = 2;
+  private static final int STRING_LITERAL = 3;
+
+  /**
+   * Initial size of the buffer holding the message headers section.
+   */
+  private static final int HEADERS_SECTION_SIZE_HINT = 256;
+
+  /**
+   * Buffer and byte array bodies at least this large are attached to the wire buffer instead of being copied, likewise
+   * received frames and buffer bodies at least this large are sliced instead of being copied.
+   */
+  static final int ZERO_COPY_BODY_THRESHOLD = 1024;
+
   private String sender;
   private String repliedTo;
   private Buffer wireBuffer;
   private int bodyPos;
   private int headersPos;
+  private byte wireVersion;
   private boolean fromWire;
   private boolean toWire;
   private String failure;
@@ -62,6 +88,7 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
       this.wireBuffer = other.wireBuffer;
       this.bodyPos = other.bodyPos;
       this.headersPos = other.headersPos;
+      this.wireVersion = other.wireVersion;
     }
     this.fromWire = other.fromWire;
   }
@@ -107,39 +134,111 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     return replyAddress;
   }
 
-  public Buffer encodeToWire() {
+  /**
+   * Encode this message to the wire format.
+   * <p>
+   * The address, headers and small bodies are written into a buffer obtained from the {@code allocator}, large
+   * {@link Buffer} and {@code byte[]} bodies are not copied: they are attached to the returned composite buffer.
+   * The caller takes ownership of the returned buffer.
+   * <p>
+   * When a {@code dictionary} is provided, the message is encoded with the {@link #COMPACT_WIRE_PROTOCOL_VERSION compact wire protocol}.
+   *
+   * @param allocator the allocator of the headers section buffer
+   * @param dictionary the dictionary of the connection or {@code null}
+   * @return the encoded message
+   */
+  public ByteBuf encodeToWire(ByteBufAllocator allocator, WireDictionary dictionary) {
     toWire = true;
-    int length = 1024; // TODO make this configurable
-    Buffer buffer = Buffer.buffer(length);
-    buffer.appendInt(0);
-    buffer.appendByte(WIRE_PROTOCOL_VERSION);
-    byte systemCodecID = messageCodec.systemCodecID();
-    buffer.appendByte(systemCodecID);
-    if (systemCodecID == -1) {
-      // User codec
-      writeString(buffer, messageCodec.name());
-    }
-    buffer.appendByte(send ? (byte) 0 : (byte) 1);
-    writeString(buffer, address);
-    if (replyAddress != null) {
-      writeString(buffer, replyAddress);
-    } else {
+    Buffer buffer = BufferInternal.buffer(allocator.directBuffer(HEADERS_SECTION_SIZE_HINT));
+    try {
       buffer.appendInt(0);
+      byte systemCodecID = messageCodec.systemCodecID();
+      if (dictionary != null) {
+        buffer.appendByte(COMPACT_WIRE_PROTOCOL_VERSION);
+        buffer.appendByte(systemCodecID);
+        if (systemCodecID == -1) {
+          // User codec
+          writeString(buffer, messageCodec.name(), dictionary, true);
+        }
+        buffer.appendByte(send ? (byte) 0 : (byte) 1);
+        // Reply addresses are unique, so they are not worth defining
+        writeString(buffer, address, dictionary, repliedTo == null);
+        writeString(buffer, replyAddress, dictionary, false);
+        writeString(buffer, sender, dictionary, true);
+        encodeCompactHeaders(buffer);
+      } else {
+        buffer.appendByte(WIRE_PROTOCOL_VERSION);
+        buffer.appendByte(systemCodecID);
+        if (systemCodecID == -1) {
+          // User codec
+          writeString(buffer, messageCodec.name());
+        }
+        buffer.appendByte(send ? (byte) 0 : (byte) 1);
+        writeString(buffer, address);
+        if (replyAddress != null) {
+          writeString(buffer, replyAddress);
+        } else {
+          buffer.appendInt(0);
+        }
+        writeString(buffer, sender);
+        encodeHeaders(buffer);
+      }
+      ByteBuf body = zeroCopyBody();
+      if (body != null) {
+        buffer.appendInt(body.readableBytes());
+        buffer.setInt(0, buffer.length() - 4 + body.readableBytes());
+        return Unpooled.wrappedBuffer(((BufferInternal) buffer).unwrap(), body);
+      }
+      writeBody(buffer);
+      buffer.setInt(0, buffer.length() - 4);
+      return ((BufferInternal) buffer).unwrap();
+    } catch (RuntimeException e) {
+      ((BufferInternal) buffer).unwrap().release();
+      throw e;
     }
-    writeString(buffer, sender);
-    encodeHeaders(buffer);
-    writeBody(buffer);
-    buffer.setInt(0, buffer.length() - 4);
-    return buffer;
+  }
+
+  /**
+   * @return the body as a buffer that can be written without copying, or {@code null} when the body must be encoded
+   */
+  private ByteBuf zeroCopyBody() {
+    if (messageCodec == CodecManager.BUFFER_MESSAGE_CODEC) {
+      Buffer body = (Buffer) sentBody;
+      if (body.length() >= ZERO_COPY_BODY_THRESHOLD) {
+        return ((BufferInternal) body).getByteBuf();
+      }
+    } else if (messageCodec == CodecManager.BYTE_ARRAY_MESSAGE_CODEC) {
+      byte[] body = (byte[]) sentBody;
+      if (body.length >= ZERO_COPY_BODY_THRESHOLD) {
+        return Unpooled.wrappedBuffer(body);
+      }
+    }
+    return null;
   }
 
   public void readFromWire(Buffer buffer, CodecManager codecManager) {
+    readFromWire(buffer, codecManager, null);
+  }
+
+  /**
+   * Decode this message from the wire format.
+   *
+   * @param buffer the message buffer
+   * @param codecManager the codec manager
+   * @param dictionary the dictionary of the connection, required to decode the compact wire protocol
+   */
+  public void readFromWire(Buffer buffer, CodecManager codecManager, WireDictionary dictionary) {
     int pos = 0;
     // Overall Length already read when passed in here
     byte protocolVersion = buffer.getByte(pos);
+    if (protocolVersion == COMPACT_WIRE_PROTOCOL_VERSION && dictionary != null) {
+      readFromCompactWire(buffer, codecManager, dictionary);
+      return;
+    }
     if (protocolVersion > WIRE_PROTOCOL_VERSION) {
       setFailure("Invalid wire protocol version " + protocolVersion + " should be <= " + WIRE_PROTOCOL_VERSION);
     }
+    wireVersion = protocolVersion;
     pos++;
     byte systemCodecCode = buffer.getByte(pos);
     pos++;
@@ -185,14 +284,56 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     fromWire = true;
   }
 
+  private void readFromCompactWire(Buffer buffer, CodecManager codecManager, WireDictionary dictionary) {
+    WireReader reader = new WireReader(buffer, dictionary);
+    wireVersion = COMPACT_WIRE_PROTOCOL_VERSION;
+    reader.pos++;
+    byte systemCodecCode = buffer.getByte(reader.pos++);
+    if (systemCodecCode == -1) {
+      // User codec
+      String codecName = reader.readString();
+      messageCodec = codecName != null ? codecManager.getCodec(codecName) : null;
+      if (messageCodec == null) {
+        setFailure("No message codec registered with name " + codecName);
+      }
+    } else {
+      messageCodec = codecManager.systemCodecs()[systemCodecCode];
+    }
+    send = buffer.getByte(reader.pos++) == 0;
+    address = reader.readString();
+    replyAddress = reader.readString();
+    sender = reader.readString();
+    if (reader.failure != null) {
+      setFailure(reader.failure);
+    }
+    headersPos = reader.pos;
+    int headersLength = reader.readVarInt();
+    bodyPos = reader.pos + headersLength;
+    wireBuffer = buffer;
+    fromWire = true;
+  }
+
   private void setFailure(String s) {
     if (failure == null) {
       failure = s;
     }
   }
 
+  @SuppressWarnings("unchecked")
   private void decodeBody() {
-    receivedBody = messageCodec.decodeFromWire(bodyPos, wireBuffer);
+    if (send && messageCodec == CodecManager.BUFFER_MESSAGE_CODEC) {
+      // A sent message has a single receiver, a large body can be sliced out of the wire buffer instead of being
+      // copied, a small body is copied so it does not retain the wire buffer
+      int length = wireBuffer.getInt(bodyPos);
+      int start = bodyPos + 4;
+      if (length >= ZERO_COPY_BODY_THRESHOLD) {
+        receivedBody = (V) wireBuffer.slice(start, start + length);
+      } else {
+        receivedBody = (V) wireBuffer.getBuffer(start, start + length);
+      }
+    } else {
+      receivedBody = messageCodec.decodeFromWire(bodyPos, wireBuffer);
+    }
     bodyPos = 0;
   }
 
@@ -213,7 +354,27 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     }
   }
 
+  private void encodeCompactHeaders(Buffer buffer) {
+    if (headers != null && !headers.isEmpty()) {
+      List<Map.Entry<String, String>> entries = headers.entries();
+      Buffer section = Buffer.buffer();
+      appendVarInt(section, entries.size());
+      for (Map.Entry<String, String> entry: entries) {
+        writeLengthPrefixedString(section, entry.getKey());
+        writeLengthPrefixedString(section, entry.getValue());
+      }
+      appendVarInt(buffer, section.length());
+      buffer.appendBuffer(section);
+    } else {
+      appendVarInt(buffer, 0);
+    }
+  }
+
   private void decodeHeaders() {
+    if (wireVersion == COMPACT_WIRE_PROTOCOL_VERSION) {
+      decodeCompactHeaders();
+      return;
+    }
     int length = wireBuffer.getInt(headersPos);
     if (length != 4) {
       headersPos += 4;
@@ -237,6 +398,22 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     headersPos = 0;
   }
 
+  private void decodeCompactHeaders() {
+    WireReader reader = new WireReader(wireBuffer, null);
+    reader.pos = headersPos;
+    int length = reader.readVarInt();
+    if (length != 0) {
+      int numHeaders = reader.readVarInt();
+      headers = MultiMap.caseInsensitiveMultiMap();
+      for (int i = 0; i < numHeaders; i++) {
+        String key = reader.readLengthPrefixedString();
+        String val = reader.readLengthPrefixedString();
+        headers.add(key, val);
+      }
+    }
+    headersPos = 0;
+  }
+
   private void writeBody(Buffer buff) {
     messageCodec.encodeToWire(buff, sentBody);
   }
@@ -247,6 +424,97 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     buff.appendBytes(strBytes);
   }
 
+  /**
+   * Write a string with the compact wire protocol: a varint tag followed by the UTF-8 bytes of the string when it
+   * is not a reference to a dictionary entry.
+   */
+  private static void writeString(Buffer buff, String str, WireDictionary dictionary, boolean define) {
+    if (str == null) {
+      appendVarInt(buff, 0);
+      return;
+    }
+    int id = dictionary.lookup(str);
+    if (id != -1) {
+      appendVarInt(buff, (id << 2) | STRING_REF);
+      return;
+    }
+    byte[] strBytes = str.getBytes(CharsetUtil.UTF_8);
+    int tag = define && dictionary.define(str) ? STRING_DEFINE : STRING_LITERAL;
+    appendVarInt(buff, (strBytes.length << 2) | tag);
+    buff.appendBytes(strBytes);
+  }
+
+  private static void writeLengthPrefixedString(Buffer buff, String str) {
+    byte[] strBytes = str.getBytes(CharsetUtil.UTF_8);
+    appendVarInt(buff, strBytes.length);
+    buff.appendBytes(strBytes);
+  }
+
+  private static void appendVarInt(Buffer buff, int value) {
+    while ((value & ~0x7F) != 0) {
+      buff.appendByte((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buff.appendByte((byte) value);
+  }
+
+  /**
+   * Reads the compact wire protocol fields.
+   */
+  private static final class WireReader {
+
+    private final Buffer buffer;
+    private final WireDictionary dictionary;
+    private int pos;
+    private String failure;
+
+    WireReader(Buffer buffer, WireDictionary dictionary) {
+      this.buffer = buffer;
+      this.dictionary = dictionary;
+    }
+
+    int readVarInt() {
+      int value = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = buffer.getByte(pos++);
+        value |= (b & 0x7F) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      return value;
+    }
+
+    String readLengthPrefixedString() {
+      int length = readVarInt();
+      String str = buffer.getString(pos, pos + length, "UTF-8");
+      pos += length;
+      return str;
+    }
+
+    String readString() {
+      int tag = readVarInt();
+      if (tag == 0) {
+        return null;
+      }
+      int value = tag >>> 2;
+      if ((tag & 3) == STRING_REF) {
+        String str = dictionary.get(value);
+        if (str == null && failure == null) {
+          failure = "Invalid wire dictionary entry " + value;
+        }
+        return str;
+      }
+      byte[] bytes = buffer.getBytes(pos, pos + value);
+      pos += value;
+      String str = new String(bytes, CharsetUtil.UTF_8);
+      if ((tag & 3) == STRING_DEFINE && !dictionary.add(str) && failure == null) {
+        failure = "Wire dictionary overflow";
+      }
+      return str;
+    }
+  }
+
   String getSender() {
     return sender;
   }
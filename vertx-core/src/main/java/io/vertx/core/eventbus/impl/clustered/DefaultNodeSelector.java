@@ -13,23 +13,81 @@ package io.vertx.core.eventbus.impl.clustered;
 import io.netty.util.internal.PlatformDependent;
 import io.vertx.core.Completable;
 import io.vertx.core.eventbus.impl.clustered.selector.*;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.spi.cluster.ClusteredNode;
+import io.vertx.core.spi.cluster.NodeInfo;
 import io.vertx.core.spi.cluster.RegistrationInfo;
 import io.vertx.core.spi.cluster.RegistrationUpdateEvent;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Node selector implementation that preserves the ordering of select operations.
+ * <p>
+ * Concurrent select operations for an address are coalesced into a single cluster manager lookup, the result is
+ * then kept up to date with registration updates. Optionally, the selector can
+ *
+ * <ul>
+ *   <li>cache the absence of handlers for an address during a given time</li>
+ *   <li>prefer the nodes having the same locality than this node, the locality is read from the node metadata</li>
+ * </ul>
  */
 public class DefaultNodeSelector implements NodeSelector {
 
+  private final long negativeCacheTimeout;
+  private final String localityKey;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final ConcurrentMap<String, String> localities;
+  private final Set<String> localityLookups;
+  // Incremented when a locality lookup completes, so selectors only resolve localities again when they might change
+  private final AtomicInteger localitiesVersion = new AtomicInteger();
   private ClusteredNode clusterManager;
+  private volatile String locality;
   private final ConcurrentMap<String, Node> entries = new ConcurrentHashMap<>();
 
+  public DefaultNodeSelector() {
+    this(0L, null);
+  }
+
+  /**
+   * @param negativeCacheTimeout the time in milliseconds during which the absence of handlers is cached, {@code 0}
+   *                             disables the negative cache
+   * @param localityKey the node metadata key holding the node locality or {@code null}
+   */
+  public DefaultNodeSelector(long negativeCacheTimeout, String localityKey) {
+    this.negativeCacheTimeout = TimeUnit.MILLISECONDS.toNanos(negativeCacheTimeout);
+    this.localityKey = localityKey;
+    this.localities = localityKey != null ? new ConcurrentHashMap<>() : null;
+    this.localityLookups = localityKey != null ? ConcurrentHashMap.newKeySet() : null;
+  }
+
+  /**
+   * @return the number of select operations answered without a cluster manager lookup
+   */
+  public long hits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the number of cluster manager lookups
+   */
+  public long misses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the number of nodes whose locality is known
+   */
+  public int localities() {
+    return localities != null ? localities.size() : 0;
+  }
+
   private interface Op<T> {
     Op<String> SEND = RoundRobinSelector::selectForSend;
     Op<Iterable<String>> PUBLISH = RoundRobinSelector::selectForPublish;
@@ -70,6 +128,79 @@ public class DefaultNodeSelector implements NodeSelector {
   private interface Action {
   }
 
+  /**
+   * The cached absence of handlers.
+   */
+  private static class NoHandlers implements RoundRobinSelector {
+    final long expiration;
+    NoHandlers(long expiration) {
+      this.expiration = expiration;
+    }
+    @Override
+    public String selectForSend() {
+      return null;
+    }
+    @Override
+    public Iterable<String> selectForPublish() {
+      return Collections.emptyList();
+    }
+  }
+
+  /**
+   * Sends to the nodes having the given locality when there are some, publishing is not affected.
+   */
+  private class LocalitySelector implements RoundRobinSelector {
+
+    final String locality;
+    final List<String> nodeIds;
+    final RoundRobinSelector all;
+    // null when no node has the same locality
+    volatile RoundRobinSelector local;
+    // whether the locality of all nodes is known
+    volatile boolean resolved;
+    // the localities version the selector was resolved with
+    volatile int version;
+
+    LocalitySelector(String locality, List<String> nodeIds, RoundRobinSelector all) {
+      this.locality = locality;
+      this.nodeIds = nodeIds;
+      this.all = all;
+      resolve();
+    }
+
+    private void resolve() {
+      version = localitiesVersion.get();
+      List<String> sameLocality = new ArrayList<>();
+      boolean complete = true;
+      for (String nodeId : nodeIds) {
+        String l = localities.get(nodeId);
+        if (l == null) {
+          complete = false;
+          lookupLocality(nodeId);
+        } else if (l.equals(locality)) {
+          sameLocality.add(nodeId);
+        }
+      }
+      local = roundRobin(sameLocality);
+      resolved = complete;
+    }
+
+    @Override
+    public String selectForSend() {
+      if (!resolved && version != localitiesVersion.get()) {
+        // A lookup completed since the last resolution
+        resolve();
+      }
+      RoundRobinSelector selector = local;
+      return selector != null ? selector.selectForSend() : all.selectForSend();
+    }
+
+    @Override
+    public Iterable<String> selectForPublish() {
+      return all.selectForPublish();
+    }
+  }
+
   private static class Update implements Action {
     // null means delete
     final RoundRobinSelector selector;
@@ -103,14 +234,21 @@ public class DefaultNodeSelector implements NodeSelector {
         node = phantom;
       } else {
         // Obtained ownership
+        misses.increment();
         initializeNode(node, address);
         return;
       }
     }
+    hits.increment();
     if (node.wip.get() == 0) {
       // wip == 0 implies we can safely read a value
       Object v = node.value;
-      if (v instanceof RoundRobinSelector) {
+      if (v instanceof NoHandlers && ((NoHandlers) v).expiration - System.nanoTime() <= 0) {
+        // Stale, lookup again
+        hits.decrement();
+        entries.remove(address, node);
+        selectFor(address, op, callback);
+      } else if (v instanceof RoundRobinSelector) {
         callback.succeed(op.select((RoundRobinSelector) v));
       } else {
         callback.fail((Throwable) v);
@@ -142,6 +280,9 @@ public class DefaultNodeSelector implements NodeSelector {
     RoundRobinSelector selector = data(accessible);
     if (selector != null) {
       node.signal(selector, node.wip.get());
+    } else if (negativeCacheTimeout > 0L) {
+      // Keep the node, registration updates replace it as soon as a handler is registered
+      node.signal(new NoHandlers(System.nanoTime() + negativeCacheTimeout), node.wip.get());
     } else {
       if (entries.remove(address, node)) {
         node.signal(NullRoundRobinSelector.INSTANCE, node.wip.get());
@@ -175,6 +316,17 @@ public class DefaultNodeSelector implements NodeSelector {
   }
 
   private RoundRobinSelector data(List<String> nodeIds) {
+    RoundRobinSelector selector = roundRobin(nodeIds);
+    if (selector != null && localityKey != null) {
+      String l = locality;
+      if (l != null && !l.isEmpty()) {
+        selector = new LocalitySelector(l, nodeIds, selector);
+      }
+    }
+    return selector;
+  }
+
+  private RoundRobinSelector roundRobin(List<String> nodeIds) {
     if (nodeIds == null || nodeIds.isEmpty()) {
       return null;
     } else {
@@ -231,10 +383,52 @@ public class DefaultNodeSelector implements NodeSelector {
 
   @Override
   public void eventBusStarted() {
+    if (localityKey != null) {
+      String nodeId = clusterManager.getNodeId();
+      locality = localityOf(clusterManager.getNodeInfo());
+      localities.put(nodeId, locality);
+      for (String id : clusterManager.getNodes()) {
+        if (!id.equals(nodeId)) {
+          lookupLocality(id);
+        }
+      }
+    }
+  }
+
+  private String localityOf(NodeInfo nodeInfo) {
+    JsonObject metadata = nodeInfo != null ? nodeInfo.metadata() : null;
+    Object value = metadata != null ? metadata.getValue(localityKey) : null;
+    return value != null ? value.toString() : "";
+  }
+
+  private void lookupLocality(String nodeId) {
+    if (localityLookups.add(nodeId)) {
+      clusterManager.getNodeInfo(nodeId, (info, err) -> {
+        if (err == null) {
+          localities.put(nodeId, localityOf(info));
+        }
+        localityLookups.remove(nodeId);
+        localitiesVersion.incrementAndGet();
+      });
+    }
+  }
+
+  /**
+   * Forget the locality of the nodes that left the cluster, the registrations of a node are updated when it leaves.
+   */
+  private void pruneLocalities() {
+    if (localities.size() > 1) {
+      Set<String> nodes = new HashSet<>(clusterManager.getNodes());
+      nodes.add(clusterManager.getNodeId());
+      localities.keySet().retainAll(nodes);
+    }
   }
 
   @Override
   public void registrationsUpdated(RegistrationUpdateEvent event) {
+    if (localityKey != null) {
+      pruneLocalities();
+    }
     String address = event.address();
     List<String> accessible = computeAccessible(event.registrations());
     RoundRobinSelector selector = data(accessible);
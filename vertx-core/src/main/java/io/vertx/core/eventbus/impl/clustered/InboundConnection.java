@@ -10,40 +10,106 @@
  */
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.impl.CodecManager;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.net.NetSocket;
-import io.vertx.core.parsetools.RecordParser;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 
+import java.util.ArrayDeque;
+
 /**
  * Process event-bus server connections, this connection reads messages, the only data
  * it writes are pong replies.
+ * <p>
+ * Messages of at least {@link ClusteredMessage#ZERO_COPY_BODY_THRESHOLD} bytes are sliced out of the received buffers,
+ * a message spanning several buffers is assembled with a composite buffer, so their bytes are not copied. A sliced
+ * message retains the received buffers it spans until it is garbage collected, i.e. at most its size plus the size of
+ * a socket read on each side. Smaller messages are copied so they do not retain the received buffers.
  */
 final class InboundConnection implements Handler<Buffer> {
 
   private static final Buffer PONG = Buffer.buffer(new byte[]{(byte) 1});
+  private static final Buffer COMPACT_WIRE_PROTOCOL = Buffer.buffer(new byte[]{ClusteredMessage.COMPACT_WIRE_PROTOCOL_VERSION});
 
   private final ClusteredEventBus clusteredEventBus;
   private final NetSocket socket;
-  private final RecordParser parser;
+  private final WireDictionary dictionary = new WireDictionary();
+  private final ArrayDeque<ByteBuf> chunks = new ArrayDeque<>();
+  private int readable;
   private int size = -1;
   private Handler<ClusteredMessage<?, ?>> handler;
 
   public InboundConnection(ClusteredEventBus clusteredEventBus, NetSocket socket) {
     this.clusteredEventBus = clusteredEventBus;
-
-    RecordParser parser = RecordParser.newFixed(4);
-    parser.setOutput(this::decodeMessage);
-
     this.socket = socket;
-    this.parser = parser;
   }
 
   @Override
   public void handle(Buffer data) {
-    parser.handle(data);
+    ByteBuf chunk = ((BufferInternal) data).getByteBuf();
+    if (!chunk.isReadable()) {
+      return;
+    }
+    chunks.add(chunk);
+    readable += chunk.readableBytes();
+    while (true) {
+      if (size == -1) {
+        if (readable < 4) {
+          break;
+        }
+        size = read(4).getInt(0);
+      }
+      if (readable < size) {
+        break;
+      }
+      ByteBuf frame = read(size);
+      size = -1;
+      decodeMessage(BufferInternal.buffer(frame));
+    }
+  }
+
+  /**
+   * Read {@code length} bytes from the received chunks, {@code length} must not exceed {@link #readable}.
+   */
+  private ByteBuf read(int length) {
+    readable -= length;
+    if (length < ClusteredMessage.ZERO_COPY_BODY_THRESHOLD) {
+      ByteBuf copy = Unpooled.buffer(length);
+      while (length > 0) {
+        ByteBuf chunk = chunks.peek();
+        int amount = Math.min(length, chunk.readableBytes());
+        copy.writeBytes(chunk, amount);
+        if (!chunk.isReadable()) {
+          chunks.poll();
+        }
+        length -= amount;
+      }
+      return copy;
+    }
+    ByteBuf first = chunks.peek();
+    if (first.readableBytes() >= length) {
+      ByteBuf slice = first.readSlice(length);
+      if (!first.isReadable()) {
+        chunks.poll();
+      }
+      return slice;
+    }
+    CompositeByteBuf composite = Unpooled.compositeBuffer(Integer.MAX_VALUE);
+    while (length > 0) {
+      ByteBuf chunk = chunks.peek();
+      int amount = Math.min(length, chunk.readableBytes());
+      composite.addComponent(true, chunk.readSlice(amount));
+      if (!chunk.isReadable()) {
+        chunks.poll();
+      }
+      length -= amount;
+    }
+    return composite;
   }
 
   InboundConnection handler(Handler<ClusteredMessage<?, ?>> messageHandler) {
@@ -52,26 +118,23 @@ final class InboundConnection implements Handler<Buffer> {
   }
 
   private void decodeMessage(Buffer buff) {
-    if (size == -1) {
-      size = buff.getInt(0);
-      parser.fixedSizeMode(size);
-    } else {
-      ClusteredMessage<?, ?> received = new ClusteredMessage<>(clusteredEventBus);
-      received.readFromWire(buff, clusteredEventBus.codecManager());
-      parser.fixedSizeMode(4);
-      size = -1;
-      if (received.hasFailure()) {
-        received.internalError();
-      } else if (received.codec() == CodecManager.PING_MESSAGE_CODEC) {
+    ClusteredMessage<?, ?> received = new ClusteredMessage<>(clusteredEventBus);
+    received.readFromWire(buff, clusteredEventBus.codecManager(), dictionary);
+    if (received.hasFailure()) {
+      received.internalError();
+    } else if (received.codec() == CodecManager.PING_MESSAGE_CODEC) {
+      if (OutboundConnection.HELLO_ADDRESS.equals(received.address()) && clusteredEventBus.options().isClusterCompactWireProtocol()) {
+        socket.write(COMPACT_WIRE_PROTOCOL);
+      } else {
         // Just send back pong directly on connection
         socket.write(PONG);
-      } else {
-        EventBusMetrics<?> metrics = clusteredEventBus.metrics();
-        if (metrics != null) {
-          metrics.messageRead(received.address(), buff.length());
-        }
-        handler.handle(received);
       }
+    } else {
+      EventBusMetrics<?> metrics = clusteredEventBus.metrics();
+      if (metrics != null) {
+        metrics.messageRead(received.address(), buff.length());
+      }
+      handler.handle(received);
     }
   }
 }
@@ -11,6 +11,10 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.concurrent.EventExecutor;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -26,6 +30,8 @@ import io.vertx.core.net.NetSocket;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 
 /**
@@ -40,13 +46,28 @@ final class OutboundConnection implements Handler<Buffer> {
 
   private static final String PING_ADDRESS = "__vertx_ping";
 
+  /**
+   * A ping sent to this address negotiates the compact wire protocol: servers supporting it reply with
+   * {@link ClusteredMessage#COMPACT_WIRE_PROTOCOL_VERSION} instead of a pong.
+   */
+  static final String HELLO_ADDRESS = "__vertx_hello";
+
   private final ClusteredEventBus eventBus;
   private final String remoteNodeId;
   private final VertxInternal vertx;
   private final EventBusMetrics<?> metrics;
+  private final boolean writeBatching;
+  private final int writeBatchMaxMessages;
+  private final int writeBatchMaxBytes;
 
   private Queue<MessageWrite> pendingWrites;
-  private NetSocket socket;
+  private NetSocketInternal socket;
+  private EventExecutor eventLoop;
+  private CompositeByteBuf batch;
+  private List<Promise<Void>> batchPromises;
+  private boolean batchFlushScheduled;
+  private boolean negotiating;
+  private WireDictionary dictionary;
   private boolean connected;
   private long pingReplyTimeoutID = -1;
   private long pingTimeoutID = -1;
@@ -57,6 +78,11 @@ final class OutboundConnection implements Handler<Buffer> {
     this.remoteNodeId = remoteNodeId;
     this.vertx = eventBus.vertx();
     this.metrics = eventBus.getMetrics();
+
+    EventBusOptions options = eventBus.options();
+    this.writeBatching = options.isClusterWriteBatching();
+    this.writeBatchMaxMessages = options.getClusterWriteBatchMaxMessages();
+    this.writeBatchMaxBytes = options.getClusterWriteBatchMaxBytes();
   }
 
   String remoteNodeId() {
@@ -82,15 +108,67 @@ final class OutboundConnection implements Handler<Buffer> {
       }
     }
     if (failure == null) {
-      writeMessage(message)
-        .onComplete(writePromise);
+      if (writeBatching) {
+        batchMessage(message, writePromise);
+      } else {
+        writeMessage(message)
+          .onComplete(writePromise);
+      }
     } else {
       writePromise.tryFail(failure);
     }
   }
 
+  /**
+   * Write a batch of messages with a single flush, the {@code writePromise} is completed when the batch is written
+   * or failed when one of its messages cannot be written.
+   */
+  void writeMessages(List<MessageImpl<?, ?>> messages, Promise<Void> writePromise) {
+    synchronized (this) {
+      if (connected && !closed) {
+        // Keep ordering with the current batch
+        flushBatch();
+        CompositeByteBuf data = Unpooled.compositeBuffer(messages.size());
+        for (MessageImpl<?, ?> message : messages) {
+          data.addComponent(true, encode(message));
+          if (metrics != null) {
+            metrics.messageSent(message.address(), !message.isSend(), false, true);
+          }
+        }
+        if (metrics != null) {
+          metrics.messageBatchWritten(messages.size(), data.readableBytes());
+        }
+        socket.writeMessage(data).onComplete(writePromise);
+        return;
+      }
+    }
+    List<Future<Void>> futures = new ArrayList<>(messages.size());
+    for (MessageImpl<?, ?> message : messages) {
+      Promise<Void> promise = Promise.promise();
+      if (metrics != null) {
+        promise.future().onComplete(ar -> metrics.messageSent(message.address(), !message.isSend(), false, true));
+      }
+      writeMessage(message, promise);
+      futures.add(promise.future());
+    }
+    // The batch fails when any of its messages fails
+    Future.all(futures).<Void>mapEmpty().onComplete(writePromise);
+  }
+
   @Override
   public void handle(Buffer event) {
+    synchronized (this) {
+      if (negotiating) {
+        // Reply to the hello
+        negotiating = false;
+        if (event.getByte(0) == ClusteredMessage.COMPACT_WIRE_PROTOCOL_VERSION) {
+          dictionary = new WireDictionary();
+        }
+        if (event.length() == 1) {
+          return;
+        }
+      }
+    }
     // Got a pong back
     vertx.cancelTimer(pingReplyTimeoutID);
     schedulePing();
@@ -111,6 +189,14 @@ final class OutboundConnection implements Handler<Buffer> {
           msg.writePromise.tryFail(cause);
         }
       }
+      if (batch != null) {
+        batch.release();
+        for (Promise<Void> writePromise : batchPromises) {
+          writePromise.tryFail(cause);
+        }
+        batch = null;
+        batchPromises = null;
+      }
     }
   }
 
@@ -123,21 +209,30 @@ final class OutboundConnection implements Handler<Buffer> {
         log.warn("No pong from server " + remoteNodeId + " - will consider it dead");
         socket.close();
       });
-      ClusteredMessage<?, ?> pingMessage = new ClusteredMessage<>(
-        remoteNodeId,
-        PING_ADDRESS,
-        null,
-        null,
-        new PingMessageCodec(),
-        true,
-        eventBus);
-      writeMessage(pingMessage);
+      writeMessage(pingMessage(PING_ADDRESS));
     });
   }
 
+  private ClusteredMessage<?, ?> pingMessage(String address) {
+    return new ClusteredMessage<>(
+      remoteNodeId,
+      address,
+      null,
+      null,
+      new PingMessageCodec(),
+      true,
+      eventBus);
+  }
+
   synchronized void connected(NetSocket socket) {
-    this.socket = socket;
+    this.socket = (NetSocketInternal) socket;
+    this.eventLoop = this.socket.channelHandlerContext().executor();
     this.connected = true;
+    if (eventBus.options().isClusterCompactWireProtocol()) {
+      // Messages are sent with the regular wire protocol until the server replies
+      negotiating = true;
+      writeMessage(pingMessage(HELLO_ADDRESS));
+    }
     // Start a pinger
     schedulePing();
     if (pendingWrites != null) {
@@ -145,19 +240,75 @@ final class OutboundConnection implements Handler<Buffer> {
         log.debug("Draining the queue for server " + remoteNodeId);
       }
       for (MessageWrite ctx : pendingWrites) {
-        writeMessage(ctx.message)
-          .onComplete(ctx.writePromise);
+        if (writeBatching) {
+          batchMessage(ctx.message, ctx.writePromise);
+        } else {
+          writeMessage(ctx.message)
+            .onComplete(ctx.writePromise);
+        }
       }
     }
     pendingWrites = null;
   }
 
   private Future<Void> writeMessage(MessageImpl<?, ?> message) {
-    Buffer data = ((ClusteredMessage<?, ?>)message).encodeToWire();
+    return socket.writeMessage(encode(message));
+  }
+
+  private ByteBuf encode(MessageImpl<?, ?> message) {
+    // Pings are written without holding the lock, they never use the dictionary
+    WireDictionary dict = message.codec() instanceof PingMessageCodec ? null : dictionary;
+    ByteBuf data = ((ClusteredMessage<?, ?>)message).encodeToWire(socket.channelHandlerContext().alloc(), dict);
     if (metrics != null) {
-      metrics.messageWritten(message.address(), data.length());
+      metrics.messageWritten(message.address(), data.readableBytes());
+    }
+    return data;
+  }
+
+  /**
+   * Add the message to the current batch, the batch is flushed when it reaches the maximum size or at the end of the
+   * current event-loop turn. Must be called when holding the lock.
+   */
+  private void batchMessage(MessageImpl<?, ?> message, Promise<Void> writePromise) {
+    ByteBuf data = encode(message);
+    if (batch == null) {
+      batch = Unpooled.compositeBuffer(writeBatchMaxMessages);
+      batchPromises = new ArrayList<>();
     }
-    return socket.write(data);
+    batch.addComponent(true, data);
+    batchPromises.add(writePromise);
+    if (batchPromises.size() >= writeBatchMaxMessages || batch.readableBytes() >= writeBatchMaxBytes) {
+      flushBatch();
+    } else if (!batchFlushScheduled) {
+      batchFlushScheduled = true;
+      eventLoop.execute(() -> {
+        synchronized (OutboundConnection.this) {
+          batchFlushScheduled = false;
+          flushBatch();
+        }
+      });
+    }
+  }
+
+  /**
+   * Write the current batch with a single flush. Must be called when holding the lock.
+   */
+  private void flushBatch() {
+    CompositeByteBuf data = batch;
+    List<Promise<Void>> promises = batchPromises;
+    if (data == null) {
+      return;
+    }
+    batch = null;
+    batchPromises = null;
+    if (metrics != null) {
+      metrics.messageBatchWritten(promises.size(), data.readableBytes());
+    }
+    socket.writeMessage(data).onComplete((res, err) -> {
+      for (Promise<Void> writePromise : promises) {
+        writePromise.complete(res, err);
+      }
+    });
   }
 
   private static class MessageWrite {
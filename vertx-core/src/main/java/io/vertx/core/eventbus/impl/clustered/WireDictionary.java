@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.eventbus.impl.clustered;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The strings interned on a connection by the compact wire protocol.
+ * <p>
+ * The writing side of a connection defines the entries, the reading side adds them in the same order, so both
+ * sides agree on the entry identifiers without further coordination. Entries are never evicted, once the
+ * dictionary is full, strings are sent literally.
+ * <p>
+ * This class is not thread safe.
+ */
+final class WireDictionary {
+
+  /**
+   * The maximum number of entries of a dictionary.
+   */
+  static final int MAX_SIZE = 4096;
+
+  private final Map<String, Integer> ids = new HashMap<>();
+  private final List<String> entries = new ArrayList<>();
+
+  /**
+   * Writing side: lookup the identifier of a string.
+   *
+   * @return the identifier or {@code -1} when the string is not defined
+   */
+  int lookup(String s) {
+    Integer id = ids.get(s);
+    return id != null ? id : -1;
+  }
+
+  /**
+   * Writing side: define a new entry.
+   *
+   * @return {@code true} when the entry has been defined, {@code false} when the dictionary is full
+   */
+  boolean define(String s) {
+    int size = ids.size();
+    if (size >= MAX_SIZE) {
+      return false;
+    }
+    ids.put(s, size);
+    return true;
+  }
+
+  /**
+   * Reading side: add the next entry.
+   *
+   * @return {@code true} when the entry has been added, {@code false} when the dictionary is full
+   */
+  boolean add(String s) {
+    if (entries.size() >= MAX_SIZE) {
+      return false;
+    }
+    entries.add(s);
+    return true;
+  }
+
+  /**
+   * Reading side: get an entry.
+   *
+   * @return the entry or {@code null} when the identifier is unknown
+   */
+  String get(int id) {
+    return id >= 0 && id < entries.size() ? entries.get(id) : null;
+  }
+}
@@ -50,10 +50,22 @@ public class FileSystemOptions {
    */
   public static final boolean DEFAULT_FILE_CACHE_DIR_AS_EXACT_PATH = false;
 
+  /**
+   * The default maximum number of files kept open to send files = {@code 0}, i.e. files are opened for each send
+   */
+  public static final int DEFAULT_OPEN_FILE_CACHE_MAX_SIZE = 0;
+
+  /**
+   * The default period in milliseconds after which an open file is validated against the file system = {@code 1000}
+   */
+  public static final long DEFAULT_OPEN_FILE_CACHE_VALIDATION_PERIOD = 1000;
+
   private boolean classPathResolvingEnabled = DEFAULT_CLASS_PATH_RESOLVING_ENABLED;
   private boolean fileCachingEnabled = DEFAULT_FILE_CACHING_ENABLED;
   private String fileCacheDir = DEFAULT_FILE_CACHING_DIR;
   private boolean fileCacheDirAsExactPath = DEFAULT_FILE_CACHE_DIR_AS_EXACT_PATH;
+  private int openFileCacheMaxSize = DEFAULT_OPEN_FILE_CACHE_MAX_SIZE;
+  private long openFileCacheValidationPeriod = DEFAULT_OPEN_FILE_CACHE_VALIDATION_PERIOD;
 
   /**
    * Default constructor
@@ -71,6 +83,8 @@ public class FileSystemOptions {
     this.fileCachingEnabled = other.isFileCachingEnabled();
     this.fileCacheDir = other.getFileCacheDir();
     this.fileCacheDirAsExactPath = other.isFileCacheDirAsExactPath();
+    this.openFileCacheMaxSize = other.getOpenFileCacheMaxSize();
+    this.openFileCacheValidationPeriod = other.getOpenFileCacheValidationPeriod();
   }
 
   /**
@@ -175,6 +189,53 @@ public class FileSystemOptions {
     return this;
   }
 
+  /**
+   * @return the maximum number of files kept open to send files
+   */
+  public int getOpenFileCacheMaxSize() {
+    return openFileCacheMaxSize;
+  }
+
+  /**
+   * Set the maximum number of files kept open by the cache used when sending files, e.g. with
+   * {@link io.vertx.core.http.HttpServerResponse#sendFile(String)}. The cache avoids to open and stat a file
+   * for each send, the least recently used files are closed when the cache is full.
+   * <p>
+   * The default value {@code 0} disables the cache.
+   *
+   * @param openFileCacheMaxSize the maximum number of open files
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions setOpenFileCacheMaxSize(int openFileCacheMaxSize) {
+    if (openFileCacheMaxSize < 0) {
+      throw new IllegalArgumentException("openFileCacheMaxSize must be >= 0");
+    }
+    this.openFileCacheMaxSize = openFileCacheMaxSize;
+    return this;
+  }
+
+  /**
+   * @return the period in milliseconds after which an open file is validated against the file system
+   */
+  public long getOpenFileCacheValidationPeriod() {
+    return openFileCacheValidationPeriod;
+  }
+
+  /**
+   * Set the period in milliseconds after which a cached open file is validated, the file is reopened when its
+   * size or its last modification time has changed. A value of {@code 0} validates the file on each send.
+   *
+   * @param openFileCacheValidationPeriod the validation period in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions setOpenFileCacheValidationPeriod(long openFileCacheValidationPeriod) {
+    if (openFileCacheValidationPeriod < 0) {
+      throw new IllegalArgumentException("openFileCacheValidationPeriod must be >= 0");
+    }
+    this.openFileCacheValidationPeriod = openFileCacheValidationPeriod;
+    return this;
+  }
+
 
   @Override
   public String toString() {
@@ -183,6 +244,8 @@ public class FileSystemOptions {
     ", fileCachingEnabled=" + fileCachingEnabled +
     ", fileCacheDir=" + fileCacheDir +
     ", fileCacheDirAsExactPath=" + fileCacheDirAsExactPath +
+    ", openFileCacheMaxSize=" + openFileCacheMaxSize +
+    ", openFileCacheValidationPeriod=" + openFileCacheValidationPeriod +
     '}';
   }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.file.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A cache of open files used to send files, avoiding to open, stat and close a file for each send.
+ * <p>
+ * Cached files are reference counted, the cache holds a reference and each send holds a reference until it completes,
+ * so a file evicted by the cache stays open until the sends in progress complete. Files are sent with positional
+ * transfers, so the same channel can be used by concurrent sends.
+ * <p>
+ * The cache evicts the least recently used files when it exceeds its maximum size, a cached file is validated against
+ * the file system (size and last modification time) when the validation period has elapsed and reopened when it has
+ * changed.
+ * <p>
+ * When the maximum size is {@code 0}, files are opened for each send and closed when the send completes.
+ */
+public class OpenFileCache {
+
+  private final int maxSize;
+  private final long validationPeriod;
+  private final LinkedHashMap<String, OpenFile> files;
+
+  public OpenFileCache(int maxSize, long validationPeriod, TimeUnit validationPeriodUnit) {
+    this.maxSize = maxSize;
+    this.validationPeriod = validationPeriodUnit.toNanos(validationPeriod);
+    this.files = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, OpenFile> eldest) {
+        if (size() > OpenFileCache.this.maxSize) {
+          eldest.getValue().release();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Open a file, the returned file must be released when the send completes.
+   *
+   * @param file the file to open
+   * @return the open file
+   */
+  public OpenFile open(File file) throws IOException {
+    if (maxSize == 0) {
+      return OpenFile.open(file, 0L);
+    }
+    String key = file.getPath();
+    OpenFile openFile;
+    synchronized (this) {
+      openFile = files.get(key);
+    }
+    if (openFile != null) {
+      long now = System.nanoTime();
+      if (now - openFile.validatedAt >= validationPeriod) {
+        if (file.lastModified() == openFile.lastModified && file.length() == openFile.size) {
+          openFile.validatedAt = now;
+        } else {
+          invalidate(key, openFile);
+          openFile = null;
+        }
+      }
+      if (openFile != null && openFile.retain()) {
+        return openFile;
+      }
+    }
+    openFile = OpenFile.open(file, file.lastModified());
+    // Reference held by the cache
+    openFile.retain();
+    OpenFile previous;
+    synchronized (this) {
+      previous = files.put(key, openFile);
+    }
+    if (previous != null) {
+      previous.release();
+    }
+    return openFile;
+  }
+
+  private void invalidate(String key, OpenFile openFile) {
+    boolean removed;
+    synchronized (this) {
+      removed = files.remove(key, openFile);
+    }
+    if (removed) {
+      openFile.release();
+    }
+  }
+
+  /**
+   * @return the number of cached files
+   */
+  public synchronized int size() {
+    return files.size();
+  }
+
+  /**
+   * Release the references held by the cache.
+   */
+  public void close() {
+    List<OpenFile> list;
+    synchronized (this) {
+      list = new ArrayList<>(files.values());
+      files.clear();
+    }
+    list.forEach(OpenFile::release);
+  }
+
+  /**
+   * An open file.
+   */
+  public static final class OpenFile {
+
+    private static OpenFile open(File file, long lastModified) throws IOException {
+      RandomAccessFile raf = new RandomAccessFile(file, "r");
+      long size;
+      try {
+        size = raf.length();
+      } catch (IOException e) {
+        raf.close();
+        throw e;
+      }
+      return new OpenFile(raf, size, lastModified);
+    }
+
+    private final RandomAccessFile file;
+    private final long size;
+    private final long lastModified;
+    private final AtomicInteger refCount = new AtomicInteger(1);
+    private volatile long validatedAt = System.nanoTime();
+
+    private OpenFile(RandomAccessFile file, long size, long lastModified) {
+      this.file = file;
+      this.size = size;
+      this.lastModified = lastModified;
+    }
+
+    /**
+     * @return the file channel
+     */
+    public FileChannel channel() {
+      return file.getChannel();
+    }
+
+    /**
+     * @return the file size when it was opened
+     */
+    public long size() {
+      return size;
+    }
+
+    private boolean retain() {
+      while (true) {
+        int count = refCount.get();
+        if (count == 0) {
+          // Closed
+          return false;
+        }
+        if (refCount.compareAndSet(count, count + 1)) {
+          return true;
+        }
+      }
+    }
+
+    /**
+     * Release a reference to this file, the file is closed when no references are held.
+     */
+    public void release() {
+      if (refCount.decrementAndGet() == 0) {
+        try {
+          file.close();
+        } catch (IOException ignore) {
+        }
+      }
+    }
+  }
+}
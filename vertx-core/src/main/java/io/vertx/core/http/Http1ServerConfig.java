@@ -28,12 +28,16 @@ public class Http1ServerConfig {
   private int maxInitialLineLength;
   private int maxHeaderSize;
   private int decoderInitialBufferSize;
+  private boolean dateHeader;
+  private int maxInternedHeaderValues;
 
   public Http1ServerConfig() {
     maxChunkSize = DEFAULT_MAX_CHUNK_SIZE;
     maxInitialLineLength = DEFAULT_MAX_INITIAL_LINE_LENGTH;
     maxHeaderSize = DEFAULT_MAX_HEADER_SIZE;
     decoderInitialBufferSize = DEFAULT_DECODER_INITIAL_BUFFER_SIZE;
+    dateHeader = DEFAULT_DATE_HEADER;
+    maxInternedHeaderValues = DEFAULT_MAX_INTERNED_HEADER_VALUES;
   }
 
   public Http1ServerConfig(Http1ServerConfig other) {
@@ -41,6 +45,8 @@ public class Http1ServerConfig {
     this.maxInitialLineLength = other.getMaxInitialLineLength();
     this.maxHeaderSize = other.getMaxHeaderSize();
     this.decoderInitialBufferSize = other.getDecoderInitialBufferSize();
+    this.dateHeader = other.isDateHeader();
+    this.maxInternedHeaderValues = other.getMaxInternedHeaderValues();
   }
 
   /**
@@ -113,4 +119,44 @@ public class Http1ServerConfig {
     this.decoderInitialBufferSize = decoderInitialBufferSize;
     return this;
   }
+
+  /**
+   * @return whether the server adds a {@code date} header to responses
+   */
+  public boolean isDateHeader() {
+    return dateHeader;
+  }
+
+  /**
+   * Set whether the server adds a {@code date} header to responses that do not have one, the header value is
+   * cached by each event-loop and refreshed every second.
+   *
+   * @param dateHeader whether to add a {@code date} header
+   * @return a reference to this, so the API can be used fluently
+   */
+  public Http1ServerConfig setDateHeader(boolean dateHeader) {
+    this.dateHeader = dateHeader;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of request header values interned by each connection
+   */
+  public int getMaxInternedHeaderValues() {
+    return maxInternedHeaderValues;
+  }
+
+  /**
+   * Set the maximum number of request header values interned by each connection, the requests of a connection
+   * repeating a header value share the same instance and well-known values are replaced by constants. {@code 0}
+   * disables interning.
+   *
+   * @param maxInternedHeaderValues the maximum number of interned header values
+   * @return a reference to this, so the API can be used fluently
+   */
+  public Http1ServerConfig setMaxInternedHeaderValues(int maxInternedHeaderValues) {
+    Arguments.require(maxInternedHeaderValues >= 0, "maxInternedHeaderValues must be >= 0");
+    this.maxInternedHeaderValues = maxInternedHeaderValues;
+    return this;
+  }
 }
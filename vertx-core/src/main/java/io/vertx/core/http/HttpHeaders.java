@@ -524,6 +524,17 @@ public interface HttpHeaders {
     }
   }
 
+  /**
+   * Create an immutable template of response headers, the template is encoded once and can be shared by many
+   * responses with {@link HttpServerResponse#headersTemplate(MultiMap)}.
+   *
+   * @param headers the headers of the template
+   * @return the template
+   */
+  static MultiMap template(MultiMap headers) {
+    return Http1xHeaders.headersTemplate(headers);
+  }
+
   static MultiMap set(String name, String value) {
     return Http1xHeaders.httpHeaders().set(name, value);
   }
@@ -66,6 +66,10 @@ public class HttpServerConfig {
   private int maxFormBufferedBytes;
   private boolean handle100ContinueAutomatically;
   private boolean strictThreadMode;
+  private boolean virtualThreadPerRequest;
+  private long staticContentCacheMaxSize;
+  private int staticContentCacheMaxEntrySize;
+  private Duration staticContentCacheValidationPeriod;
   private ObservabilityConfig observabilityConfig;
   private Http1ServerConfig http1Config;
   private Http2ServerConfig http2Config;
@@ -125,6 +129,10 @@ public class HttpServerConfig {
     this.maxFormBufferedBytes = options.getMaxFormBufferedBytes();
     this.handle100ContinueAutomatically = options.isHandle100ContinueAutomatically();
     this.strictThreadMode = options.getStrictThreadMode();
+    this.virtualThreadPerRequest = options.isVirtualThreadPerRequest();
+    this.staticContentCacheMaxSize = options.getStaticContentCacheMaxSize();
+    this.staticContentCacheMaxEntrySize = options.getStaticContentCacheMaxEntrySize();
+    this.staticContentCacheValidationPeriod = Duration.ofMillis(options.getStaticContentCacheValidationPeriod());
     this.observabilityConfig = observabilityConfig;
     this.http1Config = new Http1ServerConfig(options.getHttp1Config());
     this.http2Config = new Http2ServerConfig(options.getHttp2Config());
@@ -144,6 +152,10 @@ public class HttpServerConfig {
     this.maxFormBufferedBytes = HttpServerOptions.DEFAULT_MAX_FORM_BUFFERED_SIZE;
     this.handle100ContinueAutomatically = HttpServerOptions.DEFAULT_HANDLE_100_CONTINE_AUTOMATICALLY;
     this.strictThreadMode = HttpServerOptions.DEFAULT_STRICT_THREAD_MODE_STRICT;
+    this.virtualThreadPerRequest = HttpServerOptions.DEFAULT_VIRTUAL_THREAD_PER_REQUEST;
+    this.staticContentCacheMaxSize = HttpServerOptions.DEFAULT_STATIC_CONTENT_CACHE_MAX_SIZE;
+    this.staticContentCacheMaxEntrySize = HttpServerOptions.DEFAULT_STATIC_CONTENT_CACHE_MAX_ENTRY_SIZE;
+    this.staticContentCacheValidationPeriod = Duration.ofMillis(HttpServerOptions.DEFAULT_STATIC_CONTENT_CACHE_VALIDATION_PERIOD);
     this.observabilityConfig = null;
     this.http1Config = null;
     this.http2Config = null;
@@ -166,6 +178,10 @@ public class HttpServerConfig {
     this.maxFormBufferedBytes = other.maxFormBufferedBytes;
     this.handle100ContinueAutomatically = other.handle100ContinueAutomatically;
     this.strictThreadMode = other.strictThreadMode;
+    this.virtualThreadPerRequest = other.virtualThreadPerRequest;
+    this.staticContentCacheMaxSize = other.staticContentCacheMaxSize;
+    this.staticContentCacheMaxEntrySize = other.staticContentCacheMaxEntrySize;
+    this.staticContentCacheValidationPeriod = other.staticContentCacheValidationPeriod;
     this.observabilityConfig = other.observabilityConfig != null ? new ObservabilityConfig(other.observabilityConfig) : null;
     this.http1Config = other.http1Config != null ? new Http1ServerConfig(other.http1Config) : null;
     this.http2Config = other.http2Config != null ? new Http2ServerConfig(other.http2Config) : null;
@@ -472,6 +488,95 @@ public class HttpServerConfig {
     return this;
   }
 
+  /**
+   * @return whether each request is handled on its own virtual thread
+   */
+  @Unstable("Experimental")
+  public boolean isVirtualThreadPerRequest() {
+    return virtualThreadPerRequest;
+  }
+
+  /**
+   * Set whether each request is handled on its own virtual thread, regardless of the threading model of the context
+   * the server listens on. Handlers can block and await futures without being limited by the worker pool size.
+   * <p>
+   * The events of a request are delivered in order on its virtual thread, requests of an HTTP/1.x connection are
+   * still processed one after the other.
+   *
+   * @param virtualThreadPerRequest whether to handle each request on its own virtual thread
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Unstable("Experimental")
+  public HttpServerConfig setVirtualThreadPerRequest(boolean virtualThreadPerRequest) {
+    this.virtualThreadPerRequest = virtualThreadPerRequest;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of bytes of the static content cache, {@code 0} when the cache is disabled
+   */
+  public long getStaticContentCacheMaxSize() {
+    return staticContentCacheMaxSize;
+  }
+
+  /**
+   * Set the maximum number of bytes of the static content cache used by {@link HttpServerResponse#sendFile(String)},
+   * {@code 0} disables the cache.
+   *
+   * @param staticContentCacheMaxSize the maximum size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerConfig setStaticContentCacheMaxSize(long staticContentCacheMaxSize) {
+    if (staticContentCacheMaxSize < 0) {
+      throw new IllegalArgumentException("staticContentCacheMaxSize must be >= 0");
+    }
+    this.staticContentCacheMaxSize = staticContentCacheMaxSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum size of a file cached by the static content cache
+   */
+  public int getStaticContentCacheMaxEntrySize() {
+    return staticContentCacheMaxEntrySize;
+  }
+
+  /**
+   * Set the maximum size of a file cached by the static content cache, larger files are sent from disk.
+   *
+   * @param staticContentCacheMaxEntrySize the maximum file size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerConfig setStaticContentCacheMaxEntrySize(int staticContentCacheMaxEntrySize) {
+    if (staticContentCacheMaxEntrySize < 1) {
+      throw new IllegalArgumentException("staticContentCacheMaxEntrySize must be > 0");
+    }
+    this.staticContentCacheMaxEntrySize = staticContentCacheMaxEntrySize;
+    return this;
+  }
+
+  /**
+   * @return the period after which a cached file is checked for modification
+   */
+  public Duration getStaticContentCacheValidationPeriod() {
+    return staticContentCacheValidationPeriod;
+  }
+
+  /**
+   * Set the period after which the static content cache checks whether a cached file was modified, zero checks the
+   * file each time it is sent.
+   *
+   * @param staticContentCacheValidationPeriod the validation period
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerConfig setStaticContentCacheValidationPeriod(Duration staticContentCacheValidationPeriod) {
+    if (staticContentCacheValidationPeriod.isNegative()) {
+      throw new IllegalArgumentException("staticContentCacheValidationPeriod must be >= 0");
+    }
+    this.staticContentCacheValidationPeriod = staticContentCacheValidationPeriod;
+    return this;
+  }
+
   /**
    * @return the server observability config.
    */
@@ -76,6 +76,16 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final int DEFAULT_MAX_CHUNK_SIZE = 8192;
 
+  /**
+   * Default date header = {@code false}
+   */
+  public static final boolean DEFAULT_DATE_HEADER = false;
+
+  /**
+   * Default max interned header values = 0 (disabled)
+   */
+  public static final int DEFAULT_MAX_INTERNED_HEADER_VALUES = 0;
+
   /**
    * Default max length of the initial line (e.g. {@code "GET / HTTP/1.0"}) = 4096
    */
@@ -206,6 +216,26 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final boolean DEFAULT_STRICT_THREAD_MODE_STRICT = false;
 
+  /**
+   * Virtual thread per request = false.
+   */
+  public static final boolean DEFAULT_VIRTUAL_THREAD_PER_REQUEST = false;
+
+  /**
+   * Default static content cache max size = 0 (disabled)
+   */
+  public static final long DEFAULT_STATIC_CONTENT_CACHE_MAX_SIZE = 0;
+
+  /**
+   * Default static content cache max entry size = 65536
+   */
+  public static final int DEFAULT_STATIC_CONTENT_CACHE_MAX_ENTRY_SIZE = 65536;
+
+  /**
+   * Default static content cache validation period = 1000 ms
+   */
+  public static final long DEFAULT_STATIC_CONTENT_CACHE_VALIDATION_PERIOD = 1000;
+
   /**
    * Use HTTP/2 multiplex implementation = {@code false}
    */
@@ -225,6 +255,10 @@ public class HttpServerOptions extends NetServerOptions {
   private boolean registerWebSocketWriteHandlers;
   private TimeUnit http2RstFloodWindowDurationTimeUnit;
   private boolean strictThreadMode;
+  private boolean virtualThreadPerRequest;
+  private long staticContentCacheMaxSize;
+  private int staticContentCacheMaxEntrySize;
+  private long staticContentCacheValidationPeriod;
   private boolean http2ClearTextEnabled;
 
   /**
@@ -257,6 +291,10 @@ public class HttpServerOptions extends NetServerOptions {
     this.registerWebSocketWriteHandlers = other.registerWebSocketWriteHandlers;
     this.http2RstFloodWindowDurationTimeUnit = other.http2RstFloodWindowDurationTimeUnit;
     this.strictThreadMode = other.strictThreadMode;
+    this.virtualThreadPerRequest = other.virtualThreadPerRequest;
+    this.staticContentCacheMaxSize = other.staticContentCacheMaxSize;
+    this.staticContentCacheMaxEntrySize = other.staticContentCacheMaxEntrySize;
+    this.staticContentCacheValidationPeriod = other.staticContentCacheValidationPeriod;
     this.http2ClearTextEnabled = other.http2ClearTextEnabled;
   }
 
@@ -288,6 +326,10 @@ public class HttpServerOptions extends NetServerOptions {
     maxFormFields = DEFAULT_MAX_FORM_FIELDS;
     maxFormBufferedBytes = DEFAULT_MAX_FORM_BUFFERED_SIZE;
     strictThreadMode = DEFAULT_STRICT_THREAD_MODE_STRICT;
+    virtualThreadPerRequest = DEFAULT_VIRTUAL_THREAD_PER_REQUEST;
+    staticContentCacheMaxSize = DEFAULT_STATIC_CONTENT_CACHE_MAX_SIZE;
+    staticContentCacheMaxEntrySize = DEFAULT_STATIC_CONTENT_CACHE_MAX_ENTRY_SIZE;
+    staticContentCacheValidationPeriod = DEFAULT_STATIC_CONTENT_CACHE_VALIDATION_PERIOD;
     compression = new CompressionConfig();
     handle100ContinueAutomatically = DEFAULT_HANDLE_100_CONTINE_AUTOMATICALLY;
     http1Config = new Http1ServerConfig();
@@ -770,6 +812,45 @@ public class HttpServerOptions extends NetServerOptions {
     return http1Config.getMaxChunkSize();
   }
 
+  /**
+   * @return whether the server adds a {@code date} header to HTTP/1.x responses
+   */
+  public boolean isDateHeader() {
+    return http1Config.isDateHeader();
+  }
+
+  /**
+   * Set whether the server adds a {@code date} header to HTTP/1.x responses that do not have one, the header
+   * value is cached by each event-loop and refreshed every second.
+   *
+   * @param dateHeader whether to add a {@code date} header
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setDateHeader(boolean dateHeader) {
+    http1Config.setDateHeader(dateHeader);
+    return this;
+  }
+
+  /**
+   * @return the maximum number of request header values interned by each HTTP/1.x connection
+   */
+  public int getMaxInternedHeaderValues() {
+    return http1Config.getMaxInternedHeaderValues();
+  }
+
+  /**
+   * Set the maximum number of request header values interned by each HTTP/1.x connection, the requests of a connection
+   * repeating a header value share the same instance and well-known values are replaced by constants. {@code 0}
+   * disables interning.
+   *
+   * @param maxInternedHeaderValues the maximum number of interned header values
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setMaxInternedHeaderValues(int maxInternedHeaderValues) {
+    http1Config.setMaxInternedHeaderValues(maxInternedHeaderValues);
+    return this;
+  }
+
 
   /**
    * @return the maximum length of the initial line for HTTP/1.x (e.g. {@code "GET / HTTP/1.0"})
@@ -1303,6 +1384,99 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  /**
+   * @return whether each request is handled on its own virtual thread
+   */
+  @Unstable("Experimental")
+  public boolean isVirtualThreadPerRequest() {
+    return virtualThreadPerRequest;
+  }
+
+  /**
+   * Set whether each request is handled on its own virtual thread, regardless of the threading model of the context
+   * the server listens on. Handlers can block and await futures without being limited by the worker pool size.
+   * <p>
+   * The events of a request are delivered in order on its virtual thread, requests of an HTTP/1.x connection are
+   * still processed one after the other.
+   *
+   * @param virtualThreadPerRequest whether to handle each request on its own virtual thread
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Unstable("Experimental")
+  public HttpServerOptions setVirtualThreadPerRequest(boolean virtualThreadPerRequest) {
+    this.virtualThreadPerRequest = virtualThreadPerRequest;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of bytes of the static content cache, {@code 0} when the cache is disabled
+   */
+  public long getStaticContentCacheMaxSize() {
+    return staticContentCacheMaxSize;
+  }
+
+  /**
+   * Set the maximum number of bytes of the static content cache used by {@link HttpServerResponse#sendFile(String)},
+   * {@code 0} disables the cache.
+   * <p>
+   * The cache keeps the content of small files in memory along with their compressed variants, the least recently
+   * used files are evicted when the cache exceeds this size. It answers conditional requests with the strong ETag
+   * and the last modification date of the files. The cache is used by HTTP/1.x connections.
+   *
+   * @param staticContentCacheMaxSize the maximum size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setStaticContentCacheMaxSize(long staticContentCacheMaxSize) {
+    if (staticContentCacheMaxSize < 0) {
+      throw new IllegalArgumentException("staticContentCacheMaxSize must be >= 0");
+    }
+    this.staticContentCacheMaxSize = staticContentCacheMaxSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum size of a file cached by the static content cache
+   */
+  public int getStaticContentCacheMaxEntrySize() {
+    return staticContentCacheMaxEntrySize;
+  }
+
+  /**
+   * Set the maximum size of a file cached by the static content cache, larger files are sent from disk.
+   *
+   * @param staticContentCacheMaxEntrySize the maximum file size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setStaticContentCacheMaxEntrySize(int staticContentCacheMaxEntrySize) {
+    if (staticContentCacheMaxEntrySize < 1) {
+      throw new IllegalArgumentException("staticContentCacheMaxEntrySize must be > 0");
+    }
+    this.staticContentCacheMaxEntrySize = staticContentCacheMaxEntrySize;
+    return this;
+  }
+
+  /**
+   * @return the period in milliseconds after which a cached file is checked for modification
+   */
+  public long getStaticContentCacheValidationPeriod() {
+    return staticContentCacheValidationPeriod;
+  }
+
+  /**
+   * Set the period in milliseconds after which the static content cache checks whether a cached file was modified,
+   * {@code 0} checks the file each time it is sent.
+   *
+   * @param staticContentCacheValidationPeriod the validation period in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setStaticContentCacheValidationPeriod(long staticContentCacheValidationPeriod) {
+    if (staticContentCacheValidationPeriod < 0) {
+      throw new IllegalArgumentException("staticContentCacheValidationPeriod must be >= 0");
+    }
+    this.staticContentCacheValidationPeriod = staticContentCacheValidationPeriod;
+    return this;
+  }
+
   /**
    * @return whether to use the HTTP/2 implementation based on multiplexed channel
    */
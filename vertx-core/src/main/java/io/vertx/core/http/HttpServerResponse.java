@@ -17,6 +17,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.impl.HttpServerResponseImpl;
+import io.vertx.core.http.impl.HttpUtils;
 import io.vertx.core.net.HostAndPort;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.core.streams.WriteStream;
@@ -123,6 +124,25 @@ public interface HttpServerResponse extends WriteStream<Buffer> {
   @CacheReturn
   MultiMap headers();
 
+  /**
+   * Set a template of headers sent along with the headers of this response, the template is usually created once with
+   * {@link HttpHeaders#template(MultiMap)} and shared by many responses.
+   * <p>
+   * With HTTP/1.x, the pre-encoded template is written before the response headers and only the response headers are
+   * encoded. The template headers are not visible from {@link #headers()} and should not be set again on the response,
+   * the template cannot contain the headers managed by the server: {@code content-length}, {@code transfer-encoding},
+   * {@code content-encoding}, {@code connection}, {@code date} and {@code vary}. With other protocols, or when the
+   * server compresses responses, the template headers are added to the response headers.
+   *
+   * @param template the headers template
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  default HttpServerResponse headersTemplate(MultiMap template) {
+    headers().addAll(HttpUtils.checkHeadersTemplate(template));
+    return this;
+  }
+
   /**
    * Put an HTTP header
    *
@@ -66,6 +66,26 @@ public class PoolOptions {
    */
   public static final int DEFAULT_POOL_EVENT_LOOP_SIZE = 0;
 
+  /**
+   * Default sharded pool = {@code false}
+   */
+  public static final boolean DEFAULT_SHARDED = false;
+
+  /**
+   * Default minimum number of connections a pool maintains = 0
+   */
+  public static final int DEFAULT_MIN_SIZE = 0;
+
+  /**
+   * Default pool warm-up = {@code false}
+   */
+  public static final boolean DEFAULT_WARM_UP = false;
+
+  /**
+   * Default maximum number of connections a pool opens per cleaner period to maintain its minimum size = 4
+   */
+  public static final int DEFAULT_WARM_UP_RATE = 4;
+
   private int http1MaxSize;
   private int http2MaxSize;
   private int http3MaxSize;
@@ -74,6 +94,10 @@ public class PoolOptions {
   private int cleanerPeriod;
   private int eventLoopSize;
   private int maxWaitQueueSize;
+  private boolean sharded;
+  private int minSize;
+  private boolean warmUp;
+  private int warmUpRate;
 
   /**
    * Default constructor
@@ -87,6 +111,10 @@ public class PoolOptions {
     cleanerPeriod = DEFAULT_POOL_CLEANER_PERIOD;
     eventLoopSize = DEFAULT_POOL_EVENT_LOOP_SIZE;
     maxWaitQueueSize = DEFAULT_MAX_WAIT_QUEUE_SIZE;
+    sharded = DEFAULT_SHARDED;
+    minSize = DEFAULT_MIN_SIZE;
+    warmUp = DEFAULT_WARM_UP;
+    warmUpRate = DEFAULT_WARM_UP_RATE;
   }
 
   /**
@@ -103,6 +131,10 @@ public class PoolOptions {
     this.cleanerPeriod = other.cleanerPeriod;
     this.eventLoopSize = other.eventLoopSize;
     this.maxWaitQueueSize = other.maxWaitQueueSize;
+    this.sharded = other.sharded;
+    this.minSize = other.minSize;
+    this.warmUp = other.warmUp;
+    this.warmUpRate = other.warmUpRate;
   }
 
   /**
@@ -287,6 +319,101 @@ public class PoolOptions {
     return maxWaitQueueSize;
   }
 
+  /**
+   * @return whether the pool is sharded per event-loop
+   */
+  public boolean isSharded() {
+    return sharded;
+  }
+
+  /**
+   * Set whether the pool is sharded per event-loop.
+   *
+   * <p> A sharded pool maintains the connections and the wait queue of each event-loop separately, so acquiring
+   * and recycling connections from different event-loops does not contend. An event-loop that runs out of connections
+   * borrows an available connection from another event-loop when the pool cannot create more connections. The maximum pool
+   * sizes and the maximum wait queue size apply to the whole pool.
+   *
+   * <p> Sharding benefits clients using many event-loops to send requests to the same server.
+   *
+   * The default value is {@code false}.
+   *
+   * @param sharded whether the pool is sharded
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setSharded(boolean sharded) {
+    this.sharded = sharded;
+    return this;
+  }
+
+  /**
+   * @return the minimum number of connections the pool maintains
+   */
+  public int getMinSize() {
+    return minSize;
+  }
+
+  /**
+   * Set the minimum number of connections the pool of a server maintains, the default value is {@code 0}.
+   *
+   * <p> The pool cleaner opens connections when the pool has less valid connections than this size. Connections that
+   * exceeded their {@link #setMaxLifetime(int) maximum lifetime} are not valid anymore, the cleaner replaces them before
+   * they are evicted from the pool. The cleaner opens at most {@link #setWarmUpRate(int)} connections per
+   * {@link #setCleanerPeriod(int) period}, maintaining the minimum size requires the pool cleaner to be enabled.
+   *
+   * @param minSize the minimum size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMinSize(int minSize) {
+    Arguments.require(minSize >= 0, "minSize must be >= 0");
+    this.minSize = minSize;
+    return this;
+  }
+
+  /**
+   * @return whether the pool opens connections when it is created
+   */
+  public boolean isWarmUp() {
+    return warmUp;
+  }
+
+  /**
+   * Set whether the pool of a server opens its {@link #setMinSize(int) minimum number of connections} when it is created
+   * instead of waiting for the pool cleaner, the warm-up opens at most {@link #setWarmUpRate(int)} connections.
+   *
+   * The default value is {@code false}.
+   *
+   * @param warmUp whether to warm-up the pool
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setWarmUp(boolean warmUp) {
+    this.warmUp = warmUp;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of connections the pool opens per cleaner period to maintain its minimum size
+   */
+  public int getWarmUpRate() {
+    return warmUpRate;
+  }
+
+  /**
+   * Set the maximum number of connections the pool of a server opens per {@link #setCleanerPeriod(int) cleaner period}
+   * to maintain its {@link #setMinSize(int) minimum size}. This limits the connections opened against a server after a
+   * deployment or after connections have been evicted.
+   *
+   * The default value is {@code 4}.
+   *
+   * @param warmUpRate the maximum number of connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setWarmUpRate(int warmUpRate) {
+    Arguments.require(warmUpRate > 0, "warmUpRate must be > 0");
+    this.warmUpRate = warmUpRate;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     PoolOptionsConverter.toJson(this, json);
@@ -204,15 +204,11 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
       }
       HttpConnectParams params = new HttpConnectParams(protocols, sslOptions, proxyOptions, key.ssl);
       Function<SharedHttpClientConnectionGroup, SharedHttpClientConnectionGroup.Pool> p = group -> {
-        int queueMaxSize = poolOptions.getMaxWaitQueueSize();
         if (transport instanceof TcpHttpClientTransport) {
-          int http1MaxSize = poolOptions.getHttp1MaxSize();
-          int http2MaxSize = poolOptions.getHttp2MaxSize();
           int initialPoolKind = protocol == HttpVersion.HTTP_1_1 || protocol == HttpVersion.HTTP_1_0 ? 0 : 1;
-          return new SharedHttpClientConnectionGroup.Pool(group, transport, queueMaxSize, http1MaxSize, http2MaxSize, maxLifetime, initialPoolKind, params, contextProvider);
+          return new SharedHttpClientConnectionGroup.Pool(group, vertx, transport, poolOptions, maxLifetime, initialPoolKind, params, contextProvider);
         } else {
-          int http3MaxSize = poolOptions.getHttp3MaxSize();
-          return new SharedHttpClientConnectionGroup.Pool(group, transport, queueMaxSize, http3MaxSize, maxLifetime, params, contextProvider);
+          return new SharedHttpClientConnectionGroup.Pool(group, vertx, transport, poolOptions, maxLifetime, params, contextProvider);
         }
       };
       return new SharedHttpClientConnectionGroup(
@@ -236,7 +232,8 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
         p,
         poolMetrics,
         key.authority,
-        key.server);
+        key.server,
+        poolOptions.isWarmUp());
     };
   }
 
@@ -197,7 +197,7 @@ public abstract class HttpClientRequestBase implements HttpClientRequestInternal
       currentTimeoutTimerId = -1L;
     } else {
       currentTimeoutMs = timeoutMillis;
-      currentTimeoutTimerId = context.setTimer(timeoutMillis, id_ -> {
+      currentTimeoutTimerId = context.setTimeout(timeoutMillis, id_ -> {
         synchronized (HttpClientRequestBase.this) {
           currentTimeoutMs = 0L;
           currentTimeoutTimerId = -1L;
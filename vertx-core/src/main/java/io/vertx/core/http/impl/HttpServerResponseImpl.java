@@ -19,6 +19,7 @@ import io.netty.handler.stream.ChunkedInput;
 import io.netty.handler.stream.ChunkedNioFile;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Future;
+import io.vertx.core.file.impl.OpenFileCache;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
@@ -582,11 +583,9 @@ public class HttpServerResponseImpl implements HttpServerResponse {
 
   private Future<Void> sendFileInternal(String filename, long offset, long length) {
     File file = context.owner().fileResolver().resolve(filename);
-    long size;
-    RandomAccessFile raf;
+    OpenFileCache.OpenFile openFile;
     try {
-      raf = new RandomAccessFile(file, "r");
-      size = raf.length();
+      openFile = context.owner().openFileCache().open(file);
     } catch (Exception e) {
       return context.failedFuture(e);
     }
@@ -597,7 +596,14 @@ public class HttpServerResponseImpl implements HttpServerResponse {
       }
       headersMap.set(CONTENT_TYPE, mimeType);
     }
-    return sendFileInternal(offset, length, size, raf, null, true);
+    Future<Void> fut;
+    try {
+      fut = sendFileInternal(offset, length, openFile.size(), null, openFile.channel(), false);
+    } catch (RuntimeException e) {
+      openFile.release();
+      throw e;
+    }
+    return fut.andThen(ar -> openFile.release());
   }
 
   private Future<Void> sendFileInternal(long offset, long length, long size, RandomAccessFile file, FileChannel channel, boolean close) {
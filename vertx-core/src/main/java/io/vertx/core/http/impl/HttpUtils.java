@@ -69,6 +69,16 @@ import static io.vertx.core.http.Http2Settings.*;
  */
 public final class HttpUtils {
 
+  // Headers set or checked by the server, they cannot be part of a headers template
+  private static final CharSequence[] SERVER_MANAGED_HEADERS = {
+    HttpHeaderNames.CONTENT_LENGTH,
+    HttpHeaderNames.TRANSFER_ENCODING,
+    HttpHeaderNames.CONTENT_ENCODING,
+    HttpHeaderNames.CONNECTION,
+    HttpHeaderNames.DATE,
+    HttpHeaderNames.VARY
+  };
+
   public static final HttpClosedException CONNECTION_CLOSED_EXCEPTION = new HttpClosedException("Connection was closed");
   public static final HttpClosedException STREAM_CLOSED_EXCEPTION = new HttpClosedException("Stream was closed");
   public static final int SC_SWITCHING_PROTOCOLS = 101;
@@ -214,6 +224,22 @@ public final class HttpUtils {
   /**
    * Resolve an URI reference as per <a href="http://tools.ietf.org/html/rfc3986#section-5.2.4>rfc3986</a>
    */
+  /**
+   * Check that a response headers template does not contain a header managed by the server.
+   *
+   * @param template the headers template
+   * @return the {@code template}
+   * @throws IllegalArgumentException when the template contains a header managed by the server
+   */
+  public static <M extends MultiMap> M checkHeadersTemplate(M template) {
+    for (CharSequence name : SERVER_MANAGED_HEADERS) {
+      if (template.contains(name)) {
+        throw new IllegalArgumentException("A headers template cannot contain " + name);
+      }
+    }
+    return template;
+  }
+
   public static URI resolveURIReference(String base, String ref) throws URISyntaxException {
     return resolveURIReference(URI.create(base), ref);
   }
@@ -978,6 +1004,28 @@ public final class HttpUtils {
   }
 
   private static final String[] SMALL_POSITIVE_LONGS = new String[256];
+  private static final AsciiString[] SMALL_POSITIVE_LONGS_ASCII = new AsciiString[1024];
+
+  /**
+   * Like {@link #positiveLongToString(long)} but returns an {@link AsciiString} that is copied as is when encoding
+   * HTTP/1.x headers, the first 1024 positive longs are cached.
+   */
+  public static CharSequence positiveLongToAsciiString(long value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("contentLength must be >= 0");
+    }
+    if (value >= SMALL_POSITIVE_LONGS_ASCII.length) {
+      return Long.toString(value);
+    }
+    final int index = (int) value;
+    AsciiString str = SMALL_POSITIVE_LONGS_ASCII[index];
+    if (str == null) {
+      // racy as well, AsciiString is immutable
+      str = new AsciiString(Long.toString(value));
+      SMALL_POSITIVE_LONGS_ASCII[index] = str;
+    }
+    return str;
+  }
 
   /**
    * This try hard to cache the first 256 positive longs as strings [0, 255] to avoid the cost of creating a new
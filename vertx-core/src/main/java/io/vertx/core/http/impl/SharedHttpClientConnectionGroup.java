@@ -13,12 +13,13 @@ package io.vertx.core.http.impl;
 import io.vertx.core.*;
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.PoolOptions;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.impl.NoStackTraceTimeoutException;
 import io.vertx.core.internal.http.HttpClientTransport;
 import io.vertx.core.internal.pool.ConnectResult;
 import io.vertx.core.internal.pool.ConnectionPool;
-import io.vertx.core.internal.pool.PoolConnection;
 import io.vertx.core.internal.pool.PoolConnector;
 import io.vertx.core.internal.pool.Lease;
 import io.vertx.core.internal.pool.PoolWaiter;
@@ -29,9 +30,12 @@ import io.vertx.core.spi.metrics.ClientMetrics;
 import io.vertx.core.spi.metrics.HttpClientMetrics;
 import io.vertx.core.spi.metrics.PoolMetrics;
 
-import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.function.BiFunction;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 /**
@@ -39,30 +43,8 @@ import java.util.function.Function;
  */
 class SharedHttpClientConnectionGroup extends ManagedResource {
 
-  /**
-   * LIFO pool selector.
-   */
-  private static final BiFunction<PoolWaiter<HttpClientConnection>, List<PoolConnection<HttpClientConnection>>, PoolConnection<HttpClientConnection>> LIFO_SELECTOR = (waiter, connections) -> {
-    int size = connections.size();
-    PoolConnection<HttpClientConnection> selected = null;
-    long last = 0L;
-    for (int i = 0; i < size; i++) {
-      PoolConnection<HttpClientConnection> pooled = connections.get(i);
-      if (pooled.available() > 0) {
-        HttpClientConnection conn = pooled.get();
-        if (selected == null) {
-          selected = pooled;
-        } else {
-          if (conn.lastResponseReceivedTimestamp() > last) {
-            selected = pooled;
-          }
-        }
-      }
-    }
-    return selected;
-  };
-
   private final PoolMetrics poolMetrics;
+  private final Map<HttpClientConnection, AtomicLong> streams = new ConcurrentHashMap<>();
   private final HttpClientMetrics<?, ?> httpMetrics;
   private final ClientMetrics<?, ?, ?> clientMetrics;
   private final Handler<HttpConnection> connectHandler;
@@ -76,7 +58,8 @@ class SharedHttpClientConnectionGroup extends ManagedResource {
                                          Function<SharedHttpClientConnectionGroup, Pool> poolProvider,
                                          PoolMetrics poolMetrics,
                                          HostAndPort authority,
-                                         SocketAddress server) {
+                                         SocketAddress server,
+                                         boolean warmUp) {
     this.poolMetrics = poolMetrics;
     this.clientMetrics = clientMetrics;
     this.httpMetrics = httpMetrics;
@@ -84,6 +67,9 @@ class SharedHttpClientConnectionGroup extends ManagedResource {
     this.pool = poolProvider.apply(this);
     this.server = server;
     this.connectHandler = connectHandler;
+    if (warmUp) {
+      pool.warmUp();
+    }
   }
 
   public int size() {
@@ -150,11 +136,49 @@ class SharedHttpClientConnectionGroup extends ManagedResource {
       Object metric = poolMetrics.enqueue();
       fut = fut.andThen(ar -> {
         poolMetrics.dequeue(metric);
-      });
+      }).map(StreamsLease::new);
     }
     return fut;
   }
 
+  /**
+   * Reports the number of streams in use of a connection to the pool metrics.
+   */
+  private class StreamsLease implements Lease<HttpClientConnection> {
+
+    private final Lease<HttpClientConnection> lease;
+    private final HttpClientConnection connection;
+    private boolean recycled;
+
+    StreamsLease(Lease<HttpClientConnection> lease) {
+      this.lease = lease;
+      this.connection = lease.get();
+      report(streams.computeIfAbsent(connection, c -> new AtomicLong()).incrementAndGet());
+    }
+
+    private void report(long value) {
+      poolMetrics.streams(connection, value, connection.concurrency());
+    }
+
+    @Override
+    public HttpClientConnection get() {
+      return connection;
+    }
+
+    @Override
+    public void recycle() {
+      if (recycled) {
+        return;
+      }
+      recycled = true;
+      AtomicLong counter = streams.get(connection);
+      if (counter != null) {
+        report(counter.decrementAndGet());
+      }
+      lease.recycle();
+    }
+  }
+
   @Override
   protected void handleClose() {
     pool.close();
@@ -179,55 +203,79 @@ class SharedHttpClientConnectionGroup extends ManagedResource {
   }
 
   private void dispose(HttpClientConnection connection) {
+    if (poolMetrics != null && streams.remove(connection) != null) {
+      poolMetrics.removed(connection);
+    }
     decRefCount();
   }
 
   static class Pool implements PoolConnector<HttpClientConnection> {
 
     private final SharedHttpClientConnectionGroup owner;
+    private final VertxInternal vertx;
     private final HttpClientTransport connector;
     private final long maxLifetimeMillis;
     private final HttpConnectParams connectParams;
     private final ConnectionPool<HttpClientConnection> pool;
     private final int poolKind;
+    private final int minSize;
+    private final int warmUpRate;
+    private final long warmUpPeriod;
+    private final Set<HttpClientConnection> connections = ConcurrentHashMap.newKeySet();
+    // Warm-up state, guarded by this pool
+    private int warmingUp;
+    private long warmUpPeriodStart;
+    private int warmedUp;
 
     Pool(SharedHttpClientConnectionGroup owner,
+                VertxInternal vertx,
                 HttpClientTransport connector,
-                int queueMaxSize,
-                int http1MaxSize,
-                int http2MaxSize,
+                PoolOptions poolOptions,
                 long maxLifetimeMillis,
                 int initialPoolKind,
                 HttpConnectParams connectParams,
                 Function<ContextInternal,
                 ContextInternal> contextProvider) {
-      this.owner = owner;
-      this.connector = Objects.requireNonNull(connector);
-      this.maxLifetimeMillis = maxLifetimeMillis;
-      this.connectParams = connectParams;
-      this.poolKind = initialPoolKind;
-      this.pool = ConnectionPool
-        .pool(this, new int[]{http1MaxSize, http2MaxSize}, queueMaxSize)
-        .connectionSelector(LIFO_SELECTOR)
-        .contextProvider(contextProvider);
+      this(owner, vertx, connector, poolOptions, new int[]{poolOptions.getHttp1MaxSize(), poolOptions.getHttp2MaxSize()},
+        maxLifetimeMillis, initialPoolKind, connectParams, contextProvider);
     }
 
     Pool(SharedHttpClientConnectionGroup owner,
+         VertxInternal vertx,
          HttpClientTransport connector,
-         int queueMaxSize,
-         int http3MaxSize,
+         PoolOptions poolOptions,
          long maxLifetimeMillis,
          HttpConnectParams connectParams,
          Function<ContextInternal,
            ContextInternal> contextProvider) {
+      this(owner, vertx, connector, poolOptions, new int[]{poolOptions.getHttp3MaxSize()},
+        maxLifetimeMillis, 0, connectParams, contextProvider);
+    }
+
+    private Pool(SharedHttpClientConnectionGroup owner,
+                 VertxInternal vertx,
+                 HttpClientTransport connector,
+                 PoolOptions poolOptions,
+                 int[] maxSizes,
+                 long maxLifetimeMillis,
+                 int poolKind,
+                 HttpConnectParams connectParams,
+                 Function<ContextInternal,
+                   ContextInternal> contextProvider) {
+      int queueMaxSize = poolOptions.getMaxWaitQueueSize();
       this.owner = owner;
+      this.vertx = vertx;
       this.connector = Objects.requireNonNull(connector);
       this.maxLifetimeMillis = maxLifetimeMillis;
       this.connectParams = connectParams;
-      this.poolKind = 0;
-      this.pool = ConnectionPool
-        .pool(this, new int[]{http3MaxSize}, queueMaxSize)
-        .connectionSelector(LIFO_SELECTOR)
+      this.poolKind = poolKind;
+      this.minSize = poolOptions.getMinSize();
+      this.warmUpRate = poolOptions.getWarmUpRate();
+      this.warmUpPeriod = TimeUnit.MILLISECONDS.toNanos(poolOptions.getCleanerPeriod());
+      // The first warm-up starts a new period
+      this.warmUpPeriodStart = System.nanoTime() - warmUpPeriod;
+      this.pool = (poolOptions.isSharded() ? ConnectionPool.shardedPool(this, maxSizes, queueMaxSize) : ConnectionPool.pool(this, maxSizes, queueMaxSize))
+        .connectionSelector(ConnectionPool.leastLoadedSelector(HttpClientConnection::lastResponseReceivedTimestamp))
         .contextProvider(contextProvider);
     }
 
@@ -236,7 +284,9 @@ class SharedHttpClientConnectionGroup extends ManagedResource {
       return connector
         .connect(context, owner.server, owner.authority, connectParams, owner.clientMetrics)
         .map(connection -> {
+          connections.add(connection);
           connection.evictionHandler(v -> {
+            connections.remove(connection);
             owner.dispose(connection);
             listener.onRemove();
           });
@@ -258,10 +308,49 @@ class SharedHttpClientConnectionGroup extends ManagedResource {
         .evict(c -> !isValid(c), (lst, err) -> {
           if (err == null) {
             lst.forEach(HttpConnection::close);
+            warmUp();
           }
         });
     }
 
+    /**
+     * Open connections until the pool has {@code minSize} valid connections, connections that exceeded their
+     * max lifetime are not valid and are replaced before the pool evicts them. At most {@code warmUpRate} connections
+     * are opened per cleaner period.
+     */
+    void warmUp() {
+      if (minSize == 0) {
+        return;
+      }
+      int valid = 0;
+      for (HttpClientConnection connection : connections) {
+        if (isValid(connection)) {
+          valid++;
+        }
+      }
+      int amount;
+      synchronized (this) {
+        long now = System.nanoTime();
+        if (now - warmUpPeriodStart >= warmUpPeriod) {
+          warmUpPeriodStart = now;
+          warmedUp = 0;
+        }
+        amount = Math.min(warmUpRate - warmedUp, minSize - valid - warmingUp);
+        if (amount <= 0) {
+          return;
+        }
+        warmedUp += amount;
+        warmingUp += amount;
+      }
+      for (int i = 0;i < amount;i++) {
+        pool.warmUp(vertx.createEventLoopContext(), poolKind, (created, err) -> {
+          synchronized (Pool.this) {
+            warmingUp--;
+          }
+        });
+      }
+    }
+
     void acquire(ContextInternal context, PoolWaiter.Listener<HttpClientConnection> listener, Promise<Lease<HttpClientConnection>> promise) {
       pool.acquire(context, listener, poolKind, promise);
     }
@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DateFormatter;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
+import io.vertx.core.impl.buffer.VertxByteBufAllocator;
+import io.vertx.core.internal.ContextInternal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An in-memory cache of small static files sent by an HTTP server.
+ * <p>
+ * The content of a file is loaded in a pooled direct buffer on a worker thread the first time the file is sent, each
+ * compressed variant is produced once on a worker thread, the first time a client accepts its encoding. Until then
+ * the file is sent without the cache. Cached files are answered from memory, including
+ * the conditional requests that are answered with the strong ETag and the last modification date of the file.
+ * <p>
+ * The cache retains at most {@code maxSize} bytes, counting all the variants of a file, the least recently used files
+ * are evicted first. A cached file is checked for modification at most once per validation period.
+ * <p>
+ * This class is thread safe, a single instance is shared by the event-loops of a server.
+ */
+public class StaticContentCache {
+
+  private static final String IDENTITY = "identity";
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final long maxSize;
+  private final int maxEntrySize;
+  private final long validationPeriod;
+  private final CompressionManager compressionManager;
+  private final CompressionOptions[] compressionOptions;
+  private final int compressionContentSizeThreshold;
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final Set<String> loading = new HashSet<>();
+  private long size;
+  private boolean closed;
+
+  /**
+   * @param maxSize the maximum number of bytes retained by the cache
+   * @param maxEntrySize the maximum size of a cached file
+   * @param validationPeriod the period after which a cached file is checked for modification
+   * @param unit the validation period unit
+   * @param compressionContentSizeThreshold the minimum size of a compressed file
+   * @param compressionOptions the server compressors or {@code null} when the server does not compress responses
+   */
+  public StaticContentCache(long maxSize, int maxEntrySize, long validationPeriod, TimeUnit unit,
+                            int compressionContentSizeThreshold, CompressionOptions[] compressionOptions) {
+    this.maxSize = maxSize;
+    this.maxEntrySize = (int) Math.min(maxEntrySize, maxSize);
+    this.validationPeriod = unit.toNanos(validationPeriod);
+    this.compressionOptions = compressionOptions;
+    this.compressionContentSizeThreshold = compressionContentSizeThreshold;
+    this.compressionManager = compressionOptions != null ? new CompressionManager(compressionContentSizeThreshold, compressionOptions) : null;
+  }
+
+  /**
+   * Lookup the content of a file. When the file or the variant of the encoding is not cached yet, it is loaded and
+   * compressed on a worker thread of {@code context} and {@code null} is returned, so the event-loop never reads
+   * or compresses files.
+   *
+   * @param file the file
+   * @param acceptEncoding the request {@code accept-encoding} header or {@code null}
+   * @param context the context of the request
+   * @return the content to send or {@code null} when the file is not cached, the caller owns the returned content
+   *         body and must release it
+   */
+  public Content get(File file, String acceptEncoding, ContextInternal context) {
+    String key = file.getPath();
+    long now = System.nanoTime();
+    Entry entry;
+    synchronized (this) {
+      entry = entries.get(key);
+    }
+    if (entry != null && now - entry.validatedAt >= validationPeriod) {
+      if (file.lastModified() == entry.lastModified && file.length() == entry.length) {
+        entry.validatedAt = now;
+      } else {
+        synchronized (this) {
+          if (entries.remove(key, entry)) {
+            evict(entry);
+          }
+        }
+        entry = null;
+      }
+    }
+    String encoding = IDENTITY;
+    if (compressionManager != null && acceptEncoding != null) {
+      String determined = compressionManager.determineEncoding(acceptEncoding);
+      if (determined != null) {
+        encoding = determined;
+      }
+    }
+    if (entry != null) {
+      synchronized (this) {
+        Variant variant = entry.variants.get(encoding);
+        if (variant != null && !entry.evicted) {
+          return new Content(variant.body.retainedDuplicate(), compressionManager != null ? variant.encoding : null, variant.etag, entry.lastModifiedDate);
+        }
+      }
+    }
+    populate(file, key, encoding, context);
+    return null;
+  }
+
+  /**
+   * Load the file and the variant of the encoding on a worker thread, unless it is already being loaded.
+   */
+  private void populate(File file, String key, String encoding, ContextInternal context) {
+    String loadingKey = key + '\n' + encoding;
+    synchronized (this) {
+      if (closed || !loading.add(loadingKey)) {
+        return;
+      }
+    }
+    context.executeBlockingInternal(() -> {
+      try {
+        load(file, key, encoding, System.nanoTime());
+      } finally {
+        synchronized (this) {
+          loading.remove(loadingKey);
+        }
+      }
+      return null;
+    });
+  }
+
+  private void load(File file, String key, String encoding, long now) throws IOException {
+    Entry entry;
+    synchronized (this) {
+      entry = entries.get(key);
+    }
+    if (entry == null) {
+      entry = load(file, now);
+      if (entry == null) {
+        return;
+      }
+      synchronized (this) {
+        Entry existing = entries.get(key);
+        if (existing != null || closed) {
+          entry.release();
+          entry = existing;
+        } else {
+          entries.put(key, entry);
+          size += entry.identity.body.readableBytes();
+          trim();
+        }
+      }
+      if (entry == null) {
+        return;
+      }
+    }
+    synchronized (this) {
+      if (entry.variants.containsKey(encoding)) {
+        return;
+      }
+    }
+    ByteBuf compressed = compress(entry.identity.body, encoding);
+    synchronized (this) {
+      if (!entry.variants.containsKey(encoding) && !entry.evicted) {
+        Variant variant;
+        if (compressed != null) {
+          variant = new Variant(compressed, encoding, entry.identity.etag.substring(0, entry.identity.etag.length() - 1) + "-" + encoding + "\"");
+          size += compressed.readableBytes();
+          compressed = null;
+        } else {
+          // Not worth compressing, the identity variant is sent for this encoding
+          variant = entry.identity;
+        }
+        entry.variants.put(encoding, variant);
+        trim();
+      }
+    }
+    if (compressed != null) {
+      compressed.release();
+    }
+  }
+
+  /**
+   * @return the number of bytes retained by the cache
+   */
+  public synchronized long size() {
+    return size;
+  }
+
+  /**
+   * Release the content retained by the cache.
+   */
+  public void close() {
+    synchronized (this) {
+      closed = true;
+      for (Entry entry : entries.values()) {
+        evict(entry);
+      }
+      entries.clear();
+    }
+  }
+
+  private void trim() {
+    Iterator<Entry> it = entries.values().iterator();
+    while (size > maxSize && it.hasNext()) {
+      Entry eldest = it.next();
+      it.remove();
+      evict(eldest);
+    }
+  }
+
+  private void evict(Entry entry) {
+    entry.evicted = true;
+    for (Variant variant : entry.variants.values()) {
+      if (variant != entry.identity) {
+        size -= variant.body.readableBytes();
+      }
+    }
+    size -= entry.identity.body.readableBytes();
+    entry.release();
+  }
+
+  private Entry load(File file, long now) throws IOException {
+    if (!file.isFile()) {
+      return null;
+    }
+    long length = file.length();
+    if (length > maxEntrySize) {
+      return null;
+    }
+    long lastModified = file.lastModified();
+    byte[] bytes = Files.readAllBytes(file.toPath());
+    if (bytes.length != length) {
+      // Modified while reading
+      return null;
+    }
+    ByteBuf body = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(bytes.length);
+    body.writeBytes(bytes);
+    return new Entry(new Variant(body, IDENTITY, etag(bytes)), lastModified, length, now);
+  }
+
+  private ByteBuf compress(ByteBuf content, String encoding) {
+    if (IDENTITY.equals(encoding)) {
+      return null;
+    }
+    EmbeddedChannel channel = new EmbeddedChannel(new HttpContentCompressor(compressionContentSizeThreshold, compressionOptions));
+    try {
+      DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+      request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, encoding);
+      channel.writeInbound(request);
+      ReferenceCountUtil.release(channel.readInbound());
+      channel.writeOutbound(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, content.retainedDuplicate()));
+      ByteBuf compressed = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer();
+      boolean encoded = false;
+      Object msg;
+      while ((msg = channel.readOutbound()) != null) {
+        if (msg instanceof HttpResponse) {
+          encoded = ((HttpResponse) msg).headers().contains(HttpHeaderNames.CONTENT_ENCODING);
+        }
+        if (msg instanceof HttpContent) {
+          compressed.writeBytes(((HttpContent) msg).content());
+        }
+        ReferenceCountUtil.release(msg);
+      }
+      if (!encoded || compressed.readableBytes() >= content.readableBytes()) {
+        compressed.release();
+        return null;
+      }
+      return compressed;
+    } finally {
+      channel.finishAndReleaseAll();
+    }
+  }
+
+  private static String etag(byte[] content) {
+    byte[] digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256").digest(content);
+    } catch (NoSuchAlgorithmException e) {
+      throw new AssertionError(e);
+    }
+    // 128 bits are enough to identify a version of a file
+    char[] chars = new char[34];
+    chars[0] = '"';
+    for (int i = 0;i < 16;i++) {
+      chars[1 + i * 2] = HEX[(digest[i] >> 4) & 0xF];
+      chars[2 + i * 2] = HEX[digest[i] & 0xF];
+    }
+    chars[33] = '"';
+    return new String(chars);
+  }
+
+  /**
+   * The content of a cached file to send.
+   */
+  public static final class Content {
+
+    private final ByteBuf body;
+    private final String encoding;
+    private final String etag;
+    private final String lastModified;
+
+    private Content(ByteBuf body, String encoding, String etag, String lastModified) {
+      this.body = body;
+      this.encoding = encoding;
+      this.etag = etag;
+      this.lastModified = lastModified;
+    }
+
+    /**
+     * @return the body, owned by the caller
+     */
+    public ByteBuf body() {
+      return body;
+    }
+
+    /**
+     * @return the content encoding of the body or {@code null} when the server does not compress responses
+     */
+    public String encoding() {
+      return encoding;
+    }
+
+    /**
+     * @return the strong ETag of the body
+     */
+    public String etag() {
+      return etag;
+    }
+
+    /**
+     * @return the last modification date of the file formatted as an HTTP date
+     */
+    public String lastModified() {
+      return lastModified;
+    }
+
+    /**
+     * Evaluate the request preconditions, {@code if-modified-since} is ignored when {@code if-none-match} is present.
+     *
+     * @param ifNoneMatch the {@code if-none-match} request header or {@code null}
+     * @param ifModifiedSince the {@code if-modified-since} request header or {@code null}
+     * @return whether a {@code 304} response should be sent
+     */
+    public boolean isNotModified(String ifNoneMatch, String ifModifiedSince) {
+      if (ifNoneMatch != null) {
+        for (String tag : ifNoneMatch.split(",")) {
+          tag = tag.trim();
+          if (tag.startsWith("W/")) {
+            // Weak comparison
+            tag = tag.substring(2);
+          }
+          if (tag.equals("*") || tag.equals(etag)) {
+            return true;
+          }
+        }
+        return false;
+      }
+      if (ifModifiedSince != null) {
+        Date since = DateFormatter.parseHttpDate(ifModifiedSince);
+        Date modified = DateFormatter.parseHttpDate(lastModified);
+        return since != null && !modified.after(since);
+      }
+      return false;
+    }
+  }
+
+  private static final class Variant {
+
+    final ByteBuf body;
+    final String encoding;
+    final String etag;
+
+    Variant(ByteBuf body, String encoding, String etag) {
+      this.body = body;
+      this.encoding = encoding;
+      this.etag = etag;
+    }
+  }
+
+  private static final class Entry {
+
+    final Variant identity;
+    final Map<String, Variant> variants = new HashMap<>();
+    final long lastModified;
+    final String lastModifiedDate;
+    final long length;
+    volatile long validatedAt;
+    boolean evicted;
+
+    Entry(Variant identity, long lastModified, long length, long validatedAt) {
+      this.identity = identity;
+      this.lastModified = lastModified;
+      this.lastModifiedDate = DateFormatter.format(new Date(lastModified));
+      this.length = length;
+      this.validatedAt = validatedAt;
+      variants.put(IDENTITY, identity);
+    }
+
+    void release() {
+      for (Variant variant : variants.values()) {
+        if (variant != identity) {
+          variant.body.release();
+        }
+      }
+      identity.body.release();
+    }
+  }
+}
@@ -13,6 +13,7 @@ package io.vertx.core.http.impl.headers;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.util.AsciiString;
 import io.netty.util.CharsetUtil;
@@ -25,6 +26,7 @@ import java.lang.ref.SoftReference;
 import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static io.netty.handler.codec.http.HttpConstants.*;
 
@@ -61,6 +63,39 @@ public final class Http1xHeaders extends HttpHeaders implements MultiMap {
     return new Http1xHeaders(false, validator);
   }
 
+  /**
+   * Like {@link #httpHeaders()} but the values added to the multimap are replaced by the value returned by
+   * {@code valueInterner}, after validation. Copies of the multimap do not intern values.
+   *
+   * @param valueInterner the function returning the canonical instance of a header value
+   * @return a case-insensitive multimap suited for HTTP header validation
+   */
+  public static Http1xHeaders httpHeaders(Function<CharSequence, CharSequence> valueInterner) {
+    Http1xHeaders headers = new Http1xHeaders(false, HTTP_VALIDATOR);
+    headers.valueInterner = valueInterner;
+    return headers;
+  }
+
+  /**
+   * Create a header template, i.e. an immutable copy of {@code headers} encoded once. When the template is set on
+   * response headers with {@link #template(Http1xHeaders)}, its encoded bytes are copied before the response headers.
+   *
+   * @param headers the template headers
+   * @return the template, or {@code headers} when it is already a template
+   */
+  public static Http1xHeaders headersTemplate(MultiMap headers) {
+    if (headers instanceof Http1xHeaders && ((Http1xHeaders) headers).encoded != null) {
+      return (Http1xHeaders) headers;
+    }
+    Http1xHeaders copy = httpHeaders();
+    copy.addAll(headers);
+    Http1xHeaders template = new Http1xHeaders(true, copy);
+    ByteBuf buf = Unpooled.buffer();
+    template.encode0(buf);
+    template.encoded = ByteBufUtil.getBytes(buf);
+    return template;
+  }
+
   /**
    * @return a all-purpose case-insensitive multimap that does not perform validation
    */
@@ -76,6 +111,9 @@ public final class Http1xHeaders extends HttpHeaders implements MultiMap {
   private Http1xHeaders.MapEntry tail;
   private int modCount = 0;
   private Reference<byte[]> renderedBytesRef;
+  private byte[] encoded;
+  private Http1xHeaders template;
+  private Function<CharSequence, CharSequence> valueInterner;
 
   private Http1xHeaders(boolean readOnly, BiConsumer<CharSequence, CharSequence> validator) {
     this.head = null;
@@ -580,8 +618,35 @@ public final class Http1xHeaders extends HttpHeaders implements MultiMap {
     return (Http1xHeaders) MultiMap.super.copy();
   }
 
+  /**
+   * @return the template encoded before these headers or {@code null}
+   */
+  public Http1xHeaders template() {
+    return template;
+  }
+
+  /**
+   * Set the template encoded before these headers, the template headers are not visible from this multimap.
+   *
+   * @param template the template created by {@link #headersTemplate(MultiMap)} or {@code null}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public Http1xHeaders template(Http1xHeaders template) {
+    if (template != null && template.encoded == null) {
+      throw new IllegalArgumentException("Not a header template");
+    }
+    this.template = template;
+    return this;
+  }
+
   public void encode(ByteBuf buf, boolean cache) {
-    if (cache && readOnly) {
+    Http1xHeaders t = template;
+    if (t != null) {
+      buf.writeBytes(t.encoded);
+    }
+    if (encoded != null) {
+      buf.writeBytes(encoded);
+    } else if (cache && readOnly) {
       Reference<byte[]> r = renderedBytesRef;
       byte[] bytes;
       if (r == null || (bytes = r.get()) == null) {
@@ -786,11 +851,14 @@ public final class Http1xHeaders extends HttpHeaders implements MultiMap {
     }
   }
 
-  private void add0(int h, int i, final CharSequence name, final CharSequence value) {
+  private void add0(int h, int i, final CharSequence name, CharSequence value) {
     checkMutable();
     if (validator != null) {
       validator.accept(name, value);
     }
+    if (valueInterner != null) {
+      value = valueInterner.apply(value);
+    }
     if (entries == null) {
       entries = new MapEntry[16];
     }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl.http1;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.DateFormatter;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.ScheduledFuture;
+import io.vertx.core.Closeable;
+import io.vertx.core.Completable;
+import io.vertx.core.internal.VertxInternal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the encoded {@code date} response header of an event-loop, the value is refreshed every second by a periodic
+ * task scheduled on the event-loop, so it can be read without synchronization. The periodic task is cancelled when
+ * the Vert.x instance is closed.
+ */
+final class DateHeaderCache implements Runnable, Closeable {
+
+  private static final FastThreadLocal<DateHeaderCache> CACHE = new FastThreadLocal<>();
+
+  /**
+   * @return the cache of the current event-loop thread, created and scheduled on {@code executor} on first use
+   */
+  static DateHeaderCache get(VertxInternal vertx, EventExecutor executor) {
+    DateHeaderCache cache = CACHE.get();
+    if (cache == null || cache.task.isCancelled()) {
+      cache = new DateHeaderCache();
+      long now = System.currentTimeMillis();
+      cache.task = executor.scheduleAtFixedRate(cache, 1000 - now % 1000, 1000, TimeUnit.MILLISECONDS);
+      vertx.addCloseHook(cache);
+      CACHE.set(cache);
+    }
+    return cache;
+  }
+
+  private byte[] encoded;
+  private ScheduledFuture<?> task;
+
+  private DateHeaderCache() {
+    run();
+  }
+
+  @Override
+  public void run() {
+    encoded = ("date: " + DateFormatter.format(new Date()) + "\r\n").getBytes(StandardCharsets.US_ASCII);
+  }
+
+  void encode(ByteBuf buf) {
+    buf.writeBytes(encoded);
+  }
+
+  @Override
+  public void close(Completable<Void> completion) {
+    task.cancel(false);
+    completion.succeed();
+  }
+}
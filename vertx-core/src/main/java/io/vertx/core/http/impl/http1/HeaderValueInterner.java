@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl.http1;
+
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.util.AsciiString;
+
+import java.util.function.Function;
+
+/**
+ * A bounded table interning the header values decoded by a connection, so the values repeated by the requests of a
+ * connection share the same instance. Well-known values are replaced by shared {@link AsciiString} constants.
+ *
+ * <p>The table is direct-mapped: a value evicts the value stored at its slot, so the table never grows. It is only
+ * accessed from the connection event-loop.</p>
+ */
+final class HeaderValueInterner implements Function<CharSequence, CharSequence> {
+
+  /**
+   * Longer values are not interned.
+   */
+  static final int MAX_VALUE_LENGTH = 256;
+
+  private static final AsciiString[] WELL_KNOWN_VALUES = {
+    HttpHeaderValues.KEEP_ALIVE,
+    HttpHeaderValues.CLOSE,
+    HttpHeaderValues.UPGRADE,
+    HttpHeaderValues.WEBSOCKET,
+    HttpHeaderValues.CHUNKED,
+    HttpHeaderValues.CONTINUE,
+    HttpHeaderValues.IDENTITY,
+    HttpHeaderValues.GZIP,
+    HttpHeaderValues.DEFLATE,
+    HttpHeaderValues.BR,
+    HttpHeaderValues.ZSTD,
+    AsciiString.cached("gzip, deflate"),
+    AsciiString.cached("gzip, deflate, br"),
+    AsciiString.cached("gzip, deflate, br, zstd"),
+    AsciiString.cached("*/*"),
+    HttpHeaderValues.APPLICATION_JSON,
+    AsciiString.cached("application/json; charset=utf-8"),
+    HttpHeaderValues.APPLICATION_X_WWW_FORM_URLENCODED,
+    HttpHeaderValues.APPLICATION_OCTET_STREAM,
+    HttpHeaderValues.TEXT_PLAIN,
+    AsciiString.cached("text/plain; charset=utf-8"),
+    HttpHeaderValues.TEXT_HTML,
+    AsciiString.cached("text/html; charset=utf-8"),
+    HttpHeaderValues.NO_CACHE,
+    AsciiString.cached("max-age=0"),
+  };
+
+  private static final AsciiString[] WELL_KNOWN_TABLE = new AsciiString[64];
+
+  static {
+    for (AsciiString value : WELL_KNOWN_VALUES) {
+      int idx = hash(value) & (WELL_KNOWN_TABLE.length - 1);
+      while (WELL_KNOWN_TABLE[idx] != null) {
+        idx = (idx + 1) & (WELL_KNOWN_TABLE.length - 1);
+      }
+      WELL_KNOWN_TABLE[idx] = value;
+    }
+  }
+
+  private final CharSequence[] values;
+  private final int[] hashes;
+  private final int mask;
+
+  /**
+   * @param size the table size, rounded up to a power of two
+   */
+  HeaderValueInterner(int size) {
+    int capacity = Integer.highestOneBit(Math.max(size - 1, 1)) << 1;
+    this.values = new CharSequence[capacity];
+    this.hashes = new int[capacity];
+    this.mask = capacity - 1;
+  }
+
+  @Override
+  public CharSequence apply(CharSequence value) {
+    int length = value.length();
+    if (length == 0 || length > MAX_VALUE_LENGTH) {
+      return value;
+    }
+    int hash = hash(value);
+    int idx = hash & mask;
+    CharSequence cached = values[idx];
+    if (cached != null && hashes[idx] == hash && AsciiString.contentEquals(cached, value)) {
+      return cached;
+    }
+    CharSequence interned = wellKnown(value, hash);
+    if (interned == null) {
+      interned = value;
+    }
+    values[idx] = interned;
+    hashes[idx] = hash;
+    return interned;
+  }
+
+  private static AsciiString wellKnown(CharSequence value, int hash) {
+    int idx = hash & (WELL_KNOWN_TABLE.length - 1);
+    AsciiString known;
+    while ((known = WELL_KNOWN_TABLE[idx]) != null) {
+      if (AsciiString.contentEquals(known, value)) {
+        return known;
+      }
+      idx = (idx + 1) & (WELL_KNOWN_TABLE.length - 1);
+    }
+    return null;
+  }
+
+  private static int hash(CharSequence value) {
+    int hash = 0;
+    for (int i = 0;i < value.length();i++) {
+      hash = 31 * hash + value.charAt(i);
+    }
+    // Spread the high bits to the low bits used by the tables
+    return hash ^ (hash >>> 16);
+  }
+}
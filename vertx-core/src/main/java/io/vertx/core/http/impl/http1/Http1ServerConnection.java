@@ -80,6 +80,7 @@ public class Http1ServerConnection extends Http1Connection implements HttpServer
   private final int maxFormFields;
   private final int maxFormBufferedBytes;
   private final Http1ServerConfig serverConfig;
+  final StaticContentCache staticContentCache;
   private final boolean registerWebSocketWriteHandlers;
   private final WebSocketServerConfig webSocketConfig;
   private final ServerSSLOptions sslOptions;
@@ -106,6 +107,7 @@ public class Http1ServerConnection extends Http1Connection implements HttpServer
                                int maxFormFields,
                                int maxFormBufferedBytes,
                                Http1ServerConfig serverConfig,
+                               StaticContentCache staticContentCache,
                                boolean registerWebSocketWriteHandlers,
                                WebSocketServerConfig webSocketConfig,
                                ChannelHandlerContext chctx,
@@ -121,6 +123,7 @@ public class Http1ServerConnection extends Http1Connection implements HttpServer
     this.maxFormFields = maxFormFields;
     this.maxFormBufferedBytes = maxFormBufferedBytes;
     this.serverConfig = serverConfig;
+    this.staticContentCache = staticContentCache;
     this.registerWebSocketWriteHandlers = registerWebSocketWriteHandlers;
     this.webSocketConfig = webSocketConfig;
     this.sslContextManager = sslContextManager;
@@ -526,7 +529,14 @@ public class Http1ServerConnection extends Http1Connection implements HttpServer
 
   @Override
   protected boolean supportsFileRegion() {
-    return super.supportsFileRegion() && chctx.pipeline().get(HttpChunkContentCompressor.class) == null;
+    return super.supportsFileRegion() && !compressesResponses();
+  }
+
+  /**
+   * @return whether the responses go through a compressor, such compressor rewrites the response headers
+   */
+  boolean compressesResponses() {
+    return chctx.pipeline().get(HttpChunkContentCompressor.class) != null;
   }
 
   private void handleError(HttpObject obj) {
@@ -20,6 +20,7 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandler;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Future;
+import io.vertx.core.file.impl.OpenFileCache;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
@@ -31,6 +32,7 @@ import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.impl.CookieJar;
 import io.vertx.core.http.impl.HttpUtils;
 import io.vertx.core.http.impl.ServerCookie;
+import io.vertx.core.http.impl.StaticContentCache;
 import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.http.impl.headers.Http1xHeaders;
 import io.vertx.core.internal.ContextInternal;
@@ -56,7 +58,6 @@ public class Http1ServerResponse implements HttpServerResponse, HttpResponse {
 
   private static final Buffer EMPTY_BUFFER = BufferInternal.buffer(Unpooled.EMPTY_BUFFER);
   private static final String RESPONSE_WRITTEN = "Response has already been written";
-
   private final VertxInternal vertx;
   private final HttpRequest request;
   private final Http1ServerConnection conn;
@@ -113,6 +114,26 @@ public class Http1ServerResponse implements HttpServerResponse, HttpResponse {
     return headers;
   }
 
+  @Override
+  public HttpServerResponse headersTemplate(MultiMap template) {
+    Http1xHeaders t = HttpUtils.checkHeadersTemplate(Http1xHeaders.headersTemplate(template));
+    synchronized (conn) {
+      checkHeadWritten();
+      if (conn.compressesResponses()) {
+        // The compressor copies the response headers to a new response, without the pre-encoded template
+        headers.addAll(t);
+      } else {
+        headers.template(t);
+      }
+    }
+    return this;
+  }
+
+  private boolean containsHeader(CharSequence name) {
+    Http1xHeaders t = headers.template();
+    return headers.contains(name) || (t != null && t.contains(name));
+  }
+
   @Override
   public MultiMap trailers() {
     if (trailers == null) {
@@ -389,18 +410,17 @@ public class Http1ServerResponse implements HttpServerResponse, HttpResponse {
   @Override
   public Future<Void> end(Buffer chunk) {
     PromiseInternal<Void> promise = context.promise();
-    end(chunk, promise);
+    end(((BufferInternal)chunk).getByteBuf(), promise);
     return promise.future();
   }
 
-  private void end(Buffer chunk, PromiseInternal<Void> listener) {
+  private void end(ByteBuf data, PromiseInternal<Void> listener) {
     checkThread();
     synchronized (conn) {
       if (written) {
         throw new IllegalStateException(RESPONSE_WRITTEN);
       }
       written = true;
-      ByteBuf data = ((BufferInternal)chunk).getByteBuf();
       bytesWritten += data.readableBytes();
       VertxHttpObject msg;
       if (!headWritten) {
@@ -444,27 +464,75 @@ public class Http1ServerResponse implements HttpServerResponse, HttpResponse {
   @Override
   public Future<Void> sendFile(String filename, long offset, long length) {
     File file = vertx.fileResolver().resolve(filename);
-    RandomAccessFile raf;
-    long size;
+    StaticContentCache staticContentCache = conn.staticContentCache;
+    if (staticContentCache != null && offset == 0 && length == Long.MAX_VALUE) {
+      StaticContentCache.Content content = staticContentCache.get(file, containsHeader(CONTENT_ENCODING) ? null : request.headers().get(ACCEPT_ENCODING), context);
+      if (content != null) {
+        return sendContent(filename, content);
+      }
+    }
+    OpenFileCache.OpenFile openFile;
     try {
-      raf = new RandomAccessFile(file, "r");
-      size = raf.length();
+      openFile = vertx.openFileCache().open(file);
     } catch (Exception e) {
       return context.failedFuture(e);
     }
-    if (!headers.contains(HttpHeaders.CONTENT_TYPE)) {
+    if (!containsHeader(HttpHeaders.CONTENT_TYPE)) {
       CharSequence mimeType = MimeMapping.mimeTypeForFilename(filename);
       if (mimeType == null) {
         mimeType = APPLICATION_OCTET_STREAM;
       }
       headers.set(CONTENT_TYPE, mimeType);
     }
-    return sendFileInternal(offset, length, size, raf, null, true);
+    Future<Void> fut;
+    try {
+      fut = sendFileInternal(offset, length, openFile.size(), null, openFile.channel(), false);
+    } catch (RuntimeException e) {
+      openFile.release();
+      throw e;
+    }
+    return fut.andThen(ar -> openFile.release());
+  }
+
+  private Future<Void> sendContent(String filename, StaticContentCache.Content content) {
+    checkThread();
+    synchronized (conn) {
+      if (written) {
+        content.body().release();
+        throw new IllegalStateException(RESPONSE_WRITTEN);
+      }
+    }
+    if (!containsHeader(HttpHeaders.CONTENT_TYPE)) {
+      CharSequence mimeType = MimeMapping.mimeTypeForFilename(filename);
+      headers.set(CONTENT_TYPE, mimeType != null ? mimeType : APPLICATION_OCTET_STREAM);
+    }
+    headers.set(ETAG, content.etag());
+    headers.set(LAST_MODIFIED, content.lastModified());
+    // An encoding set by the application is kept, the content is then the identity variant
+    boolean encoded = content.encoding() != null && !containsHeader(CONTENT_ENCODING);
+    if (encoded) {
+      headers.set(CONTENT_ENCODING, content.encoding());
+      if (!headers.contains(VARY, ACCEPT_ENCODING, true)) {
+        headers.add(VARY, ACCEPT_ENCODING);
+      }
+    }
+    if (content.isNotModified(request.headers().get(IF_NONE_MATCH), request.headers().get(IF_MODIFIED_SINCE))) {
+      // Answered from memory without the body
+      content.body().release();
+      if (encoded) {
+        headers.remove(CONTENT_ENCODING);
+      }
+      setStatusCode(HttpResponseStatus.NOT_MODIFIED.code());
+      return end();
+    }
+    PromiseInternal<Void> promise = context.promise();
+    end(content.body(), promise);
+    return promise.future();
   }
 
   @Override
   public Future<Void> sendFile(RandomAccessFile file, long offset, long length) {
-    if (!headers.contains(HttpHeaders.CONTENT_TYPE)) {
+    if (!containsHeader(HttpHeaders.CONTENT_TYPE)) {
       headers.set(CONTENT_TYPE, APPLICATION_OCTET_STREAM);
     }
     long size;
@@ -478,7 +546,7 @@ public class Http1ServerResponse implements HttpServerResponse, HttpResponse {
 
   @Override
   public Future<Void> sendFile(FileChannel channel, long offset, long length) {
-    if (!headers.contains(HttpHeaders.CONTENT_TYPE)) {
+    if (!containsHeader(HttpHeaders.CONTENT_TYPE)) {
       headers.set(CONTENT_TYPE, APPLICATION_OCTET_STREAM);
     }
     long size;
@@ -689,7 +757,7 @@ public class Http1ServerResponse implements HttpServerResponse, HttpResponse {
     } else {
       // Set content-length header automatically
       if (contentLength >= 0 && !headers.contains(HttpHeaders.CONTENT_LENGTH) && !headers.contains(HttpHeaders.TRANSFER_ENCODING)) {
-        headers.set(HttpHeaders.CONTENT_LENGTH, HttpUtils.positiveLongToString(contentLength));
+        headers.set(HttpHeaders.CONTENT_LENGTH, HttpUtils.positiveLongToAsciiString(contentLength));
       }
     }
     if (headersEndHandler != null) {
@@ -18,6 +18,7 @@ import io.vertx.core.impl.SysProps;
 import io.vertx.core.internal.http.HttpHeadersInternal;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * A request decoder using {@link Http1xHeaders} which is faster than {@code DefaultHttpHeaders} used by the super class.
@@ -42,6 +43,52 @@ public class VertxHttpRequestDecoder extends HttpRequestDecoder {
   private static final long ACCEPT_AS_LONG = 'c' << 8 | 'c' << 16 | 'e' << 24 |
     (long) 'p' << 32 | (long) 't' << 40;
 
+  /**
+   * Other well-known request header names indexed by their length, each name is given as a lower case constant
+   * followed by its canonical form, e.g. {@code user-agent} and {@code User-Agent}.
+   */
+  private static final AsciiString[][] WELL_KNOWN_NAMES = wellKnownNames(
+    HttpHeaderNames.ACCEPT_CHARSET, "Accept-Charset",
+    HttpHeaderNames.ACCEPT_ENCODING, "Accept-Encoding",
+    HttpHeaderNames.ACCEPT_LANGUAGE, "Accept-Language",
+    HttpHeaderNames.AUTHORIZATION, "Authorization",
+    HttpHeaderNames.CACHE_CONTROL, "Cache-Control",
+    HttpHeaderNames.CONTENT_ENCODING, "Content-Encoding",
+    HttpHeaderNames.COOKIE, "Cookie",
+    HttpHeaderNames.EXPECT, "Expect",
+    HttpHeaderNames.IF_MATCH, "If-Match",
+    HttpHeaderNames.IF_MODIFIED_SINCE, "If-Modified-Since",
+    HttpHeaderNames.IF_NONE_MATCH, "If-None-Match",
+    HttpHeaderNames.KEEP_ALIVE, "Keep-Alive",
+    HttpHeaderNames.ORIGIN, "Origin",
+    HttpHeaderNames.PRAGMA, "Pragma",
+    HttpHeaderNames.RANGE, "Range",
+    HttpHeaderNames.REFERER, "Referer",
+    HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS, "Sec-WebSocket-Extensions",
+    HttpHeaderNames.SEC_WEBSOCKET_KEY, "Sec-WebSocket-Key",
+    HttpHeaderNames.SEC_WEBSOCKET_PROTOCOL, "Sec-WebSocket-Protocol",
+    HttpHeaderNames.SEC_WEBSOCKET_VERSION, "Sec-WebSocket-Version",
+    HttpHeaderNames.TRANSFER_ENCODING, "Transfer-Encoding",
+    HttpHeaderNames.UPGRADE, "Upgrade",
+    HttpHeaderNames.USER_AGENT, "User-Agent",
+    HttpHeaderNames.X_REQUESTED_WITH, "X-Requested-With");
+
+  private static AsciiString[][] wellKnownNames(Object... names) {
+    AsciiString[][] table = new AsciiString[32][];
+    for (int i = 0;i < names.length;i += 2) {
+      AsciiString lowerCase = (AsciiString) names[i];
+      AsciiString canonical = AsciiString.cached((String) names[i + 1]);
+      AsciiString[] list = table[lowerCase.length()];
+      list = list == null ? new AsciiString[2] : Arrays.copyOf(list, list.length + 2);
+      list[list.length - 2] = lowerCase;
+      list[list.length - 1] = canonical;
+      table[lowerCase.length()] = list;
+    }
+    return table;
+  }
+
+  private final boolean internToLowerCase;
+  private final HeaderValueInterner headerValueInterner;
   private final AsciiString _Host;
   private final AsciiString _Connection;
   private final AsciiString _Content_Type;
@@ -56,7 +103,8 @@ public class VertxHttpRequestDecoder extends HttpRequestDecoder {
       !HttpHeadersInternal.DISABLE_HTTP_HEADERS_VALIDATION,
       config.getDecoderInitialBufferSize());
 
-    boolean internToLowerCase = SysProps.INTERN_COMMON_HTTP_REQUEST_HEADERS_TO_LOWER_CASE.getBoolean();
+    internToLowerCase = SysProps.INTERN_COMMON_HTTP_REQUEST_HEADERS_TO_LOWER_CASE.getBoolean();
+    headerValueInterner = config.getMaxInternedHeaderValues() > 0 ? new HeaderValueInterner(config.getMaxInternedHeaderValues()) : null;
 
     // Get headers from super class
     _Host = internToLowerCase ? HttpHeaderNames.HOST : intern("Host");
@@ -97,9 +145,38 @@ public class VertxHttpRequestDecoder extends HttpRequestDecoder {
         }
       }
     }
+    AsciiString name = wellKnownName(sb, start, length);
+    if (name != null) {
+      return name;
+    }
     return new AsciiString(sb, start, length, true);
   }
 
+  private AsciiString wellKnownName(byte[] sb, int start, int length) {
+    if (length >= WELL_KNOWN_NAMES.length) {
+      return null;
+    }
+    AsciiString[] names = WELL_KNOWN_NAMES[length];
+    if (names != null) {
+      for (int i = 0;i < names.length;i += 2) {
+        AsciiString lowerCase = names[i];
+        if (matches(lowerCase, sb, start, length)) {
+          return lowerCase;
+        }
+        AsciiString canonical = names[i + 1];
+        if (matches(canonical, sb, start, length)) {
+          return internToLowerCase ? lowerCase : canonical;
+        }
+      }
+    }
+    return null;
+  }
+
+  private static boolean matches(AsciiString name, byte[] sb, int start, int length) {
+    int offset = name.arrayOffset();
+    return Arrays.equals(name.array(), offset, offset + length, sb, start, start + length);
+  }
+
   private static boolean isAccept(byte[] sb, int start) {
     final long maybeAccept = sb[start + 1] << 8 |
       sb[start + 2] << 16 |
@@ -174,7 +251,7 @@ public class VertxHttpRequestDecoder extends HttpRequestDecoder {
       HttpVersion.valueOf(initialLine[2]),
       HttpMethod.valueOf(initialLine[0]),
       initialLine[1],
-      Http1xHeaders.httpHeaders());
+      headerValueInterner != null ? Http1xHeaders.httpHeaders(headerValueInterner) : Http1xHeaders.httpHeaders());
   }
 
   @Override
@@ -18,12 +18,18 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.vertx.core.http.impl.headers.Http1xHeaders;
 import io.vertx.core.impl.SysProps;
+import io.vertx.core.internal.VertxInternal;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * {@link io.netty.handler.codec.http.HttpResponseEncoder} which forces the usage of direct buffers for max performance.
@@ -32,7 +38,64 @@ import io.vertx.core.impl.SysProps;
  */
 public final class VertxHttpResponseEncoder extends HttpResponseEncoder {
 
+  private static final byte[][] HTTP_1_1_STATUS_LINES = statusLines(HttpVersion.HTTP_1_1);
+  private static final byte[][] HTTP_1_0_STATUS_LINES = statusLines(HttpVersion.HTTP_1_0);
+
+  /**
+   * Pre-encode the status line of the statuses defined by {@link HttpResponseStatus} for the given version.
+   */
+  private static byte[][] statusLines(HttpVersion version) {
+    byte[][] lines = new byte[600][];
+    for (int code = 100;code < lines.length;code++) {
+      HttpResponseStatus status = HttpResponseStatus.valueOf(code);
+      if (status == HttpResponseStatus.valueOf(code)) {
+        lines[code] = (version.text() + " " + status + "\r\n").getBytes(StandardCharsets.US_ASCII);
+      }
+    }
+    return lines;
+  }
+
   private final boolean cacheImmutableResponseHeaders = SysProps.CACHE_IMMUTABLE_HTTP_RESPONSE_HEADERS.getBoolean();
+  private final VertxInternal vertx;
+  private final boolean dateHeader;
+  private DateHeaderCache dateHeaderCache;
+
+  public VertxHttpResponseEncoder() {
+    this(null, false);
+  }
+
+  /**
+   * @param vertx the Vert.x instance owning the date header caches, required when {@code dateHeader} is {@code true}
+   * @param dateHeader whether to add a {@code date} header to the responses that do not have one
+   */
+  public VertxHttpResponseEncoder(VertxInternal vertx, boolean dateHeader) {
+    this.vertx = vertx;
+    this.dateHeader = dateHeader;
+  }
+
+  @Override
+  protected void encodeInitialLine(ByteBuf buf, HttpResponse response) throws Exception {
+    HttpResponseStatus status = response.status();
+    int code = status.code();
+    byte[][] lines;
+    if (response.protocolVersion() == HttpVersion.HTTP_1_1) {
+      lines = HTTP_1_1_STATUS_LINES;
+    } else if (response.protocolVersion() == HttpVersion.HTTP_1_0) {
+      lines = HTTP_1_0_STATUS_LINES;
+    } else {
+      lines = null;
+    }
+    // Only the statuses with their default reason phrase are pre-encoded
+    if (lines != null && code >= 0 && code < lines.length && lines[code] != null && status == HttpResponseStatus.valueOf(code)) {
+      buf.writeBytes(lines[code]);
+    } else {
+      super.encodeInitialLine(buf, response);
+    }
+    // The date is written before the headers since encodeHeaders also encodes the trailers
+    if (dateHeaderCache != null && !response.headers().contains(HttpHeaderNames.DATE)) {
+      dateHeaderCache.encode(buf);
+    }
+  }
 
   @Override
   protected void encodeHeaders(HttpHeaders headers, ByteBuf buf) {
@@ -70,6 +133,9 @@ public final class VertxHttpResponseEncoder extends HttpResponseEncoder {
   @Override
   public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
     super.handlerAdded(ctx);
+    if (dateHeader) {
+      dateHeaderCache = DateHeaderCache.get(vertx, ctx.executor());
+    }
   }
 
   @Override
@@ -23,6 +23,7 @@ import io.vertx.core.http.*;
 import io.vertx.core.http.impl.CompressionManager;
 import io.vertx.core.http.impl.HttpServerConnection;
 import io.vertx.core.http.impl.HttpUtils;
+import io.vertx.core.http.impl.StaticContentCache;
 import io.vertx.core.http.impl.http1.Http1ServerConnection;
 import io.vertx.core.http.impl.http1.HttpChunkContentCompressor;
 import io.vertx.core.http.impl.http1.VertxHttpRequestDecoder;
@@ -69,6 +70,7 @@ public class HttpServerConnectionInitializer {
   private final int maxFormBufferedBytes;
   private final Http1ServerConfig http1Config;
   private final Http2ServerConfig http2Config;
+  private final StaticContentCache staticContentCache;
   private final boolean registerWebSocketWriteHandlers;
   private final WebSocketServerConfig webSocketConfig;
   private final CompressionManager compressionManager;
@@ -94,6 +96,7 @@ public class HttpServerConnectionInitializer {
                                   int maxFormBufferedBytes,
                                   Http1ServerConfig http1Config,
                                   Http2ServerConfig http2Config,
+                                  StaticContentCache staticContentCache,
                                   boolean registerWebSocketWriteHandlers,
                                   WebSocketServerConfig webSocketConfig,
                                   ServerSSLOptions sslOptions,
@@ -160,6 +163,7 @@ public class HttpServerConnectionInitializer {
     this.maxFormBufferedBytes = maxFormBufferedBytes;
     this.http1Config = http1Config;
     this.http2Config = http2Config;
+    this.staticContentCache = staticContentCache;
     this.connectionHandler = connectionHandler;
     this.exceptionHandler = exceptionHandler;
     this.metric = metric;
@@ -281,7 +285,7 @@ public class HttpServerConnectionInitializer {
   private void configureHttp1Pipeline(ChannelPipeline pipeline) {
     String name = computeChannelName(pipeline);
     pipeline.addBefore(name, "httpDecoder", new VertxHttpRequestDecoder(http1Config));
-    pipeline.addBefore(name, "httpEncoder", new VertxHttpResponseEncoder());
+    pipeline.addBefore(name, "httpEncoder", new VertxHttpResponseEncoder(context.owner(), http1Config.isDateHeader()));
     if (useDecompression) {
       pipeline.addBefore(name, "inflater", new HttpContentDecompressor(false));
     }
@@ -307,6 +311,7 @@ public class HttpServerConnectionInitializer {
         maxFormFields,
         maxFormBufferedBytes,
         http1Config,
+        staticContentCache,
         registerWebSocketWriteHandlers,
         webSocketConfig,
         chctx,
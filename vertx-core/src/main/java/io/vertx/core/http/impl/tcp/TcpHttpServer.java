@@ -15,6 +15,7 @@ import io.netty.handler.codec.compression.CompressionOptions;
 import io.vertx.core.*;
 import io.vertx.core.http.*;
 import io.vertx.core.http.impl.HttpUtils;
+import io.vertx.core.http.impl.StaticContentCache;
 import io.vertx.core.internal.CloseSequence;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.impl.SysProps;
@@ -30,6 +31,7 @@ import io.vertx.core.spi.metrics.HttpServerMetrics;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
@@ -196,6 +198,11 @@ public class TcpHttpServer implements HttpServerInternal {
       throw new IllegalStateException();
     }
     HttpServerConfig config = this.config;
+    boolean virtualThreadPerRequest = config.isVirtualThreadPerRequest();
+    if (virtualThreadPerRequest && !vertx.isVirtualThreadAvailable()) {
+      return context.failedFuture(new IllegalStateException("This Java runtime does not support virtual threads"));
+    }
+    ThreadingModel threadingModel = virtualThreadPerRequest ? ThreadingModel.VIRTUAL_THREAD : context.threadingModel();
     ContextInternal listenContext;
     // Not sure of this
     if (context.isEventLoopContext()) {
@@ -218,9 +225,16 @@ public class TcpHttpServer implements HttpServerInternal {
     server.exceptionHandler(exceptionHandler);
     Http1ServerConfig http1Config = config.getVersions().contains(HttpVersion.HTTP_1_0) || config.getVersions().contains(HttpVersion.HTTP_1_1) ? config.getHttp1Config() != null ? config.getHttp1Config() : new Http1ServerConfig() : null;
     Http2ServerConfig http2Config = config.getVersions().contains(HttpVersion.HTTP_2) ? config.getHttp2Config() != null ? config.getHttp2Config() : new Http2ServerConfig() : null;
+    StaticContentCache staticContentCache = createStaticContentCache(config);
     server.connectHandler(so -> {
       NetSocketImpl soi = (NetSocketImpl) so;
-      Supplier<ContextInternal> streamContextSupplier = context::duplicate;
+      Supplier<ContextInternal> streamContextSupplier;
+      if (virtualThreadPerRequest) {
+        // Each request gets its own virtual thread context, its events are ordered on its own task queue
+        streamContextSupplier = () -> context.toBuilder().withThreadingModel(ThreadingModel.VIRTUAL_THREAD).build();
+      } else {
+        streamContextSupplier = context::duplicate;
+      }
       String host = address.isInetSocket() ? address.host() : "localhost";
       int port = address.port();
       String serverOrigin = (config.isSsl() ? "https" : "http") + "://" + host + ":" + port;
@@ -240,8 +254,8 @@ public class TcpHttpServer implements HttpServerInternal {
       List<CompressionOptions> compressors = compression != null ? compression.getCompressors() : null;
       HttpServerConnectionInitializer initializer = new HttpServerConnectionInitializer(
         listenContext,
-        context.threadingModel(),
-        config.getStrictThreadMode() && context.threadingModel() == ThreadingModel.EVENT_LOOP,
+        threadingModel,
+        config.getStrictThreadMode() && threadingModel == ThreadingModel.EVENT_LOOP,
         streamContextSupplier,
         this,
         compressors != null && !compressors.isEmpty() && compression.isCompressionEnabled(),
@@ -256,6 +270,7 @@ public class TcpHttpServer implements HttpServerInternal {
         config.getMaxFormBufferedBytes(),
         http1Config,
         http2Config,
+        staticContentCache,
         registerWebSocketWriteHandlers,
         config.getWebSocketConfig(),
         config.isSsl() ? sslOptions : null,
@@ -271,7 +286,7 @@ public class TcpHttpServer implements HttpServerInternal {
     if (manageMetrics) {
       httpMetrics = vertx.metrics() != null ? vertx.metrics().createHttpServerMetrics(config, address, null) : null;
     }
-    closeSequence = new CloseSequence(p -> doClose(server, p), p -> doShutdown(server, p ));
+    closeSequence = new CloseSequence(p -> doClose(server, staticContentCache, p), p -> doShutdown(server, p ));
     Promise<HttpServer> result = context.promise();
     tcpServer.listen(listenContext, address).onComplete(ar -> {
       if (ar.succeeded()) {
@@ -305,11 +320,35 @@ public class TcpHttpServer implements HttpServerInternal {
     return sslOptions;
   }
 
+  private static StaticContentCache createStaticContentCache(HttpServerConfig config) {
+    if (config.getStaticContentCacheMaxSize() == 0) {
+      return null;
+    }
+    CompressionConfig compression = config.getCompression();
+    List<CompressionOptions> compressors = compression != null && compression.isCompressionEnabled() ? compression.getCompressors() : null;
+    return new StaticContentCache(
+      config.getStaticContentCacheMaxSize(),
+      config.getStaticContentCacheMaxEntrySize(),
+      config.getStaticContentCacheValidationPeriod().toMillis(),
+      TimeUnit.MILLISECONDS,
+      compression != null ? compression.getContentSizeThreshold() : 0,
+      compressors != null && !compressors.isEmpty() ? compressors.toArray(new CompressionOptions[0]) : null);
+  }
+
   private void doShutdown(NetServer netServer, Completable<Void> p) {
     netServer.shutdown(closeTimeout).onComplete(p);
   }
 
-  private void doClose(NetServer netServer, Completable<Void> p) {
+  private void doClose(NetServer netServer, StaticContentCache staticContentCache, Completable<Void> completable) {
+    Completable<Void> p;
+    if (staticContentCache != null) {
+      p = (result, failure) -> {
+        staticContentCache.close();
+        completable.complete(result, failure);
+      };
+    } else {
+      p = completable;
+    }
     if (requestHandler instanceof Closeable) {
       Closeable closeable = (Closeable) requestHandler;
       closeable.close((res, err) -> {
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.impl;
+
+import io.vertx.core.spi.metrics.PoolMetrics;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sizes a worker thread pool between a minimum and a maximum number of threads from the time tasks wait in the queue
+ * before being executed, this time is observed by the {@link #enqueue()} and {@link #dequeue(Object)} metrics callbacks
+ * which are forwarded to the actual pool metrics when there are any.
+ * <p/>
+ * The pool core size grows when the average queue latency exceeds the target latency and tasks are queued, it shrinks
+ * by one thread when the average queue latency is below a quarter of the target latency. Since the latency is only
+ * observed when a task is dequeued, the pool also grows when a task is enqueued while tasks are queued and no task was
+ * dequeued for a target latency period, i.e. all the workers are blocked. The core size is adjusted at most once per
+ * target latency period and never goes below the minimum size, threads above the core size terminate after being idle
+ * for {@link #KEEP_ALIVE_SECONDS}.
+ */
+public class AdaptivePoolSizer implements PoolMetrics<Object, Object> {
+
+  static final long KEEP_ALIVE_SECONDS = 60;
+
+  private final ThreadPoolExecutor executor;
+  private final PoolMetrics<Object, Object> metrics;
+  private final int minSize;
+  private final int maxSize;
+  private final long targetLatency;
+  private final AtomicLong lastAdjustment;
+  private volatile long averageLatency;
+  private volatile long lastDequeue;
+
+  @SuppressWarnings("unchecked")
+  public AdaptivePoolSizer(ThreadPoolExecutor executor, PoolMetrics<?, ?> metrics, int minSize, int maxSize, long targetLatency, TimeUnit targetLatencyUnit) {
+    this.executor = executor;
+    this.metrics = (PoolMetrics<Object, Object>) metrics;
+    this.minSize = Math.min(minSize, maxSize);
+    this.maxSize = maxSize;
+    this.targetLatency = targetLatencyUnit.toNanos(targetLatency);
+    this.lastAdjustment = new AtomicLong(System.nanoTime());
+    this.lastDequeue = lastAdjustment.get();
+    executor.setMaximumPoolSize(Math.max(maxSize, executor.getMaximumPoolSize()));
+    executor.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+    executor.setCorePoolSize(this.minSize);
+  }
+
+  /**
+   * @return the current pool size target
+   */
+  public int size() {
+    return executor.getCorePoolSize();
+  }
+
+  /**
+   * @return the average queue latency in nanoseconds
+   */
+  public long averageLatency() {
+    return averageLatency;
+  }
+
+  @Override
+  public Object enqueue() {
+    long now = System.nanoTime();
+    if (now - lastDequeue > targetLatency) {
+      // No worker took a task for a target latency period, they might all be blocked
+      grow(now, lastAdjustment.get());
+    }
+    return new Queued(now, metrics != null ? metrics.enqueue() : null);
+  }
+
+  @Override
+  public void dequeue(Object queueMetric) {
+    Queued queued = (Queued) queueMetric;
+    long now = System.nanoTime();
+    lastDequeue = now;
+    update(now, now - queued.timestamp);
+    if (metrics != null) {
+      metrics.dequeue(queued.metric);
+    }
+  }
+
+  @Override
+  public Object begin() {
+    return metrics != null ? metrics.begin() : null;
+  }
+
+  @Override
+  public void end(Object t) {
+    if (metrics != null) {
+      metrics.end(t);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (metrics != null) {
+      metrics.close();
+    }
+  }
+
+  private void update(long now, long latency) {
+    // Exponentially weighted moving average, racy updates are fine
+    long average = averageLatency;
+    average += (latency - average) >> 3;
+    averageLatency = average;
+    long last = lastAdjustment.get();
+    if (now - last < targetLatency) {
+      return;
+    }
+    if (average > targetLatency) {
+      grow(now, last);
+    } else if (average < targetLatency >> 2) {
+      int size = executor.getCorePoolSize();
+      if (size > minSize && lastAdjustment.compareAndSet(last, now)) {
+        executor.setCorePoolSize(size - 1);
+      }
+    }
+  }
+
+  private void grow(long now, long last) {
+    if (now - last < targetLatency) {
+      return;
+    }
+    int size = executor.getCorePoolSize();
+    int queued = executor.getQueue().size();
+    if (queued == 0 || size >= maxSize) {
+      // Waiting on the ordered tasks of a context, more threads would not help
+      return;
+    }
+    if (lastAdjustment.compareAndSet(last, now)) {
+      executor.setCorePoolSize(Math.min(maxSize, size + queued));
+    }
+  }
+
+  private static class Queued {
+    private final long timestamp;
+    private final Object metric;
+    Queued(long timestamp, Object metric) {
+      this.timestamp = timestamp;
+      this.metric = metric;
+    }
+  }
+}
@@ -12,6 +12,7 @@ package io.vertx.core.impl;
 
 import io.netty.channel.EventLoop;
 import io.vertx.core.internal.EventExecutor;
+import io.vertx.core.spi.metrics.EventLoopMetrics;
 
 /**
  * Execute events on an event-loop.
@@ -21,9 +22,20 @@ import io.vertx.core.internal.EventExecutor;
 public final class EventLoopExecutor implements EventExecutor {
 
   final EventLoop eventLoop;
+  private final boolean measureQueueTime;
 
   public EventLoopExecutor(EventLoop eventLoop) {
+    this(eventLoop, false);
+  }
+
+  /**
+   * @param eventLoop the event-loop
+   * @param measureQueueTime whether to report the time tasks submitted from another thread wait in the event-loop queue
+   *                         to the event-loop thread {@link io.vertx.core.spi.metrics.EventLoopMetrics}
+   */
+  public EventLoopExecutor(EventLoop eventLoop, boolean measureQueueTime) {
     this.eventLoop = eventLoop;
+    this.measureQueueTime = measureQueueTime;
   }
 
   public EventLoop eventLoop() {
@@ -37,6 +49,32 @@ public final class EventLoopExecutor implements EventExecutor {
 
   @Override
   public void execute(Runnable command) {
+    if (measureQueueTime && !eventLoop.inEventLoop()) {
+      command = new QueuedTask(command, System.nanoTime());
+    }
     eventLoop.execute(command);
   }
+
+  private static final class QueuedTask implements Runnable {
+
+    private final Runnable task;
+    private final long queuedAt;
+
+    QueuedTask(Runnable task, long queuedAt) {
+      this.task = task;
+      this.queuedAt = queuedAt;
+    }
+
+    @Override
+    public void run() {
+      Thread thread = Thread.currentThread();
+      if (thread instanceof VertxThread) {
+        EventLoopMetrics metrics = ((VertxThread) thread).eventLoopMetrics;
+        if (metrics != null) {
+          metrics.taskDequeued(System.nanoTime() - queuedAt);
+        }
+      }
+      task.run();
+    }
+  }
 }
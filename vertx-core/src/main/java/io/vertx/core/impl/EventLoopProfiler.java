@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.impl;
+
+import io.vertx.core.spi.metrics.EventLoopMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Samples event-loop threads at a fixed interval.
+ * <p>
+ * The event-loop threads measure the execution time of the tasks they dispatch, the profiler reports
+ * the busy time of each thread for the interval and captures the stack traces of the slowest tasks executing
+ * for longer than the interval. The number of captured stack traces per interval is bounded since capturing the
+ * stack of another thread requires a safepoint.
+ */
+final class EventLoopProfiler {
+
+  private final List<Sampled> threads = new CopyOnWriteArrayList<>();
+  private final EventLoopMetrics[] metrics;
+  private final Timer timer; // Use our own timer since the event-loops are what we observe
+  private final long interval;
+  private final int slowTaskSamples;
+
+  /**
+   * @param metrics the metrics of each event-loop thread, indexed by thread creation order
+   */
+  EventLoopProfiler(EventLoopMetrics[] metrics, long interval, TimeUnit intervalUnit, int slowTaskSamples) {
+    this.metrics = metrics;
+    this.interval = intervalUnit.toNanos(interval);
+    this.slowTaskSamples = slowTaskSamples;
+    this.timer = new Timer("vertx-event-loop-profiler", true);
+    long period = Math.max(1, intervalUnit.toMillis(interval));
+    timer.scheduleAtFixedRate(new TimerTask() {
+      @Override
+      public void run() {
+        sample(System.nanoTime());
+      }
+    }, period, period);
+  }
+
+  /**
+   * Wrap the event-loop thread factory to measure the threads it creates.
+   */
+  ThreadFactory wrap(ThreadFactory factory) {
+    AtomicInteger threadCount = new AtomicInteger();
+    return runnable -> {
+      Thread thread = factory.newThread(runnable);
+      int index = threadCount.getAndIncrement();
+      if (thread instanceof VertxThread && index < metrics.length && metrics[index] != null) {
+        VertxThread vertxThread = (VertxThread) thread;
+        vertxThread.eventLoopMetrics = metrics[index];
+        threads.add(new Sampled(vertxThread, metrics[index], System.nanoTime()));
+      }
+      return thread;
+    };
+  }
+
+  void sample(long now) {
+    List<Sampled> slowTasks = null;
+    for (Sampled sampled : threads) {
+      VertxThread thread = sampled.thread;
+      long startTime = thread.info.startTime;
+      long executionTime = startTime != 0 ? now - startTime : 0;
+      // Account the current task execution time, it is accounted in the busy time when the task ends
+      long busyTime = thread.busyTime + executionTime;
+      long elapsedTime = now - sampled.lastSample;
+      sampled.metrics.utilization(Math.max(0, Math.min(elapsedTime, busyTime - sampled.lastBusyTime)), elapsedTime);
+      sampled.lastSample = now;
+      sampled.lastBusyTime = busyTime;
+      if (slowTaskSamples > 0 && executionTime >= interval) {
+        if (slowTasks == null) {
+          slowTasks = new ArrayList<>();
+        }
+        sampled.executionTime = executionTime;
+        sampled.startTime = startTime;
+        slowTasks.add(sampled);
+      }
+    }
+    if (slowTasks != null) {
+      slowTasks.sort((s1, s2) -> Long.compare(s2.executionTime, s1.executionTime));
+      for (int i = 0;i < slowTasks.size() && i < slowTaskSamples;i++) {
+        Sampled sampled = slowTasks.get(i);
+        StackTraceElement[] stackTrace = sampled.thread.getStackTrace();
+        // Only report the stack trace when the thread is still executing the same task
+        if (sampled.thread.info.startTime == sampled.startTime) {
+          sampled.metrics.slowTask(sampled.executionTime, stackTrace);
+        }
+      }
+    }
+  }
+
+  void close() {
+    timer.cancel();
+    threads.clear();
+  }
+
+  private static class Sampled {
+
+    final VertxThread thread;
+    final EventLoopMetrics metrics;
+    long lastSample;
+    long lastBusyTime;
+    long startTime;
+    long executionTime;
+
+    Sampled(VertxThread thread, EventLoopMetrics metrics, long now) {
+      this.thread = thread;
+      this.metrics = metrics;
+      this.lastSample = now;
+    }
+  }
+}
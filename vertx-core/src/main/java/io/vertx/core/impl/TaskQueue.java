@@ -11,13 +11,19 @@
 
 package io.vertx.core.impl;
 
+import io.netty.util.internal.PlatformDependent;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * A task queue that always run all tasks in order. The executor to run the tasks is passed
@@ -27,6 +33,9 @@ import java.util.concurrent.RejectedExecutionException;
  * More specifically, any call B to the {@link #execute(Runnable, Executor)} method that happens-after another call A to the
  * same method, will result in B's task running after A's.
  *
+ * Tasks are added to a multi-producer single-consumer queue without locking, the queue is owned by the thread that
+ * installs its executor as current executor, this thread consumes the queue until it is empty and then releases it.
+ *
  * @author <a href="david.lloyd@jboss.com">David Lloyd</a>
  * @author <a href="mailto:tim.fox@jboss.com">Tim Fox</a>
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -35,13 +44,27 @@ public class TaskQueue {
 
   static final Logger log = LoggerFactory.getLogger(TaskQueue.class);
 
-  // @protectedby tasks
-  private final LinkedList<Task> tasks = new LinkedList<>();
-  private final Set<ContinuationTask> continuations = new HashSet<>();
-  private boolean closed;
-  private Executor currentExecutor;
-  private Thread currentThread;
-  private ExecuteTask currentTask;
+  private static final AtomicReferenceFieldUpdater<TaskQueue, Executor> CURRENT_EXECUTOR_UPDATER = AtomicReferenceFieldUpdater.newUpdater(TaskQueue.class, Executor.class, "currentExecutor");
+
+  /**
+   * Marks the queue as owned by a thread resuming a continuation, such owner never executes tasks, it only hands
+   * the queue over to the resumed continuation or to the executor of the next task.
+   */
+  private static final Executor RESUMING = command -> {
+    throw new IllegalStateException();
+  };
+
+  // Multiple producers, the single consumer is the owner of the queue, i.e. the thread that set the current executor
+  private final Queue<ExecuteTask> tasks = PlatformDependent.newMpscQueue();
+  // Resumed continuations, they run before the other tasks
+  private final Queue<ContinuationTask> resumed = new ConcurrentLinkedQueue<>();
+  private final Set<ContinuationTask> continuations = ConcurrentHashMap.newKeySet();
+  private volatile boolean closed;
+  private volatile Executor currentExecutor;
+  private volatile Thread currentThread;
+  private volatile ExecuteTask currentTask;
+  // @protectedby currentExecutor, the next task to execute after switching executor
+  private ExecuteTask next;
 
   private final Runnable runner;
 
@@ -50,43 +73,70 @@ public class TaskQueue {
   }
 
   private void run() {
+    Executor executor = currentExecutor;
+    Thread thread = Thread.currentThread();
     for (; ; ) {
-      final ExecuteTask execute;
-      synchronized (tasks) {
-        Task task = tasks.poll();
-        if (task == null) {
-          currentExecutor = null;
-          return;
-        }
-        if (task instanceof ContinuationTask) {
-          ContinuationTask resume = (ContinuationTask) task;
-          currentExecutor = resume.executor;
-          currentThread = resume.thread;
-          currentTask = resume.task;
-          resume.latch.run();
-          return;
-        }
-        execute = (ExecuteTask) task;
-        if (execute.exec != currentExecutor) {
-          tasks.addFirst(execute);
-          execute.exec.execute(runner);
-          currentExecutor = execute.exec;
+      Task task = poll();
+      if (task == null) {
+        currentExecutor = null;
+        // Check for tasks added concurrently with the release of the queue
+        if ((tasks.isEmpty() && resumed.isEmpty()) || !CURRENT_EXECUTOR_UPDATER.compareAndSet(this, null, executor)) {
           return;
         }
+        continue;
+      }
+      if (task instanceof ContinuationTask) {
+        ContinuationTask resume = (ContinuationTask) task;
+        currentExecutor = resume.executor;
+        currentThread = resume.thread;
+        currentTask = resume.task;
+        resume.latch.run();
+        return;
+      }
+      ExecuteTask execute = (ExecuteTask) task;
+      if (execute.exec != executor) {
+        next = execute;
+        currentExecutor = execute.exec;
+        execute.exec.execute(runner);
+        return;
       }
       try {
-        currentThread = Thread.currentThread();
+        currentThread = thread;
         currentTask = execute;
         execute.runnable.run();
       } catch (Throwable t) {
         log.error("Caught unexpected Throwable", t);
       } finally {
-        currentThread = null;
-        currentTask = null;
+        if (currentThread == thread) {
+          currentThread = null;
+          currentTask = null;
+        } else {
+          // The task has been suspended, the queue is now owned by another runner
+          return;
+        }
       }
     }
   }
 
+  /**
+   * Poll the next task to execute, only the owner of the queue can call this method.
+   */
+  private Task poll() {
+    ContinuationTask continuation = resumed.poll();
+    if (continuation != null) {
+      return continuation;
+    }
+    ExecuteTask task = next;
+    if (task != null) {
+      next = null;
+      return task;
+    }
+    while ((task = tasks.poll()) != null && !task.claim()) {
+      // Skip rejected tasks
+    }
+    return task;
+  }
+
   /**
    * A task of this queue.
    */
@@ -100,18 +150,11 @@ public class TaskQueue {
    * @throws IllegalStateException if the current thread is not currently being executed by the queue
    */
   private ContinuationTask continuationTask() {
-    ExecuteTask task;
-    Thread thread;
-    Executor executor;
-    synchronized (tasks) {
-      if (Thread.currentThread() != currentThread) {
-        throw new IllegalStateException();
-      }
-      thread = currentThread;
-      executor = currentExecutor;
-      task = currentTask;
+    Thread thread = currentThread;
+    if (Thread.currentThread() != thread) {
+      throw new IllegalStateException();
     }
-    return new ContinuationTask(task, thread, executor);
+    return new ContinuationTask(currentTask, thread, currentExecutor);
   }
 
   /**
@@ -120,19 +163,57 @@ public class TaskQueue {
    * @param task the task to run.
    */
   public void execute(Runnable task, Executor executor) throws RejectedExecutionException {
-    synchronized (tasks) {
-      if (currentExecutor == null) {
-        currentExecutor = executor;
-        try {
-          executor.execute(runner);
-        } catch (RejectedExecutionException e) {
-          currentExecutor = null;
+    ExecuteTask execute = new ExecuteTask(task, executor);
+    tasks.add(execute);
+    if (currentExecutor == null && CURRENT_EXECUTOR_UPDATER.compareAndSet(this, null, executor)) {
+      try {
+        executor.execute(runner);
+      } catch (RejectedExecutionException e) {
+        // The queue is still owned since the runner did not start, a previous runner might however have claimed
+        // the task before the queue was released
+        boolean rejected = execute.reject();
+        // Other producers might have added tasks while this thread owned the queue
+        resubmit();
+        if (rejected) {
           throw e;
         }
       }
-      // Add the task after the runner has been accepted to the executor
-      // to cover the case of a rejected execution exception.
-      tasks.add(new ExecuteTask(task, executor));
+    }
+  }
+
+  /**
+   * Hand the queue over to the executor of the next pending task or release it, only the owner of the queue can
+   * call this method. The pending tasks whose executor rejects the runner are rejected.
+   */
+  private void resubmit() {
+    Executor owner = currentExecutor;
+    for (; ; ) {
+      ExecuteTask head;
+      while ((head = tasks.peek()) != null && head.isRejected()) {
+        tasks.poll();
+      }
+      if (head == null) {
+        if (!resumed.isEmpty()) {
+          currentExecutor = RESUMING;
+          run();
+          return;
+        }
+        currentExecutor = null;
+        // Check for tasks added concurrently with the release of the queue
+        if ((tasks.isEmpty() && resumed.isEmpty()) || !CURRENT_EXECUTOR_UPDATER.compareAndSet(this, null, owner)) {
+          return;
+        }
+        continue;
+      }
+      currentExecutor = head.exec;
+      try {
+        head.exec.execute(runner);
+        return;
+      } catch (RejectedExecutionException e) {
+        if (head.reject()) {
+          log.error("Task rejected by its executor", e);
+        }
+      }
     }
   }
 
@@ -140,9 +221,7 @@ public class TaskQueue {
    * Test if the task queue is empty and no current executor is running anymore.
    */
   public boolean isEmpty() {
-    synchronized (tasks) {
-      return tasks.isEmpty() && currentExecutor == null;
-    }
+    return tasks.isEmpty() && resumed.isEmpty() && currentExecutor == null;
   }
 
   /**
@@ -196,38 +275,27 @@ public class TaskQueue {
    *
    * @return a structure of suspended threads and pending tasks
    */
-  public CloseResult close() {
-    List<Thread> suspendedThreads;
-    List<Runnable> suspendedTasks;
-    Thread activeThread;
-    Runnable activeTask;
-    synchronized (tasks) {
-      if (closed) {
-        throw new IllegalStateException("Already closed");
-      }
-      suspendedThreads = new ArrayList<>(continuations.size());
-      suspendedTasks = new ArrayList<>(continuations.size());
-      Iterator<Task> it = tasks.iterator();
-      while (it.hasNext()) {
-        Task task = it.next();
-        if (task instanceof ContinuationTask) {
-          ContinuationTask continuationTask = (ContinuationTask) task;
-          suspendedThreads.add(continuationTask.thread);
-          suspendedTasks.add(continuationTask.task.runnable);
-          it.remove();
-        }
-      }
-      for (ContinuationTask cont : continuations) {
-        suspendedThreads.add(cont.thread);
-        suspendedTasks.add(cont.task.runnable);
-      }
-      continuations.clear();
-      activeThread = currentThread;
-      activeTask = currentTask != null ? currentTask.runnable : null;
-      currentExecutor = null;
-      closed = true;
+  public synchronized CloseResult close() {
+    if (closed) {
+      throw new IllegalStateException("Already closed");
+    }
+    closed = true;
+    List<Thread> suspendedThreads = new ArrayList<>(continuations.size());
+    List<Runnable> suspendedTasks = new ArrayList<>(continuations.size());
+    ContinuationTask continuationTask;
+    while ((continuationTask = resumed.poll()) != null) {
+      suspendedThreads.add(continuationTask.thread);
+      suspendedTasks.add(continuationTask.task.runnable);
     }
-    return new CloseResult(activeThread, activeTask, suspendedThreads, suspendedTasks);
+    for (ContinuationTask cont : continuations) {
+      suspendedThreads.add(cont.thread);
+      suspendedTasks.add(cont.task.runnable);
+    }
+    continuations.clear();
+    ExecuteTask task = currentTask;
+    // The current runner keeps owning the queue, it consumes the tasks submitted after close once its task returns
+    // and releases the queue when it is empty, so there is never more than a single consumer
+    return new CloseResult(currentThread, task != null ? task.runnable : null, suspendedThreads, suspendedTasks);
   }
 
   private class ContinuationTask extends CountDownLatch implements Task, WorkerExecutor.Execution {
@@ -237,7 +305,7 @@ public class TaskQueue {
     private final ExecuteTask task;
     private final Thread thread;
     private final Executor executor;
-    private int status;
+    private final AtomicInteger status;
     private Runnable latch;
 
     public ContinuationTask(ExecuteTask task, Thread thread, Executor executor) {
@@ -245,7 +313,7 @@ public class TaskQueue {
       this.task = task;
       this.thread = thread;
       this.executor = executor;
-      this.status = ST_CREATED;
+      this.status = new AtomicInteger(ST_CREATED);
     }
 
     @Override
@@ -255,39 +323,28 @@ public class TaskQueue {
 
     @Override
     public void resume(Runnable callback) {
-      synchronized (tasks) {
-        if (closed) {
-          return;
-        }
-        switch (status) {
-          case ST_SUSPENDED:
-            boolean removed = continuations.remove(this);
-            assert removed;
-            latch = () -> {
-              callback.run();
-              countDown();
-            };
-            if (currentExecutor != null) {
-              tasks.addFirst(this);
-              return;
-            }
-            currentExecutor = executor;
-            currentThread = thread;
-            currentTask = task;
-            break;
-          case ST_CREATED:
-            // The current task still owns the queue
-            assert currentExecutor == executor;
-            assert currentThread == thread;
-            assert currentTask == task;
-            latch = callback;
-            break;
-          default:
-            throw new IllegalStateException();
-        }
-        status = ST_RESUMED;
+      if (closed) {
+        return;
+      }
+      if (status.compareAndSet(ST_CREATED, ST_RESUMED)) {
+        // The current task still owns the queue
+        callback.run();
+        return;
+      }
+      if (!status.compareAndSet(ST_SUSPENDED, ST_RESUMED)) {
+        throw new IllegalStateException();
+      }
+      boolean removed = continuations.remove(this);
+      assert removed || closed;
+      latch = () -> {
+        callback.run();
+        countDown();
+      };
+      resumed.add(this);
+      if (currentExecutor == null && CURRENT_EXECUTOR_UPDATER.compareAndSet(TaskQueue.this, null, RESUMING)) {
+        // Idle queue, hand it over to the resumed continuation from this thread
+        run();
       }
-      latch.run();
     }
 
     @Override
@@ -303,26 +360,28 @@ public class TaskQueue {
       if (Thread.currentThread() != thread) {
         throw new IllegalStateException();
       }
-      synchronized (tasks) {
-        if (closed) {
-          return false;
-        }
-        if (currentThread == null || currentThread != thread) {
-          throw new IllegalStateException();
-        }
-        switch (status) {
+      if (closed) {
+        return false;
+      }
+      if (currentThread != thread) {
+        throw new IllegalStateException();
+      }
+      continuations.add(this);
+      // Either close observes this continuation or this observes the queue is closed
+      if (closed || !status.compareAndSet(ST_CREATED, ST_SUSPENDED)) {
+        continuations.remove(this);
+        switch (status.get()) {
+          case ST_CREATED:
+            return false;
           case ST_RESUMED:
             countDown();
             return false;
-          case ST_SUSPENDED:
+          default:
             throw new IllegalStateException();
         }
-        status = ST_SUSPENDED;
-        boolean added = continuations.add(this);
-        assert added;
-        currentThread = null;
-        currentTask = null;
       }
+      currentThread = null;
+      currentTask = null;
       executor.execute(runner);
       return true;
     }
@@ -336,11 +395,37 @@ public class TaskQueue {
    * Execute another task
    */
   private static class ExecuteTask implements Task {
+
+    private static final int ST_PENDING = 0, ST_CLAIMED = 1, ST_REJECTED = 2;
+    private static final AtomicIntegerFieldUpdater<ExecuteTask> STATE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(ExecuteTask.class, "state");
+
     private final Runnable runnable;
     private final Executor exec;
+    // The owner of the queue claims the task before running it and the producer rejects it when the runner submission
+    // fails, the first transition wins so a task is never both run and reported as rejected
+    private volatile int state;
+
     public ExecuteTask(Runnable runnable, Executor exec) {
       this.runnable = runnable;
       this.exec = exec;
     }
+
+    /**
+     * @return {@code true} when the task can be run, {@code false} when it was rejected
+     */
+    boolean claim() {
+      return STATE_UPDATER.compareAndSet(this, ST_PENDING, ST_CLAIMED);
+    }
+
+    /**
+     * @return {@code true} when the task is rejected, {@code false} when it was claimed by an owner of the queue
+     */
+    boolean reject() {
+      return STATE_UPDATER.compareAndSet(this, ST_PENDING, ST_REJECTED);
+    }
+
+    boolean isRejected() {
+      return state == ST_REJECTED;
+    }
   }
 }
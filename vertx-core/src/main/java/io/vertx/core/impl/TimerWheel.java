@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.impl;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A hashed timing wheel driven by an event-loop, scheduling and cancelling a timeout are constant time operations.
+ * <p/>
+ * The wheel is only accessed from its event-loop thread: timeouts scheduled from another thread are added by an
+ * event-loop task, cancellation only flags the timeout which is then removed from the wheel when its bucket is
+ * visited, i.e. at most one revolution later.
+ * <p/>
+ * A single event-loop task advances the wheel every tick as long as it holds timeouts, a timeout expires within
+ * the tick following its deadline, it never expires before its deadline.
+ */
+class TimerWheel {
+
+  static final int WHEEL_SIZE = 512;
+  private static final int MASK = WHEEL_SIZE - 1;
+
+  private final EventLoop eventLoop;
+  private final long tickNanos;
+  private final long startTime;
+  private final Timeout[] wheel = new Timeout[WHEEL_SIZE];
+  private final Runnable ticker = this::tick;
+  private long tick;
+  private int size;
+  private ScheduledFuture<?> tickerFuture;
+
+  TimerWheel(EventLoop eventLoop, long tickDuration, TimeUnit unit) {
+    this.eventLoop = eventLoop;
+    this.tickNanos = unit.toNanos(tickDuration);
+    this.startTime = System.nanoTime();
+  }
+
+  /**
+   * Schedule a {@code task} to run on the event-loop after the given {@code delay}.
+   *
+   * @return the timeout
+   */
+  Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+    Timeout timeout = new Timeout(task, System.nanoTime() + unit.toNanos(delay));
+    if (eventLoop.inEventLoop()) {
+      add(timeout);
+    } else {
+      eventLoop.execute(() -> add(timeout));
+    }
+    return timeout;
+  }
+
+  /**
+   * @return the number of timeouts held by the wheel, including cancelled timeouts not yet removed
+   */
+  int size() {
+    return size;
+  }
+
+  private void add(Timeout timeout) {
+    if (timeout.cancelled) {
+      return;
+    }
+    if (size++ == 0) {
+      // Skip the ticks elapsed while the wheel was idle
+      tick = (System.nanoTime() - startTime) / tickNanos;
+      tickerFuture = eventLoop.scheduleAtFixedRate(ticker, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+    long deadlineTick = Math.max((timeout.deadline - startTime) / tickNanos, tick);
+    timeout.remainingRounds = (deadlineTick - tick) / WHEEL_SIZE;
+    int idx = (int) (deadlineTick & MASK);
+    timeout.next = wheel[idx];
+    wheel[idx] = timeout;
+  }
+
+  private void tick() {
+    long elapsed = (System.nanoTime() - startTime) / tickNanos;
+    while (tick < elapsed && size > 0) {
+      expire((int) (tick++ & MASK));
+    }
+    if (size == 0) {
+      tickerFuture.cancel(false);
+      tickerFuture = null;
+    }
+  }
+
+  private void expire(int idx) {
+    // Detach the bucket, timeouts scheduled by an expiring task are added to the bucket and not visited
+    Timeout timeout = wheel[idx];
+    wheel[idx] = null;
+    while (timeout != null) {
+      Timeout next = timeout.next;
+      timeout.next = null;
+      if (timeout.cancelled) {
+        size--;
+      } else if (timeout.remainingRounds <= 0) {
+        size--;
+        timeout.cancelled = true;
+        timeout.task.run();
+      } else {
+        timeout.remainingRounds--;
+        timeout.next = wheel[idx];
+        wheel[idx] = timeout;
+      }
+      timeout = next;
+    }
+  }
+
+  /**
+   * A timeout scheduled on the wheel.
+   */
+  static class Timeout {
+
+    private final Runnable task;
+    private final long deadline;
+    private volatile boolean cancelled;
+    private long remainingRounds;
+    private Timeout next;
+
+    private Timeout(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    /**
+     * Cancel the timeout, it can be called from any thread.
+     */
+    void cancel() {
+      cancelled = true;
+    }
+  }
+}
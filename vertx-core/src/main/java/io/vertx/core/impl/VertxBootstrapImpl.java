@@ -14,6 +14,7 @@ package io.vertx.core.impl;
 import io.vertx.core.*;
 import io.vertx.core.impl.transports.NioTransport;
 import io.vertx.core.internal.VertxBootstrap;
+import io.vertx.core.eventbus.EventBusOptions;
 import io.vertx.core.eventbus.impl.clustered.DefaultNodeSelector;
 import io.vertx.core.spi.*;
 import io.vertx.core.spi.context.executor.EventExecutorProvider;
@@ -276,7 +277,8 @@ public class VertxBootstrapImpl implements VertxBootstrap {
     }
     NodeSelector nodeSelector = clusterNodeSelector;
     if (nodeSelector == null) {
-      nodeSelector = new DefaultNodeSelector();
+      EventBusOptions eventBusOptions = options.getEventBusOptions();
+      nodeSelector = new DefaultNodeSelector(eventBusOptions.getClusterNegativeCacheTimeout(), eventBusOptions.getClusterLocalityKey());
     }
     VertxImpl vertx = instantiateVertx(clusterManager, nodeSelector);
     return vertx.initClustered(options, verticleFactories);
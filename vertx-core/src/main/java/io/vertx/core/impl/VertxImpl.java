@@ -30,6 +30,7 @@ import io.vertx.core.eventbus.impl.EventBusImpl;
 import io.vertx.core.eventbus.impl.EventBusInternal;
 import io.vertx.core.eventbus.impl.clustered.ClusteredEventBus;
 import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.FileSystemOptions;
 import io.vertx.core.http.*;
 import io.vertx.core.http.impl.*;
 import io.vertx.core.http.impl.tcp.TcpHttpClientTransport;
@@ -56,6 +57,7 @@ import io.vertx.core.spi.context.storage.AccessMode;
 import io.vertx.core.spi.context.storage.ContextLocal;
 import io.vertx.core.spi.file.FileResolver;
 import io.vertx.core.file.impl.FileSystemImpl;
+import io.vertx.core.file.impl.OpenFileCache;
 import io.vertx.core.file.impl.WindowsFileSystem;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
@@ -143,11 +145,15 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final VertxMetrics metrics;
   private final ConcurrentMap<Long, InternalTimerHandler> timeouts = new ConcurrentHashMap<>();
   private final AtomicLong timeoutCounter = new AtomicLong(0);
+  private final ConcurrentMap<EventLoop, TimerWheel> timerWheels;
+  private final long timerWheelTickDuration;
+  private final TimeUnit timerWheelTickDurationUnit;
   private final ClusterManager clusterManager;
   private final NodeSelector nodeSelector;
   private final DeploymentManager deploymentManager;
   private final VerticleManager verticleManager;
   private final FileResolver fileResolver;
+  private final OpenFileCache openFileCache;
   private final EventExecutorProvider eventExecutorProvider;
   private final Map<ServerID, NetServerInternal> sharedNetServers = new HashMap<>();
   private final ContextLocal<?>[] contextLocals;
@@ -162,6 +168,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final EventLoopGroup acceptorEventLoopGroup;
   private final ExecutorService virtualThreadExecutor;
   private final BlockedThreadChecker checker;
+  private final EventLoopProfiler eventLoopProfiler;
   private final NameResolver nameResolver;
   private final AddressResolverOptions addressResolverOptions;
   private final EventBusInternal eventBus;
@@ -202,8 +209,17 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     long maxWorkerExecuteTime = options.getMaxWorkerExecuteTime();
 
     ThreadFactory workerThreadFactory = createThreadFactory(threadFactory, checker, useDaemonThread, maxWorkerExecuteTime, maxWorkerExecuteTimeUnit, "vert.x-worker-thread-", true);
-    ExecutorService workerExec = executorServiceFactory.createExecutor(workerThreadFactory, workerPoolSize, workerPoolSize);
+    boolean adaptiveWorkerPool = options.getWorkerPoolTargetLatency() > 0;
+    int workerPoolMinSize = adaptiveWorkerPool ? Math.min(options.getWorkerPoolMinSize(), workerPoolSize) : workerPoolSize;
+    ExecutorService workerExec = executorServiceFactory.createExecutor(workerThreadFactory, workerPoolMinSize, workerPoolSize);
     PoolMetrics workerPoolMetrics = metrics != null ? metrics.createPoolMetrics("worker", "vert.x-worker-thread", options.getWorkerPoolSize()) : null;
+    if (adaptiveWorkerPool) {
+      if (workerExec instanceof ThreadPoolExecutor) {
+        workerPoolMetrics = new AdaptivePoolSizer((ThreadPoolExecutor) workerExec, workerPoolMetrics, workerPoolMinSize, workerPoolSize, options.getWorkerPoolTargetLatency(), options.getWorkerPoolTargetLatencyUnit());
+      } else {
+        log.warn("The worker pool executor cannot be resized, ignoring the worker pool target latency");
+      }
+    }
     ThreadFactory internalWorkerThreadFactory = createThreadFactory(threadFactory, checker, useDaemonThread, maxWorkerExecuteTime, maxWorkerExecuteTimeUnit, "vert.x-internal-blocking-", true);
     ExecutorService internalWorkerExec = executorServiceFactory.createExecutor(internalWorkerThreadFactory, internalBlockingPoolSize, internalBlockingPoolSize);
     PoolMetrics internalBlockingPoolMetrics = metrics != null ? metrics.createPoolMetrics("worker", "vert.x-internal-blocking", internalBlockingPoolSize) : null;
@@ -217,7 +233,8 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     maxEventLoopExecTime = maxEventLoopExecuteTime;
     maxEventLoopExecTimeUnit = maxEventLoopExecuteTimeUnit;
     eventLoopThreadFactory = createThreadFactory(threadFactory, checker, useDaemonThread, maxEventLoopExecTime, maxEventLoopExecTimeUnit, "vert.x-eventloop-thread-", false);
-    eventLoopGroup = transport.eventLoopGroup(Transport.IO_EVENT_LOOP_GROUP, options.getEventLoopPoolSize(), eventLoopThreadFactory, NETTY_IO_RATIO);
+    eventLoopProfiler = createEventLoopProfiler(options, metrics);
+    eventLoopGroup = transport.eventLoopGroup(Transport.IO_EVENT_LOOP_GROUP, options.getEventLoopPoolSize(), eventLoopProfiler != null ? eventLoopProfiler.wrap(eventLoopThreadFactory) : eventLoopThreadFactory, NETTY_IO_RATIO);
     // The acceptor event loop thread needs to be from a different pool otherwise can get lags in accepted connections
     // under a lot of load
     acceptorEventLoopGroup = transport.eventLoopGroup(Transport.ACCEPTOR_EVENT_LOOP_GROUP, 1, acceptorEventLoopThreadFactory, 100);
@@ -229,6 +246,9 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     maxWorkerExecTime = maxWorkerExecuteTime;
     maxWorkerExecTimeUnit = maxWorkerExecuteTimeUnit;
     disableTCCL = options.getDisableTCCL();
+    timerWheels = options.isTimerWheelEnabled() ? new ConcurrentHashMap<>() : null;
+    timerWheelTickDuration = options.getTimerWheelTickDuration();
+    timerWheelTickDurationUnit = options.getTimerWheelTickDurationUnit();
     this.checker = checker;
     this.useDaemonThread = useDaemonThread;
     this.executorServiceFactory = executorServiceFactory;
@@ -237,6 +257,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     this.transport = transport;
     this.transportUnavailabilityCause = transportUnavailabilityCause;
     this.fileResolver = fileResolver;
+    this.openFileCache = createOpenFileCache(options.getFileSystemOptions());
     this.addressResolverOptions = options.getAddressResolverOptions();
     this.nameResolver = new NameResolver(this, options.getAddressResolverOptions());
     this.tracer = tracer == VertxTracer.NOOP ? null : tracer;
@@ -539,7 +560,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     } else {
       ContextInternal ctx;
       EventLoop eventLoop = stickyEventLoop();
-      EventLoopExecutor eventLoopExecutor = new EventLoopExecutor(eventLoop);
+      EventLoopExecutor eventLoopExecutor = new EventLoopExecutor(eventLoop, eventLoopProfiler != null);
       EventExecutor eventExecutor = null;
       if (eventExecutorProvider != null) {
         java.util.concurrent.Executor executor = eventExecutorProvider.eventExecutorFor(thread);
@@ -631,7 +652,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
                                    DeploymentContext deployment,
                                    ClassLoader tccl) {
     EventExecutor eventExecutor;
-    EventLoopExecutor eventLoopExecutor = new EventLoopExecutor(eventLoop);
+    EventLoopExecutor eventLoopExecutor = new EventLoopExecutor(eventLoop, eventLoopProfiler != null);
     WorkerPool wp;
     switch (threadingModel) {
       case EVENT_LOOP:
@@ -735,6 +756,27 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return scheduleTimeout(context, periodic, delay, delay, timeUnit, addCloseHook, handler);
   }
 
+  /**
+   * Schedule a timeout that fires on the {@code context}, timeouts are usually cancelled before they fire, when
+   * {@link VertxOptions#isTimerWheelEnabled()} is set they are scheduled on the event-loop timer wheel.
+   *
+   * @return the timer id
+   */
+  public long scheduleTimeout(ContextInternal context, long delay, Handler<Long> handler) {
+    if (timerWheels == null) {
+      return scheduleTimeout(context, false, delay, delay, TimeUnit.MILLISECONDS, false, handler);
+    }
+    if (delay < 1) {
+      throw new IllegalArgumentException("Cannot schedule a timer with delay < 1 ms");
+    }
+    long timerId = timeoutCounter.getAndIncrement();
+    InternalTimerHandler task = new InternalTimerHandler(timerId, handler, false, context);
+    timeouts.put(timerId, task);
+    TimerWheel wheel = timerWheels.computeIfAbsent(context.nettyEventLoop(), el -> new TimerWheel(el, timerWheelTickDuration, timerWheelTickDurationUnit));
+    task.timeout = wheel.schedule(task, delay, TimeUnit.MILLISECONDS);
+    return task.id;
+  }
+
   public ContextInternal getContext() {
     return getContext(Thread.currentThread());
   }
@@ -755,7 +797,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
         }
       } else if (((VertxImpl) context.owner()).shadowContext) {
         EventLoop eventLoop = stickyEventLoop();
-        return new ShadowContext(this, new EventLoopExecutor(eventLoop), context);
+        return new ShadowContext(this, new EventLoopExecutor(eventLoop, eventLoopProfiler != null), context);
       }
     }
     return null;
@@ -952,6 +994,18 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return fileResolver;
   }
 
+  @Override
+  public OpenFileCache openFileCache() {
+    return openFileCache;
+  }
+
+  private static OpenFileCache createOpenFileCache(FileSystemOptions options) {
+    if (options == null) {
+      options = new FileSystemOptions();
+    }
+    return new OpenFileCache(options.getOpenFileCacheMaxSize(), options.getOpenFileCacheValidationPeriod(), TimeUnit.MILLISECONDS);
+  }
+
   @Override
   public BlockedThreadChecker blockedThreadChecker() {
     return checker;
@@ -960,6 +1014,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   @SuppressWarnings("unchecked")
   private void deleteCacheDirAndShutdown(Promise<Void> promise) {
     executeBlockingInternal(() -> {
+      openFileCache.close();
       fileResolver.close();
       return null;
     }).onComplete(ar -> {
@@ -997,6 +1052,9 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
                 tracer.close();
               }
               checker.close();
+              if (eventLoopProfiler != null) {
+                eventLoopProfiler.close();
+              }
               eventLoopThreadFactory.newThread(promise::complete).start();
             }
           });
@@ -1031,6 +1089,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     private final ContextInternal context;
     private final AtomicBoolean disposed = new AtomicBoolean();
     private volatile java.util.concurrent.Future<?> future;
+    private volatile TimerWheel.Timeout timeout;
 
     InternalTimerHandler(long id, Handler<Long> runnable, boolean periodic, ContextInternal context) {
       this.context = context;
@@ -1077,7 +1136,14 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     private boolean tryCancel() {
       if  (disposed.compareAndSet(false, true)) {
         timeouts.remove(id);
-        future.cancel(false);
+        java.util.concurrent.Future<?> f = future;
+        if (f != null) {
+          f.cancel(false);
+        }
+        TimerWheel.Timeout t = timeout;
+        if (t != null) {
+          t.cancel();
+        }
         return true;
       } else {
         return false;
@@ -1151,6 +1217,22 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return new WorkerPool(executor, workerMetrics);
   }
 
+  private static EventLoopProfiler createEventLoopProfiler(VertxOptions options, VertxMetrics metrics) {
+    if (metrics == null) {
+      return null;
+    }
+    EventLoopMetrics[] eventLoopMetrics = new EventLoopMetrics[options.getEventLoopPoolSize()];
+    boolean enabled = false;
+    for (int i = 0;i < eventLoopMetrics.length;i++) {
+      eventLoopMetrics[i] = metrics.createEventLoopMetrics("vert.x-eventloop-thread-" + i);
+      enabled |= eventLoopMetrics[i] != null;
+    }
+    if (!enabled) {
+      return null;
+    }
+    return new EventLoopProfiler(eventLoopMetrics, options.getEventLoopSamplingInterval(), options.getEventLoopSamplingIntervalUnit(), options.getEventLoopSlowTaskSamples());
+  }
+
   private ThreadFactory createThreadFactory(VertxThreadFactory threadFactory, BlockedThreadChecker checker, Boolean useDaemonThread, long maxExecuteTime, TimeUnit maxExecuteTimeUnit, String prefix, boolean worker) {
     AtomicInteger threadCount = new AtomicInteger(0);
     return runnable -> {
@@ -14,6 +14,7 @@ package io.vertx.core.impl;
 import io.netty.util.concurrent.FastThreadLocalThread;
 import io.vertx.core.internal.threadchecker.ThreadInfo;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.spi.metrics.EventLoopMetrics;
 
 import java.util.concurrent.TimeUnit;
 
@@ -27,6 +28,8 @@ public class VertxThread extends FastThreadLocalThread {
   VertxImpl owner;
   ContextInternal context;
   ClassLoader topLevelTCCL;
+  EventLoopMetrics eventLoopMetrics;
+  long busyTime;
 
   public VertxThread(Runnable target, String name, boolean worker, long maxExecTime, TimeUnit maxExecTimeUnit) {
     super(target, name);
@@ -49,6 +52,12 @@ public class VertxThread extends FastThreadLocalThread {
 
   void executeEnd() {
     if (context == null) {
+      EventLoopMetrics metrics = eventLoopMetrics;
+      if (metrics != null) {
+        long executionTime = System.nanoTime() - info.startTime;
+        busyTime += executionTime;
+        metrics.taskExecuted(executionTime);
+      }
       info.startTime = 0;
     }
   }
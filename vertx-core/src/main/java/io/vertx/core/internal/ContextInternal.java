@@ -397,6 +397,16 @@ public interface ContextInternal extends Context {
     return owner.scheduleTimeout(this, false, delay, TimeUnit.MILLISECONDS, false, handler);
   }
 
+  /**
+   * Like {@link #setTimer(long, Handler)} but for timeouts that are usually cancelled before they fire, such timeouts
+   * are scheduled on the event-loop timer wheel when {@link io.vertx.core.VertxOptions#setTimerWheelEnabled(boolean)}
+   * is set. The timeout is cancelled with {@link Vertx#cancelTimer(long)}.
+   */
+  default long setTimeout(long delay, Handler<Long> handler) {
+    VertxImpl owner = (VertxImpl) owner();
+    return owner.scheduleTimeout(this, delay, handler);
+  }
+
   /**
    * Like {@link #timer(long, TimeUnit)} with a unit in millis.
    */
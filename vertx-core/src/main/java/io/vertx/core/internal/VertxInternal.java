@@ -25,6 +25,7 @@ import io.vertx.core.net.impl.ServerID;
 import io.vertx.core.spi.context.storage.ContextLocal;
 import io.vertx.core.spi.transport.Transport;
 import io.vertx.core.spi.cluster.ClusterManager;
+import io.vertx.core.file.impl.OpenFileCache;
 import io.vertx.core.spi.file.FileResolver;
 import io.vertx.core.spi.metrics.VertxMetrics;
 import io.vertx.core.spi.tracing.VertxTracer;
@@ -224,6 +225,11 @@ public interface VertxInternal extends Vertx {
    */
   FileResolver fileResolver();
 
+  /**
+   * @return the cache of open files used to send files
+   */
+  OpenFileCache openFileCache();
+
   /**
    * Return the Netty EventLoopGroup used by Vert.x
    *
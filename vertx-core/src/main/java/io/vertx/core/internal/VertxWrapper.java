@@ -38,6 +38,7 @@ import io.vertx.core.spi.transport.Transport;
 import io.vertx.core.shareddata.SharedData;
 import io.vertx.core.spi.VerticleFactory;
 import io.vertx.core.spi.cluster.ClusterManager;
+import io.vertx.core.file.impl.OpenFileCache;
 import io.vertx.core.spi.file.FileResolver;
 import io.vertx.core.spi.metrics.VertxMetrics;
 import io.vertx.core.spi.tracing.VertxTracer;
@@ -341,6 +342,11 @@ public abstract class VertxWrapper implements VertxInternal {
     return delegate.fileResolver();
   }
 
+  @Override
+  public OpenFileCache openFileCache() {
+    return delegate.openFileCache();
+  }
+
   @Override
   public List<ContextLocal<?>> contextLocals() {
     return delegate.contextLocals();
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 
 /**
  * A connection pool.
@@ -39,6 +40,42 @@ public interface ConnectionPool<C> {
       .build();
   };
 
+  /**
+   * @return a selector choosing the connection with the most remaining concurrency, i.e. the least loaded connection,
+   *         this spreads the load over multiplexed connections instead of piling it on the first available connection
+   */
+  static <C> BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> leastLoadedSelector() {
+    return leastLoadedSelector(c -> 0L);
+  }
+
+  /**
+   * Like {@link #leastLoadedSelector()}, connections with the same remaining concurrency are selected by the highest
+   * {@code rank}, e.g. a last use timestamp selects them in LIFO order.
+   *
+   * @param rank the rank of a connection
+   */
+  static <C> BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> leastLoadedSelector(ToLongFunction<C> rank) {
+    return (waiter, connections) -> {
+      PoolConnection<C> selected = null;
+      long max = 0L;
+      long last = 0L;
+      int size = connections.size();
+      for (int i = 0;i < size;i++) {
+        PoolConnection<C> connection = connections.get(i);
+        long available = connection.available();
+        if (available > 0) {
+          long value = rank.applyAsLong(connection.get());
+          if (available > max || (available == max && value > last)) {
+            selected = connection;
+            max = available;
+            last = value;
+          }
+        }
+      }
+      return selected;
+    };
+  }
+
   static <C> ConnectionPool<C> pool(PoolConnector<C> connector, int[] maxSizes) {
     return new SimpleConnectionPool<>(connector, maxSizes);
   }
@@ -47,6 +84,13 @@ public interface ConnectionPool<C> {
     return new SimpleConnectionPool<>(connector, maxSizes, maxWaiters);
   }
 
+  /**
+   * Create a pool with a shard per event-loop, see {@link ShardedConnectionPool}.
+   */
+  static <C> ConnectionPool<C> shardedPool(PoolConnector<C> connector, int[] maxSizes, int maxWaiters) {
+    return new ShardedConnectionPool<>(connector, maxSizes, maxWaiters);
+  }
+
   /**
    * Set a {@code selector} function that decides the best connection to use.
    *
@@ -89,6 +133,17 @@ public interface ConnectionPool<C> {
    */
   void acquire(ContextInternal context, PoolWaiter.Listener<C> listener, int kind, Completable<Lease<C>> handler);
 
+  /**
+   * Create a connection when the pool has capacity, the connection is not leased and remains available in the pool.
+   *
+   * <p> The completion {@code handler} receives {@code true} when a connection has been created, {@code false}
+   * when the pool has no capacity to create a connection.
+   *
+   * @param context the context
+   * @param kind the connection kind wanted which is an index in the max size array provided when constructing the pool
+   */
+  void warmUp(ContextInternal context, int kind, Completable<Boolean> handler);
+
   /**
    * Cancel a waiter.
    *
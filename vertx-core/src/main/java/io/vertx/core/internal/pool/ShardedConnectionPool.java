@@ -0,0 +1,1089 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.internal.pool;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.Completable;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.VertxException;
+import io.vertx.core.http.ConnectionPoolTooBusyException;
+import io.vertx.core.internal.ContextInternal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <p> A connection pool partitioned by event-loop, each event-loop acquiring connections gets a shard of the pool
+ * with its own connections, its own wait queue and its own {@link CombinerExecutor}. Acquiring and recycling connections
+ * from different event-loops never contend on the same executor.
+ *
+ * <h3>Pool capacity</h3>
+ *
+ * The capacity, the number of waiters and the number of connection requests are global to the pool and maintained
+ * with atomic counters. A shard reserves capacity before creating a connection and releases it when the connection
+ * is removed, the maximum capacity and the maximum number of waiters are therefore enforced for the whole pool like
+ * {@link SimpleConnectionPool} does.
+ *
+ * <h3>Borrowing</h3>
+ *
+ * When a shard has waiters and the pool cannot create connections anymore, the shard borrows a connection
+ * from another shard that has available connections:
+ *
+ * <ul>
+ *   <li>the shard asks the other shard to lend a connection, the other shard accounts the lease on its connection</li>
+ *   <li>the lent connection is handed back to the head of the shard wait queue</li>
+ *   <li>the lease is recycled to the shard owning the connection</li>
+ * </ul>
+ *
+ * A shard that gets an available connection or that releases capacity while the pool has waiters signals another
+ * shard with waiters to retry.
+ *
+ * <h3>Waiter lifecycle</h3>
+ *
+ * The waiter lifecycle is the same than {@link SimpleConnectionPool}, waiters are served in FIFO order within a shard,
+ * the order across shards is not guaranteed.
+ */
+public class ShardedConnectionPool<C> implements ConnectionPool<C> {
+
+  private static final VertxException POOL_CLOSED_EXCEPTION = new VertxException("Pool closed", true);
+
+  /**
+   * Select the first available connection.
+   */
+  private static final BiFunction<PoolWaiter, List<PoolConnection>, PoolConnection> FIRST_AVAILABLE_SELECTOR = (waiter, list) -> {
+    int size = list.size();
+    for (int i = 0;i < size;i++) {
+      PoolConnection slot = list.get(i);
+      if (slot.available() > 0) {
+        return slot;
+      }
+    }
+    return null;
+  };
+
+  /**
+   * A slot for a connection.
+   */
+  static class Slot<C> implements PoolConnector.Listener, PoolConnection<C> {
+
+    private final Shard<C> shard;
+    private final ContextInternal context;
+    private final Promise<C> result;
+    private PoolWaiter<C> initiator;
+    private C connection;    // The actual connection, might be null
+    private int index;       // The index in the shard slots list
+    private int usage;       // The number of times this connection is acquired
+    private long concurrency; // The total number of times the connection can be acquired
+    private int capacity;    // The connection capacity
+
+    Slot(Shard<C> shard, ContextInternal context, int index, int capacity) {
+      this.shard = shard;
+      this.context = context;
+      this.index = index;
+      this.capacity = capacity;
+      this.result = context.promise();
+    }
+
+    @Override
+    public void onRemove() {
+      shard.sync.submit(new Remove<>(this));
+    }
+
+    @Override
+    public void onConcurrencyChange(long concurrency) {
+      shard.sync.submit(new SetConcurrency<>(this, concurrency));
+    }
+
+    @Override
+    public ContextInternal context() {
+      return context;
+    }
+
+    @Override
+    public C get() {
+      return connection;
+    }
+
+    @Override
+    public int usage() {
+      return usage;
+    }
+
+    @Override
+    public long available() {
+      return concurrency - usage;
+    }
+
+    @Override
+    public long concurrency() {
+      return concurrency;
+    }
+
+    /**
+     * @return the number of times this connection can be acquired, {@code 0} when it is not connected
+     */
+    long free() {
+      return connection != null ? Math.max(0L, concurrency - usage) : 0L;
+    }
+  }
+
+  /**
+   * The state of the pool for an event-loop, this state is mutated exclusively by actions serialized by the shard executor.
+   */
+  static class Shard<C> {
+
+    private final ShardedConnectionPool<C> pool;
+    private final Executor<Shard<C>> sync;
+    private final ArrayList<Slot<C>> slots = new ArrayList<>();
+    private final SimpleConnectionPool.Waiters<C> waiters = new SimpleConnectionPool.Waiters<>();
+    private boolean borrowing;
+
+    // Written by the shard actions and read by the other shards as a hint
+    private volatile long available; // The number of times the shard connections can be acquired
+    private volatile int waiting;    // The number of shard waiters
+
+    Shard(ShardedConnectionPool<C> pool) {
+      this.pool = pool;
+      this.sync = new CombinerExecutor<>(this);
+    }
+
+    private List<PoolConnection<C>> list() {
+      return (List) slots;
+    }
+
+    private void enqueue(PoolWaiter<C> waiter) {
+      waiters.addLast(waiter);
+      waiting = waiters.size();
+    }
+
+    private PoolWaiter<C> poll() {
+      PoolWaiter<C> waiter = waiters.poll();
+      if (waiter != null) {
+        waiting = waiters.size();
+        pool.waiters.decrementAndGet();
+      }
+      return waiter;
+    }
+
+    private boolean remove(PoolWaiter<C> waiter) {
+      if (waiters.remove(waiter)) {
+        waiting = waiters.size();
+        pool.waiters.decrementAndGet();
+        return true;
+      }
+      return false;
+    }
+
+    /**
+     * Update the usage of a slot.
+     */
+    private void use(Slot<C> slot, int delta) {
+      long free = slot.free();
+      slot.usage += delta;
+      available += slot.free() - free;
+    }
+
+    /**
+     * @return a task signaling another shard when this shard has available connections or released capacity
+     *         and the pool has waiters
+     */
+    private Task signal() {
+      if (pool.waiters.get() == 0) {
+        return null;
+      }
+      return new Task() {
+        @Override
+        public void run() {
+          pool.signal(Shard.this);
+        }
+      };
+    }
+
+    /**
+     * Serve the waiters with the shard connections or by creating connections, then borrow a connection from another
+     * shard when waiters remain.
+     */
+    private Task drain() {
+      Task head = null;
+      PoolWaiter<C> waiter;
+      while ((waiter = waiters.peek()) != null) {
+        Slot<C> slot = (Slot<C>) pool.selector.apply(waiter, list());
+        if (slot == null) {
+          slot = (Slot<C>) ((BiFunction) FIRST_AVAILABLE_SELECTOR).apply(waiter, list());
+        }
+        if (slot != null) {
+          poll();
+          use(slot, 1);
+          head = chain(head, new LeaseImpl<>(slot, waiter.handler).emitTask());
+        } else if (pool.reserve(waiter.capacity)) {
+          poll();
+          head = chain(head, connect(waiter));
+        } else {
+          break;
+        }
+      }
+      if (waiter != null && !borrowing) {
+        Shard<C> lender = pool.lender(this);
+        if (lender != null) {
+          borrowing = true;
+          head = chain(head, new Task() {
+            @Override
+            public void run() {
+              lender.sync.submit(new Lend<>(Shard.this));
+            }
+          });
+        }
+      }
+      return head;
+    }
+
+    /**
+     * Create a slot for the {@code waiter} whose capacity has been reserved.
+     */
+    private Task connect(PoolWaiter<C> waiter) {
+      ContextInternal connectionContext = pool.contextProvider.apply(waiter.context);
+      Slot<C> slot = new Slot<>(this, connectionContext, slots.size(), waiter.capacity);
+      slots.add(slot);
+      pool.size.incrementAndGet();
+      pool.requests.incrementAndGet();
+      return new Task() {
+        @Override
+        public void run() {
+          if (waiter.listener != null) {
+            waiter.listener.onConnect(waiter);
+          }
+          pool.connect(slot, waiter);
+        }
+      };
+    }
+  }
+
+  private final PoolConnector<C> connector;
+  private final int maxWaiters;
+  private final int maxCapacity;
+  private final int[] capacityFactors;
+  private final ConcurrentMap<EventLoop, Shard<C>> shards = new ConcurrentHashMap<>();
+  private volatile Shard<C>[] shardArray = new Shard[0];
+  private final AtomicInteger roundRobin = new AtomicInteger();
+
+  // Whether the pool is closed
+  private volatile boolean closed;
+
+  // Selectors
+  private BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector;
+  private Function<ContextInternal, ContextInternal> contextProvider;
+
+  // Global state
+  private final AtomicInteger capacity = new AtomicInteger();
+  private final AtomicInteger size = new AtomicInteger();
+  private final AtomicInteger waiters = new AtomicInteger();
+  private final AtomicInteger requests = new AtomicInteger();
+
+  ShardedConnectionPool(PoolConnector<C> connector, int[] maxSizes, int maxWaiters) {
+
+    int[] capacities = new int[maxSizes.length];
+    int maxCapacity = 1;
+    for (int maxSize : maxSizes) {
+      if (maxSize < 1) {
+        throw new IllegalArgumentException();
+      }
+      maxCapacity *= maxSize;
+    }
+    for (int i = 0;i < maxSizes.length;i++) {
+      capacities[i] = maxCapacity / maxSizes[i];
+    }
+
+    this.connector = connector;
+    this.capacityFactors = capacities;
+    this.maxCapacity = maxCapacity;
+    this.maxWaiters = maxWaiters;
+    this.selector = (BiFunction) FIRST_AVAILABLE_SELECTOR;
+    this.contextProvider = EVENT_LOOP_CONTEXT_PROVIDER;
+  }
+
+  @Override
+  public ConnectionPool<C> connectionSelector(BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector) {
+    this.selector = selector;
+    return this;
+  }
+
+  @Override
+  public ConnectionPool<C> contextProvider(Function<ContextInternal, ContextInternal> contextProvider) {
+    this.contextProvider = contextProvider;
+    return this;
+  }
+
+  private Shard<C> shard(ContextInternal context) {
+    EventLoop eventLoop = context.nettyEventLoop();
+    Shard<C> shard = shards.get(eventLoop);
+    if (shard == null) {
+      shard = shards.computeIfAbsent(eventLoop, key -> {
+        Shard<C> created = new Shard<>(this);
+        synchronized (this) {
+          Shard<C>[] array = Arrays.copyOf(shardArray, shardArray.length + 1);
+          array[array.length - 1] = created;
+          shardArray = array;
+        }
+        return created;
+      });
+    }
+    return shard;
+  }
+
+  /**
+   * Try to reserve pool capacity for a new connection.
+   */
+  private boolean reserve(int amount) {
+    while (true) {
+      int current = capacity.get();
+      if (current >= maxCapacity) {
+        return false;
+      }
+      if (capacity.compareAndSet(current, current + amount)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Try to account a new waiter.
+   */
+  private boolean enqueue() {
+    while (true) {
+      int current = waiters.get();
+      if (maxWaiters != -1 && current + requests.get() >= maxWaiters) {
+        return false;
+      }
+      if (waiters.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * @return a shard other than {@code borrower} with available connections
+   */
+  private Shard<C> lender(Shard<C> borrower) {
+    Shard<C>[] array = shardArray;
+    int start = roundRobin.getAndIncrement();
+    for (int i = 0;i < array.length;i++) {
+      Shard<C> shard = array[Math.floorMod(start + i, array.length)];
+      if (shard != borrower && shard.available > 0) {
+        return shard;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Signal a shard other than {@code from} with waiters to retry serving them.
+   */
+  private void signal(Shard<C> from) {
+    Shard<C>[] array = shardArray;
+    int start = roundRobin.getAndIncrement();
+    for (int i = 0;i < array.length;i++) {
+      Shard<C> shard = array[Math.floorMod(start + i, array.length)];
+      if (shard != from && shard.waiting > 0) {
+        shard.sync.submit(Shard::drain);
+        return;
+      }
+    }
+  }
+
+  private void connect(Slot<C> slot, PoolWaiter<C> waiter) {
+    slot.initiator = waiter;
+    connector.connect(slot.context, slot).onComplete(ar -> {
+      slot.initiator = null;
+      if (ar.succeeded()) {
+        slot.shard.sync.submit(new ConnectSuccess<>(slot, ar.result(), waiter));
+      } else {
+        slot.shard.sync.submit(new ConnectFailed<>(slot, ar.cause(), waiter));
+      }
+    });
+  }
+
+  private static Task chain(Task head, Task next) {
+    if (head == null) {
+      return next;
+    }
+    if (next != null) {
+      head.last().next(next);
+    }
+    return head;
+  }
+
+  private static class ConnectSuccess<C> implements Executor.Action<Shard<C>> {
+
+    private final Slot<C> slot;
+    private final ConnectResult<C> result;
+    private PoolWaiter<C> waiter;
+
+    private ConnectSuccess(Slot<C> slot, ConnectResult<C> result, PoolWaiter<C> waiter) {
+      this.slot = slot;
+      this.result = result;
+      this.waiter = waiter;
+    }
+
+    @Override
+    public Task execute(Shard<C> shard) {
+      ShardedConnectionPool<C> pool = shard.pool;
+      int capacity = pool.capacityFactors[(int)result.weight()];
+      int initialCapacity = slot.capacity;
+      slot.connection = result.connection();
+      slot.concurrency = result.concurrency();
+      slot.capacity = capacity;
+      slot.usage = 0;
+      pool.requests.decrementAndGet();
+      pool.capacity.addAndGet(capacity - initialCapacity);
+      if (pool.closed) {
+        if (waiter.disposed) {
+          waiter = null;
+        } else {
+          waiter.disposed = true;
+        }
+        return new Task() {
+          @Override
+          public void run() {
+            if (waiter != null) {
+              Future<Lease<C>> fut = slot.context.failedFuture("Pool closed");
+              fut.onComplete(waiter.handler);
+            }
+            slot.result.complete(slot.connection);
+          }
+        };
+      }
+      Task head = null;
+      long acquisitions = slot.concurrency;
+      if (!waiter.disposed) {
+        if (acquisitions == 0) {
+          shard.enqueue(waiter);
+          pool.waiters.incrementAndGet();
+        } else {
+          waiter.disposed = true;
+          acquisitions--;
+          slot.usage++;
+          head = new LeaseImpl<>(slot, waiter.handler).emitTask();
+        }
+      }
+      PoolWaiter<C> next;
+      while (acquisitions-- > 0 && (next = shard.poll()) != null) {
+        slot.usage++;
+        head = chain(head, new LeaseImpl<>(slot, next.handler).emitTask());
+      }
+      shard.available += slot.free();
+      head = chain(head, new Task() {
+        @Override
+        public void run() {
+          slot.result.complete(slot.connection);
+        }
+      });
+      if (slot.free() > 0) {
+        head = chain(head, shard.signal());
+      }
+      return head;
+    }
+  }
+
+  private static class ConnectFailed<C> implements Executor.Action<Shard<C>> {
+
+    private final Slot<C> removed;
+    private final Throwable cause;
+    private PoolWaiter<C> waiter;
+
+    private ConnectFailed(Slot<C> removed, Throwable cause, PoolWaiter<C> waiter) {
+      this.removed = removed;
+      this.cause = cause;
+      this.waiter = waiter;
+    }
+
+    @Override
+    public Task execute(Shard<C> shard) {
+      ShardedConnectionPool<C> pool = shard.pool;
+      pool.requests.decrementAndGet();
+      if (waiter.disposed) {
+        waiter = null;
+      } else {
+        waiter.disposed = true;
+      }
+      Task task = new Task() {
+        @Override
+        public void run() {
+          if (waiter != null) {
+            waiter.handler.fail(pool.closed ? POOL_CLOSED_EXCEPTION : cause);
+          }
+          removed.result.fail(cause);
+        }
+      };
+      if (!pool.closed) {
+        task = chain(new Remove<>(removed).execute(shard), task);
+      }
+      return task;
+    }
+  }
+
+  private static class Remove<C> implements Executor.Action<Shard<C>> {
+
+    private final Slot<C> removed;
+
+    private Remove(Slot<C> removed) {
+      this.removed = removed;
+    }
+
+    @Override
+    public Task execute(Shard<C> shard) {
+      ShardedConnectionPool<C> pool = shard.pool;
+      int index = removed.index;
+      if (pool.closed || index >= shard.slots.size() || shard.slots.get(index) != removed) {
+        return null;
+      }
+      shard.available -= removed.free();
+      int w = removed.capacity;
+      removed.usage = 0;
+      removed.concurrency = 0;
+      removed.connection = null;
+      removed.capacity = 0;
+      PoolWaiter<C> waiter = shard.poll();
+      if (waiter != null) {
+        // Reuse the capacity of the removed connection for the waiter
+        ContextInternal connectionContext = pool.contextProvider.apply(waiter.context);
+        Slot<C> slot = new Slot<>(shard, connectionContext, index, waiter.capacity);
+        pool.capacity.addAndGet(waiter.capacity - w);
+        shard.slots.set(index, slot);
+        pool.requests.incrementAndGet();
+        return new Task() {
+          @Override
+          public void run() {
+            if (waiter.listener != null) {
+              waiter.listener.onConnect(waiter);
+            }
+            pool.connect(slot, waiter);
+          }
+        };
+      }
+      Slot<C> last = shard.slots.remove(shard.slots.size() - 1);
+      if (last != removed) {
+        last.index = index;
+        shard.slots.set(index, last);
+      }
+      pool.size.decrementAndGet();
+      pool.capacity.addAndGet(-w);
+      return shard.signal();
+    }
+  }
+
+  private static class SetConcurrency<C> implements Executor.Action<Shard<C>> {
+
+    private final Slot<C> slot;
+    private final long concurrency;
+
+    private SetConcurrency(Slot<C> slot, long concurrency) {
+      this.slot = slot;
+      this.concurrency = concurrency;
+    }
+
+    @Override
+    public Task execute(Shard<C> shard) {
+      if (slot.connection == null) {
+        return null;
+      }
+      long free = slot.free();
+      long diff = concurrency - slot.concurrency;
+      slot.concurrency += diff;
+      shard.available += slot.free() - free;
+      if (diff <= 0) {
+        return null;
+      }
+      Task head = null;
+      PoolWaiter<C> waiter;
+      while (slot.available() > 0 && (waiter = shard.poll()) != null) {
+        shard.use(slot, 1);
+        head = chain(head, new LeaseImpl<>(slot, waiter.handler).emitTask());
+      }
+      if (slot.free() > 0) {
+        head = chain(head, shard.signal());
+      }
+      return head;
+    }
+  }
+
+  private static class Acquire<C> extends PoolWaiter<C> implements Executor.Action<Shard<C>> {
+
+    private Acquire(ContextInternal context, PoolWaiter.Listener<C> listener, int capacity, Completable<Lease<C>> handler) {
+      super(listener, context, capacity, handler);
+    }
+
+    @Override
+    public Task execute(Shard<C> shard) {
+      ShardedConnectionPool<C> pool = shard.pool;
+      if (pool.closed) {
+        return new Task() {
+          @Override
+          public void run() {
+            Future<Lease<C>> fut = context.failedFuture("Pool closed");
+            fut.onComplete(handler);
+          }
+        };
+      }
+
+      if (shard.waiters.size() == 0) {
+
+        // 1. Try reuse a connection of the shard
+        Slot<C> slot = (Slot<C>) pool.selector.apply(this, shard.list());
+        if (slot == null) {
+          slot = (Slot<C>) ((BiFunction) FIRST_AVAILABLE_SELECTOR).apply(this, shard.list());
+        }
+        if (slot != null) {
+          shard.use(slot, 1);
+          return new LeaseImpl<>(slot, handler).emitTask();
+        }
+
+        // 2. Try create connection
+        if (pool.reserve(capacity)) {
+          return shard.connect(this);
+        }
+      }
+
+      // 3. Fall in waiters list and try to borrow a connection from another shard
+      if (!pool.enqueue()) {
+        return new Task() {
+          @Override
+          public void run() {
+            Future<Lease<C>> fut = context.failedFuture(new ConnectionPoolTooBusyException("Connection pool reached max wait queue size of " + pool.maxWaiters));
+            fut.onComplete(handler);
+          }
+        };
+      }
+      shard.enqueue(this);
+      Task head = null;
+      if (listener != null) {
+        head = new Task() {
+          @Override
+          public void run() {
+            listener.onEnqueue(Acquire.this);
+          }
+        };
+      }
+      return chain(head, shard.drain());
+    }
+  }
+
+  /**
+   * Executed by a shard lending one of its connections to the {@code borrower} shard.
+   */
+  private static class Lend<C> implements Executor.Action<Shard<C>> {
+
+    private final Shard<C> borrower;
+
+    private Lend(Shard<C> borrower) {
+      this.borrower = borrower;
+    }
+
+    @Override
+    public Task execute(Shard<C> shard) {
+      Slot<C> slot;
+      if (shard.pool.closed || shard.waiters.size() > 0) {
+        slot = null;
+      } else {
+        slot = (Slot<C>) ((BiFunction) FIRST_AVAILABLE_SELECTOR).apply(null, shard.list());
+        if (slot != null) {
+          shard.use(slot, 1);
+        }
+      }
+      return new Task() {
+        @Override
+        public void run() {
+          borrower.sync.submit(new Borrow<>(slot));
+        }
+      };
+    }
+  }
+
+  /**
+   * Executed by a shard when another shard lent a connection or declined to lend a connection.
+   */
+  private static class Borrow<C> implements Executor.Action<Shard<C>> {
+
+    private final Slot<C> slot;
+
+    private Borrow(Slot<C> slot) {
+      this.slot = slot;
+    }
+
+    @Override
+    public Task execute(Shard<C> shard) {
+      shard.borrowing = false;
+      Task head = null;
+      if (slot != null) {
+        PoolWaiter<C> waiter = shard.pool.closed ? null : shard.poll();
+        if (waiter != null) {
+          head = new LeaseImpl<>(slot, waiter.handler).emitTask();
+        } else {
+          // Give it back
+          head = new Task() {
+            @Override
+            public void run() {
+              slot.shard.sync.submit(new Recycle<>(slot));
+            }
+          };
+        }
+      }
+      if (!shard.pool.closed) {
+        head = chain(head, shard.drain());
+      }
+      return head;
+    }
+  }
+
+  @Override
+  public void acquire(ContextInternal context, int kind, Completable<Lease<C>> handler) {
+    shard(context).sync.submit(new Acquire<>(context, PoolWaiter.NULL_LISTENER, capacityFactors[kind], handler));
+  }
+
+  @Override
+  public void acquire(ContextInternal context, PoolWaiter.Listener<C> listener, int kind, Completable<Lease<C>> handler) {
+    shard(context).sync.submit(new Acquire<>(context, listener, capacityFactors[kind], handler));
+  }
+
+  @Override
+  public void warmUp(ContextInternal context, int kind, Completable<Boolean> handler) {
+    shard(context).sync.submit(new WarmUp<>(context, capacityFactors[kind], handler));
+  }
+
+  private static class WarmUp<C> implements Executor.Action<Shard<C>> {
+
+    private final ContextInternal context;
+    private final int capacity;
+    private final Completable<Boolean> handler;
+
+    private WarmUp(ContextInternal context, int capacity, Completable<Boolean> handler) {
+      this.context = context;
+      this.capacity = capacity;
+      this.handler = handler;
+    }
+
+    @Override
+    public Task execute(Shard<C> shard) {
+      if (shard.pool.closed) {
+        return new Task() {
+          @Override
+          public void run() {
+            handler.fail(POOL_CLOSED_EXCEPTION);
+          }
+        };
+      }
+      if (!shard.pool.reserve(capacity)) {
+        return new Task() {
+          @Override
+          public void run() {
+            handler.succeed(false);
+          }
+        };
+      }
+      // The connection is created for a waiter that does not want a lease
+      PoolWaiter<C> waiter = new PoolWaiter<>(null, context, capacity, (res, err) -> {});
+      waiter.disposed = true;
+      Task task = shard.connect(waiter);
+      Slot<C> slot = shard.slots.get(shard.slots.size() - 1);
+      return chain(task, new Task() {
+        @Override
+        public void run() {
+          slot.result.future().onComplete(ar -> handler.complete(ar.succeeded() ? true : null, ar.cause()));
+        }
+      });
+    }
+  }
+
+  @Override
+  public void cancel(PoolWaiter<C> waiter, Completable<Boolean> handler) {
+    shard(waiter.context).sync.submit(new Cancel<>(waiter, handler));
+  }
+
+  private static class Cancel<C> extends Task implements Executor.Action<Shard<C>> {
+
+    private final PoolWaiter<C> waiter;
+    private final Completable<Boolean> handler;
+    private boolean cancelled;
+
+    private Cancel(PoolWaiter<C> waiter, Completable<Boolean> handler) {
+      this.waiter = waiter;
+      this.handler = handler;
+    }
+
+    @Override
+    public Task execute(Shard<C> shard) {
+      if (shard.pool.closed) {
+        return new Task() {
+          @Override
+          public void run() {
+            handler.fail(POOL_CLOSED_EXCEPTION);
+          }
+        };
+      }
+      if (shard.remove(waiter)) {
+        cancelled = true;
+        waiter.disposed = true;
+      } else if (!waiter.disposed) {
+        waiter.disposed = true;
+        cancelled = true;
+      } else {
+        cancelled = false;
+      }
+      return this;
+    }
+
+    @Override
+    public void run() {
+      handler.succeed(cancelled);
+    }
+  }
+
+  static class LeaseImpl<C> implements Lease<C> {
+
+    private final Completable<Lease<C>> handler;
+    private final Slot<C> slot;
+    private final C connection;
+    private boolean recycled;
+
+    LeaseImpl(Slot<C> slot, Completable<Lease<C>> handler) {
+      this.handler = handler;
+      this.slot = slot;
+      this.connection = slot.connection;
+    }
+
+    @Override
+    public C get() {
+      return connection;
+    }
+
+    @Override
+    public void recycle() {
+      if (recycled) {
+        throw new IllegalStateException("Attempt to recycle more than permitted");
+      }
+      recycled = true;
+      slot.shard.sync.submit(new Recycle<>(slot));
+    }
+
+    Task emitTask() {
+      return new Task() {
+        @Override
+        public void run() {
+          Future<Lease<C>> fut = slot.context.succeededFuture(LeaseImpl.this);
+          fut.onComplete(handler);
+        }
+      };
+    }
+  }
+
+  private static class Recycle<C> implements Executor.Action<Shard<C>> {
+
+    private final Slot<C> slot;
+
+    private Recycle(Slot<C> slot) {
+      this.slot = slot;
+    }
+
+    @Override
+    public Task execute(Shard<C> shard) {
+      if (shard.pool.closed || slot.connection == null) {
+        return null;
+      }
+      PoolWaiter<C> waiter;
+      if (slot.usage <= slot.concurrency && (waiter = shard.poll()) != null) {
+        return new LeaseImpl<>(slot, waiter.handler).emitTask();
+      }
+      shard.use(slot, -1);
+      return slot.free() > 0 ? shard.signal() : null;
+    }
+  }
+
+  private static class Evict<C> implements Executor.Action<Shard<C>> {
+
+    private final Predicate<C> predicate;
+    private final Completable<List<C>> handler;
+
+    private Evict(Predicate<C> predicate, Completable<List<C>> handler) {
+      this.predicate = predicate;
+      this.handler = handler;
+    }
+
+    @Override
+    public Task execute(Shard<C> shard) {
+      if (shard.pool.closed) {
+        return new Task() {
+          @Override
+          public void run() {
+            handler.fail(POOL_CLOSED_EXCEPTION);
+          }
+        };
+      }
+      List<C> res = new ArrayList<>();
+      List<Slot<C>> removed = new ArrayList<>();
+      for (int i = shard.slots.size() - 1;i >= 0;i--) {
+        Slot<C> slot = shard.slots.get(i);
+        if (slot.connection != null && slot.usage == 0 && predicate.test(slot.connection)) {
+          removed.add(slot);
+          res.add(slot.connection);
+        }
+      }
+      Task head = new Task() {
+        @Override
+        public void run() {
+          handler.succeed(res);
+        }
+      };
+      for (Slot<C> slot : removed) {
+        head = chain(head, new Remove<>(slot).execute(shard));
+      }
+      return head;
+    }
+  }
+
+  @Override
+  public void evict(Predicate<C> predicate, Completable<List<C>> handler) {
+    if (closed) {
+      handler.fail(POOL_CLOSED_EXCEPTION);
+      return;
+    }
+    Shard<C>[] array = shardArray;
+    if (array.length == 0) {
+      handler.succeed(Collections.emptyList());
+      return;
+    }
+    Aggregator<C> aggregator = new Aggregator<>(array.length, handler);
+    for (Shard<C> shard : array) {
+      shard.sync.submit(new Evict<>(predicate, aggregator));
+    }
+  }
+
+  private static class Close<C> implements Executor.Action<Shard<C>> {
+
+    private final Completable<List<Future<C>>> handler;
+
+    private Close(Completable<List<Future<C>>> handler) {
+      this.handler = handler;
+    }
+
+    @Override
+    public Task execute(Shard<C> shard) {
+      ShardedConnectionPool<C> pool = shard.pool;
+      List<PoolWaiter<C>> waiters = shard.waiters.clear();
+      pool.waiters.addAndGet(-waiters.size());
+      shard.waiting = 0;
+      List<Future<C>> list = new ArrayList<>();
+      for (Slot<C> slot : shard.slots) {
+        PoolWaiter<C> waiter = slot.initiator;
+        if (waiter != null) {
+          waiters.add(waiter);
+          waiter.disposed = true;
+          slot.initiator = null;
+        }
+        pool.capacity.addAndGet(-slot.capacity);
+        list.add(slot.result.future());
+      }
+      pool.size.addAndGet(-shard.slots.size());
+      shard.slots.clear();
+      shard.available = 0;
+      return new Task() {
+        @Override
+        public void run() {
+          waiters.forEach(w -> w.handler.fail(POOL_CLOSED_EXCEPTION));
+          handler.succeed(list);
+        }
+      };
+    }
+  }
+
+  @Override
+  public void close(Completable<List<Future<C>>> handler) {
+    Shard<C>[] array;
+    synchronized (this) {
+      if (closed) {
+        handler.fail(POOL_CLOSED_EXCEPTION);
+        return;
+      }
+      closed = true;
+      array = shardArray;
+    }
+    if (array.length == 0) {
+      handler.succeed(Collections.emptyList());
+      return;
+    }
+    Aggregator<Future<C>> aggregator = new Aggregator<>(array.length, handler);
+    for (Shard<C> shard : array) {
+      shard.sync.submit(new Close<>(aggregator));
+    }
+  }
+
+  /**
+   * Aggregates the lists reported by each shard.
+   */
+  private static class Aggregator<T> implements Completable<List<T>> {
+
+    private final Completable<List<T>> handler;
+    private final List<T> result = new ArrayList<>();
+    private int remaining;
+    private Throwable failure;
+
+    private Aggregator(int count, Completable<List<T>> handler) {
+      this.handler = handler;
+      this.remaining = count;
+    }
+
+    @Override
+    public void complete(List<T> list, Throwable err) {
+      synchronized (this) {
+        if (err != null) {
+          failure = err;
+        } else {
+          result.addAll(list);
+        }
+        if (--remaining > 0) {
+          return;
+        }
+      }
+      if (failure != null) {
+        handler.fail(failure);
+      } else {
+        handler.succeed(result);
+      }
+    }
+  }
+
+  @Override
+  public int size() {
+    return size.get();
+  }
+
+  @Override
+  public int waiters() {
+    return waiters.get();
+  }
+
+  @Override
+  public int capacity() {
+    return capacity.get();
+  }
+
+  @Override
+  public int requests() {
+    return requests.get();
+  }
+}
@@ -645,6 +645,59 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     execute(new Acquire<>(context, listener, capacityFactors[kind], handler));
   }
 
+  @Override
+  public void warmUp(ContextInternal context, int kind, Completable<Boolean> handler) {
+    execute(new WarmUp<>(context, capacityFactors[kind], handler));
+  }
+
+  private static class WarmUp<C> implements Executor.Action<SimpleConnectionPool<C>> {
+
+    private final ContextInternal context;
+    private final int capacity;
+    private final Completable<Boolean> handler;
+
+    private WarmUp(ContextInternal context, int capacity, Completable<Boolean> handler) {
+      this.context = context;
+      this.capacity = capacity;
+      this.handler = handler;
+    }
+
+    @Override
+    public Task execute(SimpleConnectionPool<C> pool) {
+      if (pool.closed) {
+        return new Task() {
+          @Override
+          public void run() {
+            handler.fail(POOL_CLOSED_EXCEPTION);
+          }
+        };
+      }
+      if (pool.capacity >= pool.maxCapacity) {
+        return new Task() {
+          @Override
+          public void run() {
+            handler.succeed(false);
+          }
+        };
+      }
+      // The connection is created for a waiter that does not want a lease
+      PoolWaiter<C> waiter = new PoolWaiter<>(null, context, capacity, (res, err) -> {});
+      waiter.disposed = true;
+      pool.capacity += capacity;
+      ContextInternal connectionContext = pool.contextProvider.apply(context);
+      Slot<C> slot = new Slot<>(pool, connectionContext, pool.size, capacity);
+      pool.slots[pool.size++] = slot;
+      pool.requests++;
+      return new Task() {
+        @Override
+        public void run() {
+          pool.connect(slot, waiter);
+          slot.result.future().onComplete(ar -> handler.complete(ar.succeeded() ? true : null, ar.cause()));
+        }
+      };
+    }
+  }
+
   @Override
   public void cancel(PoolWaiter<C> waiter, Completable<Boolean> handler) {
     execute(new Cancel<>(waiter, handler));
@@ -818,7 +871,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     execute(new Close<>(handler));
   }
 
-  private static class Waiters<C> implements Iterable<PoolWaiter<C>> {
+  static class Waiters<C> implements Iterable<PoolWaiter<C>> {
 
     private final PoolWaiter<C> head;
     private int size;
@@ -828,6 +881,10 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       head.next = head.prev = head;
     }
 
+    PoolWaiter<C> peek() {
+      return head.next == head ? null : head.next;
+    }
+
     PoolWaiter<C> poll() {
       if (head.next == head) {
         return null;
@@ -25,6 +25,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.ThreadingModel;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.impl.OpenFileCache;
 import io.vertx.core.impl.EventLoopExecutor;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
@@ -34,8 +35,6 @@ import io.vertx.core.internal.net.SocketInternal;
 import io.vertx.core.streams.impl.InboundBuffer;
 
 import java.io.File;
-import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.nio.charset.Charset;
 import java.time.Duration;
 
@@ -219,22 +218,17 @@ public abstract class SocketBase<S extends SocketBase<S>> extends VertxConnectio
   public Future<Void> sendFile(String filename, long offset, long length) {
     PromiseInternal<Void> promise = context.promise();
     File file = vertx.fileResolver().resolve(filename);
-    RandomAccessFile raf;
+    OpenFileCache.OpenFile openFile;
     try {
-      raf = new RandomAccessFile(file, "r");
+      openFile = vertx.openFileCache().open(file);
     } catch (Exception e) {
       return context.failedFuture(e);
     }
-    long actualLength = Math.min(length, file.length() - offset);
-    long actualOffset = Math.min(offset, file.length());
-    ChannelFuture fut = sendFile(raf.getChannel(), actualOffset, actualLength);
+    long actualLength = Math.min(length, openFile.size() - offset);
+    long actualOffset = Math.min(offset, openFile.size());
+    ChannelFuture fut = sendFile(openFile.channel(), actualOffset, actualLength);
     fut.addListener(promise);
-    return promise.future().andThen(ar -> {
-      try {
-        raf.close();
-      } catch (IOException ignore) {
-      }
-    });
+    return promise.future().andThen(ar -> openFile.release());
   }
 
   public S exceptionHandler(Handler<Throwable> handler) {
@@ -81,4 +81,20 @@ public interface Counter {
    * @return a future notified with {@code true} on success
    */
   Future<Boolean> compareAndSet(long expected, long value);
+
+  /**
+   * Increment the counter without waiting for the result, no future is allocated when the counter supports it.
+   */
+  default void increment() {
+    add(1L);
+  }
+
+  /**
+   * Add the value to the counter without waiting for the result, no future is allocated when the counter supports it.
+   *
+   * @param value  the value to add
+   */
+  default void add(long value) {
+    addAndGet(value);
+  }
 }
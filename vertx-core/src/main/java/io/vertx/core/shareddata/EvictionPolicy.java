@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The policy choosing the entries evicted from a bounded local map.
+ */
+@VertxGen
+public enum EvictionPolicy {
+
+  /**
+   * Evict the least recently used entries.
+   */
+  LRU,
+
+  /**
+   * Evict the least frequently used entries, the least recently used entry is evicted among entries with the same
+   * frequency.
+   */
+  LFU,
+
+  /**
+   * Window TinyLFU: recently inserted entries enter a small LRU window, they are admitted in the main
+   * segmented LRU area only when they are more frequently used than the entry they would replace. The
+   * frequencies are estimated with a compact count-min sketch. This policy performs best with skewed
+   * access patterns and resists to scans.
+   */
+  TINY_LFU
+
+}
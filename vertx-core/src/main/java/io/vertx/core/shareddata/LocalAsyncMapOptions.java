@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Objects;
+
+/**
+ * Options configuring a local asynchronous map.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class LocalAsyncMapOptions {
+
+  /**
+   * The default maximum number of entries = {@code 0} (unbounded)
+   */
+  public static final long DEFAULT_MAX_SIZE = 0L;
+
+  /**
+   * The default eviction policy = {@link EvictionPolicy#LRU}
+   */
+  public static final EvictionPolicy DEFAULT_EVICTION_POLICY = EvictionPolicy.LRU;
+
+  /**
+   * The default period of the sweep removing the expired entries = {@code 1000} ms
+   */
+  public static final long DEFAULT_EXPIRATION_SWEEP_PERIOD = 1000L;
+
+  private long maxSize;
+  private EvictionPolicy evictionPolicy;
+  private long expirationSweepPeriod;
+
+  /**
+   * Default constructor
+   */
+  public LocalAsyncMapOptions() {
+    maxSize = DEFAULT_MAX_SIZE;
+    evictionPolicy = DEFAULT_EVICTION_POLICY;
+    expirationSweepPeriod = DEFAULT_EXPIRATION_SWEEP_PERIOD;
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other The other {@code LocalAsyncMapOptions} to copy when creating this
+   */
+  public LocalAsyncMapOptions(LocalAsyncMapOptions other) {
+    maxSize = other.getMaxSize();
+    evictionPolicy = other.getEvictionPolicy();
+    expirationSweepPeriod = other.getExpirationSweepPeriod();
+  }
+
+  /**
+   * Create an instance from a {@link io.vertx.core.json.JsonObject}
+   *
+   * @param json the JsonObject to create it from
+   */
+  public LocalAsyncMapOptions(JsonObject json) {
+    this();
+    LocalAsyncMapOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the maximum number of entries of the map, {@code 0} when the map is unbounded
+   */
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Set the maximum number of entries of the map, when the map grows beyond this size, entries are evicted
+   * according to the {@link #setEvictionPolicy(EvictionPolicy) eviction policy}. The default value {@code 0} means
+   * the map is unbounded.
+   *
+   * @param maxSize the maximum number of entries
+   * @return a reference to this, so the API can be used fluently
+   */
+  public LocalAsyncMapOptions setMaxSize(long maxSize) {
+    Arguments.require(maxSize >= 0, "maxSize must be >= 0");
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  /**
+   * @return the eviction policy of a bounded map
+   */
+  public EvictionPolicy getEvictionPolicy() {
+    return evictionPolicy;
+  }
+
+  /**
+   * Set the policy choosing the entries evicted when the map exceeds its {@link #setMaxSize(long) maximum size}.
+   *
+   * @param evictionPolicy the eviction policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public LocalAsyncMapOptions setEvictionPolicy(EvictionPolicy evictionPolicy) {
+    this.evictionPolicy = Objects.requireNonNull(evictionPolicy, "No null eviction policy accepted");
+    return this;
+  }
+
+  /**
+   * @return the period in milliseconds of the sweep removing the expired entries
+   */
+  public long getExpirationSweepPeriod() {
+    return expirationSweepPeriod;
+  }
+
+  /**
+   * Set the period in milliseconds of the sweep removing the expired entries from the map.
+   * <p>
+   * Expired entries are never visible, the sweep only bounds the time they keep using memory. A single sweep
+   * runs per map while the map holds entries with a time-to-live, it only visits the entries due.
+   *
+   * @param expirationSweepPeriod the period in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public LocalAsyncMapOptions setExpirationSweepPeriod(long expirationSweepPeriod) {
+    Arguments.require(expirationSweepPeriod > 0, "expirationSweepPeriod must be > 0");
+    this.expirationSweepPeriod = expirationSweepPeriod;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    LocalAsyncMapOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring a local {@link Counter}.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class LocalCounterOptions {
+
+  /**
+   * The default striped mode = {@code false}
+   */
+  public static final boolean DEFAULT_STRIPED = false;
+
+  private boolean striped;
+
+  /**
+   * Default constructor
+   */
+  public LocalCounterOptions() {
+    striped = DEFAULT_STRIPED;
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other The other {@code LocalCounterOptions} to copy when creating this
+   */
+  public LocalCounterOptions(LocalCounterOptions other) {
+    striped = other.isStriped();
+  }
+
+  /**
+   * Create an instance from a {@link io.vertx.core.json.JsonObject}
+   *
+   * @param json the JsonObject to create it from
+   */
+  public LocalCounterOptions(JsonObject json) {
+    this();
+    LocalCounterOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return whether the counter spreads its updates over several cells
+   */
+  public boolean isStriped() {
+    return striped;
+  }
+
+  /**
+   * Set whether the counter spreads its updates over several cells, this mode suits counters updated concurrently
+   * by many threads and rarely read.
+   * <p>
+   * A striped counter sums its cells when it is read. It only supports {@link Counter#increment()} and
+   * {@link Counter#add(long)}, which never allocate, and {@link Counter#get()}: the other operations cannot be atomic
+   * and fail with {@link UnsupportedOperationException}.
+   *
+   * @param striped whether the counter is striped
+   * @return a reference to this, so the API can be used fluently
+   */
+  public LocalCounterOptions setStriped(boolean striped) {
+    this.striped = striped;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    LocalCounterOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
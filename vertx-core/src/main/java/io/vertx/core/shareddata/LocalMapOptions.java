@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Options configuring a {@link LocalMap}.
+ * <p>
+ * A map is bounded either by a {@link #setMaxSize(long) number of entries} or by a {@link #setMaxWeight(long) total
+ * weight} computed by a {@link Weigher}.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class LocalMapOptions {
+
+  /**
+   * The default maximum number of entries = {@code 0} (unbounded)
+   */
+  public static final long DEFAULT_MAX_SIZE = 0L;
+
+  /**
+   * The default maximum weight = {@code 0} (unbounded)
+   */
+  public static final long DEFAULT_MAX_WEIGHT = 0L;
+
+  /**
+   * The default eviction policy = {@link EvictionPolicy#LRU}
+   */
+  public static final EvictionPolicy DEFAULT_EVICTION_POLICY = EvictionPolicy.LRU;
+
+  private long maxSize;
+  private long maxWeight;
+  private Weigher<?, ?> weigher;
+  private EvictionPolicy evictionPolicy;
+  private BiConsumer<?, ?> evictionListener;
+
+  /**
+   * Default constructor
+   */
+  public LocalMapOptions() {
+    maxSize = DEFAULT_MAX_SIZE;
+    maxWeight = DEFAULT_MAX_WEIGHT;
+    evictionPolicy = DEFAULT_EVICTION_POLICY;
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other The other {@code LocalMapOptions} to copy when creating this
+   */
+  public LocalMapOptions(LocalMapOptions other) {
+    maxSize = other.getMaxSize();
+    maxWeight = other.getMaxWeight();
+    weigher = other.getWeigher();
+    evictionPolicy = other.getEvictionPolicy();
+    evictionListener = other.getEvictionListener();
+  }
+
+  /**
+   * Create an instance from a {@link io.vertx.core.json.JsonObject}
+   *
+   * @param json the JsonObject to create it from
+   */
+  public LocalMapOptions(JsonObject json) {
+    this();
+    LocalMapOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the maximum number of entries of the map, {@code 0} when the size is unbounded
+   */
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Set the maximum number of entries of the map, when the map grows beyond this size, entries are evicted
+   * according to the {@link #setEvictionPolicy(EvictionPolicy) eviction policy}. The default value {@code 0} means
+   * the size is unbounded.
+   *
+   * @param maxSize the maximum number of entries
+   * @return a reference to this, so the API can be used fluently
+   */
+  public LocalMapOptions setMaxSize(long maxSize) {
+    Arguments.require(maxSize >= 0, "maxSize must be >= 0");
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum total weight of the entries of the map, {@code 0} when the weight is unbounded
+   */
+  public long getMaxWeight() {
+    return maxWeight;
+  }
+
+  /**
+   * Set the maximum total weight of the entries of the map computed by the {@link #setWeigher(Weigher) weigher},
+   * when the total weight exceeds this value, entries are evicted according to the
+   * {@link #setEvictionPolicy(EvictionPolicy) eviction policy}. The default value {@code 0} means the weight is
+   * unbounded.
+   *
+   * @param maxWeight the maximum weight
+   * @return a reference to this, so the API can be used fluently
+   */
+  public LocalMapOptions setMaxWeight(long maxWeight) {
+    Arguments.require(maxWeight >= 0, "maxWeight must be >= 0");
+    this.maxWeight = maxWeight;
+    return this;
+  }
+
+  /**
+   * @return the weigher of the entries
+   */
+  @GenIgnore
+  public Weigher<?, ?> getWeigher() {
+    return weigher;
+  }
+
+  /**
+   * Set the weigher computing the weight of the entries of a map bounded by a {@link #setMaxWeight(long) maximum weight}.
+   *
+   * @param weigher the weigher
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public LocalMapOptions setWeigher(Weigher<?, ?> weigher) {
+    this.weigher = weigher;
+    return this;
+  }
+
+  /**
+   * @return the eviction policy of a bounded map
+   */
+  public EvictionPolicy getEvictionPolicy() {
+    return evictionPolicy;
+  }
+
+  /**
+   * Set the policy choosing the entries evicted when the map exceeds its maximum size or weight.
+   *
+   * @param evictionPolicy the eviction policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public LocalMapOptions setEvictionPolicy(EvictionPolicy evictionPolicy) {
+    this.evictionPolicy = Objects.requireNonNull(evictionPolicy, "No null eviction policy accepted");
+    return this;
+  }
+
+  /**
+   * @return the listener notified of the evicted entries
+   */
+  @GenIgnore
+  public BiConsumer<?, ?> getEvictionListener() {
+    return evictionListener;
+  }
+
+  /**
+   * Set a listener notified with the key and the value of the entries evicted from the map. The listener is called
+   * by the thread that updated the map, after the update.
+   *
+   * @param evictionListener the listener
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public LocalMapOptions setEvictionListener(BiConsumer<?, ?> evictionListener) {
+    this.evictionListener = evictionListener;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    LocalMapOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -75,6 +75,19 @@ public interface SharedData {
    */
   <K, V> Future<AsyncMap<K, V>> getLocalAsyncMap(String name);
 
+  /**
+   * Like {@link #getLocalAsyncMap(String)} but configuring the map with {@code options}.
+   * <p>
+   * The options are used when the map is created, the returned future is failed with an {@link IllegalStateException}
+   * when a map with the same name already exists with different options. {@link #getLocalAsyncMap(String)} returns
+   * the existing map whatever its options.
+   *
+   * @param name the name of the map
+   * @param options the map options
+   * @return a future notified with the map
+   */
+  <K, V> Future<AsyncMap<K, V>> getLocalAsyncMap(String name, LocalAsyncMapOptions options);
+
   /**
    * Get an asynchronous lock with the specified name. The returned future will be completed with the lock when it is available.
    * <p>
@@ -170,6 +183,30 @@ public interface SharedData {
    */
   Future<Lock> getLocalLockWithTimeout(String name, long timeout);
 
+  /**
+   * Get an asynchronous shared local lock with the specified name. A shared lock can be held by several holders at the
+   * same time, it excludes the holders of the lock obtained with {@link #getLocalLock(String)} under the same name,
+   * which is exclusive. This provides read/write locking: readers use the shared lock and writers the exclusive lock.
+   * <p>
+   *   Local lock waiters are served in order, a shared lock request queued behind an exclusive lock request waits until
+   *   the exclusive lock is released.
+   * </p>
+   *
+   * @param name  the name of the lock
+   * @return a future notified with the lock
+   */
+  Future<Lock> getLocalSharedLock(String name);
+
+  /**
+   * Like {@link #getLocalSharedLock(String)} but specifying a timeout. If the lock is not obtained within the timeout
+   * the returned future is failed.
+   *
+   * @param name  the name of the lock
+   * @param timeout  the timeout in ms
+   * @return a future notified with the lock
+   */
+  Future<Lock> getLocalSharedLockWithTimeout(String name, long timeout);
+
   /**
    * Get an asynchronous local lock with the specified name.
    *
@@ -229,6 +266,19 @@ public interface SharedData {
    */
   Future<Counter> getLocalCounter(String name);
 
+  /**
+   * Like {@link #getLocalCounter(String)} but configuring the counter with {@code options}.
+   * <p>
+   * The options are used when the counter is created, the returned future is failed with an {@link IllegalStateException}
+   * when a counter with the same name already exists with a different mode. {@link #getLocalCounter(String)} uses the
+   * default options, so it cannot return a striped counter.
+   *
+   * @param name  the name of the counter.
+   * @param options the counter options
+   * @return a future notified with the counter
+   */
+  Future<Counter> getLocalCounter(String name, LocalCounterOptions options);
+
   /**
    * Return a {@code LocalMap} with the specific {@code name}.
    *
@@ -237,4 +287,18 @@ public interface SharedData {
    */
   <K, V> LocalMap<K, V> getLocalMap(String name);
 
+  /**
+   * Like {@link #getLocalMap(String)} but configuring the map with {@code options}, e.g. to bound its size and use
+   * it as a cache.
+   * <p>
+   * The options are used when the map is created, an {@link IllegalStateException} is thrown when a map with the same
+   * name already exists with a different maximum size, maximum weight, weigher or eviction policy.
+   * {@link #getLocalMap(String)} returns the existing map whatever its options.
+   *
+   * @param name  the name of the map
+   * @param options the map options
+   * @return the map
+   */
+  <K, V> LocalMap<K, V> getLocalMap(String name, LocalMapOptions options);
+
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+/**
+ * Computes the weight of the entries of a local map bounded by a {@link LocalMapOptions#setMaxWeight(long) maximum weight}.
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+  /**
+   * Compute the weight of an entry, the weight is computed when the entry is written to the map.
+   *
+   * @param key the entry key
+   * @param value the entry value
+   * @return the non negative weight of the entry
+   */
+  int weigh(K key, V value);
+
+}
@@ -92,4 +92,14 @@ public class AsynchronousCounter implements Counter {
     promise.complete(counter.compareAndSet(expected, value));
     return promise.future();
   }
+
+  @Override
+  public void increment() {
+    counter.incrementAndGet();
+  }
+
+  @Override
+  public void add(long value) {
+    counter.addAndGet(value);
+  }
 }
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata.impl;
+
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.LocalMapOptions;
+import io.vertx.core.shareddata.Weigher;
+import io.vertx.core.spi.metrics.CacheMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static io.vertx.core.shareddata.impl.Checker.copyIfRequired;
+
+/**
+ * A local map bounded by a number of entries or by a total weight.
+ * <p>
+ * Updates are serialized by a lock that guards the eviction policy, the policy is synchronized with the state of
+ * the updated key before the lock is released. Reads never block, they record the access only when the lock is free,
+ * so the policy may miss a few accesses under contention.
+ */
+class BoundedLocalMapImpl<K, V> extends LocalMapImpl<K, V> {
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final LocalMapOptions options;
+  private final Eviction<K> eviction;
+  private final Weigher<K, V> weigher;
+  private final BiConsumer<K, V> evictionListener;
+  private final CacheMetrics metrics;
+  private List<Map.Entry<K, V>> evicted;
+
+  @SuppressWarnings("unchecked")
+  BoundedLocalMapImpl(String name, ConcurrentMap<String, LocalMap<?, ?>> maps, LocalMapOptions options, CacheMetrics metrics) {
+    super(name, maps);
+    this.options = new LocalMapOptions(options);
+    long maximum = options.getMaxWeight() > 0 ? options.getMaxWeight() : options.getMaxSize();
+    this.eviction = Eviction.create(options.getEvictionPolicy(), maximum);
+    this.weigher = options.getMaxWeight() > 0 ? (Weigher<K, V>) options.getWeigher() : null;
+    this.evictionListener = (BiConsumer<K, V>) options.getEvictionListener();
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return whether this map has been created with bounds equivalent to {@code other}
+   */
+  boolean matches(LocalMapOptions other) {
+    return options.getMaxSize() == other.getMaxSize()
+      && options.getMaxWeight() == other.getMaxWeight()
+      && options.getWeigher() == other.getWeigher()
+      && options.getEvictionPolicy() == other.getEvictionPolicy();
+  }
+
+  private void lock() {
+    lock.lock();
+  }
+
+  /**
+   * Synchronize the policy with the state of {@code key}, evict the entries exceeding the capacity, release the lock
+   * and then notify the eviction listener.
+   */
+  private void unlock(Object key) {
+    List<Map.Entry<K, V>> toNotify;
+    try {
+      if (key != null) {
+        sync(key);
+      }
+      evict();
+    } finally {
+      toNotify = evicted;
+      evicted = null;
+      lock.unlock();
+    }
+    if (toNotify != null) {
+      for (Map.Entry<K, V> entry : toNotify) {
+        evictionListener.accept(copyIfRequired(entry.getKey()), copyIfRequired(entry.getValue()));
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void sync(Object key) {
+    K k = (K) key;
+    V value = map.get(k);
+    if (value != null) {
+      eviction.write(k, weigher != null ? Math.max(0, weigher.weigh(k, value)) : 1);
+    } else {
+      eviction.remove(k);
+    }
+  }
+
+  private void evict() {
+    K victim;
+    while ((victim = eviction.victim()) != null) {
+      eviction.remove(victim);
+      V value = map.remove(victim);
+      if (value != null) {
+        if (metrics != null) {
+          metrics.eviction();
+        }
+        if (evictionListener != null) {
+          if (evicted == null) {
+            evicted = new ArrayList<>();
+          }
+          evicted.add(Map.entry(victim, value));
+        }
+      }
+    }
+  }
+
+  private void accessed(Object key, boolean hit) {
+    if (hit) {
+      if (lock.tryLock()) {
+        try {
+          @SuppressWarnings("unchecked")
+          K k = (K) key;
+          eviction.access(k);
+        } finally {
+          lock.unlock();
+        }
+      }
+      if (metrics != null) {
+        metrics.hit();
+      }
+    } else if (metrics != null) {
+      metrics.miss();
+    }
+  }
+
+  @Override
+  public V get(Object key) {
+    V value = super.get(key);
+    accessed(key, value != null);
+    return value;
+  }
+
+  @Override
+  public V getOrDefault(Object key, V defaultValue) {
+    V value = map.get(key);
+    accessed(key, value != null);
+    return value != null ? copyIfRequired(value) : defaultValue;
+  }
+
+  @Override
+  public V put(K key, V value) {
+    lock();
+    try {
+      return super.put(key, value);
+    } finally {
+      unlock(key);
+    }
+  }
+
+  @Override
+  public V remove(Object key) {
+    lock();
+    try {
+      return super.remove(key);
+    } finally {
+      unlock(key);
+    }
+  }
+
+  @Override
+  public void clear() {
+    lock();
+    try {
+      super.clear();
+      eviction.clear();
+    } finally {
+      unlock(null);
+    }
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    lock();
+    try {
+      return super.putIfAbsent(key, value);
+    } finally {
+      unlock(key);
+    }
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    lock();
+    try {
+      return super.remove(key, value);
+    } finally {
+      unlock(key);
+    }
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    lock();
+    try {
+      return super.replace(key, oldValue, newValue);
+    } finally {
+      unlock(key);
+    }
+  }
+
+  @Override
+  public boolean removeIfPresent(K key, V value) {
+    lock();
+    try {
+      return super.removeIfPresent(key, value);
+    } finally {
+      unlock(key);
+    }
+  }
+
+  @Override
+  public boolean replaceIfPresent(K key, V oldValue, V newValue) {
+    lock();
+    try {
+      return super.replaceIfPresent(key, oldValue, newValue);
+    } finally {
+      unlock(key);
+    }
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    lock();
+    try {
+      return super.replace(key, value);
+    } finally {
+      unlock(key);
+    }
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+    lock();
+    try {
+      super.replaceAll(function);
+      for (K key : map.keySet()) {
+        sync(key);
+      }
+    } finally {
+      unlock(null);
+    }
+  }
+
+  @Override
+  public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    lock();
+    try {
+      return super.compute(key, remappingFunction);
+    } finally {
+      unlock(key);
+    }
+  }
+
+  @Override
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    lock();
+    try {
+      return super.computeIfAbsent(key, mappingFunction);
+    } finally {
+      unlock(key);
+    }
+  }
+
+  @Override
+  public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    lock();
+    try {
+      return super.computeIfPresent(key, remappingFunction);
+    } finally {
+      unlock(key);
+    }
+  }
+
+  @Override
+  public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+    lock();
+    try {
+      return super.merge(key, value, remappingFunction);
+    } finally {
+      unlock(key);
+    }
+  }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata.impl;
+
+import io.vertx.core.shareddata.EvictionPolicy;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The bookkeeping of an eviction policy: tracks the weight of the entries of a bounded map and chooses the
+ * entries to evict when the total weight exceeds the maximum.
+ * <p>
+ * This class is not thread safe, the map guards it with a lock.
+ */
+abstract class Eviction<K> {
+
+  static <K> Eviction<K> create(EvictionPolicy policy, long maximum) {
+    switch (policy) {
+      case LRU:
+        return new Lru<>(maximum);
+      case LFU:
+        return new Lfu<>(maximum);
+      case TINY_LFU:
+        return new TinyLfu<>(maximum);
+      default:
+        throw new IllegalArgumentException("Unsupported eviction policy " + policy);
+    }
+  }
+
+  final long maximum;
+  long weight;
+
+  Eviction(long maximum) {
+    this.maximum = maximum;
+  }
+
+  /**
+   * Record a read of an entry, nothing happens when the entry is not tracked.
+   */
+  abstract void access(K key);
+
+  /**
+   * Record the insertion or the update of an entry.
+   */
+  abstract void write(K key, int weight);
+
+  /**
+   * Stop tracking an entry.
+   */
+  abstract void remove(K key);
+
+  /**
+   * @return the next entry to evict or {@code null} when the total weight does not exceed the maximum
+   */
+  abstract K victim();
+
+  abstract void clear();
+
+  static <K> LinkedHashMap<K, Integer> accessOrdered() {
+    return new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  static <K> K eldest(LinkedHashMap<K, Integer> map) {
+    Iterator<K> it = map.keySet().iterator();
+    return it.hasNext() ? it.next() : null;
+  }
+
+  /**
+   * Least recently used.
+   */
+  static class Lru<K> extends Eviction<K> {
+
+    private final LinkedHashMap<K, Integer> entries = accessOrdered();
+
+    Lru(long maximum) {
+      super(maximum);
+    }
+
+    @Override
+    void access(K key) {
+      entries.get(key);
+    }
+
+    @Override
+    void write(K key, int w) {
+      Integer previous = entries.put(key, w);
+      weight += w - (previous != null ? previous : 0);
+    }
+
+    @Override
+    void remove(K key) {
+      Integer previous = entries.remove(key);
+      if (previous != null) {
+        weight -= previous;
+      }
+    }
+
+    @Override
+    K victim() {
+      return weight > maximum ? eldest(entries) : null;
+    }
+
+    @Override
+    void clear() {
+      entries.clear();
+      weight = 0;
+    }
+  }
+
+  /**
+   * Least frequently used, entries are grouped by access count, each group is ordered by recency. The entry just
+   * inserted is evicted last, otherwise a full map would never retain new entries.
+   */
+  static class Lfu<K> extends Eviction<K> {
+
+    private static class Node {
+      int weight;
+      long count;
+    }
+
+    private final Map<K, Node> nodes = new HashMap<>();
+    private final TreeMap<Long, LinkedHashSet<K>> frequencies = new TreeMap<>();
+    private K newest;
+
+    Lfu(long maximum) {
+      super(maximum);
+    }
+
+    private void increment(K key, Node node) {
+      LinkedHashSet<K> keys = frequencies.get(node.count);
+      keys.remove(key);
+      if (keys.isEmpty()) {
+        frequencies.remove(node.count);
+      }
+      node.count++;
+      frequencies.computeIfAbsent(node.count, c -> new LinkedHashSet<>()).add(key);
+    }
+
+    @Override
+    void access(K key) {
+      Node node = nodes.get(key);
+      if (node != null) {
+        increment(key, node);
+      }
+    }
+
+    @Override
+    void write(K key, int w) {
+      Node node = nodes.get(key);
+      if (node != null) {
+        weight += w - node.weight;
+        node.weight = w;
+        increment(key, node);
+      } else {
+        node = new Node();
+        node.weight = w;
+        node.count = 1;
+        nodes.put(key, node);
+        frequencies.computeIfAbsent(1L, c -> new LinkedHashSet<>()).add(key);
+        weight += w;
+        newest = key;
+      }
+    }
+
+    @Override
+    void remove(K key) {
+      Node node = nodes.remove(key);
+      if (node != null) {
+        LinkedHashSet<K> keys = frequencies.get(node.count);
+        keys.remove(key);
+        if (keys.isEmpty()) {
+          frequencies.remove(node.count);
+        }
+        weight -= node.weight;
+        if (key.equals(newest)) {
+          newest = null;
+        }
+      }
+    }
+
+    @Override
+    K victim() {
+      if (weight <= maximum) {
+        return null;
+      }
+      for (LinkedHashSet<K> keys : frequencies.values()) {
+        for (K key : keys) {
+          if (!key.equals(newest)) {
+            return key;
+          }
+        }
+      }
+      return newest;
+    }
+
+    @Override
+    void clear() {
+      nodes.clear();
+      frequencies.clear();
+      weight = 0;
+      newest = null;
+    }
+  }
+
+  /**
+   * Window TinyLFU: a window LRU sized to 1% of the maximum in front of a segmented LRU main area, a probation
+   * segment and a protected segment sized to 80% of the main area. Entries leaving the window enter the probation
+   * segment as candidates, they are kept only when more frequently used than the eldest probation entry.
+   */
+  static class TinyLfu<K> extends Eviction<K> {
+
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final FrequencySketch sketch;
+    private final LinkedHashMap<K, Integer> window = accessOrdered();
+    private final LinkedHashMap<K, Integer> probation = accessOrdered();
+    private final LinkedHashMap<K, Integer> protect = accessOrdered();
+    private long windowWeight;
+    private long protectedWeight;
+    private K candidate;
+
+    TinyLfu(long maximum) {
+      super(maximum);
+      this.windowMaximum = Math.max(1, maximum / 100);
+      this.protectedMaximum = (long) ((maximum - windowMaximum) * 0.8d);
+      this.sketch = new FrequencySketch(maximum);
+    }
+
+    @Override
+    void access(K key) {
+      sketch.increment(key.hashCode());
+      if (window.get(key) != null) {
+        return;
+      }
+      Integer w = probation.remove(key);
+      if (w != null) {
+        protect.put(key, w);
+        protectedWeight += w;
+        demoteProtected();
+      } else {
+        protect.get(key);
+      }
+    }
+
+    @Override
+    void write(K key, int w) {
+      sketch.increment(key.hashCode());
+      Integer previous;
+      if ((previous = window.get(key)) != null) {
+        window.put(key, w);
+        windowWeight += w - previous;
+      } else if ((previous = protect.get(key)) != null) {
+        protect.put(key, w);
+        protectedWeight += w - previous;
+        demoteProtected();
+      } else if ((previous = probation.get(key)) != null) {
+        probation.put(key, w);
+      } else {
+        previous = 0;
+        window.put(key, w);
+        windowWeight += w;
+      }
+      weight += w - previous;
+      while (windowWeight > windowMaximum && window.size() > 1) {
+        K eldest = eldest(window);
+        int ew = window.remove(eldest);
+        windowWeight -= ew;
+        probation.put(eldest, ew);
+        candidate = eldest;
+      }
+    }
+
+    private void demoteProtected() {
+      while (protectedWeight > protectedMaximum && !protect.isEmpty()) {
+        K eldest = eldest(protect);
+        int ew = protect.remove(eldest);
+        protectedWeight -= ew;
+        probation.put(eldest, ew);
+      }
+    }
+
+    @Override
+    void remove(K key) {
+      Integer previous;
+      if ((previous = window.remove(key)) != null) {
+        windowWeight -= previous;
+      } else if ((previous = protect.remove(key)) != null) {
+        protectedWeight -= previous;
+      } else if ((previous = probation.remove(key)) == null) {
+        return;
+      }
+      if (key.equals(candidate)) {
+        candidate = null;
+      }
+      weight -= previous;
+    }
+
+    @Override
+    K victim() {
+      if (weight <= maximum) {
+        return null;
+      }
+      if (probation.isEmpty()) {
+        if (protect.isEmpty()) {
+          return eldest(window);
+        }
+        K eldest = eldest(protect);
+        int ew = protect.remove(eldest);
+        protectedWeight -= ew;
+        probation.put(eldest, ew);
+      }
+      K victim = eldest(probation);
+      K c = candidate;
+      if (c != null && !c.equals(victim) && probation.containsKey(c)) {
+        // Admission: the candidate must be more popular than the victim to enter the main area
+        if (sketch.frequency(c.hashCode()) <= sketch.frequency(victim.hashCode())) {
+          candidate = null;
+          return c;
+        }
+      }
+      return victim;
+    }
+
+    @Override
+    void clear() {
+      window.clear();
+      probation.clear();
+      protect.clear();
+      weight = windowWeight = protectedWeight = 0;
+      candidate = null;
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata.impl;
+
+/**
+ * A count-min sketch estimating the access frequency of keys with 4-bit counters.
+ * <p>
+ * Counters are halved once the number of increments reaches ten times the table size, so the estimates favor
+ * the recent history.
+ * <p>
+ * This class is not thread safe.
+ */
+final class FrequencySketch {
+
+  private static final long MAX_TABLE_SIZE = 1 << 24;
+  private static final int DEPTH = 4;
+  private static final int[] SEEDS = { 0x97cb3127, 0xb62d9a3f, 0x5a5b1c27, 0x2f9eb3c5 };
+
+  private final byte[] table;
+  private final int mask;
+  private final int sampleSize;
+  private int size;
+
+  FrequencySketch(long maximum) {
+    // Eight counters per entry keep the collisions low enough for the estimates to rank the entries
+    long counters = Math.min(MAX_TABLE_SIZE, Math.max(64, 8 * maximum));
+    int tableSize = (int) Long.highestOneBit(counters - 1) << 1;
+    table = new byte[tableSize];
+    mask = tableSize - 1;
+    sampleSize = tableSize * 10;
+  }
+
+  private int index(int hash, int i) {
+    int h = (hash ^ (hash >>> 16)) * SEEDS[i];
+    return (h ^ (h >>> 15)) & mask;
+  }
+
+  /**
+   * @return the estimated frequency of {@code hash}, between {@code 0} and {@code 15}
+   */
+  int frequency(int hash) {
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0;i < DEPTH;i++) {
+      frequency = Math.min(frequency, table[index(hash, i)]);
+    }
+    return frequency;
+  }
+
+  /**
+   * Increment the estimated frequency of {@code hash}.
+   */
+  void increment(int hash) {
+    boolean incremented = false;
+    for (int i = 0;i < DEPTH;i++) {
+      int idx = index(hash, i);
+      if (table[idx] < 15) {
+        table[idx]++;
+        incremented = true;
+      }
+    }
+    if (incremented && ++size >= sampleSize) {
+      reset();
+    }
+  }
+
+  private void reset() {
+    for (int i = 0;i < table.length;i++) {
+      table[i] = (byte) (table[i] >>> 1);
+    }
+    size /= 2;
+  }
+}
@@ -16,116 +16,234 @@ import io.vertx.core.Promise;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.shareddata.Lock;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
+ * Local asynchronous locks, exclusive or shared.
+ * <p>
+ * Each lock name maps to a {@link LockState} holding the lock holders and a FIFO linked list of waiters, the state
+ * is only updated within {@link ConcurrentMap#compute} of the name, so enqueuing, granting and removing a timed-out
+ * waiter are all constant time operations. The state is removed from the map when the lock is idle.
+ *
  * @author Thomas Segismont
  */
 public class LocalAsyncLocks {
 
+  private static final int WAITING = 0;
+  private static final int GRANTED = 1;
+  private static final int TIMED_OUT = 2;
+
   private class LockWaiter {
 
     final ContextInternal context;
     final String lockName;
+    final boolean shared;
     final Promise<Lock> promise;
-    final Long timerId;
+    volatile long timerId = -1L;
+
+    // Guarded by the compute of the lock name
+    LockWaiter prev;
+    LockWaiter next;
+    int status;
 
-    LockWaiter(ContextInternal context, String lockName, long timeout, Promise<Lock> promise) {
+    LockWaiter(ContextInternal context, String lockName, boolean shared, Promise<Lock> promise) {
       this.lockName = lockName;
+      this.shared = shared;
       this.promise = promise;
       this.context = context;
-      timerId = timeout != Long.MAX_VALUE ? context.setTimer(timeout, tid -> timeout()) : null;
     }
 
     void timeout() {
-      // Cleanup
-      waitersMap.compute(lockName, (s, list) -> {
-        int idx;
-        if (list == null || (idx = list.indexOf(LockWaiter.this)) == -1) {
-          // Already removed by release()
-          return list;
-        } else if (list.size() == 1) {
-          return null;
-        } else {
-          int size = list.size();
-          List<LockWaiter> n = new ArrayList<>(size - 1);
-          if (idx > 0) {
-            n.addAll(list.subList(0, idx));
-          }
-          if (idx + 1 < size) {
-            n.addAll(list.subList(idx + 1, size));
-          }
-          return n;
+      boolean[] timedOut = new boolean[1];
+      LockWaiter[] granted = new LockWaiter[1];
+      waitersMap.computeIfPresent(lockName, (s, state) -> {
+        if (status == WAITING) {
+          // Not granted yet, the waiters queued behind might be granted now
+          state.unlink(this);
+          status = TIMED_OUT;
+          timedOut[0] = true;
+          granted[0] = state.grant();
         }
+        return state.isIdle() ? null : state;
       });
-      promise.fail("Timed out waiting to get lock");
+      if (timedOut[0]) {
+        promise.fail("Timed out waiting to get lock");
+        granted(granted[0]);
+      }
     }
 
     void acquireLock() {
-      if (timerId == null || context.owner().cancelTimer(timerId)) {
-        promise.complete(new AsyncLock(lockName));
+      long id = timerId;
+      if (id != -1L) {
+        context.owner().cancelTimer(id);
+      }
+      promise.complete(new AsyncLock(lockName, shared));
+    }
+  }
+
+  /**
+   * The state of a lock, only accessed within the compute of the lock name.
+   */
+  private static class LockState {
+
+    LockWaiter head;
+    LockWaiter tail;
+    int waiters;
+    int readers;
+    boolean writer;
+
+    void enqueue(LockWaiter waiter) {
+      waiter.prev = tail;
+      if (tail == null) {
+        head = waiter;
       } else {
-        nextWaiter(lockName);
+        tail.next = waiter;
       }
+      tail = waiter;
+      waiters++;
+    }
+
+    void unlink(LockWaiter waiter) {
+      if (waiter.prev == null) {
+        head = waiter.next;
+      } else {
+        waiter.prev.next = waiter.next;
+      }
+      if (waiter.next == null) {
+        tail = waiter.prev;
+      } else {
+        waiter.next.prev = waiter.prev;
+      }
+      waiter.prev = waiter.next = null;
+      waiters--;
+    }
+
+    boolean tryAcquire(boolean shared) {
+      if (writer || (!shared && readers > 0)) {
+        return false;
+      }
+      if (shared) {
+        readers++;
+      } else {
+        writer = true;
+      }
+      return true;
+    }
+
+    void release(boolean shared) {
+      if (shared) {
+        readers--;
+      } else {
+        writer = false;
+      }
+    }
+
+    /**
+     * Grant the lock to the waiters at the head of the queue, that is either a single exclusive waiter or a sequence
+     * of shared waiters.
+     *
+     * @return the granted waiters chained by their {@code next} field
+     */
+    LockWaiter grant() {
+      LockWaiter first = null;
+      LockWaiter last = null;
+      LockWaiter waiter;
+      while ((waiter = head) != null && tryAcquire(waiter.shared)) {
+        unlink(waiter);
+        waiter.status = GRANTED;
+        if (last == null) {
+          first = waiter;
+        } else {
+          last.next = waiter;
+        }
+        last = waiter;
+      }
+      return first;
+    }
+
+    boolean isIdle() {
+      return head == null && readers == 0 && !writer;
     }
   }
 
   private class AsyncLock implements LockInternal {
 
     final String lockName;
+    final boolean shared;
     final AtomicBoolean invoked = new AtomicBoolean();
 
-    AsyncLock(String lockName) {
+    AsyncLock(String lockName, boolean shared) {
       this.lockName = lockName;
+      this.shared = shared;
     }
 
     @Override
     public void release() {
       if (invoked.compareAndSet(false, true)) {
-        nextWaiter(lockName);
+        LockWaiter[] granted = new LockWaiter[1];
+        waitersMap.computeIfPresent(lockName, (s, state) -> {
+          state.release(shared);
+          granted[0] = state.grant();
+          return state.isIdle() ? null : state;
+        });
+        granted(granted[0]);
       }
     }
 
     @Override
     public int waiters() {
-      List<LockWaiter> waiters = waitersMap.get(lockName);
-      return waiters == null ? 0 : waiters.size() - 1;
+      LockState state = waitersMap.get(lockName);
+      return state == null ? 0 : state.waiters;
     }
   }
 
-  // Value should never be modified
-  private final ConcurrentMap<String, List<LockWaiter>> waitersMap = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, LockState> waitersMap = new ConcurrentHashMap<>();
 
   public Future<Lock> acquire(ContextInternal context, String name, long timeout) {
+    return acquire(context, name, false, timeout);
+  }
+
+  /**
+   * Acquire a lock, shared locks can be held at the same time by several holders, an exclusive lock excludes any
+   * other holder. Waiters are served in order, so a shared waiter queued behind an exclusive waiter waits as well.
+   */
+  public Future<Lock> acquire(ContextInternal context, String name, boolean shared, long timeout) {
     Promise<Lock> promise = context.promise();
-    LockWaiter lockWaiter = new LockWaiter(context, name, timeout, promise);
-    List<LockWaiter> waiters = waitersMap.compute(name, (s, list) -> {
-      List<LockWaiter> result;
-      if (list != null) {
-        result = new ArrayList<>(list.size() + 1);
-        result.addAll(list);
+    LockWaiter waiter = new LockWaiter(context, name, shared, promise);
+    boolean[] acquired = new boolean[1];
+    waitersMap.compute(name, (s, state) -> {
+      if (state == null) {
+        state = new LockState();
+      }
+      if (state.head == null && state.tryAcquire(shared)) {
+        waiter.status = GRANTED;
+        acquired[0] = true;
       } else {
-        result = new ArrayList<>(1);
+        state.enqueue(waiter);
       }
-      result.add(lockWaiter);
-      return result;
+      return state;
     });
-    if (waiters.size() == 1) {
-      waiters.get(0).acquireLock();
+    if (acquired[0]) {
+      waiter.acquireLock();
+    } else if (timeout != Long.MAX_VALUE) {
+      waiter.timerId = context.setTimer(Math.max(1L, timeout), tid -> waiter.timeout());
     }
     return promise.future();
   }
 
-  private void nextWaiter(String lockName) {
-    List<LockWaiter> waiters = waitersMap.compute(lockName, (s, list) -> {
-      return list == null || list.size() == 1 ? null : new ArrayList<>(list.subList(1, list.size()));
-    });
-    if (waiters != null) {
-      waiters.get(0).acquireLock();
+  /**
+   * Complete the granted waiters on their context, a holder releasing the lock from its completion handler would
+   * otherwise hand the lock over recursively, one stack frame per waiter.
+   */
+  private static void granted(LockWaiter waiter) {
+    while (waiter != null) {
+      LockWaiter next = waiter.next;
+      waiter.next = null;
+      LockWaiter w = waiter;
+      w.context.runOnContext(v -> w.acquireLock());
+      waiter = next;
     }
   }
 }
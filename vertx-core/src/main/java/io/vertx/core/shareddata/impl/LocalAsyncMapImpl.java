@@ -15,7 +15,11 @@ import io.vertx.core.Future;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.shareddata.AsyncMap;
+import io.vertx.core.shareddata.LocalAsyncMapOptions;
+import io.vertx.core.spi.metrics.CacheMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -24,29 +28,228 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static java.util.concurrent.TimeUnit.*;
 import static java.util.stream.Collectors.*;
 
 /**
+ * A local asynchronous map.
+ * <p>
+ * Entries with a time-to-live are never visible once expired, they are lazily removed on access and by a sweep.
+ * The sweep runs periodically while the map holds entries with a time-to-live, it only visits the entries due: they
+ * are bucketed by deadline, each bucket spans one sweep period.
+ * <p>
+ * When the map is bounded, updates are serialized by a lock that guards the eviction policy. Reads never block, they
+ * record the access only when the lock is free, so the policy may miss a few accesses under contention.
+ *
  * @author Thomas Segismont
  */
 public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
 
+  private static final int EXPIRATION_STRIPES = 16;
+
   private final VertxInternal vertx;
-  private final ConcurrentMap<K, Holder<V>> map;
+  private final LocalAsyncMapOptions options;
+  private final ConcurrentMap<K, Holder<K, V>> map;
+  private final Eviction<K> eviction;
+  private final ReentrantLock lock;
+  private final CacheMetrics metrics;
+  private final long sweepPeriod;
+  private final ConcurrentMap<Long, List<Holder<K, V>>> expirations;
+  private final AtomicBoolean sweepScheduled;
+  // The sweep outlives the deployments using the map, it is scheduled on a context without close hooks
+  private volatile ContextInternal sweepContext;
 
   public LocalAsyncMapImpl(VertxInternal vertx) {
+    this(vertx, null, new LocalAsyncMapOptions());
+  }
+
+  public LocalAsyncMapImpl(VertxInternal vertx, String name, LocalAsyncMapOptions options) {
+    VertxMetrics vertxMetrics = vertx.metrics();
     this.vertx = vertx;
-    map = new ConcurrentHashMap<>();
+    this.options = new LocalAsyncMapOptions(options);
+    this.map = new ConcurrentHashMap<>();
+    this.eviction = options.getMaxSize() > 0 ? Eviction.create(options.getEvictionPolicy(), options.getMaxSize()) : null;
+    this.lock = eviction != null ? new ReentrantLock() : null;
+    this.metrics = vertxMetrics != null && name != null ? vertxMetrics.createCacheMetrics("local-async-map", name) : null;
+    this.sweepPeriod = options.getExpirationSweepPeriod();
+    this.expirations = new ConcurrentHashMap<>();
+    this.sweepScheduled = new AtomicBoolean();
+  }
+
+  /**
+   * @return whether this map has been created with options equivalent to {@code other}
+   */
+  boolean matches(LocalAsyncMapOptions other) {
+    if (options.getMaxSize() != other.getMaxSize() || options.getExpirationSweepPeriod() != other.getExpirationSweepPeriod()) {
+      return false;
+    }
+    // The eviction policy only applies to bounded maps
+    return options.getMaxSize() == 0 || options.getEvictionPolicy() == other.getEvictionPolicy();
+  }
+
+  private void lock() {
+    if (lock != null) {
+      lock.lock();
+    }
+  }
+
+  private void unlock() {
+    if (lock != null) {
+      try {
+        evict();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Called with the lock held.
+   */
+  private void evict() {
+    K victim;
+    while ((victim = eviction.victim()) != null) {
+      eviction.remove(victim);
+      if (map.remove(victim) != null && metrics != null) {
+        metrics.eviction();
+      }
+    }
+  }
+
+  /**
+   * Called with the lock held after {@code holder} has been added to the map.
+   */
+  private void added(Holder<K, V> holder) {
+    if (eviction != null) {
+      eviction.write(holder.key, 1);
+    }
+    if (holder.expires()) {
+      scheduleExpiration(holder);
+    }
+  }
+
+  /**
+   * Called with the lock held after an entry has been removed from the map.
+   */
+  private void removed(K key) {
+    if (eviction != null) {
+      eviction.remove(key);
+    }
+  }
+
+  private Holder<K, V> lookup(K k) {
+    Holder<K, V> h = map.get(k);
+    if (h != null && !h.hasNotExpired()) {
+      expire(h);
+      h = null;
+    }
+    if (h != null) {
+      if (lock != null && lock.tryLock()) {
+        try {
+          eviction.access(k);
+        } finally {
+          lock.unlock();
+        }
+      }
+      if (metrics != null) {
+        metrics.hit();
+      }
+    } else if (metrics != null) {
+      metrics.miss();
+    }
+    return h;
+  }
+
+  private void expire(Holder<K, V> holder) {
+    lock();
+    try {
+      if (map.remove(holder.key, holder)) {
+        removed(holder.key);
+        if (metrics != null) {
+          metrics.expiration();
+        }
+      }
+    } finally {
+      unlock();
+    }
+  }
+
+  private void scheduleExpiration(Holder<K, V> holder) {
+    long bucket = Math.floorDiv(MILLISECONDS.convert(holder.deadline, NANOSECONDS) + sweepPeriod - 1, sweepPeriod);
+    // Stripe the buckets to avoid contention between concurrent writers
+    long stripe = bucket * EXPIRATION_STRIPES + ThreadLocalRandom.current().nextInt(EXPIRATION_STRIPES);
+    expirations.compute(stripe, (key, list) -> {
+      if (list == null) {
+        list = new ArrayList<>();
+      }
+      list.add(holder);
+      return list;
+    });
+    if (sweepScheduled.compareAndSet(false, true)) {
+      scheduleSweep();
+    }
+  }
+
+  private void scheduleSweep() {
+    ContextInternal context = sweepContext;
+    if (context == null) {
+      synchronized (this) {
+        context = sweepContext;
+        if (context == null) {
+          context = vertx.createEventLoopContext();
+          sweepContext = context;
+        }
+      }
+    }
+    try {
+      context.setTimer(sweepPeriod, id -> sweep());
+    } catch (RuntimeException e) {
+      // Vert.x is closing, the next expiration schedules the sweep again
+      sweepScheduled.set(false);
+      throw e;
+    }
+  }
+
+  private void sweep() {
+    try {
+      sweepDue();
+    } finally {
+      sweepScheduled.set(false);
+    }
+    if (!expirations.isEmpty() && sweepScheduled.compareAndSet(false, true)) {
+      scheduleSweep();
+    }
+  }
+
+  private void sweepDue() {
+    long now = System.nanoTime();
+    long current = Math.floorDiv(MILLISECONDS.convert(now, NANOSECONDS), sweepPeriod);
+    for (Long stripe : expirations.keySet()) {
+      if (Math.floorDiv(stripe, EXPIRATION_STRIPES) <= current) {
+        List<Holder<K, V>> holders = expirations.remove(stripe);
+        if (holders != null) {
+          for (Holder<K, V> holder : holders) {
+            if (holder.hasNotExpired(now)) {
+              // Deadline truncated to the millisecond, retry on the next sweep
+              scheduleExpiration(holder);
+            } else if (map.get(holder.key) == holder) {
+              expire(holder);
+            }
+          }
+        }
+      }
+    }
   }
 
   @Override
   public Future<V> get(K k) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> h = map.get(k);
-    if (h != null && h.hasNotExpired()) {
+    Holder<K, V> h = lookup(k);
+    if (h != null) {
       return ctx.succeededFuture(h.value);
     } else {
       return ctx.succeededFuture();
@@ -55,93 +258,104 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
 
   @Override
   public Future<Void> put(K k, V v) {
-    ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> previous = map.put(k, new Holder<>(v));
-    if (previous != null && previous.expires()) {
-      vertx.cancelTimer(previous.timerId);
-    }
-    return ctx.succeededFuture();
+    return put(new Holder<>(k, v));
   }
 
   @Override
-  public Future<V> putIfAbsent(K k, V v) {
-    ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> h = map.putIfAbsent(k, new Holder<>(v));
-    return ctx.succeededFuture(h == null ? null : h.value);
+  public Future<Void> put(K k, V v, long ttl) {
+    return put(new Holder<>(k, v, ttl));
   }
 
-  @Override
-  public Future<Void> put(K k, V v, long ttl) {
+  private Future<Void> put(Holder<K, V> h) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> previous = map.put(k, new Holder<>(v, timerId, ttl, timestamp));
-    if (previous != null && previous.expires()) {
-      vertx.cancelTimer(previous.timerId);
+    lock();
+    try {
+      map.put(h.key, h);
+      added(h);
+    } finally {
+      unlock();
     }
     return ctx.succeededFuture();
   }
 
-  private void removeIfExpired(K k) {
-    map.computeIfPresent(k, (key, holder) -> holder.hasNotExpired() ? holder : null);
+  @Override
+  public Future<V> putIfAbsent(K k, V v) {
+    return putIfAbsent(new Holder<>(k, v));
   }
 
   @Override
   public Future<V> putIfAbsent(K k, V v, long ttl) {
+    return putIfAbsent(new Holder<>(k, v, ttl));
+  }
+
+  private Future<V> putIfAbsent(Holder<K, V> h) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> existing = map.putIfAbsent(k, new Holder<>(v, timerId, ttl, timestamp));
-    if (existing != null) {
-      vertx.cancelTimer(timerId);
-      return ctx.succeededFuture(existing.value);
-    } else {
-      return ctx.succeededFuture();
+    Holder<K, V> existing;
+    lock();
+    try {
+      existing = map.compute(h.key, (key, holder) -> holder != null && holder.hasNotExpired() ? holder : h);
+      if (existing == h) {
+        added(h);
+      }
+    } finally {
+      unlock();
     }
+    return ctx.succeededFuture(existing == h ? null : existing.value);
   }
 
   @Override
   public Future<Boolean> removeIfPresent(K k, V v) {
     ContextInternal ctx = vertx.getOrCreateContext();
     AtomicBoolean result = new AtomicBoolean();
-    map.computeIfPresent(k, (key, holder) -> {
-      if (holder.value.equals(v)) {
-        result.compareAndSet(false, true);
-        if (holder.expires()) {
-          vertx.cancelTimer(holder.timerId);
+    lock();
+    try {
+      map.computeIfPresent(k, (key, holder) -> {
+        if (holder.hasNotExpired() && holder.value.equals(v)) {
+          result.set(true);
+          return null;
         }
-        return null;
+        return holder;
+      });
+      if (result.get()) {
+        removed(k);
       }
-      return holder;
-    });
+    } finally {
+      unlock();
+    }
     return ctx.succeededFuture(result.get());
   }
 
   @Override
   public Future<V> replace(K k, V v) {
-    ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> previous = map.replace(k, new Holder<>(v));
-    if (previous != null) {
-      if (previous.expires()) {
-        vertx.cancelTimer(previous.timerId);
-      }
-      return ctx.succeededFuture(previous.value);
-    } else {
-      return ctx.succeededFuture();
-    }
+    return replace(new Holder<>(k, v));
   }
 
   @Override
   public Future<V> replace(K k, V v, long ttl) {
+    return replace(new Holder<>(k, v, ttl));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Future<V> replace(Holder<K, V> h) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> previous = map.replace(k, new Holder<>(v, timerId, ttl, timestamp));
-    if (previous != null) {
-      if (previous.expires()) {
-        vertx.cancelTimer(previous.timerId);
+    Holder<K, V>[] previous = new Holder[1];
+    lock();
+    try {
+      map.computeIfPresent(h.key, (key, holder) -> {
+        if (holder.hasNotExpired()) {
+          previous[0] = holder;
+          return h;
+        }
+        return holder;
+      });
+      if (previous[0] != null) {
+        added(h);
       }
-      return ctx.succeededFuture(previous.value);
+    } finally {
+      unlock();
+    }
+    if (previous[0] != null) {
+      return ctx.succeededFuture(previous[0].value);
     } else {
       return ctx.succeededFuture();
     }
@@ -149,67 +363,81 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
 
   @Override
   public Future<Boolean> replaceIfPresent(K k, V oldValue, V newValue) {
-    ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> h = new Holder<>(newValue);
-    Holder<V> result = map.computeIfPresent(k, (key, holder) -> {
-      if (holder.value.equals(oldValue)) {
-        if (holder.expires()) {
-          vertx.cancelTimer(holder.timerId);
-        }
-        return h;
-      }
-      return holder;
-    });
-    return ctx.succeededFuture(h == result);
+    return replaceIfPresent(oldValue, new Holder<>(k, newValue));
   }
 
   @Override
   public Future<Boolean> replaceIfPresent(K k, V oldValue, V newValue, long ttl) {
+    return replaceIfPresent(oldValue, new Holder<>(k, newValue, ttl));
+  }
+
+  private Future<Boolean> replaceIfPresent(V oldValue, Holder<K, V> h) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> h = new Holder<>(newValue, timerId, ttl, timestamp);
-    Holder<V> result = map.computeIfPresent(k, (key, holder) -> {
-      if (holder.value.equals(oldValue)) {
-        if (holder.expires()) {
-          vertx.cancelTimer(holder.timerId);
+    Holder<K, V> result;
+    lock();
+    try {
+      result = map.computeIfPresent(h.key, (key, holder) -> {
+        if (holder.hasNotExpired() && holder.value.equals(oldValue)) {
+          return h;
         }
-        return h;
+        return holder;
+      });
+      if (result == h) {
+        added(h);
       }
-      return holder;
-    });
-    if(h == result) {
-      return ctx.succeededFuture(true);
-    } else {
-      vertx.cancelTimer(timerId);
-      return ctx.succeededFuture(false);
+    } finally {
+      unlock();
     }
+    return ctx.succeededFuture(result == h);
   }
 
   @Override
   public Future<Void> clear() {
     ContextInternal ctx = vertx.getOrCreateContext();
-    map.clear();
+    lock();
+    try {
+      map.clear();
+      if (eviction != null) {
+        eviction.clear();
+      }
+    } finally {
+      unlock();
+    }
     return ctx.succeededFuture();
   }
 
   @Override
   public Future<Integer> size() {
     ContextInternal ctx = vertx.getOrCreateContext();
-    return ctx.succeededFuture(map.size());
+    int size;
+    if (expirations.isEmpty()) {
+      size = map.size();
+    } else {
+      long now = System.nanoTime();
+      size = (int) map.values().stream().filter(h -> h.hasNotExpired(now)).count();
+    }
+    return ctx.succeededFuture(size);
   }
 
   @Override
   public Future<Set<K>> keys() {
     ContextInternal ctx = vertx.getOrCreateContext();
-    return ctx.succeededFuture(new HashSet<>(map.keySet()));
+    long now = System.nanoTime();
+    Set<K> result = new HashSet<>();
+    map.forEach((key, holder) -> {
+      if (holder.hasNotExpired(now)) {
+        result.add(key);
+      }
+    });
+    return ctx.succeededFuture(result);
   }
 
   @Override
   public Future<List<V>> values() {
     ContextInternal ctx = vertx.getOrCreateContext();
+    long now = System.nanoTime();
     List<V> result = map.values().stream()
-      .filter(Holder::hasNotExpired)
+      .filter(h -> h.hasNotExpired(now))
       .map(h -> h.value)
       .collect(toList());
     return ctx.succeededFuture(result);
@@ -218,9 +446,10 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<Map<K, V>> entries() {
     ContextInternal ctx = vertx.getOrCreateContext();
+    long now = System.nanoTime();
     Map<K, V> result = new HashMap<>(map.size());
     map.forEach((key, holder) -> {
-      if (holder.hasNotExpired()) {
+      if (holder.hasNotExpired(now)) {
         result.put(key, holder.value);
       }
     });
@@ -230,38 +459,46 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<V> remove(K k) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> previous = map.remove(k);
-    if (previous != null) {
-      if (previous.expires()) {
-        vertx.cancelTimer(previous.timerId);
+    Holder<K, V> previous;
+    lock();
+    try {
+      previous = map.remove(k);
+      if (previous != null) {
+        removed(k);
       }
+    } finally {
+      unlock();
+    }
+    if (previous != null && previous.hasNotExpired()) {
       return ctx.succeededFuture(previous.value);
     } else {
       return ctx.succeededFuture();
     }
   }
 
-  private static class Holder<V> {
+  private static class Holder<K, V> {
+    final K key;
     final V value;
-    final long timerId;
     final long ttl;
-    final long timestamp;
+    final long deadline;
 
-    Holder(V value) {
+    Holder(K key, V value) {
       Objects.requireNonNull(value);
+      this.key = key;
       this.value = value;
-      timestamp = ttl = timerId = 0;
+      this.ttl = 0;
+      this.deadline = 0;
     }
 
-    Holder(V value, long timerId, long ttl, long timestamp) {
+    Holder(K key, V value, long ttl) {
       Objects.requireNonNull(value);
       if (ttl < 1) {
         throw new IllegalArgumentException("ttl must be positive: " + ttl);
       }
+      this.key = key;
       this.value = value;
-      this.timerId = timerId;
       this.ttl = ttl;
-      this.timestamp = timestamp;
+      this.deadline = System.nanoTime() + NANOSECONDS.convert(ttl, MILLISECONDS);
     }
 
     boolean expires() {
@@ -269,12 +506,16 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
     }
 
     boolean hasNotExpired() {
-      return !expires() || MILLISECONDS.convert(System.nanoTime() - timestamp, NANOSECONDS) < ttl;
+      return !expires() || hasNotExpired(System.nanoTime());
+    }
+
+    boolean hasNotExpired(long now) {
+      return !expires() || deadline - now > 0;
     }
 
     @Override
     public String toString() {
-      return "Holder{" + "value=" + value + ", timerId=" + timerId + ", ttl=" + ttl + ", timestamp=" + timestamp + '}';
+      return "Holder{" + "key=" + key + ", value=" + value + ", ttl=" + ttl + ", deadline=" + deadline + '}';
     }
   }
 }
@@ -30,7 +30,7 @@ class LocalMapImpl<K, V> implements LocalMap<K, V> {
 
   private final ConcurrentMap<String, LocalMap<?, ?>> maps;
   private final String name;
-  private final ConcurrentMap<K, V> map = new ConcurrentHashMap<>();
+  final ConcurrentMap<K, V> map = new ConcurrentHashMap<>();
 
   LocalMapImpl(String name, ConcurrentMap<String, LocalMap<?, ?>> maps) {
     this.name = name;
@@ -18,6 +18,7 @@ import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.shareddata.*;
 import io.vertx.core.spi.cluster.ClusterManager;
+import io.vertx.core.spi.metrics.VertxMetrics;
 
 import java.io.Serializable;
 import java.util.List;
@@ -34,6 +35,9 @@ public class SharedDataImpl implements SharedData {
 
   public static final long DEFAULT_LOCK_TIMEOUT = 10 * 1000;
 
+  private static final LocalAsyncMapOptions DEFAULT_LOCAL_ASYNC_MAP_OPTIONS = new LocalAsyncMapOptions();
+  private static final LocalCounterOptions DEFAULT_LOCAL_COUNTER_OPTIONS = new LocalCounterOptions();
+
   private final VertxInternal vertx;
   private final ClusterManager clusterManager;
   private final LocalAsyncLocks localAsyncLocks;
@@ -100,6 +104,18 @@ public class SharedDataImpl implements SharedData {
     return localAsyncLocks.acquire(vertx.getOrCreateContext(), name, timeout);
   }
 
+  @Override
+  public Future<Lock> getLocalSharedLock(String name) {
+    return getLocalSharedLockWithTimeout(name, DEFAULT_LOCK_TIMEOUT);
+  }
+
+  @Override
+  public Future<Lock> getLocalSharedLockWithTimeout(String name, long timeout) {
+    Objects.requireNonNull(name, "name");
+    Arguments.require(timeout >= 0, "timeout must be >= 0");
+    return localAsyncLocks.acquire(vertx.getOrCreateContext(), name, true, timeout);
+  }
+
   @Override
   public Future<Counter> getCounter(String name) {
     Objects.requireNonNull(name, "name");
@@ -122,18 +138,59 @@ public class SharedDataImpl implements SharedData {
     return (LocalMap<K, V>) localMaps.computeIfAbsent(name, n -> new LocalMapImpl<>(n, localMaps));
   }
 
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K, V> LocalMap<K, V> getLocalMap(String name, LocalMapOptions options) {
+    Objects.requireNonNull(options, "options");
+    Arguments.require(options.getMaxSize() == 0 || options.getMaxWeight() == 0, "maxSize and maxWeight cannot be both set");
+    Arguments.require(options.getMaxWeight() == 0 || options.getWeigher() != null, "maxWeight requires a weigher");
+    boolean bounded = options.getMaxSize() > 0 || options.getMaxWeight() > 0;
+    LocalMap<?, ?> map = localMaps.computeIfAbsent(name, n -> {
+      if (!bounded) {
+        return new LocalMapImpl<>(n, localMaps);
+      }
+      VertxMetrics metrics = vertx.metrics();
+      return new BoundedLocalMapImpl<>(n, localMaps, options, metrics != null ? metrics.createCacheMetrics("local-map", n) : null);
+    });
+    if (map instanceof BoundedLocalMapImpl ? !((BoundedLocalMapImpl<?, ?>) map).matches(options) : bounded) {
+      throw new IllegalStateException("Local map " + name + " already exists with different options");
+    }
+    return (LocalMap<K, V>) map;
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   public <K, V> Future<AsyncMap<K, V>> getLocalAsyncMap(String name) {
-    LocalAsyncMapImpl<K, V> asyncMap = (LocalAsyncMapImpl<K, V>) localAsyncMaps.computeIfAbsent(name, n -> new LocalAsyncMapImpl<>(vertx));
+    LocalAsyncMapImpl<K, V> asyncMap = (LocalAsyncMapImpl<K, V>) localAsyncMaps.computeIfAbsent(name, n -> new LocalAsyncMapImpl<>(vertx, n, DEFAULT_LOCAL_ASYNC_MAP_OPTIONS));
+    ContextInternal context = vertx.getOrCreateContext();
+    return context.succeededFuture(new WrappedAsyncMap<>(asyncMap));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K, V> Future<AsyncMap<K, V>> getLocalAsyncMap(String name, LocalAsyncMapOptions options) {
+    Objects.requireNonNull(options, "options");
+    LocalAsyncMapImpl<K, V> asyncMap = (LocalAsyncMapImpl<K, V>) localAsyncMaps.computeIfAbsent(name, n -> new LocalAsyncMapImpl<>(vertx, n, options));
     ContextInternal context = vertx.getOrCreateContext();
+    if (!asyncMap.matches(options)) {
+      return context.failedFuture(new IllegalStateException("Async map " + name + " already exists with different options"));
+    }
     return context.succeededFuture(new WrappedAsyncMap<>(asyncMap));
   }
 
   @Override
   public Future<Counter> getLocalCounter(String name) {
-    Counter counter = localCounters.computeIfAbsent(name, n -> new AsynchronousCounter(vertx));
+    return getLocalCounter(name, DEFAULT_LOCAL_COUNTER_OPTIONS);
+  }
+
+  @Override
+  public Future<Counter> getLocalCounter(String name, LocalCounterOptions options) {
+    Objects.requireNonNull(options, "options");
+    Counter counter = localCounters.computeIfAbsent(name, n -> options.isStriped() ? new StripedCounter(vertx) : new AsynchronousCounter(vertx));
     ContextInternal context = vertx.getOrCreateContext();
+    if ((counter instanceof StripedCounter) != options.isStriped()) {
+      return context.failedFuture(new IllegalStateException("Counter " + name + " already exists with a different mode"));
+    }
     return context.succeededFuture(counter);
   }
 
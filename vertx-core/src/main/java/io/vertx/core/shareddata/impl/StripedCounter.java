@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.shareddata.Counter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A local counter spreading concurrent updates over several cells, the value is the sum of the cells.
+ * <p>
+ * Only {@link #increment()}, {@link #add(long)} and {@link #get()} are supported, the sum cannot be read atomically
+ * with an update so the other operations fail with {@link UnsupportedOperationException}.
+ */
+public class StripedCounter implements Counter {
+
+  private final VertxInternal vertx;
+  private final LongAdder cells;
+
+  public StripedCounter(VertxInternal vertx) {
+    this.vertx = vertx;
+    this.cells = new LongAdder();
+  }
+
+  @Override
+  public void increment() {
+    cells.increment();
+  }
+
+  @Override
+  public void add(long value) {
+    cells.add(value);
+  }
+
+  @Override
+  public Future<Long> get() {
+    ContextInternal context = vertx.getOrCreateContext();
+    return context.succeededFuture(cells.sum());
+  }
+
+  @Override
+  public Future<Long> incrementAndGet() {
+    return unsupported("incrementAndGet");
+  }
+
+  @Override
+  public Future<Long> getAndIncrement() {
+    return unsupported("getAndIncrement");
+  }
+
+  @Override
+  public Future<Long> decrementAndGet() {
+    return unsupported("decrementAndGet");
+  }
+
+  @Override
+  public Future<Long> addAndGet(long value) {
+    return unsupported("addAndGet");
+  }
+
+  @Override
+  public Future<Long> getAndAdd(long value) {
+    return unsupported("getAndAdd");
+  }
+
+  @Override
+  public Future<Boolean> compareAndSet(long expected, long value) {
+    return unsupported("compareAndSet");
+  }
+
+  private <T> Future<T> unsupported(String operation) {
+    ContextInternal context = vertx.getOrCreateContext();
+    return context.failedFuture(new UnsupportedOperationException("Striped counters do not support " + operation));
+  }
+}
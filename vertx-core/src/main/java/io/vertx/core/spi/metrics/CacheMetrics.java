@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.spi.metrics;
+
+/**
+ * The metrics of an in-memory cache, e.g. a local shared data map.
+ */
+public interface CacheMetrics extends Metrics {
+
+  /**
+   * Signals a lookup found an entry.
+   */
+  default void hit() {
+  }
+
+  /**
+   * Signals a lookup did not find an entry.
+   */
+  default void miss() {
+  }
+
+  /**
+   * Signals an entry has been evicted because the cache exceeded its capacity.
+   */
+  default void eviction() {
+  }
+
+  /**
+   * Signals an entry has been removed because its time-to-live has elapsed.
+   */
+  default void expiration() {
+  }
+}
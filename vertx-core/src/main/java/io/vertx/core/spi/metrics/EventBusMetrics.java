@@ -110,6 +110,18 @@ public interface EventBusMetrics<H> extends Metrics {
   default void messageWritten(String address, int numberOfBytes) {
   }
 
+  /**
+   * A batch of messages has been flushed over the network, this is only called when
+   * {@link io.vertx.core.eventbus.EventBusOptions#setClusterWriteBatching(boolean) cluster write batching} is enabled.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param numberOfMessages the number of messages in the batch
+   * @param numberOfBytes the number of bytes written
+   */
+  default void messageBatchWritten(int numberOfMessages, int numberOfBytes) {
+  }
+
   /**
    * A message has been received from the network.<p/>
    *
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.spi.metrics;
+
+/**
+ * The metrics of an event-loop thread.
+ * <p>
+ * These callbacks are invoked on the hot path of the event-loop, implementations should only record values
+ * (e.g. in a histogram) and never block.
+ */
+public interface EventLoopMetrics extends Metrics {
+
+  /**
+   * Signals a task submitted from another thread has been taken from the event-loop task queue.
+   *
+   * @param waitTime the time in nanoseconds the task waited in the queue
+   */
+  default void taskDequeued(long waitTime) {
+  }
+
+  /**
+   * Signals the event-loop has executed a task.
+   * <p>
+   * This method is called on the event-loop thread.
+   *
+   * @param executionTime the task execution time in nanoseconds
+   */
+  default void taskExecuted(long executionTime) {
+  }
+
+  /**
+   * Signals the event-loop utilization measured over the last sampling interval, the busy ratio is
+   * {@code busyTime / elapsedTime}.
+   * <p>
+   * This method is called by the sampling thread.
+   *
+   * @param busyTime the time in nanoseconds spent executing tasks
+   * @param elapsedTime the duration in nanoseconds of the sampling interval
+   */
+  default void utilization(long busyTime, long elapsedTime) {
+  }
+
+  /**
+   * Signals a slow task has been sampled while it was executing, this is reported for the slowest tasks of each
+   * sampling interval.
+   * <p>
+   * This method is called by the sampling thread.
+   *
+   * @param executionTime the time in nanoseconds the task has been executing so far
+   * @param stackTrace the stack trace of the event-loop thread
+   */
+  default void slowTask(long executionTime, StackTraceElement[] stackTrace) {
+  }
+}
@@ -44,4 +44,23 @@ public interface PoolMetrics<Q, T> extends Metrics {
    */
   default void end(T t) {
   }
+
+  /**
+   * Signals the number of streams in use of a pooled connection changed, this is called by pools of connections
+   * such as the HTTP client pool.
+   *
+   * @param connection the pooled connection
+   * @param streams the number of streams in use
+   * @param maxStreams the maximum number of concurrent streams of the connection
+   */
+  default void streams(Object connection, long streams, long maxStreams) {
+  }
+
+  /**
+   * Signals a pooled connection has been removed from the pool.
+   *
+   * @param connection the pooled connection
+   */
+  default void removed(Object connection) {
+  }
 }
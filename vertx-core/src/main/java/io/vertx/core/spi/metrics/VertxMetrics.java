@@ -158,6 +158,27 @@ public interface VertxMetrics extends Metrics, Measured {
     return null;
   }
 
+  /**
+   * Provides the cache metrics SPI.
+   *
+   * @param type the type of the cache e.g. local-async-map
+   * @param name the name of the cache
+   * @return the cache metrics SPI or {@code null} when metrics are disabled
+   */
+  default CacheMetrics createCacheMetrics(String type, String name) {
+    return null;
+  }
+
+  /**
+   * Provides the event-loop metrics SPI, this method is called once for each event-loop thread.
+   *
+   * @param name the name of the event-loop thread
+   * @return the event-loop metrics SPI or {@code null} when event-loop metrics are disabled
+   */
+  default EventLoopMetrics createEventLoopMetrics(String name) {
+    return null;
+  }
+
   /**
    * Callback to signal when the Vertx instance is fully initialized. Other methods can be called before this method
    * when the instance is being constructed.
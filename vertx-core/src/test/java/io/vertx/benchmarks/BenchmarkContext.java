@@ -25,7 +25,7 @@ public class BenchmarkContext {
   private static final EventExecutor EXECUTOR = new EventExecutor() {
     @Override
     public boolean inThread() {
-      throw new UnsupportedOperationException();
+      return true;
     }
     @Override
     public void execute(Runnable command) {
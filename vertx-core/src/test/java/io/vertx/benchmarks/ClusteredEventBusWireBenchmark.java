@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.spi.metrics.EventBusMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
+import io.vertx.test.fakecluster.FakeClusterManager;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares the regular and the compact wire protocols of the clustered event bus with chatty request/reply traffic,
+ * the {@code bytes} counter reports the number of bytes written on the wire.
+ */
+@State(Scope.Benchmark)
+public class ClusteredEventBusWireBenchmark extends BenchmarkBase {
+
+  private static final String ADDRESS = "benchmark.requests.address";
+
+  @Param({"false", "true"})
+  public boolean compact;
+
+  @Param({"16"})
+  public int burst;
+
+  private final LongAdder bytesWritten = new LongAdder();
+  private Vertx sender;
+  private Vertx receiver;
+  private Context context;
+  private EventBus eventBus;
+  private DeliveryOptions deliveryOptions;
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class WireCounters {
+
+    public long bytes;
+    public long messages;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytes = 0;
+      messages = 0;
+    }
+  }
+
+  private Vertx startNode() throws Exception {
+    VertxOptions options = new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true));
+    options.getEventBusOptions().setHost("localhost").setClusterCompactWireProtocol(compact);
+    return Vertx.builder()
+      .with(options)
+      .withMetrics(o -> new VertxMetrics() {
+        @Override
+        public EventBusMetrics<?> createEventBusMetrics() {
+          return new EventBusMetrics<Void>() {
+            @Override
+            public void messageWritten(String address, int numberOfBytes) {
+              bytesWritten.add(numberOfBytes);
+            }
+          };
+        }
+      })
+      .withClusterManager(new FakeClusterManager())
+      .buildClustered()
+      .toCompletionStage()
+      .toCompletableFuture()
+      .get(20, TimeUnit.SECONDS);
+  }
+
+  @Setup
+  public void setup() throws Exception {
+    deliveryOptions = new DeliveryOptions()
+      .addHeader("content-type", "application/json")
+      .addHeader("trace-id", "0af7651916cd43dd8448eb211c80319c");
+    receiver = startNode();
+    sender = startNode();
+    receiver.eventBus()
+      .consumer(ADDRESS, msg -> msg.reply("pong", deliveryOptions))
+      .completion()
+      .toCompletionStage()
+      .toCompletableFuture()
+      .get(20, TimeUnit.SECONDS);
+    context = sender.getOrCreateContext();
+    eventBus = sender.eventBus();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    sender.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    receiver.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    FakeClusterManager.reset();
+  }
+
+  @Benchmark
+  public void requestReply(WireCounters counters) throws Exception {
+    long before = bytesWritten.sum();
+    CountDownLatch latch = new CountDownLatch(burst);
+    context.runOnContext(v -> {
+      for (int i = 0;i < burst;i++) {
+        eventBus.request(ADDRESS, "ping", deliveryOptions).onComplete(ar -> latch.countDown());
+      }
+    });
+    latch.await(20, TimeUnit.SECONDS);
+    counters.bytes += bytesWritten.sum() - before;
+    counters.messages += 2L * burst;
+  }
+}
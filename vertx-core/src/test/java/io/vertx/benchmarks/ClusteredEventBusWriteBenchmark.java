@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.test.fakecluster.FakeClusterManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares per-message flushing with batched flushing of clustered event bus writes, the
+ * {@link Mode#SampleTime} mode reports the latency percentiles of a burst.
+ */
+@State(Scope.Benchmark)
+public class ClusteredEventBusWriteBenchmark extends BenchmarkBase {
+
+  private static final String ADDRESS = "benchmark";
+
+  @Param({"false", "true"})
+  public boolean batching;
+
+  @Param({"1", "64"})
+  public int burst;
+
+  private Vertx sender;
+  private Vertx receiver;
+  private Context context;
+  private EventBus eventBus;
+  private String body;
+
+  private static Vertx startNode(boolean batching) throws Exception {
+    VertxOptions options = new VertxOptions();
+    options.getEventBusOptions().setHost("localhost").setClusterWriteBatching(batching);
+    return Vertx.builder()
+      .with(options)
+      .withClusterManager(new FakeClusterManager())
+      .buildClustered()
+      .toCompletionStage()
+      .toCompletableFuture()
+      .get(20, TimeUnit.SECONDS);
+  }
+
+  @Setup
+  public void setup() throws Exception {
+    receiver = startNode(batching);
+    sender = startNode(batching);
+    receiver.eventBus()
+      .consumer(ADDRESS, msg -> msg.reply(null))
+      .completion()
+      .toCompletionStage()
+      .toCompletableFuture()
+      .get(20, TimeUnit.SECONDS);
+    context = sender.getOrCreateContext();
+    eventBus = sender.eventBus();
+    body = "the-body";
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    sender.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    receiver.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    FakeClusterManager.reset();
+  }
+
+  @Benchmark
+  @BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+  public void requestBurst() throws Exception {
+    CountDownLatch latch = new CountDownLatch(burst);
+    context.runOnContext(v -> {
+      for (int i = 0;i < burst;i++) {
+        eventBus.request(ADDRESS, body).onComplete(ar -> latch.countDown());
+      }
+    });
+    latch.await(20, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Completable;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.pool.ConnectResult;
+import io.vertx.core.internal.pool.ConnectionPool;
+import io.vertx.core.internal.pool.Lease;
+import io.vertx.core.internal.pool.PoolConnector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Acquires and recycles connections of a pool from several event-loops, run it with {@code -t} from 1 to 64 threads,
+ * each thread acquires connections with its own event-loop.
+ */
+@State(Scope.Benchmark)
+public class ConnectionPoolBenchmark extends BenchmarkBase {
+
+  private static final int MAX_EVENT_LOOPS = 64;
+
+  @Param({"false", "true"})
+  public boolean sharded;
+
+  @Param({"64"})
+  public int maxSize;
+
+  private Vertx vertx;
+  private ConnectionPool<Object> pool;
+
+  @State(Scope.Thread)
+  public static class EventLoop {
+
+    private ContextInternal context;
+    private Completable<Lease<Object>> handler;
+    private volatile boolean recycled;
+
+    @Setup
+    public void setup(ConnectionPoolBenchmark benchmark) {
+      context = BenchmarkContext.create(benchmark.vertx);
+      handler = (lease, err) -> {
+        if (err == null) {
+          lease.recycle();
+        }
+        recycled = true;
+      };
+    }
+  }
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(MAX_EVENT_LOOPS).setDisableTCCL(true));
+    PoolConnector<Object> connector = new PoolConnector<>() {
+      @Override
+      public Future<ConnectResult<Object>> connect(ContextInternal context, Listener listener) {
+        return context.succeededFuture(new ConnectResult<>(new Object(), 1, 0));
+      }
+      @Override
+      public boolean isValid(Object connection) {
+        return true;
+      }
+    };
+    int[] maxSizes = { maxSize };
+    pool = sharded ? ConnectionPool.shardedPool(connector, maxSizes, -1) : ConnectionPool.pool(connector, maxSizes, -1);
+    pool.contextProvider(ctx -> ctx);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void acquireAndRecycle(EventLoop eventLoop) {
+    eventLoop.recycled = false;
+    pool.acquire(eventLoop.context, 0, eventLoop.handler);
+    // The lease might be handed by another thread when the pool executor is contended
+    while (!eventLoop.recycled) {
+      Thread.onSpinWait();
+    }
+  }
+}
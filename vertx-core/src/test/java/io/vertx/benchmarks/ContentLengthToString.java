@@ -79,4 +79,9 @@ public class ContentLengthToString {
     return HttpUtils.positiveLongToString(nextContentLength());
   }
 
+  @Benchmark
+  public CharSequence contentLengthHttpUtilsAscii() {
+    return HttpUtils.positiveLongToAsciiString(nextContentLength());
+  }
+
 }
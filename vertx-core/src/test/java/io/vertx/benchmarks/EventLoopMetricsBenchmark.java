@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.spi.metrics.EventLoopMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of the event-loop metrics: each operation submits a batch of tasks to an event-loop
+ * context from another thread, with and without event-loop metrics.
+ */
+@State(Scope.Benchmark)
+public class EventLoopMetricsBenchmark extends BenchmarkBase {
+
+  private static final int BATCH_SIZE = 1000;
+
+  @Param({"false", "true"})
+  public boolean metrics;
+
+  private Vertx vertx;
+  private Context context;
+  private Handler<Void> task;
+
+  /**
+   * Records the callbacks the way a histogram based implementation would, on the event-loop thread.
+   */
+  static class RecordingEventLoopMetrics implements EventLoopMetrics {
+    long count;
+    long sum;
+    long max;
+    long waitSum;
+    @Override
+    public void taskDequeued(long waitTime) {
+      waitSum += waitTime;
+    }
+    @Override
+    public void taskExecuted(long executionTime) {
+      count++;
+      sum += executionTime;
+      max = Math.max(max, executionTime);
+    }
+  }
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.builder()
+      .with(new VertxOptions()
+        .setEventLoopPoolSize(1)
+        .setMetricsOptions(new MetricsOptions().setEnabled(metrics)))
+      .withMetrics(options -> new VertxMetrics() {
+        @Override
+        public EventLoopMetrics createEventLoopMetrics(String name) {
+          return new RecordingEventLoopMetrics();
+        }
+      })
+      .build();
+    context = vertx.getOrCreateContext();
+    task = v -> {};
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void execute() throws Exception {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    for (int i = 0;i < BATCH_SIZE - 1;i++) {
+      context.runOnContext(task);
+    }
+    context.runOnContext(v -> done.complete(null));
+    done.get();
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of {@code executeBlocking} with a bursty workload: each operation submits a burst of blocking tasks, a
+ * few of them being slow, and waits for the burst to complete. The sample time mode reports the tail latency of
+ * the bursts with a fixed size worker pool and with an adaptive worker pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExecuteBlockingBenchmark extends BenchmarkBase {
+
+  @Param({"fixed", "adaptive"})
+  public String pool;
+
+  @Param({"32"})
+  public int burst;
+
+  private Vertx vertx;
+
+  @Setup
+  public void setup() {
+    VertxOptions options = new VertxOptions().setWorkerPoolSize(8);
+    if (pool.equals("adaptive")) {
+      options
+        .setWorkerPoolSize(64)
+        .setWorkerPoolMinSize(2)
+        .setWorkerPoolTargetLatency(1);
+    }
+    vertx = Vertx.vertx(options);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public Object burst() throws Exception {
+    List<Future<?>> futures = new ArrayList<>(burst);
+    for (int i = 0;i < burst;i++) {
+      futures.add(vertx.executeBlocking(() -> {
+        // One in ten tasks is slow, e.g. a slow query
+        Thread.sleep(ThreadLocalRandom.current().nextInt(10) == 0 ? 10 : 1);
+        return null;
+      }, false));
+    }
+    return Future.all(futures).toCompletionStage().toCompletableFuture().get();
+  }
+}
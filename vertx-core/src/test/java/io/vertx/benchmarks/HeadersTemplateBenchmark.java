@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.impl.headers.Http1xHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Builds and encodes response headers sharing the same content-type, server, cache-control and CORS headers, either
+ * set on each response ({@code perResponse}) or declared once in a header template ({@code template}). The
+ * content-length and date headers are set on each response.
+ */
+@State(Scope.Thread)
+public class HeadersTemplateBenchmark extends BenchmarkBase {
+
+  private static final CharSequence CACHE_CONTROL_VALUE = HttpHeaders.createOptimized("public, max-age=3600");
+  private static final CharSequence ALLOW_ORIGIN_VALUE = HttpHeaders.createOptimized("*");
+  private static final CharSequence ALLOW_METHODS_VALUE = HttpHeaders.createOptimized("GET, POST, PUT, DELETE");
+  private static final CharSequence ALLOW_HEADERS_VALUE = HttpHeaders.createOptimized("content-type, authorization");
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public static void consume(final ByteBuf buf) {
+  }
+
+  private ByteBuf byteBuf;
+  private Http1xHeaders template;
+
+  @Setup
+  public void setup() {
+    byteBuf = Unpooled.buffer(1024);
+    MultiMap headers = HttpHeaders.headers();
+    setSharedHeaders(headers);
+    template = Http1xHeaders.headersTemplate(headers);
+  }
+
+  private static void setSharedHeaders(MultiMap headers) {
+    headers.set(HttpHeaders.CONTENT_TYPE, HeadersUtils.TEXT_PLAIN_HEADER);
+    headers.set(HttpHeaders.SERVER, HeadersUtils.VERTX_HEADER);
+    headers.set(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL_VALUE);
+    headers.set(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, ALLOW_ORIGIN_VALUE);
+    headers.set(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, ALLOW_METHODS_VALUE);
+    headers.set(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, ALLOW_HEADERS_VALUE);
+  }
+
+  private static void setResponseHeaders(MultiMap headers) {
+    headers.set(HttpHeaders.CONTENT_LENGTH, HeadersUtils.CONTENT_LENGTH_HEADER);
+    headers.set(HttpHeaders.DATE, HeadersUtils.DATE_HEADER);
+  }
+
+  @Benchmark
+  public void perResponse() {
+    Http1xHeaders headers = Http1xHeaders.httpHeaders();
+    setSharedHeaders(headers);
+    setResponseHeaders(headers);
+    byteBuf.resetWriterIndex();
+    headers.encode(byteBuf, false);
+    consume(byteBuf);
+  }
+
+  @Benchmark
+  public void template() {
+    Http1xHeaders headers = Http1xHeaders.httpHeaders();
+    headers.template(template);
+    setResponseHeaders(headers);
+    byteBuf.resetWriterIndex();
+    headers.encode(byteBuf, false);
+    consume(byteBuf);
+  }
+}
@@ -65,6 +65,15 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
   @Param({"1"})
   public int pipelining;
 
+  /**
+   * Send the headers of a typical browser request.
+   */
+  @Param({"false"})
+  public boolean requestHeaders;
+
+  @Param({"0"})
+  public int maxInternedHeaderValues;
+
   ByteBuf requestsBytes;
   int readerIndex;
   int writeIndex;
@@ -206,7 +215,7 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
   public void setup() {
     vertx = (VertxInternal) Vertx.vertx(new VertxOptions().setDisableTCCL(true));
     vertxChannel = new EmbeddedChannel(
-        new VertxHttpRequestDecoder(new Http1ServerConfig()),
+        new VertxHttpRequestDecoder(new Http1ServerConfig().setMaxInternedHeaderValues(maxInternedHeaderValues)),
         new VertxHttpResponseEncoder());
     vertxChannel.config().setAllocator(new Alloc());
 
@@ -238,6 +247,7 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
         HttpServerOptions.DEFAULT_MAX_FORM_FIELDS,
         HttpServerOptions.DEFAULT_MAX_FORM_BUFFERED_SIZE,
         new Http1ServerConfig(),
+        null,
         false,
         null,
         chctx,
@@ -329,7 +339,16 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
 
     StringBuilder s = new StringBuilder();
     for (int i = 0;i < pipelining;i++) {
-      s.append("GET / HTTP/1.1\r\n").append("\r\n");
+      s.append("GET / HTTP/1.1\r\n");
+      if (requestHeaders) {
+        s.append("Host: localhost:8080\r\n")
+          .append("User-Agent: Mozilla/5.0 (X11; Linux x86_64; rv:128.0) Gecko/20100101 Firefox/128.0\r\n")
+          .append("Accept: */*\r\n")
+          .append("Accept-Encoding: gzip, deflate, br\r\n")
+          .append("Accept-Language: en-US,en;q=0.5\r\n")
+          .append("Connection: keep-alive\r\n");
+      }
+      s.append("\r\n");
     }
     requestsBytes = Unpooled.unreleasableBuffer(Unpooled.copiedBuffer((s.toString()).getBytes()));
     readerIndex = requestsBytes.readerIndex();
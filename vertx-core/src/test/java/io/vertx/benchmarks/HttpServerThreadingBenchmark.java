@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.PoolOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the request throughput of an HTTP server calling a backend that takes 5ms to respond, with
+ * <ul>
+ *   <li>{@code event-loop}: an event-loop verticle calling a non-blocking backend</li>
+ *   <li>{@code worker}: a worker verticle calling a blocking backend</li>
+ *   <li>{@code virtual-thread}: a server handling each request on its own virtual thread calling a blocking backend,
+ *   this requires a Java runtime supporting virtual threads</li>
+ * </ul>
+ * Each operation sends 64 concurrent requests and waits for the responses.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HttpServerThreadingBenchmark extends BenchmarkBase {
+
+  private static final int PORT = 8080;
+  private static final int BACKEND_LATENCY = 5;
+  private static final int CONCURRENCY = 64;
+
+  @Param({"event-loop", "worker", "virtual-thread"})
+  public String mode;
+
+  private Vertx vertx;
+  private HttpClient client;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    HttpServerOptions serverOptions = new HttpServerOptions().setVirtualThreadPerRequest(mode.equals("virtual-thread"));
+    ThreadingModel threadingModel = mode.equals("worker") ? ThreadingModel.WORKER : ThreadingModel.EVENT_LOOP;
+    vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start(Promise<Void> startPromise) {
+        Handler<HttpServerRequest> handler;
+        if (mode.equals("event-loop")) {
+          handler = req -> vertx.setTimer(BACKEND_LATENCY, id -> req.response().end());
+        } else {
+          handler = req -> {
+            try {
+              Thread.sleep(BACKEND_LATENCY);
+            } catch (InterruptedException e) {
+              req.response().setStatusCode(500).end();
+              return;
+            }
+            req.response().end();
+          };
+        }
+        vertx.createHttpServer(serverOptions)
+          .requestHandler(handler)
+          .listen(PORT, "localhost")
+          .<Void>mapEmpty()
+          .onComplete(startPromise);
+      }
+    }, new DeploymentOptions().setThreadingModel(threadingModel)).toCompletionStage().toCompletableFuture().get();
+    client = vertx.createHttpClient(new PoolOptions().setHttp1MaxSize(CONCURRENCY));
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CONCURRENCY)
+  public Object requests() throws Exception {
+    List<Future<Buffer>> responses = new ArrayList<>(CONCURRENCY);
+    for (int i = 0;i < CONCURRENCY;i++) {
+      responses.add(client.request(HttpMethod.GET, PORT, "localhost", "/")
+        .compose(req -> req.send().compose(HttpClientResponse::body)));
+    }
+    return Future.all(responses).toCompletionStage().toCompletableFuture().get();
+  }
+}
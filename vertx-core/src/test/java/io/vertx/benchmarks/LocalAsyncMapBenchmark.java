@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.shareddata.AsyncMap;
+import io.vertx.core.shareddata.EvictionPolicy;
+import io.vertx.core.shareddata.LocalAsyncMapOptions;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded local async map used as a cache with a Zipfian key distribution, each operation reads a key and puts
+ * it on a miss. The {@code hits} and {@code misses} counters report the hit ratio of the eviction policy, the
+ * {@code ttl} parameter gives the entries a time-to-live.
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class LocalAsyncMapBenchmark extends BenchmarkBase {
+
+  private static final int SAMPLES = 1 << 20;
+
+  @Param({"LRU", "TINY_LFU"})
+  public EvictionPolicy policy;
+
+  @Param({"0", "60000"})
+  public long ttl;
+
+  @Param({"10000"})
+  public int maxSize;
+
+  @Param({"1000000"})
+  public int keySpace;
+
+  @Param({"0.99"})
+  public double skew;
+
+  private Vertx vertx;
+  private AsyncMap<Integer, String> map;
+  private Integer[] samples;
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class CacheCounters {
+
+    public long hits;
+    public long misses;
+    private int index = new Random().nextInt(SAMPLES);
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      hits = 0;
+      misses = 0;
+    }
+  }
+
+  /**
+   * Zipfian samples of the key space drawn with the inverse of the cumulative distribution.
+   */
+  private static Integer[] zipf(int keySpace, double skew, int count) {
+    double[] cdf = new double[keySpace];
+    double sum = 0;
+    for (int i = 0;i < keySpace;i++) {
+      sum += 1 / Math.pow(i + 1, skew);
+      cdf[i] = sum;
+    }
+    Random random = new Random(0);
+    Integer[] samples = new Integer[count];
+    for (int i = 0;i < count;i++) {
+      int idx = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+      int rank = idx >= 0 ? idx : -idx - 1;
+      // Scatter the ranks over the key space so hot keys do not share hash buckets
+      samples[i] = rank * 0x9E3779B1;
+    }
+    return samples;
+  }
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx(new VertxOptions().setDisableTCCL(true));
+    map = vertx.sharedData()
+      .<Integer, String>getLocalAsyncMap("benchmark", new LocalAsyncMapOptions().setMaxSize(maxSize).setEvictionPolicy(policy))
+      .result();
+    samples = zipf(keySpace, skew, SAMPLES);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public String getOrPut(CacheCounters counters) {
+    Integer key = samples[counters.index++ & (SAMPLES - 1)];
+    String value = map.get(key).result();
+    if (value == null) {
+      counters.misses++;
+      value = "value";
+      if (ttl > 0) {
+        map.put(key, value, ttl);
+      } else {
+        map.put(key, value);
+      }
+    } else {
+      counters.hits++;
+    }
+    return value;
+  }
+}
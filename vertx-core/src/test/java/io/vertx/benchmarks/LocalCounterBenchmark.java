@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.shareddata.Counter;
+import io.vertx.core.shareddata.LocalCounterOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent increments of a local counter, compares the atomic counter with the striped counter, run it with
+ * {@code -t} from 1 to 64 threads to measure the contention.
+ */
+@State(Scope.Benchmark)
+public class LocalCounterBenchmark extends BenchmarkBase {
+
+  @Param({"false", "true"})
+  public boolean striped;
+
+  private Vertx vertx;
+  private Counter counter;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx(new VertxOptions().setDisableTCCL(true));
+    counter = vertx.sharedData().getLocalCounter("benchmark", new LocalCounterOptions().setStriped(striped)).result();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void increment() {
+    counter.increment();
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.eventbus.DeliveryContext;
+import io.vertx.core.eventbus.EventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local event bus send, request/reply and publish of a burst of messages between two handlers of the same
+ * event-loop.
+ * <p>
+ * The {@code interceptor} parameter installs a pass-through outbound interceptor that disables the local fast path,
+ * run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+public class LocalEventBusBenchmark extends BenchmarkBase {
+
+  private static final String SEND_ADDRESS = "benchmark.send";
+  private static final String REQUEST_ADDRESS = "benchmark.request";
+  private static final String PUBLISH_ADDRESS = "benchmark.publish";
+
+  @Param({"false", "true"})
+  public boolean interceptor;
+
+  @Param({"256"})
+  public int burst;
+
+  private Vertx vertx;
+  private Context context;
+  private EventBus eventBus;
+  private volatile CountDownLatch latch;
+  private int received;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx(new VertxOptions().setDisableTCCL(true));
+    eventBus = vertx.eventBus();
+    if (interceptor) {
+      eventBus.addOutboundInterceptor(DeliveryContext::next);
+    }
+    context = vertx.getOrCreateContext();
+    CountDownLatch registered = new CountDownLatch(1);
+    context.runOnContext(v -> {
+      eventBus.consumer(SEND_ADDRESS, msg -> received());
+      eventBus.consumer(PUBLISH_ADDRESS, msg -> received());
+      eventBus.consumer(REQUEST_ADDRESS, msg -> msg.reply(msg.body()));
+      registered.countDown();
+    });
+    registered.await(20, TimeUnit.SECONDS);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+  }
+
+  private void received() {
+    if (++received == burst) {
+      latch.countDown();
+    }
+  }
+
+  private void run(Runnable task) throws Exception {
+    CountDownLatch l = new CountDownLatch(1);
+    latch = l;
+    context.runOnContext(v -> {
+      received = 0;
+      task.run();
+    });
+    l.await(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void send() throws Exception {
+    run(() -> {
+      for (int i = 0;i < burst;i++) {
+        eventBus.send(SEND_ADDRESS, "the-body");
+      }
+    });
+  }
+
+  @Benchmark
+  public void publish() throws Exception {
+    run(() -> {
+      for (int i = 0;i < burst;i++) {
+        eventBus.publish(PUBLISH_ADDRESS, "the-body");
+      }
+    });
+  }
+
+  @Benchmark
+  public void requestReply() throws Exception {
+    run(() -> {
+      for (int i = 0;i < burst;i++) {
+        eventBus.request(REQUEST_ADDRESS, "the-body").onSuccess(reply -> received());
+      }
+    });
+  }
+}
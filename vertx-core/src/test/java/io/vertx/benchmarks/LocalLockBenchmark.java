@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.shareddata.SharedData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention on a local lock: {@code waiters} acquisitions of the same lock are queued behind a holder, then the
+ * holder releases the lock and each waiter releases it as soon as it gets it, the benchmark measures the time to
+ * drain the queue.
+ */
+@State(Scope.Benchmark)
+public class LocalLockBenchmark extends BenchmarkBase {
+
+  @Param({"1", "10", "100", "1000", "10000"})
+  public int waiters;
+
+  private Vertx vertx;
+  private Context context;
+  private SharedData sharedData;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx(new VertxOptions().setDisableTCCL(true));
+    context = vertx.getOrCreateContext();
+    sharedData = vertx.sharedData();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void drain() throws Exception {
+    CountDownLatch latch = new CountDownLatch(waiters);
+    context.runOnContext(v -> {
+      sharedData.getLocalLock("benchmark").onSuccess(first -> {
+        for (int i = 0;i < waiters;i++) {
+          sharedData.getLocalLock("benchmark").onSuccess(lock -> {
+            lock.release();
+            latch.countDown();
+          });
+        }
+        first.release();
+      });
+    });
+    latch.await(60, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileSystemOptions;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.PoolOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves small static files with {@code sendFile}, with the open file cache disabled ({@code cacheSize = 0}) or
+ * enabled, and with the server static content cache disabled ({@code staticContentCacheSize = 0}) or enabled. The
+ * {@code compression} parameter enables the server compression and the client accepts gzip responses.
+ * Each operation sends 64 concurrent requests for files picked among 16 files of 1KB.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SendFileBenchmark extends BenchmarkBase {
+
+  private static final int PORT = 8080;
+  private static final int FILES = 16;
+  private static final int FILE_SIZE = 1024;
+  private static final int CONCURRENCY = 64;
+
+  @Param({"0", "64"})
+  public int cacheSize;
+
+  @Param({"0", "1048576"})
+  public long staticContentCacheSize;
+
+  @Param({"false", "true"})
+  public boolean compression;
+
+  private Path root;
+  private Vertx vertx;
+  private HttpClient client;
+
+  @Setup
+  public void setup() throws Exception {
+    root = Files.createTempDirectory("vertx-sendfile");
+    byte[] content = new byte[FILE_SIZE];
+    for (int i = 0;i < FILE_SIZE;i++) {
+      content[i] = (byte) ('a' + i % 26);
+    }
+    for (int i = 0;i < FILES;i++) {
+      Files.write(root.resolve("file-" + i + ".txt"), content);
+    }
+    vertx = Vertx.vertx(new VertxOptions().setFileSystemOptions(new FileSystemOptions()
+      .setOpenFileCacheMaxSize(cacheSize)));
+    String dir = root.toAbsolutePath().toString();
+    HttpServerOptions serverOptions = new HttpServerOptions()
+      .setStaticContentCacheMaxSize(staticContentCacheSize)
+      .setCompressionSupported(compression)
+      .setCompressionLevel(6);
+    vertx.createHttpServer(serverOptions)
+      .requestHandler(req -> req.response().sendFile(dir + req.path()))
+      .listen(PORT, "localhost")
+      .toCompletionStage()
+      .toCompletableFuture()
+      .get();
+    client = vertx.createHttpClient(new HttpClientOptions().setDecompressionSupported(compression), new PoolOptions().setHttp1MaxSize(CONCURRENCY));
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    for (File file : root.toFile().listFiles()) {
+      file.delete();
+    }
+    root.toFile().delete();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CONCURRENCY)
+  public Object requests() throws Exception {
+    List<Future<Buffer>> responses = new ArrayList<>(CONCURRENCY);
+    for (int i = 0;i < CONCURRENCY;i++) {
+      String uri = "/file-" + (i % FILES) + ".txt";
+      responses.add(client.request(HttpMethod.GET, PORT, "localhost", uri)
+        .compose(req -> req.send().compose(HttpClientResponse::body)));
+    }
+    return Future.all(responses).toCompletionStage().toCompletableFuture().get();
+  }
+}
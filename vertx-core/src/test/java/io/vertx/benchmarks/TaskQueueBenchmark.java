@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.impl.TaskQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.LinkedList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent submission of ordered tasks to a task queue backed by a worker pool, compares the lock-free
+ * {@link TaskQueue} with the previous implementation guarding a linked list with a monitor, run it with {@code -t}
+ * to vary the number of submitting threads.
+ */
+@State(Scope.Benchmark)
+public class TaskQueueBenchmark extends BenchmarkBase {
+
+  /**
+   * The previous implementation, without continuations support.
+   */
+  static class SynchronizedTaskQueue {
+
+    private final LinkedList<Runnable[]> tasks = new LinkedList<>();
+    private final Runnable runner = this::run;
+    private Executor currentExecutor;
+
+    void execute(Runnable task, Executor executor) {
+      synchronized (tasks) {
+        if (currentExecutor == null) {
+          currentExecutor = executor;
+          executor.execute(runner);
+        }
+        tasks.add(new Runnable[] { task });
+      }
+    }
+
+    private void run() {
+      for (; ; ) {
+        Runnable task;
+        synchronized (tasks) {
+          Runnable[] next = tasks.poll();
+          if (next == null) {
+            currentExecutor = null;
+            return;
+          }
+          task = next[0];
+        }
+        task.run();
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Producer {
+
+    private static final int BATCH = 64;
+
+    private volatile int pending;
+    private final Runnable task = () -> pending--;
+
+    void submit(TaskQueueBenchmark benchmark) {
+      pending = BATCH;
+      for (int i = 0;i < BATCH;i++) {
+        benchmark.execute(task);
+      }
+      while (pending > 0) {
+        Thread.onSpinWait();
+      }
+    }
+  }
+
+  @Param({"synchronized", "mpsc"})
+  public String impl;
+
+  private ExecutorService pool;
+  private TaskQueue taskQueue;
+  private SynchronizedTaskQueue synchronizedTaskQueue;
+
+  @Setup
+  public void setup() {
+    pool = Executors.newFixedThreadPool(2);
+    taskQueue = new TaskQueue();
+    synchronizedTaskQueue = new SynchronizedTaskQueue();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    pool.shutdown();
+    pool.awaitTermination(20, TimeUnit.SECONDS);
+  }
+
+  private void execute(Runnable task) {
+    if (impl.equals("mpsc")) {
+      taskQueue.execute(task, pool);
+    } else {
+      synchronizedTaskQueue.execute(task, pool);
+    }
+  }
+
+  /**
+   * Submit a batch of tasks and wait until they are executed.
+   */
+  @Benchmark
+  public void execute(Producer producer) {
+    producer.submit(this);
+  }
+}
@@ -31,6 +31,7 @@ public class FakePoolMetrics implements PoolMetrics<Object, Object> {
   private final AtomicInteger enqueueCount = new AtomicInteger();
   private final AtomicInteger inUse = new AtomicInteger();
   private final AtomicBoolean closed = new AtomicBoolean();
+  private final Map<Object, Long> streams = new ConcurrentHashMap<>();
 
   public FakePoolMetrics(String name, int maxSize) {
     this.name = name;
@@ -63,6 +64,23 @@ public class FakePoolMetrics implements PoolMetrics<Object, Object> {
     releaseCount.incrementAndGet();
   }
 
+  @Override
+  public void streams(Object connection, long streams, long maxStreams) {
+    this.streams.put(connection, streams);
+  }
+
+  @Override
+  public void removed(Object connection) {
+    streams.remove(connection);
+  }
+
+  /**
+   * @return the number of active streams per pooled connection
+   */
+  public Map<Object, Long> streams() {
+    return streams;
+  }
+
   /**
    * @return the pool name
    */
@@ -69,6 +69,7 @@ public class Http1xServerConnectionTest extends VertxTestBase {
         HttpServerOptions.DEFAULT_MAX_FORM_FIELDS,
         HttpServerOptions.DEFAULT_MAX_FORM_BUFFERED_SIZE,
         new Http1ServerConfig(),
+        null,
         false,
         null,
         chctx,
@@ -11,6 +11,7 @@
 package io.vertx.tests.cluster;
 
 import io.vertx.core.Completable;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.spi.cluster.ClusteredNode;
 import io.vertx.core.spi.cluster.NodeInfo;
 import io.vertx.core.spi.cluster.RegistrationInfo;
@@ -61,6 +62,17 @@ public class DefaultNodeSelectorTest {
     }
 
     private final Deque<Op> log = new ArrayDeque<>();
+    private final String nodeId;
+    private final Map<String, NodeInfo> nodes;
+
+    ClusterView() {
+      this(null, null);
+    }
+
+    ClusterView(String nodeId, Map<String, NodeInfo> nodes) {
+      this.nodeId = nodeId;
+      this.nodes = nodes;
+    }
 
     private GetRegistrationsOp assertGetRegistration() {
       Op op = log.poll();
@@ -75,7 +87,10 @@ public class DefaultNodeSelectorTest {
 
     @Override
     public String getNodeId() {
-      throw new UnsupportedOperationException();
+      if (nodeId == null) {
+        throw new UnsupportedOperationException();
+      }
+      return nodeId;
     }
 
     @Override
@@ -85,17 +100,26 @@ public class DefaultNodeSelectorTest {
 
     @Override
     public NodeInfo getNodeInfo() {
-      throw new UnsupportedOperationException();
+      if (nodes == null) {
+        throw new UnsupportedOperationException();
+      }
+      return nodes.get(nodeId);
     }
 
     @Override
     public void getNodeInfo(String nodeId, Completable<NodeInfo> promise) {
-      throw new UnsupportedOperationException();
+      if (nodes == null) {
+        throw new UnsupportedOperationException();
+      }
+      promise.succeed(nodes.get(nodeId));
     }
 
     @Override
     public List<String> getNodes() {
-      throw new UnsupportedOperationException();
+      if (nodes == null) {
+        throw new UnsupportedOperationException();
+      }
+      return new ArrayList<>(nodes.keySet());
     }
   }
 
@@ -284,4 +308,120 @@ public class DefaultNodeSelectorTest {
     ClusterView.GetRegistrationsOp get = view.assertGetRegistration();
     get.succeed("node1");
   }
+
+  @Test
+  public void testNegativeCache() {
+    DefaultNodeSelector ns = new DefaultNodeSelector(60_000, null);
+    ClusterView view = new ClusterView();
+    ns.init(view);
+    AtomicInteger count = new AtomicInteger();
+    ns.selectForSend("the-address", (result, failure) -> {
+      assertNull(result);
+      count.incrementAndGet();
+    });
+    ClusterView.GetRegistrationsOp get = view.assertGetRegistration();
+    get.succeed();
+    assertEquals(1, count.get());
+    for (int i = 0;i < 16;i++) {
+      ns.selectForSend("the-address", (result, failure) -> {
+        assertNull(result);
+        count.incrementAndGet();
+      });
+    }
+    view.assertEmpty();
+    assertEquals(17, count.get());
+    assertEquals(1, ns.misses());
+    assertEquals(16, ns.hits());
+    ns.registrationsUpdated(new RegistrationUpdateEvent("the-address", registrations("node1")));
+    ns.selectForSend("the-address", (result, failure) -> {
+      assertEquals("node1", result);
+      count.incrementAndGet();
+    });
+    view.assertEmpty();
+    assertEquals(18, count.get());
+  }
+
+  @Test
+  public void testNegativeCacheExpiration() throws Exception {
+    DefaultNodeSelector ns = new DefaultNodeSelector(1, null);
+    ClusterView view = new ClusterView();
+    ns.init(view);
+    ns.selectForSend("the-address", (result, failure) -> {
+    });
+    view.assertGetRegistration().succeed();
+    Thread.sleep(10);
+    AtomicInteger count = new AtomicInteger();
+    ns.selectForSend("the-address", (result, failure) -> {
+      assertEquals("node1", result);
+      count.incrementAndGet();
+    });
+    view.assertGetRegistration().succeed("node1");
+    assertEquals(1, count.get());
+    assertEquals(2, ns.misses());
+    view.assertEmpty();
+  }
+
+  @Test
+  public void testCoalescedLookups() {
+    DefaultNodeSelector ns = new DefaultNodeSelector();
+    ClusterView view = new ClusterView();
+    ns.init(view);
+    for (int i = 0;i < 16;i++) {
+      ns.selectForSend("the-address", (result, failure) -> {
+      });
+    }
+    view.assertGetRegistration().succeed("node1");
+    view.assertEmpty();
+    assertEquals(1, ns.misses());
+    assertEquals(15, ns.hits());
+  }
+
+  @Test
+  public void testLocality() {
+    Map<String, NodeInfo> nodes = new HashMap<>();
+    nodes.put("node1", new NodeInfo("localhost", 1, new JsonObject().put("zone", "a")));
+    nodes.put("node2", new NodeInfo("localhost", 2, new JsonObject().put("zone", "b")));
+    nodes.put("node3", new NodeInfo("localhost", 3, new JsonObject().put("zone", "a")));
+    nodes.put("node4", new NodeInfo("localhost", 4, new JsonObject().put("zone", "b")));
+    DefaultNodeSelector ns = new DefaultNodeSelector(0, "zone");
+    ClusterView view = new ClusterView("node1", nodes);
+    ns.init(view);
+    ns.eventBusStarted();
+    List<String> selected = new ArrayList<>();
+    Set<String> published = new HashSet<>();
+    for (int i = 0;i < 4;i++) {
+      ns.selectForSend("the-address", (result, failure) -> selected.add(result));
+    }
+    ns.selectForPublish("the-address", (result, failure) -> result.forEach(published::add));
+    view.assertGetRegistration().succeed("node2", "node3", "node4");
+    assertEquals(List.of("node3", "node3", "node3", "node3"), selected);
+    assertEquals(Set.of("node2", "node3", "node4"), published);
+    selected.clear();
+    ns.registrationsUpdated(new RegistrationUpdateEvent("the-address", registrations("node2", "node4")));
+    for (int i = 0;i < 4;i++) {
+      ns.selectForSend("the-address", (result, failure) -> selected.add(result));
+    }
+    assertEquals(Set.of("node2", "node4"), new HashSet<>(selected));
+    view.assertEmpty();
+  }
+
+  @Test
+  public void testLocalitiesPrunedWhenNodesLeave() {
+    Map<String, NodeInfo> nodes = new HashMap<>();
+    nodes.put("node1", new NodeInfo("localhost", 1, new JsonObject().put("zone", "a")));
+    nodes.put("node2", new NodeInfo("localhost", 2, new JsonObject().put("zone", "b")));
+    nodes.put("node3", new NodeInfo("localhost", 3, new JsonObject().put("zone", "a")));
+    DefaultNodeSelector ns = new DefaultNodeSelector(0, "zone");
+    ClusterView view = new ClusterView("node1", nodes);
+    ns.init(view);
+    ns.eventBusStarted();
+    assertEquals(3, ns.localities());
+    nodes.remove("node3");
+    ns.registrationsUpdated(new RegistrationUpdateEvent("the-address", registrations("node2")));
+    assertEquals(2, ns.localities());
+    List<String> selected = new ArrayList<>();
+    ns.selectForSend("the-address", (result, failure) -> selected.add(result));
+    view.assertGetRegistration().succeed("node2");
+    assertEquals(List.of("node2"), selected);
+  }
 }
@@ -188,6 +188,42 @@ public class TaskQueueTest extends AsyncTestBase {
     await();
   }
 
+  @Test
+  public void testConcurrentProducers() throws Exception {
+    int numThreads = 4;
+    int numTasks = 10_000;
+    AtomicInteger idx = new AtomicInteger();
+    ExecutorService pool = Executors.newFixedThreadPool(2, r -> new Thread(r, "vert.x-pool-" + idx.getAndIncrement()));
+    try {
+      AtomicInteger active = new AtomicInteger();
+      int[] seqs = new int[numThreads];
+      CountDownLatch done = new CountDownLatch(numThreads * numTasks);
+      Thread[] producers = new Thread[numThreads];
+      for (int i = 0;i < numThreads;i++) {
+        int id = i;
+        producers[i] = new Thread(() -> {
+          for (int j = 0;j < numTasks;j++) {
+            int expected = j;
+            taskQueue.execute(() -> {
+              assertEquals(1, active.incrementAndGet());
+              assertEquals(expected, seqs[id]++);
+              active.decrementAndGet();
+              done.countDown();
+            }, pool);
+          }
+        });
+        producers[i].start();
+      }
+      for (Thread producer : producers) {
+        producer.join();
+      }
+      awaitLatch(done);
+      waitUntil(taskQueue::isEmpty);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
   @Test
   public void shouldNotHaveTaskInQueueWhenTaskHasBeenRejected() {
     Executor executorThatAlwaysThrowsRejectedExceptions = command -> {
@@ -201,6 +237,112 @@ public class TaskQueueTest extends AsyncTestBase {
     Assertions.assertThat(taskQueue.isEmpty()).isTrue();
   }
 
+  @Test
+  public void testRejectedExecutionResubmitsPendingTasks() {
+    TaskQueue taskQueue = new TaskQueue();
+    Deque<Runnable> pending = new ConcurrentLinkedDeque<>();
+    AtomicInteger executed = new AtomicInteger();
+    Executor rejecting = command -> {
+      // Another producer adds a task while the queue is owned by the rejected producer
+      taskQueue.execute(executed::incrementAndGet, pending::add);
+      throw new RejectedExecutionException();
+    };
+    assertThatThrownBy(
+      () -> taskQueue.execute(this::fail, rejecting)
+    ).isInstanceOf(RejectedExecutionException.class);
+    assertEquals(1, pending.size());
+    pending.pop().run();
+    assertEquals(1, executed.get());
+    assertTrue(taskQueue.isEmpty());
+  }
+
+  @Test
+  public void testRejectedExecutionRejectsPendingTasks() {
+    TaskQueue taskQueue = new TaskQueue();
+    AtomicInteger executed = new AtomicInteger();
+    Executor rejecting = command -> {
+      throw new RejectedExecutionException();
+    };
+    Executor rejectingAndQueueing = command -> {
+      taskQueue.execute(executed::incrementAndGet, rejecting);
+      throw new RejectedExecutionException();
+    };
+    assertThatThrownBy(
+      () -> taskQueue.execute(this::fail, rejectingAndQueueing)
+    ).isInstanceOf(RejectedExecutionException.class);
+    assertEquals(0, executed.get());
+    assertTrue(taskQueue.isEmpty());
+  }
+
+  @Test
+  public void testCloseKeepsQueueOwnership() {
+    TaskQueue taskQueue = new TaskQueue();
+    Deque<Runnable> pending = new ConcurrentLinkedDeque<>();
+    Executor executor = pending::add;
+    AtomicInteger executed = new AtomicInteger();
+    taskQueue.execute(() -> {
+      taskQueue.close();
+      assertFalse(taskQueue.isEmpty());
+      // Consumed by the current runner after this task
+      taskQueue.execute(executed::incrementAndGet, executor);
+      assertEquals(0, pending.size());
+    }, executor);
+    assertEquals(1, pending.size());
+    pending.pop().run();
+    assertEquals(1, executed.get());
+    assertEquals(0, pending.size());
+    assertTrue(taskQueue.isEmpty());
+  }
+
+  @Test
+  public void testCloseWhileConsuming() throws Exception {
+    int numThreads = 4;
+    int numTasks = 10_000;
+    AtomicInteger idx = new AtomicInteger();
+    ExecutorService pool = Executors.newFixedThreadPool(2, r -> new Thread(r, "vert.x-pool-" + idx.getAndIncrement()));
+    try {
+      AtomicInteger active = new AtomicInteger();
+      AtomicInteger maxActive = new AtomicInteger();
+      CountDownLatch done = new CountDownLatch(numThreads * numTasks + 1);
+      Thread[] producers = new Thread[numThreads];
+      for (int i = 0;i < numThreads;i++) {
+        int id = i;
+        producers[i] = new Thread(() -> {
+          for (int j = 0;j < numTasks;j++) {
+            boolean close = id == 0 && j == numTasks / 2;
+            taskQueue.execute(() -> {
+              maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+              if (close) {
+                // Close while the runner is active and submit a task meanwhile
+                taskQueue.close();
+                taskQueue.execute(() -> {
+                  maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                  active.decrementAndGet();
+                  done.countDown();
+                }, pool);
+                try {
+                  Thread.sleep(50);
+                } catch (InterruptedException ignore) {
+                }
+              }
+              active.decrementAndGet();
+              done.countDown();
+            }, pool);
+          }
+        });
+        producers[i].start();
+      }
+      for (Thread producer : producers) {
+        producer.join();
+      }
+      awaitLatch(done);
+      waitUntil(taskQueue::isEmpty);
+      assertEquals(1, maxActive.get());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
   @Test
   public void testCloseSuspendedTasks() {
     TaskQueue taskQueue = new TaskQueue();
@@ -12,8 +12,10 @@
 package io.vertx.tests.eventbus;
 
 import io.vertx.core.*;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.*;
 import io.vertx.core.eventbus.impl.clustered.ClusteredEventBus;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.net.TcpClientConfig;
@@ -704,6 +706,220 @@ public class ClusteredEventBusTest extends ClusteredEventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSendLargeBuffer() throws Exception {
+    startNodes(2);
+    Buffer sent = TestUtils.randomBuffer(4 * 1024 * 1024);
+    testSend(sent, (buffer) -> {
+      assertEquals(sent, buffer);
+      assertFalse(sent == buffer);
+      // Sliced out of the received frame
+      assertNotNull(((BufferInternal) buffer).unwrap().unwrap());
+    });
+  }
+
+  @Test
+  public void testSendSmallBuffer() throws Exception {
+    startNodes(2);
+    Buffer sent = TestUtils.randomBuffer(16);
+    testSend(sent, (buffer) -> {
+      assertEquals(sent, buffer);
+      // Copied, the received frame and socket buffers are not retained
+      assertNull(((BufferInternal) buffer).unwrap().unwrap());
+    });
+  }
+
+  @Test
+  public void testPublishLargeBuffer() throws Exception {
+    startNodes(3);
+    Buffer sent = TestUtils.randomBuffer(4 * 1024 * 1024);
+    testPublish(sent, (buffer) -> {
+      assertEquals(sent, buffer);
+      assertFalse(sent == buffer);
+    });
+  }
+
+  @Test
+  public void testReplyLargeByteArray() throws Exception {
+    startNodes(2);
+    byte[] sent = TestUtils.randomByteArray(4 * 1024 * 1024);
+    testReply(sent, (bytes) -> {
+      assertTrue(TestUtils.byteArraysEqual(sent, bytes));
+      assertFalse(sent == bytes);
+    });
+  }
+
+  @Test
+  public void testCompactWireProtocol() {
+    startNodes(2);
+    testCompactWireProtocol(vertices[0], vertices[1]);
+  }
+
+  @Test
+  public void testCompactWireProtocolWithLegacyNode() {
+    startNodes(1);
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setHost("localhost").setClusterCompactWireProtocol(false);
+    Vertx legacy = clusteredVertx(options).await();
+    testCompactWireProtocol(vertices[0], legacy);
+  }
+
+  private void testCompactWireProtocol(Vertx node1, Vertx node2) {
+    int num = 20;
+    MessageCodec<MyPOJO, String> codec = new MyPOJOEncoder1();
+    node1.eventBus().registerCodec(codec);
+    node2.eventBus().registerCodec(codec);
+    node1.eventBus().<String>consumer(ADDRESS1, msg -> {
+      assertEquals("header-value", msg.headers().get("header-name"));
+      msg.reply(msg.body(), new DeliveryOptions().addHeader("reply-header", msg.body()));
+    }).completion().await();
+    node2.eventBus().<String>consumer(ADDRESS2, msg -> {
+      assertTrue(msg.headers().isEmpty());
+      msg.reply(msg.body());
+    }).completion().await();
+    // Establish the connections, the wire protocol is negotiated meanwhile
+    node1.eventBus().request(ADDRESS2, "hello").await();
+    node2.eventBus().request(ADDRESS1, new MyPOJO("hello"), new DeliveryOptions()
+      .setCodecName(codec.name())
+      .addHeader("header-name", "header-value")).await();
+    waitFor(2 * num);
+    for (int i = 0;i < num;i++) {
+      String str = "message-" + i;
+      DeliveryOptions options = new DeliveryOptions().setCodecName(codec.name()).addHeader("header-name", "header-value");
+      node2.eventBus().<String>request(ADDRESS1, new MyPOJO(str), options).onComplete(onSuccess(reply -> {
+        assertEquals(str, reply.body());
+        assertEquals(str, reply.headers().get("reply-header"));
+        complete();
+      }));
+      node1.eventBus().<String>request(ADDRESS2, str).onComplete(onSuccess(reply -> {
+        assertEquals(str, reply.body());
+        complete();
+      }));
+    }
+    await();
+  }
+
+  @Test
+  public void testWriteBatching() {
+    int num = 1000;
+    VertxOptions options = getOptions();
+    options.getEventBusOptions()
+      .setClusterWriteBatching(true)
+      .setClusterWriteBatchMaxMessages(16);
+    startNodes(2, options);
+    waitFor(num + 1);
+    AtomicInteger received = new AtomicInteger();
+    vertices[1].eventBus().consumer(ADDRESS1, msg -> {
+      int val = received.getAndIncrement();
+      assertEquals(val, msg.body());
+      if (val == num - 1) {
+        complete();
+      }
+    }).completion().await();
+    MessageProducer<Integer> producer = vertices[0].eventBus().sender(ADDRESS1);
+    Context ctx = vertices[0].getOrCreateContext();
+    ctx.runOnContext(v -> {
+      for (int i = 0;i < num;i++) {
+        producer.write(i).onComplete(onSuccess(v2 -> complete()));
+      }
+    });
+    await();
+  }
+
+  @Test
+  public void testPublishAll() {
+    int num = 100;
+    List<Integer> bodies = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      bodies.add(i);
+    }
+    startNodes(3);
+    waitFor(2);
+    for (int i = 1;i < 3;i++) {
+      AtomicInteger received = new AtomicInteger();
+      vertices[i].eventBus().<Integer>consumer(ADDRESS1, msg -> {
+        int val = received.getAndIncrement();
+        assertEquals(val, (int) msg.body());
+        if (val == num - 1) {
+          complete();
+        }
+      }).completion().await();
+    }
+    vertices[0].eventBus().publishAll(ADDRESS1, bodies);
+    await();
+  }
+
+  @Test
+  public void testSenderWriteList() {
+    int num = 100;
+    List<Integer> bodies = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      bodies.add(i);
+    }
+    startNodes(2);
+    waitFor(2);
+    AtomicInteger received = new AtomicInteger();
+    vertices[1].eventBus().<Integer>consumer(ADDRESS1, msg -> {
+      int val = received.getAndIncrement();
+      assertEquals(val, (int) msg.body());
+      if (val == num - 1) {
+        complete();
+      }
+    }).completion().await();
+    MessageProducer<Integer> sender = vertices[0].eventBus().sender(ADDRESS1);
+    // First batch is queued while connecting, second one is written at once
+    sender.writeAll(bodies.subList(0, num / 2)).await();
+    sender.writeAll(bodies.subList(num / 2, num)).onComplete(onSuccess(v -> complete()));
+    await();
+  }
+
+  @Test
+  public void testMultipleConnectionsPerNode() {
+    int numAddresses = 16;
+    int num = 100;
+    startNodes(1);
+    waitFor(numAddresses);
+    for (int i = 0;i < numAddresses;i++) {
+      AtomicInteger received = new AtomicInteger();
+      vertices[0].eventBus().<Integer>consumer(ADDRESS1 + i, msg -> {
+        int val = received.getAndIncrement();
+        assertEquals(val, (int) msg.body());
+        if (val == num - 1) {
+          complete();
+        }
+      }).completion().await();
+    }
+    AtomicInteger numberOfOutboundConnections = new AtomicInteger();
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterConnectionsPerNode(4);
+    Vertx vertx = vertx(() -> Vertx.builder()
+      .with(options)
+      .withClusterManager(getClusterManager())
+      .withMetrics(o -> new VertxMetrics() {
+        @Override
+        public TransportMetrics<?> createTcpClientMetrics(TcpClientConfig config, String protocol) {
+          return new TransportMetrics<>() {
+            @Override
+            public Object connected(SocketAddress remoteAddress, String remoteName) {
+              numberOfOutboundConnections.incrementAndGet();
+              return null;
+            }
+          };
+        }
+      })
+      .buildClustered()
+      .await());
+    vertx.runOnContext(v -> {
+      for (int i = 0;i < num;i++) {
+        for (int j = 0;j < numAddresses;j++) {
+          vertx.eventBus().send(ADDRESS1 + j, i);
+        }
+      }
+    });
+    await();
+    assertEquals(4, numberOfOutboundConnections.get());
+  }
+
   @Test
   public void testSocketCleanup() {
     startNodes(1);
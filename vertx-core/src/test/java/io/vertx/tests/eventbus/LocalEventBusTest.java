@@ -22,6 +22,7 @@ import io.vertx.test.core.TestUtils;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
@@ -30,6 +31,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static io.vertx.test.core.TestUtils.*;
 
@@ -428,6 +430,23 @@ public class LocalEventBusTest extends EventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSendWithTimeoutNoReplyOnTimerWheel() {
+    Vertx vertx = vertx(new VertxOptions().setTimerWheelEnabled(true));
+    EventBus eb = vertx.eventBus();
+    eb.consumer(ADDRESS1).handler(msg -> {
+    });
+    long timeout = 100;
+    long start = System.currentTimeMillis();
+    eb.request(ADDRESS1, "foo", new DeliveryOptions().setSendTimeout(timeout)).onComplete(onFailure(err -> {
+      assertTrue(err instanceof ReplyException);
+      assertEquals(ReplyFailure.TIMEOUT, ((ReplyException) err).failureType());
+      assertTrue(System.currentTimeMillis() - start >= timeout);
+      testComplete();
+    }));
+    await();
+  }
+
   @Test
   public void testSendWithTimeoutNoHandlers() {
     String str = TestUtils.randomUnicodeString(1000);
@@ -511,6 +530,265 @@ public class LocalEventBusTest extends EventBusTestBase {
     await();
   }
 
+  @Test
+  public void testPublishAll() {
+    int num = 100;
+    List<Integer> bodies = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      bodies.add(i);
+    }
+    waitFor(2);
+    for (int i = 0;i < 2;i++) {
+      AtomicInteger received = new AtomicInteger();
+      eb.<Integer>consumer(ADDRESS1, msg -> {
+        int val = received.getAndIncrement();
+        assertEquals(val, (int) msg.body());
+        if (val == num - 1) {
+          complete();
+        }
+      });
+    }
+    eb.publishAll(ADDRESS1, bodies);
+    await();
+  }
+
+  @Test
+  public void testSenderWriteList() {
+    int num = 100;
+    List<Integer> bodies = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      bodies.add(i);
+    }
+    waitFor(num + 1);
+    List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+    for (int i = 0;i < 2;i++) {
+      AtomicInteger last = new AtomicInteger(-1);
+      eb.<Integer>consumer(ADDRESS1, msg -> {
+        assertTrue(last.getAndSet(msg.body()) < msg.body());
+        received.add(msg.body());
+        complete();
+      });
+    }
+    MessageProducer<Integer> sender = eb.sender(ADDRESS1);
+    sender.writeAll(bodies).onComplete(onSuccess(v -> complete()));
+    await();
+    assertEquals(num, received.size());
+  }
+
+  @Test
+  public void testSenderWriteListNoHandlers() {
+    MessageProducer<Integer> sender = eb.sender(ADDRESS1);
+    sender.writeAll(Arrays.asList(0, 1, 2)).onComplete(onFailure(err -> {
+      assertEquals(ReplyFailure.NO_HANDLERS, ((ReplyException) err).failureType());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testWriteListToPausedConsumer() {
+    int maxBuffered = 10;
+    MessageConsumer<Integer> consumer = eb.consumer(new MessageConsumerOptions().setAddress(ADDRESS1).setMaxBufferedMessages(maxBuffered));
+    List<Integer> discarded = Collections.synchronizedList(new ArrayList<>());
+    ((MessageConsumerImpl<Integer>) consumer).discardHandler(msg -> discarded.add(msg.body()));
+    consumer.handler(msg -> {}).pause();
+    List<Integer> bodies = new ArrayList<>();
+    for (int i = 0;i < 2 * maxBuffered;i++) {
+      bodies.add(i);
+    }
+    eb.<Integer>sender(ADDRESS1).writeAll(bodies);
+    assertWaitUntil(() -> discarded.size() == maxBuffered);
+    assertEquals(maxBuffered, (int) discarded.get(0));
+  }
+
+  @Test
+  public void testBatchHandlerMaxBatch() {
+    List<List<Integer>> batches = new ArrayList<>();
+    Context ctx = vertx.getOrCreateContext();
+    ctx.runOnContext(v -> {
+      eb.<Integer>consumer(ADDRESS1).batchHandler(4, Duration.ofMillis(100), batch -> {
+        assertSame(ctx, ((ContextInternal) Vertx.currentContext()).unwrap());
+        batches.add(batch.stream().map(Message::body).collect(Collectors.toList()));
+        if (batches.size() == 3) {
+          assertEquals(Arrays.asList(Arrays.asList(0, 1, 2, 3), Arrays.asList(4, 5, 6, 7), Arrays.asList(8, 9)), batches);
+          testComplete();
+        }
+      }).completion().onComplete(onSuccess(v2 -> {
+        for (int i = 0;i < 10;i++) {
+          eb.send(ADDRESS1, i);
+        }
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testBatchHandlerLinger() {
+    long now = System.currentTimeMillis();
+    eb.<Integer>consumer(ADDRESS1).batchHandler(100, Duration.ofMillis(50), batch -> {
+      assertTrue(System.currentTimeMillis() - now >= 50);
+      assertEquals(3, batch.size());
+      testComplete();
+    }).completion().onComplete(onSuccess(v -> {
+      for (int i = 0;i < 3;i++) {
+        eb.send(ADDRESS1, i);
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testBatchHandlerFetch() {
+    List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+    MessageConsumer<Integer> consumer = eb.consumer(ADDRESS1);
+    consumer.pause();
+    consumer.batchHandler(10, Duration.ofMillis(20), batch -> {
+      batch.forEach(msg -> received.add(msg.body()));
+      assertTrue(batch.size() <= 5);
+    }).completion().onComplete(onSuccess(v -> {
+      for (int i = 0;i < 10;i++) {
+        eb.send(ADDRESS1, i);
+      }
+      vertx.setTimer(50, id -> {
+        assertTrue(received.isEmpty());
+        consumer.fetch(5);
+      });
+    }));
+    assertWaitUntil(() -> received.size() == 5);
+    assertEquals(Arrays.asList(0, 1, 2, 3, 4), received);
+  }
+
+  @Test
+  public void testBatchHandlerUnregisterDiscardsBatch() throws Exception {
+    List<Integer> discarded = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger batches = new AtomicInteger();
+    MessageConsumer<Integer> consumer = eb.consumer(ADDRESS1);
+    ((MessageConsumerImpl<Integer>) consumer).discardHandler(msg -> discarded.add(msg.body()));
+    consumer.batchHandler(10, Duration.ofSeconds(10), batch -> batches.incrementAndGet()).completion().await();
+    for (int i = 0;i < 3;i++) {
+      eb.send(ADDRESS1, i);
+    }
+    // Let the messages reach the pending batch
+    Thread.sleep(100);
+    consumer.unregister().await();
+    assertWaitUntil(() -> discarded.size() == 3);
+    assertEquals(Arrays.asList(0, 1, 2), discarded);
+    Thread.sleep(100);
+    assertEquals(0, batches.get());
+  }
+
+  @Test
+  public void testBatchHandlerSwitchToHandler() throws Exception {
+    List<Integer> discarded = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger batches = new AtomicInteger();
+    MessageConsumer<Integer> consumer = eb.consumer(ADDRESS1);
+    ((MessageConsumerImpl<Integer>) consumer).discardHandler(msg -> discarded.add(msg.body()));
+    consumer.batchHandler(10, Duration.ofSeconds(10), batch -> batches.incrementAndGet()).completion().await();
+    eb.send(ADDRESS1, 0);
+    eb.send(ADDRESS1, 1);
+    // Let the messages reach the pending batch
+    Thread.sleep(100);
+    consumer.handler(msg -> received.add(msg.body()));
+    assertWaitUntil(() -> discarded.size() == 2);
+    eb.send(ADDRESS1, 2);
+    assertWaitUntil(() -> received.size() == 1);
+    assertEquals(Collections.singletonList(2), received);
+    Thread.sleep(100);
+    assertEquals(0, batches.get());
+  }
+
+  @Test
+  public void testBatchHandlerWithInboundInterceptor() {
+    List<Integer> intercepted = Collections.synchronizedList(new ArrayList<>());
+    eb.addInboundInterceptor(ctx -> {
+      intercepted.add((Integer) ctx.message().body());
+      ctx.next();
+    });
+    List<List<Integer>> batches = new ArrayList<>();
+    eb.<Integer>consumer(ADDRESS1).batchHandler(10, Duration.ofSeconds(10), batch -> {
+      batches.add(batch.stream().map(Message::body).collect(Collectors.toList()));
+      if (batches.size() == 3) {
+        assertEquals(Arrays.asList(Collections.singletonList(0), Collections.singletonList(1), Collections.singletonList(2)), batches);
+        assertEquals(Arrays.asList(0, 1, 2), intercepted);
+        testComplete();
+      }
+    }).completion().onComplete(onSuccess(v -> {
+      for (int i = 0;i < 3;i++) {
+        eb.send(ADDRESS1, i);
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testBatchHandlerNullUnregisters() throws Exception {
+    AtomicInteger batches = new AtomicInteger();
+    MessageConsumer<Integer> consumer = eb.consumer(ADDRESS1);
+    consumer.batchHandler(10, Duration.ofMillis(10), batch -> batches.incrementAndGet()).completion().await();
+    consumer.batchHandler(10, Duration.ofMillis(10), null);
+    assertFalse(consumer.isRegistered());
+    eb.send(ADDRESS1, 0);
+    Thread.sleep(50);
+    assertEquals(0, batches.get());
+  }
+
+  @Test
+  public void testBatchHandlerReply() {
+    eb.<Integer>consumer(ADDRESS1).batchHandler(2, Duration.ofSeconds(10), batch -> {
+      for (Message<Integer> msg : batch) {
+        msg.reply(msg.body() * 2);
+      }
+    });
+    Future.all(eb.<Integer>request(ADDRESS1, 1), eb.<Integer>request(ADDRESS1, 2)).onComplete(onSuccess(cf -> {
+      assertEquals(2, (int) cf.<Message<Integer>>resultAt(0).body());
+      assertEquals(4, (int) cf.<Message<Integer>>resultAt(1).body());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendToReplyAddress() {
+    eb.<String>consumer(ADDRESS1).handler((Message<String> msg) -> {
+      String replyAddress = msg.replyAddress();
+      assertNotNull(replyAddress);
+      assertEquals(replyAddress, msg.replyAddress());
+      eb.send(replyAddress, "the-reply");
+    });
+    eb.<String>request(ADDRESS1, "the-request").onComplete(onSuccess(reply -> {
+      assertEquals("the-reply", reply.body());
+      assertNotNull(reply.address());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testReplyAfterTimeout() {
+    waitFor(2);
+    // Consumer and requester on the same event loop so the reply handler is not registered
+    vertx.runOnContext(v -> {
+      eb.<String>consumer(ADDRESS1).handler((Message<String> msg) -> {
+        vertx.setTimer(100, id -> {
+          // The reply handler is gone, the late reply is not delivered to the requester
+          msg.replyAndRequest("too-late").onComplete(onFailure(err -> {
+            assertEquals(ReplyFailure.NO_HANDLERS, ((ReplyException) err).failureType());
+            complete();
+          }));
+        });
+      });
+      AtomicInteger results = new AtomicInteger();
+      eb.<String>request(ADDRESS1, "the-request", new DeliveryOptions().setSendTimeout(10)).onComplete(ar -> {
+        assertEquals(1, results.incrementAndGet());
+        assertTrue(ar.failed());
+        assertEquals(ReplyFailure.TIMEOUT, ((ReplyException) ar.cause()).failureType());
+        complete();
+      });
+    });
+    await();
+  }
+
   @Test
   public void testReplyToSendWithNoReplyHandler() {
     eb.<String>consumer(ADDRESS1).handler((Message<String> msg) -> {
@@ -13,6 +13,7 @@ package io.vertx.tests.file;
 
 import io.vertx.core.file.FileSystemOptions;
 import io.vertx.core.json.JsonObject;
+import io.vertx.test.core.TestUtils;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 import java.util.Random;
@@ -25,6 +26,10 @@ public class FileSystemOptionsTest extends VertxTestBase {
 
     assertTrue(options.isFileCachingEnabled());
     assertTrue(options.isClassPathResolvingEnabled());
+    assertEquals(FileSystemOptions.DEFAULT_OPEN_FILE_CACHE_MAX_SIZE, options.getOpenFileCacheMaxSize());
+    assertEquals(FileSystemOptions.DEFAULT_OPEN_FILE_CACHE_VALIDATION_PERIOD, options.getOpenFileCacheValidationPeriod());
+    TestUtils.assertIllegalArgumentException(() -> options.setOpenFileCacheMaxSize(-1));
+    TestUtils.assertIllegalArgumentException(() -> options.setOpenFileCacheValidationPeriod(-1));
   }
 
   @Test
@@ -35,9 +40,13 @@ public class FileSystemOptionsTest extends VertxTestBase {
     boolean enabled = rand.nextBoolean();
     options.setFileCachingEnabled(enabled);
     options.setClassPathResolvingEnabled(enabled);
+    options.setOpenFileCacheMaxSize(64);
+    options.setOpenFileCacheValidationPeriod(250);
     options = new FileSystemOptions(options);
     assertEquals(enabled, options.isClassPathResolvingEnabled());
     assertEquals(enabled, options.isFileCachingEnabled());
+    assertEquals(64, options.getOpenFileCacheMaxSize());
+    assertEquals(250, options.getOpenFileCacheValidationPeriod());
   }
 
   @Test
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.file;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileSystemOptions;
+import io.vertx.core.file.impl.OpenFileCache;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.test.core.VertxTestBase;
+import io.vertx.test.http.HttpTestBase;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+public class OpenFileCacheTest extends VertxTestBase {
+
+  @Rule
+  public TemporaryFolder testFolder = new TemporaryFolder();
+
+  private File createFile(String name, String content) throws IOException {
+    File file = new File(testFolder.getRoot(), name);
+    Files.write(file.toPath(), content.getBytes());
+    return file;
+  }
+
+  @Test
+  public void testReuseOpenFile() throws Exception {
+    File file = createFile("file.txt", "hello");
+    OpenFileCache cache = new OpenFileCache(2, 1, TimeUnit.HOURS);
+    OpenFileCache.OpenFile openFile1 = cache.open(file);
+    OpenFileCache.OpenFile openFile2 = cache.open(file);
+    assertSame(openFile1, openFile2);
+    assertEquals(5, openFile1.size());
+    openFile1.release();
+    openFile2.release();
+    // Still held by the cache
+    assertTrue(openFile1.channel().isOpen());
+    assertEquals(1, cache.size());
+    cache.close();
+    assertFalse(openFile1.channel().isOpen());
+  }
+
+  @Test
+  public void testEvictLeastRecentlyUsed() throws Exception {
+    File file1 = createFile("file1.txt", "1");
+    File file2 = createFile("file2.txt", "2");
+    File file3 = createFile("file3.txt", "3");
+    OpenFileCache cache = new OpenFileCache(2, 1, TimeUnit.HOURS);
+    OpenFileCache.OpenFile openFile1 = cache.open(file1);
+    openFile1.release();
+    OpenFileCache.OpenFile openFile2 = cache.open(file2);
+    openFile2.release();
+    // Use file1 again, file2 becomes the least recently used
+    cache.open(file1).release();
+    OpenFileCache.OpenFile openFile3 = cache.open(file3);
+    openFile3.release();
+    assertEquals(2, cache.size());
+    assertTrue(openFile1.channel().isOpen());
+    assertFalse(openFile2.channel().isOpen());
+    assertTrue(openFile3.channel().isOpen());
+    cache.close();
+  }
+
+  @Test
+  public void testEvictedFileInUseStaysOpen() throws Exception {
+    File file1 = createFile("file1.txt", "1");
+    File file2 = createFile("file2.txt", "2");
+    OpenFileCache cache = new OpenFileCache(1, 1, TimeUnit.HOURS);
+    OpenFileCache.OpenFile openFile1 = cache.open(file1);
+    cache.open(file2).release();
+    assertEquals(1, cache.size());
+    assertTrue(openFile1.channel().isOpen());
+    openFile1.release();
+    assertFalse(openFile1.channel().isOpen());
+    cache.close();
+  }
+
+  @Test
+  public void testReopenModifiedFile() throws Exception {
+    File file = createFile("file.txt", "hello");
+    OpenFileCache cache = new OpenFileCache(2, 0, TimeUnit.MILLISECONDS);
+    OpenFileCache.OpenFile openFile1 = cache.open(file);
+    openFile1.release();
+    Files.write(file.toPath(), "hello world".getBytes());
+    OpenFileCache.OpenFile openFile2 = cache.open(file);
+    assertNotSame(openFile1, openFile2);
+    assertEquals(11, openFile2.size());
+    assertFalse(openFile1.channel().isOpen());
+    openFile2.release();
+    cache.close();
+  }
+
+  @Test
+  public void testDisabled() throws Exception {
+    File file = createFile("file.txt", "hello");
+    OpenFileCache cache = new OpenFileCache(0, 0, TimeUnit.MILLISECONDS);
+    OpenFileCache.OpenFile openFile1 = cache.open(file);
+    OpenFileCache.OpenFile openFile2 = cache.open(file);
+    assertNotSame(openFile1, openFile2);
+    assertEquals(0, cache.size());
+    openFile1.release();
+    assertFalse(openFile1.channel().isOpen());
+    openFile2.release();
+    assertFalse(openFile2.channel().isOpen());
+  }
+
+  @Test
+  public void testSendFile() throws Exception {
+    File file = createFile("file.txt", "hello");
+    Vertx vertx = vertx(() -> Vertx.vertx(new VertxOptions().setFileSystemOptions(new FileSystemOptions()
+      .setOpenFileCacheMaxSize(16)
+      .setOpenFileCacheValidationPeriod(0))));
+    vertx.createHttpServer()
+      .requestHandler(req -> req.response().sendFile(file.getAbsolutePath()))
+      .listen(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST)
+      .await();
+    HttpClient client = vertx.createHttpClient();
+    for (int i = 0;i < 2;i++) {
+      assertEquals("hello", send(client).toString());
+    }
+    assertEquals(1, ((VertxInternal) vertx).openFileCache().size());
+    Files.write(file.toPath(), "hello world".getBytes());
+    assertEquals("hello world", send(client).toString());
+  }
+
+  private Buffer send(HttpClient client) {
+    return client.request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/")
+      .compose(req -> req.send().compose(HttpClientResponse::body))
+      .await();
+  }
+}
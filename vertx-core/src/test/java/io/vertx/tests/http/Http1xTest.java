@@ -12,10 +12,13 @@
 package io.vertx.tests.http;
 
 import io.netty.channel.*;
+import io.netty.handler.codec.DateFormatter;
 import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.TooLongHttpHeaderException;
+import io.netty.util.AsciiString;
 import io.vertx.core.Future;
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
@@ -47,6 +50,7 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import java.time.Duration;
+import java.io.ByteArrayInputStream;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -56,6 +60,7 @@ import java.util.function.*;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import static io.vertx.core.http.HttpMethod.PUT;
 import static io.vertx.test.core.AssertExpectations.that;
@@ -423,6 +428,15 @@ public class Http1xTest extends HttpTest {
     assertEquals(256, options.getDecoderInitialBufferSize());
     assertIllegalArgumentException(() -> options.setDecoderInitialBufferSize(-1));
 
+    assertEquals(HttpServerOptions.DEFAULT_DATE_HEADER, options.isDateHeader());
+    assertEquals(options, options.setDateHeader(true));
+    assertTrue(options.isDateHeader());
+
+    assertEquals(HttpServerOptions.DEFAULT_MAX_INTERNED_HEADER_VALUES, options.getMaxInternedHeaderValues());
+    assertEquals(options, options.setMaxInternedHeaderValues(128));
+    assertEquals(128, options.getMaxInternedHeaderValues());
+    assertIllegalArgumentException(() -> options.setMaxInternedHeaderValues(-1));
+
   }
 
   @Test
@@ -787,6 +801,8 @@ public class Http1xTest extends HttpTest {
     boolean decompressionSupported = rand.nextBoolean();
     boolean acceptUnmaskedFrames = rand.nextBoolean();
     int decoderInitialBufferSize = TestUtils.randomPositiveInt();
+    boolean dateHeader = rand.nextBoolean();
+    int maxInternedHeaderValues = TestUtils.randomPositiveInt();
 
     options.setSendBufferSize(sendBufferSize);
     options.setReceiveBufferSize(receiverBufferSize);
@@ -818,6 +834,8 @@ public class Http1xTest extends HttpTest {
     options.setDecompressionSupported(decompressionSupported);
     options.setAcceptUnmaskedFrames(acceptUnmaskedFrames);
     options.setDecoderInitialBufferSize(decoderInitialBufferSize);
+    options.setDateHeader(dateHeader);
+    options.setMaxInternedHeaderValues(maxInternedHeaderValues);
 
     HttpServerOptions copy = new HttpServerOptions(options);
     checkCopyHttpServerOptions(options, copy);
@@ -1910,6 +1928,83 @@ public class Http1xTest extends HttpTest {
     await();
   }
 
+  @Test
+  public void testHeadersTemplateWithCompression() throws Exception {
+    String content = TestUtils.randomAlphaString(1024).repeat(8);
+    MultiMap template = HttpHeaders.template(HttpHeaders.headers()
+      .set(HttpHeaders.CONTENT_TYPE, "text/plain")
+      .set("x-template", "template-value"));
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setCompressionSupported(true).setCompressionLevel(6))
+      .requestHandler(req -> req.response().headersTemplate(template).end(content));
+    startServer(testAddress);
+    HttpClientResponse resp = client.request(new RequestOptions(requestOptions).putHeader(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+      .compose(req -> req.send().compose(r -> r.body().map(r)))
+      .await();
+    assertEquals(Collections.singletonList("gzip"), resp.headers().getAll(HttpHeaders.CONTENT_ENCODING));
+    assertEquals("template-value", resp.getHeader("x-template"));
+    Buffer body = resp.body().await();
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body.getBytes()))) {
+      assertEquals(content, new String(in.readAllBytes()));
+    }
+  }
+
+  @Test
+  public void testDateHeader() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setDateHeader(true))
+      .requestHandler(req -> {
+        switch (req.path()) {
+          case "/custom-date":
+            req.response().putHeader(HttpHeaders.DATE, "custom").end();
+            break;
+          case "/custom-status":
+            req.response().setStatusCode(201).setStatusMessage("Custom").end();
+            break;
+          default:
+            req.response().end();
+            break;
+        }
+      });
+    startServer(testAddress);
+    long now = System.currentTimeMillis();
+    HttpClientResponse resp = client.request(requestOptions)
+      .compose(req -> req.send().compose(r -> r.end().map(r)))
+      .await();
+    assertEquals(200, resp.statusCode());
+    assertEquals("OK", resp.statusMessage());
+    assertEquals(1, resp.headers().getAll(HttpHeaders.DATE).size());
+    long date = DateFormatter.parseHttpDate(resp.getHeader(HttpHeaders.DATE)).getTime();
+    assertTrue(Math.abs(date - now) < 5000);
+    resp = client.request(new RequestOptions(requestOptions).setURI("/custom-date"))
+      .compose(req -> req.send().compose(r -> r.end().map(r)))
+      .await();
+    assertEquals(Collections.singletonList("custom"), resp.headers().getAll(HttpHeaders.DATE));
+    resp = client.request(new RequestOptions(requestOptions).setURI("/custom-status"))
+      .compose(req -> req.send().compose(r -> r.end().map(r)))
+      .await();
+    assertEquals(201, resp.statusCode());
+    assertEquals("Custom", resp.statusMessage());
+    assertNotNull(resp.getHeader(HttpHeaders.DATE));
+    resp = client.request(new RequestOptions(requestOptions).setProtocolVersion(HttpVersion.HTTP_1_0))
+      .compose(req -> req.send().compose(r -> r.end().map(r)))
+      .await();
+    assertEquals(HttpVersion.HTTP_1_0, resp.version());
+    assertEquals(200, resp.statusCode());
+    assertNotNull(resp.getHeader(HttpHeaders.DATE));
+  }
+
+  @Test
+  public void testNoDateHeaderByDefault() throws Exception {
+    server.requestHandler(req -> req.response().end());
+    startServer(testAddress);
+    HttpClientResponse resp = client.request(requestOptions)
+      .compose(req -> req.send().compose(r -> r.end().map(r)))
+      .await();
+    assertEquals(200, resp.statusCode());
+    assertNull(resp.getHeader(HttpHeaders.DATE));
+  }
+
   @Test
   public void testClientOptionsCopiedBeforeUse() throws Exception {
     server.requestHandler(req -> {
@@ -5332,6 +5427,88 @@ public class Http1xTest extends HttpTest {
     await();
   }
 
+  @Test
+  public void testShardedPool() throws Exception {
+    int numLoops = 4;
+    int numRequests = 10;
+    int maxPoolSize = 2;
+    Set<HttpConnection> connections = ConcurrentHashMap.newKeySet();
+    server.requestHandler(req -> {
+      connections.add(req.connection());
+      req.response().end();
+    });
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions(), new PoolOptions()
+      .setHttp1MaxSize(maxPoolSize)
+      .setSharded(true));
+    waitFor(numLoops * numRequests);
+    for (int i = 0;i < numLoops;i++) {
+      ((VertxInternal) vertx).createEventLoopContext().runOnContext(v -> {
+        for (int j = 0;j < numRequests;j++) {
+          client
+            .request(requestOptions)
+            .compose(request -> request
+              .send()
+              .compose(HttpClientResponse::body))
+            .onComplete(onSuccess(body -> {
+              assertTrue(connections.size() <= maxPoolSize);
+              complete();
+            }));
+        }
+      });
+    }
+    await();
+  }
+
+  @Test
+  public void testPoolWarmUp() throws Exception {
+    server.requestHandler(req -> req.response().end());
+    startServer(testAddress);
+    client.close();
+    Set<HttpConnection> connections = ConcurrentHashMap.newKeySet();
+    client = vertx.httpClientBuilder()
+      .with(new PoolOptions()
+        .setHttp1MaxSize(5)
+        .setMinSize(3)
+        .setWarmUp(true)
+        .setCleanerPeriod(0))
+      .withConnectHandler(connections::add)
+      .build();
+    client.request(requestOptions)
+      .compose(req -> req.send().compose(HttpClientResponse::body))
+      .await();
+    assertWaitUntil(() -> connections.size() >= 3);
+  }
+
+  @Test
+  public void testPoolMinSize() throws Exception {
+    server.requestHandler(req -> req.response().end());
+    startServer(testAddress);
+    client.close();
+    Set<HttpConnection> connections = ConcurrentHashMap.newKeySet();
+    client = vertx.httpClientBuilder()
+      .with(new PoolOptions()
+        .setHttp1MaxSize(5)
+        .setMinSize(3)
+        .setWarmUpRate(1)
+        .setCleanerPeriod(10)
+        .setMaxLifetime(500)
+        .setMaxLifetimeUnit(TimeUnit.MILLISECONDS))
+      .withConnectHandler(conn -> {
+        connections.add(conn);
+        conn.closeHandler(v -> connections.remove(conn));
+      })
+      .build();
+    client.request(requestOptions)
+      .compose(req -> req.send().compose(HttpClientResponse::body))
+      .await();
+    assertWaitUntil(() -> connections.size() >= 3);
+    Set<HttpConnection> initial = new HashSet<>(connections);
+    // Expired connections are replaced
+    assertWaitUntil(() -> connections.size() >= 3 && Collections.disjoint(initial, connections));
+  }
+
   @Test
   public void testServerResponseChunkedSend() throws Exception {
     testServerResponseSend(true);
@@ -5931,6 +6108,73 @@ public class Http1xTest extends HttpTest {
     }
   }
 
+  @Test
+  public void testWellKnownRequestHeaderNames() throws Exception {
+    server.requestHandler(request -> {
+      Map<String, CharSequence> names = new HashMap<>();
+      io.netty.handler.codec.http.HttpHeaders nettyHeaders = (io.netty.handler.codec.http.HttpHeaders) request.headers();
+      nettyHeaders.iteratorCharSequence().forEachRemaining(entry -> names.put(entry.getKey().toString(), entry.getKey()));
+      assertSame(HttpHeaders.USER_AGENT, names.get("user-agent"));
+      assertSame(HttpHeaders.ACCEPT_ENCODING, names.get("accept-encoding"));
+      // The case of the header name is preserved
+      assertEquals("Cache-Control", names.get("Cache-Control").toString());
+      assertEquals("X-custom", names.get("X-custom").toString());
+      request.response().end();
+    });
+    startServer(testAddress);
+    client.request(requestOptions)
+      .compose(request -> request
+        .putHeader("user-agent", "test")
+        .putHeader("accept-encoding", "gzip")
+        .putHeader("Cache-Control", "no-cache")
+        .putHeader("X-custom", "value")
+        .send()
+        .expecting(HttpResponseExpectation.SC_OK)
+        .compose(HttpClientResponse::end)
+      ).await();
+  }
+
+  @Test
+  public void testInternRequestHeaderValues() throws Exception {
+    server.close();
+    List<CharSequence> connections = Collections.synchronizedList(new ArrayList<>());
+    List<CharSequence> userAgents = Collections.synchronizedList(new ArrayList<>());
+    server = vertx.createHttpServer(new HttpServerOptions().setMaxInternedHeaderValues(64))
+      .requestHandler(request -> {
+        io.netty.handler.codec.http.HttpHeaders nettyHeaders = (io.netty.handler.codec.http.HttpHeaders) request.headers();
+        nettyHeaders.iteratorCharSequence().forEachRemaining(entry -> {
+          if (AsciiString.contentEqualsIgnoreCase(HttpHeaders.CONNECTION, entry.getKey())) {
+            connections.add(entry.getValue());
+          } else if (AsciiString.contentEqualsIgnoreCase(HttpHeaders.USER_AGENT, entry.getKey())) {
+            userAgents.add(entry.getValue());
+          }
+        });
+        request.response().end(request.getHeader("x-value"));
+      });
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setKeepAlive(true), new PoolOptions().setHttp1MaxSize(1));
+    for (int i = 0;i < 3;i++) {
+      String val = "v" + i;
+      Buffer body = client.request(requestOptions)
+        .compose(request -> request
+          .putHeader("connection", "keep-alive")
+          .putHeader("user-agent", "my-agent/1.0")
+          .putHeader("x-value", val)
+          .send()
+          .expecting(HttpResponseExpectation.SC_OK)
+          .compose(HttpClientResponse::body)
+        ).await();
+      assertEquals(val, body.toString());
+    }
+    assertFalse(connections.isEmpty());
+    connections.forEach(connection -> assertSame(HttpHeaderValues.KEEP_ALIVE, connection));
+    assertEquals(3, userAgents.size());
+    assertEquals("my-agent/1.0", userAgents.get(0).toString());
+    assertSame(userAgents.get(0), userAgents.get(1));
+    assertSame(userAgents.get(0), userAgents.get(2));
+  }
+
   @Test
   public void testEagerCreateRequestInboundQueueForWorkers() throws Exception {
     server.requestHandler(req -> {
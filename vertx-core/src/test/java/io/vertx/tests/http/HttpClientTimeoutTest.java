@@ -13,6 +13,8 @@ package io.vertx.tests.http;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.*;
 import io.vertx.core.impl.Utils;
@@ -323,6 +325,23 @@ public abstract class HttpClientTimeoutTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testRequestTimesOutOnTimerWheel() throws Exception {
+    server.requestHandler(noOpHandler());
+    startServer(testAddress);
+    Vertx vertx = vertx(new VertxOptions().setTimerWheelEnabled(true));
+    HttpClient client = vertx.createHttpClient(createBaseClientOptions());
+    long timeout = 500;
+    long now = System.currentTimeMillis();
+    client.request(new RequestOptions(requestOptions).setIdleTimeout(timeout))
+      .compose(HttpClientRequest::send).onComplete(onFailure(err -> {
+        assertTrue(err instanceof TimeoutException);
+        assertTrue(System.currentTimeMillis() - now >= timeout);
+        testComplete();
+      }));
+    await();
+  }
+
   @Test
   public void testRequestTimeoutExtendedWhenResponseChunksReceived() throws Exception {
     long timeout = 2000;
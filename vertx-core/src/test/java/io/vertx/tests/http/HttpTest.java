@@ -1049,6 +1049,48 @@ public abstract class HttpTest extends SimpleHttpTest {
     await();
   }
 
+  @Test
+  public void testResponseHeadersTemplate() throws Exception {
+    MultiMap template = HttpHeaders.template(HttpHeaders.headers()
+      .set(HttpHeaders.CONTENT_TYPE, "text/html")
+      .set("x-template", "template-value"));
+    server.requestHandler(req -> {
+      req.response()
+        .headersTemplate(template)
+        .putHeader("x-response", "response-value")
+        .end("hello");
+    });
+    startServer(testAddress);
+    for (int i = 0;i < 2;i++) {
+      MultiMap respHeaders = client.request(requestOptions)
+        .compose(req -> req
+          .send()
+          .compose(resp -> resp.body().map(resp.headers())))
+        .await();
+      assertEquals(Collections.singletonList("text/html"), respHeaders.getAll(HttpHeaders.CONTENT_TYPE));
+      assertEquals("template-value", respHeaders.get("x-template"));
+      assertEquals("response-value", respHeaders.get("x-response"));
+      assertEquals("5", respHeaders.get(HttpHeaders.CONTENT_LENGTH));
+    }
+  }
+
+  @Test
+  public void testHeadersTemplateRejectsServerManagedHeaders() throws Exception {
+    List<CharSequence> names = Arrays.asList(HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING,
+      HttpHeaders.CONTENT_ENCODING, HttpHeaders.CONNECTION, HttpHeaders.DATE, HttpHeaders.VARY);
+    server.requestHandler(req -> {
+      for (CharSequence name : names) {
+        MultiMap template = HttpHeaders.template(HttpHeaders.headers().set(name, "value"));
+        assertIllegalArgumentException(() -> req.response().headersTemplate(template));
+      }
+      req.response().end();
+    });
+    startServer(testAddress);
+    client.request(requestOptions)
+      .compose(req -> req.send().expecting(HttpResponseExpectation.SC_OK).compose(HttpClientResponse::end))
+      .await();
+  }
+
   @Test
   public void testResponseHeadersWithCharSequence() throws Exception {
     HashMap<CharSequence, String> headers = new HashMap<>();
@@ -11,11 +11,14 @@
 
 package io.vertx.tests.http.headers;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.util.AsciiString;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.impl.headers.Http1xHeaders;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -400,4 +403,39 @@ public class VertxHttpHeadersTest extends HeadersTest {
     } catch (ConcurrentModificationException expected) {
     }
   }
+
+  @Test
+  public void testTemplate() {
+    MultiMap headers = newMultiMap()
+      .set("content-type", "text/plain")
+      .set("server", "vert.x");
+    Http1xHeaders template = Http1xHeaders.headersTemplate(headers);
+    assertSame(template, Http1xHeaders.headersTemplate(template));
+    assertFalse(template.isMutable());
+    try {
+      template.set("foo", "bar");
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+    // The template is a copy
+    headers.set("server", "other");
+    assertEquals("vert.x", template.get("server"));
+    Http1xHeaders response = newMultiMap()
+      .template(template)
+      .set("content-length", "5");
+    assertSame(template, response.template());
+    assertNull(response.get("content-type"));
+    ByteBuf buf = Unpooled.buffer();
+    response.encode(buf, false);
+    assertEquals("content-type: text/plain\r\nserver: vert.x\r\ncontent-length: 5\r\n", buf.toString(StandardCharsets.US_ASCII));
+  }
+
+  @Test
+  public void testSetNonTemplate() {
+    try {
+      newMultiMap().template(newMultiMap().copy(false));
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
 }
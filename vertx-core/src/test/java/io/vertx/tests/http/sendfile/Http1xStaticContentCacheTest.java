@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.http.sendfile;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.test.core.TestUtils;
+import io.vertx.test.http.HttpTestBase;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public class Http1xStaticContentCacheTest extends HttpTestBase {
+
+  private File file;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    file = TestUtils.tmpFile(".txt");
+  }
+
+  @Override
+  protected HttpServerOptions createBaseServerOptions() {
+    return super.createBaseServerOptions()
+      .setStaticContentCacheMaxSize(64 * 1024)
+      .setStaticContentCacheValidationPeriod(0);
+  }
+
+  private void startServer(HttpServerOptions options) throws Exception {
+    startServer(options, req -> req.response().sendFile(file.getAbsolutePath()));
+  }
+
+  private void startServer(HttpServerOptions options, Handler<HttpServerRequest> handler) throws Exception {
+    server.close().await();
+    server = vertx.createHttpServer(options).requestHandler(handler);
+    startServer(testAddress);
+  }
+
+  private HttpClientResponse get(String name, String value) {
+    RequestOptions options = new RequestOptions(requestOptions).setMethod(HttpMethod.GET);
+    if (name != null) {
+      options.putHeader(name, value);
+    }
+    return client.request(options)
+      .compose(req -> req.send().compose(resp -> resp.body().map(resp)))
+      .await();
+  }
+
+  /**
+   * The file is sent without the cache until a worker has loaded it, retry until the response comes from the cache.
+   */
+  private HttpClientResponse getCached(String name, String value) throws Exception {
+    for (int i = 0;;i++) {
+      HttpClientResponse resp = get(name, value);
+      if (resp.getHeader(HttpHeaders.ETAG) != null || i == 100) {
+        return resp;
+      }
+      Thread.sleep(10);
+    }
+  }
+
+  private Buffer body(HttpClientResponse resp) {
+    return resp.body().await();
+  }
+
+  @Test
+  public void testCachedContent() throws Exception {
+    Files.write(file.toPath(), "hello".getBytes());
+    startServer(createBaseServerOptions());
+    HttpClientResponse resp0 = get(null, null);
+    assertEquals(200, resp0.statusCode());
+    assertEquals("hello", body(resp0).toString());
+    HttpClientResponse resp1 = getCached(null, null);
+    assertEquals(200, resp1.statusCode());
+    assertEquals("hello", body(resp1).toString());
+    String etag = resp1.getHeader(HttpHeaders.ETAG);
+    assertNotNull(etag);
+    assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+    assertNotNull(resp1.getHeader(HttpHeaders.LAST_MODIFIED));
+    assertEquals("text/plain", resp1.getHeader(HttpHeaders.CONTENT_TYPE));
+    HttpClientResponse resp2 = get(null, null);
+    assertEquals("hello", body(resp2).toString());
+    assertEquals(etag, resp2.getHeader(HttpHeaders.ETAG));
+    Files.write(file.toPath(), "hello world".getBytes());
+    HttpClientResponse resp3 = getCached(null, null);
+    assertEquals("hello world", body(resp3).toString());
+    assertFalse(etag.equals(resp3.getHeader(HttpHeaders.ETAG)));
+  }
+
+  @Test
+  public void testIfNoneMatch() throws Exception {
+    Files.write(file.toPath(), "hello".getBytes());
+    startServer(createBaseServerOptions());
+    String etag = getCached(null, null).getHeader(HttpHeaders.ETAG);
+    HttpClientResponse resp = get(HttpHeaders.IF_NONE_MATCH.toString(), "\"other\", " + etag);
+    assertEquals(304, resp.statusCode());
+    assertEquals(0, body(resp).length());
+    assertEquals(etag, resp.getHeader(HttpHeaders.ETAG));
+    resp = get(HttpHeaders.IF_NONE_MATCH.toString(), "\"other\"");
+    assertEquals(200, resp.statusCode());
+    assertEquals("hello", body(resp).toString());
+  }
+
+  @Test
+  public void testIfModifiedSince() throws Exception {
+    Files.write(file.toPath(), "hello".getBytes());
+    startServer(createBaseServerOptions());
+    String lastModified = getCached(null, null).getHeader(HttpHeaders.LAST_MODIFIED);
+    HttpClientResponse resp = get(HttpHeaders.IF_MODIFIED_SINCE.toString(), lastModified);
+    assertEquals(304, resp.statusCode());
+    assertEquals(0, body(resp).length());
+    resp = get(HttpHeaders.IF_MODIFIED_SINCE.toString(), "Thu, 01 Jan 1970 00:00:00 GMT");
+    assertEquals(200, resp.statusCode());
+    assertEquals("hello", body(resp).toString());
+  }
+
+  @Test
+  public void testCompressedVariant() throws Exception {
+    String content = TestUtils.randomAlphaString(1024).repeat(8);
+    Files.write(file.toPath(), content.getBytes());
+    startServer(createBaseServerOptions().setCompressionSupported(true).setCompressionLevel(6));
+    HttpClientResponse identity = getCached(null, null);
+    assertNull(identity.getHeader(HttpHeaders.CONTENT_ENCODING));
+    assertEquals(content, body(identity).toString());
+    for (int i = 0;i < 2;i++) {
+      HttpClientResponse gzip = getCached(HttpHeaders.ACCEPT_ENCODING.toString(), "gzip");
+      assertEquals("gzip", gzip.getHeader(HttpHeaders.CONTENT_ENCODING));
+      assertEquals("accept-encoding", gzip.getHeader(HttpHeaders.VARY));
+      assertFalse(identity.getHeader(HttpHeaders.ETAG).equals(gzip.getHeader(HttpHeaders.ETAG)));
+      Buffer compressed = body(gzip);
+      assertTrue(compressed.length() < content.length());
+      try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.getBytes()))) {
+        assertEquals(content, new String(in.readAllBytes()));
+      }
+    }
+  }
+
+  @Test
+  public void testContentEncodingSetByApplication() throws Exception {
+    String content = TestUtils.randomAlphaString(1024).repeat(8);
+    ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+      out.write(content.getBytes());
+    }
+    Files.write(file.toPath(), gzipped.toByteArray());
+    startServer(createBaseServerOptions().setCompressionSupported(true).setCompressionLevel(6), req -> req
+      .response()
+      .putHeader(HttpHeaders.CONTENT_ENCODING, "gzip")
+      .sendFile(file.getAbsolutePath()));
+    for (int i = 0;i < 2;i++) {
+      HttpClientResponse resp = i == 0 ? get(HttpHeaders.ACCEPT_ENCODING.toString(), "gzip") : getCached(HttpHeaders.ACCEPT_ENCODING.toString(), "gzip");
+      assertEquals("gzip", resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+      assertEquals(1, resp.headers().getAll(HttpHeaders.CONTENT_ENCODING).size());
+      try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body(resp).getBytes()))) {
+        assertEquals(content, new String(in.readAllBytes()));
+      }
+    }
+  }
+
+  @Test
+  public void testLargeFileNotCached() throws Exception {
+    String content = TestUtils.randomAlphaString(2048);
+    Files.write(file.toPath(), content.getBytes());
+    startServer(createBaseServerOptions().setStaticContentCacheMaxEntrySize(1024));
+    HttpClientResponse resp = get(null, null);
+    assertEquals(content, body(resp).toString());
+    assertNull(resp.getHeader(HttpHeaders.ETAG));
+    resp = getCached(null, null);
+    assertEquals(content, body(resp).toString());
+    assertNull(resp.getHeader(HttpHeaders.ETAG));
+  }
+}
@@ -28,6 +28,7 @@ import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.VertxMetricsFactory;
+import io.vertx.core.spi.metrics.EventLoopMetrics;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
 import io.vertx.core.spi.metrics.VertxMetrics;
 import io.vertx.test.core.TestUtils;
@@ -45,6 +46,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -134,6 +136,31 @@ public class MetricsTest extends VertxTestBase {
     testBroadcastMessage(vertices[0], vertices, true, new SentMessage(ADDRESS1, true, false, true), new SentMessage(ADDRESS1, true, true, false));
   }
 
+  @Test
+  public void testPublishAllMessagesToSelf() {
+    testPublishAllMessages(vertx, vertx, new SentMessage(ADDRESS1, true, true, false));
+  }
+
+  @Test
+  public void testPublishAllMessagesToRemote() {
+    startNodes(2);
+    testPublishAllMessages(vertices[0], vertices[1], new SentMessage(ADDRESS1, true, false, true));
+  }
+
+  private void testPublishAllMessages(Vertx from, Vertx to, SentMessage expected) {
+    FakeEventBusMetrics eventBusMetrics = FakeMetricsBase.eventBusMetricsOf(from.eventBus());
+    List<String> bodies = Arrays.asList("0", "1", "2");
+    AtomicInteger receiveCount = new AtomicInteger();
+    to.eventBus().consumer(ADDRESS1, msg -> {
+      if (receiveCount.incrementAndGet() == bodies.size()) {
+        testComplete();
+      }
+    }).completion().onComplete(onSuccess(v -> from.eventBus().publishAll(ADDRESS1, bodies)));
+    await();
+    waitUntil(() -> eventBusMetrics.getSentMessages().size() == bodies.size());
+    assertEquals(Arrays.asList(expected, expected, expected), eventBusMetrics.getSentMessages());
+  }
+
   private void testBroadcastMessage(Vertx from, Vertx[] to, boolean publish, SentMessage... expected) {
     FakeEventBusMetrics eventBusMetrics = FakeMetricsBase.eventBusMetricsOf(from.eventBus());
     AtomicInteger broadcastCount = new AtomicInteger();
@@ -735,6 +762,36 @@ public class MetricsTest extends VertxTestBase {
     assertWaitUntil(() -> clientMetrics.connectionCount(authority) == null);
   }
 
+  @Test
+  public void testHttpClientPoolStreamsMetrics() throws Exception {
+    server = vertx.createHttpServer();
+    List<Runnable> requests = Collections.synchronizedList(new ArrayList<>());
+    server.requestHandler(req -> {
+      requests.add(() -> {
+        vertx.runOnContext(v -> {
+          req.response().end();
+        });
+      });
+    });
+    awaitFuture(server.listen(HttpTestBase.DEFAULT_HTTP_PORT, "localhost"));
+    client = vertx.createHttpClient(new HttpClientOptions().setKeepAliveTimeout(1));
+    CountDownLatch responsesLatch = new CountDownLatch(2);
+    for (int i = 0;i < 2;i++) {
+      client.request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, "localhost", "/somepath")
+        .compose(HttpClientRequest::send)
+        .onComplete(onSuccess(resp -> responsesLatch.countDown()));
+    }
+    String authority = "localhost:" + HttpTestBase.DEFAULT_HTTP_PORT;
+    assertWaitUntil(() -> requests.size() == 2);
+    FakePoolMetrics poolMetrics = FakePoolMetrics.getMetrics(authority);
+    assertWaitUntil(() -> poolMetrics.streams().size() == 2);
+    poolMetrics.streams().values().forEach(streams -> assertEquals(1L, (long)streams));
+    requests.forEach(Runnable::run);
+    awaitLatch(responsesLatch);
+    assertWaitUntil(() -> poolMetrics.streams().values().stream().allMatch(streams -> streams == 0L));
+    assertWaitUntil(() -> poolMetrics.streams().isEmpty());
+  }
+
   @Test
   public void testHttpClientMetricsQueueClose() throws Exception {
     server = vertx.createHttpServer();
@@ -1275,4 +1332,66 @@ public class MetricsTest extends VertxTestBase {
       assertNull(all.get("vert.x-virtual-thread"));
     }
   }
+
+  @Test
+  public void testEventLoopMetrics() throws Exception {
+    AtomicInteger dequeued = new AtomicInteger();
+    AtomicLong maxExecutionTime = new AtomicLong();
+    AtomicLong busyTime = new AtomicLong();
+    AtomicBoolean overloaded = new AtomicBoolean();
+    List<String> names = Collections.synchronizedList(new ArrayList<>());
+    AtomicReference<StackTraceElement[]> slowTask = new AtomicReference<>();
+    Vertx vertx = vertx(() -> Vertx.builder()
+      .with(new VertxOptions()
+        .setEventLoopPoolSize(1)
+        .setEventLoopSamplingInterval(10)
+        .setMetricsOptions(new MetricsOptions().setEnabled(true)))
+      .withMetrics(options -> new VertxMetrics() {
+        @Override
+        public EventLoopMetrics createEventLoopMetrics(String name) {
+          names.add(name);
+          return new EventLoopMetrics() {
+            @Override
+            public void taskDequeued(long waitTime) {
+              dequeued.incrementAndGet();
+            }
+            @Override
+            public void taskExecuted(long executionTime) {
+              maxExecutionTime.accumulateAndGet(executionTime, Math::max);
+            }
+            @Override
+            public void utilization(long busy, long elapsedTime) {
+              if (busy > elapsedTime) {
+                overloaded.set(true);
+              }
+              busyTime.addAndGet(busy);
+            }
+            @Override
+            public void slowTask(long executionTime, StackTraceElement[] stackTrace) {
+              slowTask.compareAndSet(null, stackTrace);
+            }
+          };
+        }
+      })
+      .build());
+    assertEquals(Collections.singletonList("vert.x-eventloop-thread-0"), names);
+    Context context = vertx.getOrCreateContext();
+    CountDownLatch latch = new CountDownLatch(1);
+    context.runOnContext(v -> {
+      try {
+        Thread.sleep(200);
+      } catch (InterruptedException e) {
+        fail(e);
+      }
+      latch.countDown();
+    });
+    awaitLatch(latch);
+    assertWaitUntil(() -> maxExecutionTime.get() >= TimeUnit.MILLISECONDS.toNanos(200));
+    assertWaitUntil(() -> busyTime.get() >= TimeUnit.MILLISECONDS.toNanos(150));
+    assertTrue(dequeued.get() > 0);
+    assertFalse(overloaded.get());
+    StackTraceElement[] stackTrace = slowTask.get();
+    assertNotNull(stackTrace);
+    assertTrue(Arrays.stream(stackTrace).anyMatch(elt -> elt.getMethodName().equals("sleep")));
+  }
 }
@@ -61,6 +61,31 @@ public class ConnectionPoolTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testWarmUp() throws Exception {
+    ContextInternal context = vertx.createEventLoopContext();
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 }, 10);
+    Connection expected = new Connection();
+    CountDownLatch latch = new CountDownLatch(1);
+    pool.warmUp(context, 0, onSuccess2(created -> {
+      assertTrue(created);
+      assertEquals(0, pool.requests());
+      latch.countDown();
+    }));
+    assertEquals(1, pool.requests());
+    mgr.assertRequest().connect(expected, 0);
+    awaitLatch(latch);
+    pool.warmUp(context, 0, onSuccess2(created -> {
+      assertFalse(created);
+      pool.acquire(context, 0, onSuccess2(lease -> {
+        assertSame(expected, lease.get());
+        testComplete();
+      }));
+    }));
+    await();
+  }
+
   @Test
   public void testAcquireRecycledConnection() throws Exception {
     ContextInternal context = vertx.createEventLoopContext();
@@ -902,6 +927,64 @@ public class ConnectionPoolTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testLeastLoadedSelector() throws Exception {
+    ContextInternal context = vertx.createEventLoopContext();
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 2 }, 10);
+    pool.connectionSelector(ConnectionPool.leastLoadedSelector());
+    CountDownLatch latch1 = new CountDownLatch(2);
+    pool.acquire(context, 0, onSuccess2(lease -> latch1.countDown()));
+    pool.acquire(context, 0, onSuccess2(lease -> latch1.countDown()));
+    Connection conn1 = new Connection();
+    Connection conn2 = new Connection();
+    ConnectionRequest request1 = mgr.assertRequest();
+    ConnectionRequest request2 = mgr.assertRequest();
+    request1.connect(conn1, 0);
+    request2.connect(conn2, 0);
+    awaitLatch(latch1);
+    request1.concurrency(2);
+    request2.concurrency(3);
+    CountDownLatch latch2 = new CountDownLatch(1);
+    pool.acquire(context, 0, onSuccess2(lease -> {
+      assertSame(conn2, lease.get());
+      latch2.countDown();
+    }));
+    awaitLatch(latch2);
+    pool.acquire(context, 0, onSuccess2(lease -> {
+      assertSame(conn1, lease.get());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testLeastLoadedSelectorRank() throws Exception {
+    ContextInternal context = vertx.createEventLoopContext();
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 2 }, 10);
+    Connection conn1 = new Connection();
+    Connection conn2 = new Connection();
+    pool.connectionSelector(ConnectionPool.leastLoadedSelector(conn -> conn == conn2 ? 1L : 0L));
+    CountDownLatch latch1 = new CountDownLatch(2);
+    pool.acquire(context, 0, onSuccess2(lease -> {
+      lease.recycle();
+      latch1.countDown();
+    }));
+    pool.acquire(context, 0, onSuccess2(lease -> {
+      lease.recycle();
+      latch1.countDown();
+    }));
+    mgr.assertRequest().connect(conn1, 0);
+    mgr.assertRequest().connect(conn2, 0);
+    awaitLatch(latch1);
+    pool.acquire(context, 0, onSuccess2(lease -> {
+      assertSame(conn2, lease.get());
+      testComplete();
+    }));
+    await();
+  }
+
   @Test
   public void testDefaultSelector() throws Exception {
     ContextImpl context1 = (ContextImpl) vertx.createEventLoopContext();
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.pool;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.http.ConnectionPoolTooBusyException;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.pool.ConnectResult;
+import io.vertx.core.internal.pool.ConnectionPool;
+import io.vertx.core.internal.pool.Lease;
+import io.vertx.core.internal.pool.PoolConnector;
+import io.vertx.core.internal.pool.PoolWaiter;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ShardedConnectionPoolTest extends VertxTestBase {
+
+  VertxInternal vertx;
+
+  @Override
+  protected VertxOptions getOptions() {
+    return super.getOptions().setEventLoopPoolSize(4);
+  }
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    this.vertx = (VertxInternal) super.vertx;
+  }
+
+  private ContextInternal[] eventLoops(int num) {
+    ContextInternal[] contexts = new ContextInternal[num];
+    for (int i = 0;i < num;i++) {
+      contexts[i] = vertx.createEventLoopContext();
+      for (int j = 0;j < i;j++) {
+        assertNotSame(contexts[j].nettyEventLoop(), contexts[i].nettyEventLoop());
+      }
+    }
+    return contexts;
+  }
+
+  private static Future<Lease<Connection>> acquire(ConnectionPool<Connection> pool, ContextInternal context) {
+    return Future.future(p -> pool.acquire(context, 0, p));
+  }
+
+  @Test
+  public void testReuseConnection() throws Exception {
+    ContextInternal[] contexts = eventLoops(1);
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.shardedPool(mgr, new int[] { 2 }, -1);
+    Future<Lease<Connection>> fut = acquire(pool, contexts[0]);
+    Connection conn = new Connection();
+    mgr.assertRequest().connect(conn);
+    Lease<Connection> lease = fut.await(20, TimeUnit.SECONDS);
+    assertSame(conn, lease.get());
+    lease.recycle();
+    lease = acquire(pool, contexts[0]).await(20, TimeUnit.SECONDS);
+    assertSame(conn, lease.get());
+    assertEquals(1, pool.size());
+    mgr.assertNoRequest();
+  }
+
+  @Test
+  public void testWarmUp() throws Exception {
+    ContextInternal[] contexts = eventLoops(2);
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.shardedPool(mgr, new int[] { 1 }, -1);
+    Future<Boolean> fut = Future.future(p -> pool.warmUp(contexts[0], 0, p));
+    Connection conn = new Connection();
+    mgr.assertRequest().connect(conn);
+    assertTrue(fut.await(20, TimeUnit.SECONDS));
+    assertFalse(Future.<Boolean>future(p -> pool.warmUp(contexts[1], 0, p)).await(20, TimeUnit.SECONDS));
+    assertSame(conn, acquire(pool, contexts[1]).await(20, TimeUnit.SECONDS).get());
+    mgr.assertNoRequest();
+  }
+
+  @Test
+  public void testBorrowAvailableConnection() throws Exception {
+    ContextInternal[] contexts = eventLoops(2);
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.shardedPool(mgr, new int[] { 1 }, -1);
+    Future<Lease<Connection>> fut = acquire(pool, contexts[0]);
+    Connection conn = new Connection();
+    mgr.assertRequest().connect(conn);
+    fut.await(20, TimeUnit.SECONDS).recycle();
+    Lease<Connection> lease = acquire(pool, contexts[1]).await(20, TimeUnit.SECONDS);
+    assertSame(conn, lease.get());
+    assertEquals(1, pool.size());
+    assertEquals(0, pool.waiters());
+    mgr.assertNoRequest();
+  }
+
+  @Test
+  public void testMaxSize() throws Exception {
+    ContextInternal[] contexts = eventLoops(3);
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.shardedPool(mgr, new int[] { 2 }, -1);
+    Future<Lease<Connection>> fut1 = acquire(pool, contexts[0]);
+    Future<Lease<Connection>> fut2 = acquire(pool, contexts[1]);
+    Connection conn1 = new Connection();
+    Connection conn2 = new Connection();
+    mgr.assertRequest().connect(conn1);
+    mgr.assertRequest().connect(conn2);
+    Lease<Connection> lease1 = fut1.await(20, TimeUnit.SECONDS);
+    fut2.await(20, TimeUnit.SECONDS);
+    Future<Lease<Connection>> fut3 = acquire(pool, contexts[2]);
+    assertEquals(2, pool.size());
+    assertWaitUntil(() -> pool.waiters() == 1);
+    mgr.assertNoRequest();
+    lease1.recycle();
+    assertSame(lease1.get(), fut3.await(20, TimeUnit.SECONDS).get());
+    assertEquals(0, pool.waiters());
+    assertEquals(2, pool.size());
+  }
+
+  @Test
+  public void testRemovedConnectionCapacity() throws Exception {
+    ContextInternal[] contexts = eventLoops(2);
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.shardedPool(mgr, new int[] { 1 }, -1);
+    Future<Lease<Connection>> fut1 = acquire(pool, contexts[0]);
+    ConnectionRequest request1 = mgr.assertRequest();
+    request1.connect(new Connection());
+    fut1.await(20, TimeUnit.SECONDS);
+    Future<Lease<Connection>> fut2 = acquire(pool, contexts[1]);
+    assertWaitUntil(() -> pool.waiters() == 1);
+    request1.listener.onRemove();
+    ConnectionRequest request2 = mgr.assertRequest();
+    assertSame(contexts[1].nettyEventLoop(), request2.context.nettyEventLoop());
+    Connection conn2 = new Connection();
+    request2.connect(conn2);
+    assertSame(conn2, fut2.await(20, TimeUnit.SECONDS).get());
+    assertEquals(1, pool.size());
+  }
+
+  @Test
+  public void testMaxWaiters() throws Exception {
+    ContextInternal[] contexts = eventLoops(3);
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.shardedPool(mgr, new int[] { 1 }, 1);
+    Future<Lease<Connection>> fut1 = acquire(pool, contexts[0]);
+    mgr.assertRequest().connect(new Connection());
+    fut1.await(20, TimeUnit.SECONDS);
+    acquire(pool, contexts[1]);
+    Future<Lease<Connection>> fut3 = acquire(pool, contexts[2]);
+    try {
+      fut3.await(20, TimeUnit.SECONDS);
+      fail();
+    } catch (ConnectionPoolTooBusyException expected) {
+    }
+    assertEquals(1, pool.waiters());
+  }
+
+  @Test
+  public void testCancelWaiter() throws Exception {
+    ContextInternal[] contexts = eventLoops(2);
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.shardedPool(mgr, new int[] { 1 }, -1);
+    Future<Lease<Connection>> fut1 = acquire(pool, contexts[0]);
+    mgr.assertRequest().connect(new Connection());
+    Lease<Connection> lease = fut1.await(20, TimeUnit.SECONDS);
+    AtomicReference<PoolWaiter<Connection>> waiter = new AtomicReference<>();
+    CountDownLatch enqueued = new CountDownLatch(1);
+    pool.acquire(contexts[1], new PoolWaiter.Listener<>() {
+      @Override
+      public void onEnqueue(PoolWaiter<Connection> w) {
+        waiter.set(w);
+        enqueued.countDown();
+      }
+    }, 0, (res, err) -> fail());
+    awaitLatch(enqueued);
+    assertTrue(Future.<Boolean>future(p -> pool.cancel(waiter.get(), p)).await(20, TimeUnit.SECONDS));
+    assertEquals(0, pool.waiters());
+    lease.recycle();
+    assertSame(lease.get(), acquire(pool, contexts[0]).await(20, TimeUnit.SECONDS).get());
+  }
+
+  @Test
+  public void testEvict() throws Exception {
+    ContextInternal[] contexts = eventLoops(2);
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.shardedPool(mgr, new int[] { 2 }, -1);
+    Future<Lease<Connection>> fut1 = acquire(pool, contexts[0]);
+    Future<Lease<Connection>> fut2 = acquire(pool, contexts[1]);
+    Connection conn1 = new Connection();
+    mgr.assertRequest().connect(conn1);
+    mgr.assertRequest().connect(new Connection());
+    fut1.await(20, TimeUnit.SECONDS).recycle();
+    fut2.await(20, TimeUnit.SECONDS);
+    List<Connection> evicted = Future.<List<Connection>>future(p -> pool.evict(c -> true, p)).await(20, TimeUnit.SECONDS);
+    assertEquals(List.of(conn1), evicted);
+    assertEquals(1, pool.size());
+    assertEquals(1, pool.capacity());
+  }
+
+  @Test
+  public void testClose() throws Exception {
+    ContextInternal[] contexts = eventLoops(2);
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.shardedPool(mgr, new int[] { 1 }, -1);
+    Future<Lease<Connection>> fut1 = acquire(pool, contexts[0]);
+    Connection conn = new Connection();
+    mgr.assertRequest().connect(conn);
+    fut1.await(20, TimeUnit.SECONDS);
+    Future<Lease<Connection>> fut2 = acquire(pool, contexts[1]);
+    assertWaitUntil(() -> pool.waiters() == 1);
+    List<Future<Connection>> connections = Future.<List<Future<Connection>>>future(pool::close).await(20, TimeUnit.SECONDS);
+    assertEquals(1, connections.size());
+    assertSame(conn, connections.get(0).await(20, TimeUnit.SECONDS));
+    try {
+      fut2.await(20, TimeUnit.SECONDS);
+      fail();
+    } catch (Exception expected) {
+    }
+    assertEquals(0, pool.size());
+    assertEquals(0, pool.waiters());
+    assertEquals(0, pool.capacity());
+  }
+
+  @Test
+  public void testConcurrentAcquisitions() throws Exception {
+    int numLoops = 4;
+    int numAcquisitions = 1000;
+    int maxSize = 3;
+    ContextInternal[] contexts = eventLoops(numLoops);
+    AtomicInteger inUse = new AtomicInteger();
+    PoolConnector<Connection> connector = new PoolConnector<>() {
+      @Override
+      public Future<ConnectResult<Connection>> connect(ContextInternal context, Listener listener) {
+        return context.succeededFuture(new ConnectResult<>(new Connection(), 1, 0));
+      }
+      @Override
+      public boolean isValid(Connection connection) {
+        return true;
+      }
+    };
+    ConnectionPool<Connection> pool = ConnectionPool.shardedPool(connector, new int[] { maxSize }, -1);
+    CountDownLatch latch = new CountDownLatch(numLoops * numAcquisitions);
+    for (ContextInternal context : contexts) {
+      context.runOnContext(v -> {
+        for (int i = 0;i < numAcquisitions;i++) {
+          pool.acquire(context, 0, onSuccess2(lease -> {
+            assertTrue(inUse.incrementAndGet() <= maxSize);
+            vertx.runOnContext(v2 -> {
+              inUse.decrementAndGet();
+              lease.recycle();
+              latch.countDown();
+            });
+          }));
+        }
+      });
+    }
+    awaitLatch(latch);
+    assertTrue(pool.size() <= maxSize);
+    assertEquals(0, pool.waiters());
+  }
+
+  static class Connection {
+  }
+
+  static class ConnectionRequest {
+    final ContextInternal context;
+    final PoolConnector.Listener listener;
+    final Promise<ConnectResult<Connection>> completion;
+    ConnectionRequest(ContextInternal context, PoolConnector.Listener listener, Promise<ConnectResult<Connection>> completion) {
+      this.context = context;
+      this.listener = listener;
+      this.completion = completion;
+    }
+    void connect(Connection connection) {
+      completion.complete(new ConnectResult<>(connection, 1, 0));
+    }
+  }
+
+  class ConnectionManager implements PoolConnector<Connection> {
+
+    private final BlockingQueue<ConnectionRequest> requests = new LinkedBlockingQueue<>();
+
+    @Override
+    public Future<ConnectResult<Connection>> connect(ContextInternal context, Listener listener) {
+      Promise<ConnectResult<Connection>> promise = Promise.promise();
+      requests.add(new ConnectionRequest(context, listener, promise));
+      return promise.future();
+    }
+
+    @Override
+    public boolean isValid(Connection connection) {
+      return true;
+    }
+
+    ConnectionRequest assertRequest() throws InterruptedException {
+      ConnectionRequest request = requests.poll(20, TimeUnit.SECONDS);
+      assertNotNull(request);
+      return request;
+    }
+
+    void assertNoRequest() {
+      assertNull(requests.poll());
+    }
+  }
+}
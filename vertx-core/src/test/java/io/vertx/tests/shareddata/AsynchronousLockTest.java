@@ -20,6 +20,7 @@ import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -352,4 +353,44 @@ public class AsynchronousLockTest extends VertxTestBase {
       }));
     await();
   }
+
+  @Test
+  public void testSharedLocks() {
+    SharedData sharedData = vertx.sharedData();
+    List<String> events = Collections.synchronizedList(new ArrayList<>());
+    Lock shared1 = sharedData.getLocalSharedLock("foo").await();
+    Lock shared2 = sharedData.getLocalSharedLock("foo").await();
+    Future<Lock> exclusive = sharedData.getLocalLock("foo").andThen(ar -> events.add("exclusive"));
+    // Queued behind the exclusive waiter
+    Future<Lock> shared3 = sharedData.getLocalSharedLock("foo").andThen(ar -> events.add("shared"));
+    assertEquals(2, ((LockInternal) shared1).waiters());
+    shared1.release();
+    assertEquals(2, ((LockInternal) shared2).waiters());
+    shared2.release();
+    assertWaitUntil(exclusive::succeeded);
+    assertEquals(1, ((LockInternal) exclusive.result()).waiters());
+    assertFalse(shared3.isComplete());
+    exclusive.result().release();
+    assertWaitUntil(shared3::succeeded);
+    assertEquals(List.of("exclusive", "shared"), events);
+    shared3.result().release();
+    assertEquals(0, ((LockInternal) shared3.result()).waiters());
+  }
+
+  @Test
+  public void testTimedOutWaiterGrantsSharedWaiters() {
+    SharedData sharedData = vertx.sharedData();
+    sharedData.getLocalSharedLock("foo").onComplete(onSuccess(shared -> {
+      long start = System.currentTimeMillis();
+      sharedData.getLocalLockWithTimeout("foo", 100).onComplete(onFailure(err -> {
+      }));
+      sharedData.getLocalSharedLock("foo").onComplete(onSuccess(lock -> {
+        assertTrue(System.currentTimeMillis() - start >= 100);
+        lock.release();
+        shared.release();
+        testComplete();
+      }));
+    }));
+    await();
+  }
 }
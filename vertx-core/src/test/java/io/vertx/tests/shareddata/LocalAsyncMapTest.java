@@ -11,10 +11,21 @@
 
 package io.vertx.tests.shareddata;
 
+import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.shareddata.AsyncMap;
+import io.vertx.core.shareddata.EvictionPolicy;
+import io.vertx.core.shareddata.LocalAsyncMapOptions;
+import io.vertx.core.spi.metrics.CacheMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
 import io.vertx.test.core.Repeat;
 import org.junit.Test;
 
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * @author Thomas Segismont
  */
@@ -45,4 +56,140 @@ public class LocalAsyncMapTest extends AsyncMapTest {
   public void testMapPutIfAbsentTtl() {
     super.testMapPutIfAbsentTtl();
   }
+
+  @Test
+  public void testLruEviction() {
+    AsyncMap<String, String> map = vertx.sharedData()
+      .<String, String>getLocalAsyncMap("lru", new LocalAsyncMapOptions().setMaxSize(3).setEvictionPolicy(EvictionPolicy.LRU))
+      .await();
+    map.put("a", "a").await();
+    map.put("b", "b").await();
+    map.put("c", "c").await();
+    assertEquals("a", map.get("a").await());
+    map.put("d", "d").await();
+    assertEquals(Set.of("a", "c", "d"), map.keys().await());
+    assertEquals(3, (int) map.size().await());
+  }
+
+  @Test
+  public void testTinyLfuEviction() {
+    AsyncMap<String, String> map = vertx.sharedData()
+      .<String, String>getLocalAsyncMap("tinylfu", new LocalAsyncMapOptions().setMaxSize(100).setEvictionPolicy(EvictionPolicy.TINY_LFU))
+      .await();
+    for (int i = 0;i < 10;i++) {
+      map.put("hot-" + i, "value").await();
+    }
+    for (int i = 0;i < 10;i++) {
+      for (int j = 0;j < 10;j++) {
+        assertNotNull(map.get("hot-" + j).await());
+      }
+    }
+    // A scan of keys accessed only once does not flush the frequently used keys
+    for (int i = 0;i < 1000;i++) {
+      map.put("cold-" + i, "value").await();
+    }
+    assertEquals(100, (int) map.size().await());
+    for (int i = 0;i < 10;i++) {
+      assertNotNull(map.get("hot-" + i).await());
+    }
+  }
+
+  @Test
+  public void testOptionsMismatch() {
+    LocalAsyncMapOptions options = new LocalAsyncMapOptions().setMaxSize(10);
+    vertx.sharedData().getLocalAsyncMap("bounded", options).await();
+    assertNotNull(vertx.sharedData().<String, String>getLocalAsyncMap("bounded", new LocalAsyncMapOptions(options)).await());
+    assertNotNull(vertx.sharedData().<String, String>getLocalAsyncMap("bounded").await());
+    assertTrue(vertx.sharedData().getLocalAsyncMap("bounded", new LocalAsyncMapOptions()).failed());
+    assertTrue(vertx.sharedData().getLocalAsyncMap("bounded", new LocalAsyncMapOptions(options).setMaxSize(20)).failed());
+    vertx.sharedData().getLocalAsyncMap("unbounded").await();
+    assertTrue(vertx.sharedData().getLocalAsyncMap("unbounded", options).failed());
+  }
+
+  @Test
+  public void testCacheMetrics() {
+    AtomicInteger hits = new AtomicInteger();
+    AtomicInteger misses = new AtomicInteger();
+    AtomicInteger evictions = new AtomicInteger();
+    AtomicInteger expirations = new AtomicInteger();
+    Vertx vertx = vertx(() -> Vertx.builder()
+      .with(new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true)))
+      .withMetrics(options -> new VertxMetrics() {
+        @Override
+        public CacheMetrics createCacheMetrics(String type, String name) {
+          assertEquals("local-async-map", type);
+          assertEquals("the-map", name);
+          return new CacheMetrics() {
+            @Override
+            public void hit() {
+              hits.incrementAndGet();
+            }
+            @Override
+            public void miss() {
+              misses.incrementAndGet();
+            }
+            @Override
+            public void eviction() {
+              evictions.incrementAndGet();
+            }
+            @Override
+            public void expiration() {
+              expirations.incrementAndGet();
+            }
+          };
+        }
+      })
+      .build());
+    AsyncMap<String, String> map = vertx.sharedData()
+      .<String, String>getLocalAsyncMap("the-map", new LocalAsyncMapOptions().setMaxSize(10).setExpirationSweepPeriod(10))
+      .await();
+    for (int i = 0;i < 20;i++) {
+      map.put("key-" + i, "value").await();
+    }
+    assertEquals(10, evictions.get());
+    assertNull(map.get("key-0").await());
+    assertEquals("value", map.get("key-19").await());
+    assertEquals(1, hits.get());
+    assertEquals(1, misses.get());
+    for (int i = 0;i < 5;i++) {
+      map.put("ttl-" + i, "value", 10).await();
+    }
+    // Expired entries are removed by the sweep without being accessed
+    assertWaitUntil(() -> expirations.get() == 5);
+    assertEquals(5, (int) map.size().await());
+  }
+
+  @Test
+  public void testSweepAfterUndeploy() {
+    AtomicInteger expirations = new AtomicInteger();
+    Vertx vertx = vertx(() -> Vertx.builder()
+      .with(new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true)))
+      .withMetrics(options -> new VertxMetrics() {
+        @Override
+        public CacheMetrics createCacheMetrics(String type, String name) {
+          return new CacheMetrics() {
+            @Override
+            public void expiration() {
+              expirations.incrementAndGet();
+            }
+          };
+        }
+      })
+      .build());
+    AsyncMap<String, String> map = vertx.sharedData()
+      .<String, String>getLocalAsyncMap("the-map", new LocalAsyncMapOptions().setExpirationSweepPeriod(10))
+      .await();
+    // The first entry with a time-to-live schedules the sweep from the verticle context
+    String id = vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() {
+        map.put("key", "value", 200);
+      }
+    }).await();
+    vertx.undeploy(id).await();
+    // Expired entries are still removed by the sweep without being accessed
+    assertWaitUntil(() -> expirations.get() == 1);
+    map.put("other", "value", 10).await();
+    assertWaitUntil(() -> expirations.get() == 2);
+  }
 }
@@ -14,9 +14,12 @@ package io.vertx.tests.shareddata;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.EvictionPolicy;
 import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.LocalMapOptions;
 import io.vertx.core.shareddata.Shareable;
 import io.vertx.core.shareddata.SharedData;
+import io.vertx.core.shareddata.Weigher;
 import io.vertx.tests.shareddata.AsyncMapTest.SomeClusterSerializableObject;
 import io.vertx.tests.shareddata.AsyncMapTest.SomeSerializableObject;
 import io.vertx.test.core.TestUtils;
@@ -30,6 +33,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
 import static io.vertx.test.core.TestUtils.assertIllegalArgumentException;
+import static io.vertx.test.core.TestUtils.assertIllegalStateException;
 import static io.vertx.test.core.TestUtils.assertNullPointerException;
 
 /**
@@ -386,6 +390,106 @@ public class LocalSharedDataTest extends VertxTestBase {
     assertNotSame(value, result);
   }
 
+  @Test
+  public void testBoundedMapLru() {
+    LocalMap<String, String> map = sharedData.getLocalMap("lru", new LocalMapOptions().setMaxSize(3));
+    map.put("a", "a");
+    map.put("b", "b");
+    map.put("c", "c");
+    assertEquals("a", map.get("a"));
+    map.put("d", "d");
+    assertEquals(new HashSet<>(Arrays.asList("a", "c", "d")), map.keySet());
+    map.computeIfAbsent("e", k -> "e");
+    assertEquals(new HashSet<>(Arrays.asList("a", "d", "e")), map.keySet());
+    map.remove("a");
+    map.put("f", "f");
+    assertEquals(new HashSet<>(Arrays.asList("d", "e", "f")), map.keySet());
+  }
+
+  @Test
+  public void testBoundedMapLfu() {
+    LocalMap<String, String> map = sharedData.getLocalMap("lfu", new LocalMapOptions().setMaxSize(3).setEvictionPolicy(EvictionPolicy.LFU));
+    map.put("a", "a");
+    map.put("b", "b");
+    map.put("c", "c");
+    for (int i = 0;i < 3;i++) {
+      map.get("a");
+      map.get("c");
+    }
+    map.get("b");
+    map.put("d", "d");
+    assertEquals(new HashSet<>(Arrays.asList("a", "c", "d")), map.keySet());
+  }
+
+  @Test
+  public void testBoundedMapTinyLfu() {
+    LocalMap<Integer, String> map = sharedData.getLocalMap("tinylfu", new LocalMapOptions().setMaxSize(100).setEvictionPolicy(EvictionPolicy.TINY_LFU));
+    for (int i = 0;i < 10;i++) {
+      map.put(i, "hot");
+    }
+    for (int i = 0;i < 10;i++) {
+      for (int j = 0;j < 10;j++) {
+        assertEquals("hot", map.get(j));
+      }
+    }
+    for (int i = 10;i < 1000;i++) {
+      map.put(i, "cold");
+    }
+    assertEquals(100, map.size());
+    for (int i = 0;i < 10;i++) {
+      assertEquals("hot", map.get(i));
+    }
+  }
+
+  @Test
+  public void testBoundedMapWeigher() {
+    Map<String, String> evicted = new LinkedHashMap<>();
+    LocalMap<String, String> map = sharedData.getLocalMap("weighted", new LocalMapOptions()
+      .setMaxWeight(10)
+      .setWeigher((String key, String value) -> value.length())
+      .setEvictionListener((String key, String value) -> evicted.put(key, value)));
+    map.put("a", "1234");
+    map.put("b", "1234");
+    assertTrue(evicted.isEmpty());
+    map.put("c", "1234");
+    assertEquals(Collections.singletonMap("a", "1234"), evicted);
+    // Updating the value updates the weight
+    map.put("b", "12345678");
+    assertEquals(Arrays.asList("a", "c"), new ArrayList<>(evicted.keySet()));
+    assertEquals(Collections.singleton("b"), map.keySet());
+    // An entry heavier than the maximum is evicted
+    map.put("d", "12345678901");
+    assertEquals(Arrays.asList("a", "c", "b", "d"), new ArrayList<>(evicted.keySet()));
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void testBoundedMapOptions() {
+    assertIllegalArgumentException(() -> sharedData.getLocalMap("invalid", new LocalMapOptions().setMaxSize(10).setMaxWeight(10).setWeigher((k, v) -> 1)));
+    assertIllegalArgumentException(() -> sharedData.getLocalMap("invalid", new LocalMapOptions().setMaxWeight(10)));
+    assertIllegalArgumentException(() -> new LocalMapOptions().setMaxSize(-1));
+    LocalMap<String, String> map = sharedData.getLocalMap("bounded", new LocalMapOptions().setMaxSize(1));
+    assertSame(map, sharedData.getLocalMap("bounded"));
+    map.put("a", "a");
+    map.put("b", "b");
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  public void testBoundedMapOptionsMismatch() {
+    Weigher<String, String> weigher = (k, v) -> v.length();
+    LocalMapOptions options = new LocalMapOptions().setMaxWeight(10).setWeigher(weigher);
+    LocalMap<String, String> map = sharedData.getLocalMap("bounded", options);
+    assertSame(map, sharedData.getLocalMap("bounded", new LocalMapOptions(options)));
+    assertIllegalStateException(() -> sharedData.getLocalMap("bounded", new LocalMapOptions()));
+    assertIllegalStateException(() -> sharedData.getLocalMap("bounded", new LocalMapOptions(options).setMaxWeight(20)));
+    assertIllegalStateException(() -> sharedData.getLocalMap("bounded", new LocalMapOptions(options).setWeigher((k, v) -> 1)));
+    assertIllegalStateException(() -> sharedData.getLocalMap("bounded", new LocalMapOptions(options).setEvictionPolicy(EvictionPolicy.LFU)));
+    LocalMap<String, String> unbounded = sharedData.getLocalMap("unbounded");
+    assertSame(unbounded, sharedData.getLocalMap("unbounded", new LocalMapOptions()));
+    assertIllegalStateException(() -> sharedData.getLocalMap("unbounded", new LocalMapOptions().setMaxSize(10)));
+  }
+
   private static class ShareableObject implements Shareable {
     private final String data;
 
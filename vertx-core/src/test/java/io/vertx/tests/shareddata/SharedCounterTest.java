@@ -12,9 +12,13 @@
 package io.vertx.tests.shareddata;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.shareddata.Counter;
+import io.vertx.core.shareddata.LocalCounterOptions;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 
+import java.util.concurrent.CountDownLatch;
+
 import static io.vertx.test.core.TestUtils.assertNullPointerException;
 
 /**
@@ -165,4 +169,52 @@ public class SharedCounterTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testIncrement() {
+    getVertx().sharedData().getCounter("foo").onComplete(onSuccess(counter -> {
+      counter.increment();
+      counter.add(2);
+      counter.get().onComplete(onSuccess(res -> {
+        assertEquals(3L, res.longValue());
+        testComplete();
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testStripedCounter() throws Exception {
+    Counter counter = vertx.sharedData().getLocalCounter("striped", new LocalCounterOptions().setStriped(true)).await();
+    int threads = 8;
+    int increments = 10_000;
+    CountDownLatch latch = new CountDownLatch(threads);
+    for (int i = 0;i < threads;i++) {
+      new Thread(() -> {
+        for (int j = 0;j < increments;j++) {
+          counter.increment();
+        }
+        latch.countDown();
+      }).start();
+    }
+    awaitLatch(latch);
+    assertEquals(threads * increments, (long) counter.get().await());
+    counter.add(5);
+    assertEquals(threads * increments + 5, (long) counter.get().await());
+    assertTrue(counter.incrementAndGet().failed());
+    assertTrue(counter.getAndIncrement().failed());
+    assertTrue(counter.decrementAndGet().failed());
+    assertTrue(counter.addAndGet(1).failed());
+    assertTrue(counter.getAndAdd(1).failed());
+    assertTrue(counter.compareAndSet(0, 1).failed());
+    assertEquals(threads * increments + 5, (long) counter.get().await());
+  }
+
+  @Test
+  public void testCounterModeMismatch() {
+    Counter striped = vertx.sharedData().getLocalCounter("striped", new LocalCounterOptions().setStriped(true)).await();
+    assertSame(striped, vertx.sharedData().getLocalCounter("striped", new LocalCounterOptions().setStriped(true)).await());
+    assertTrue(vertx.sharedData().getLocalCounter("striped").failed());
+    vertx.sharedData().getLocalCounter("atomic").await();
+    assertTrue(vertx.sharedData().getLocalCounter("atomic", new LocalCounterOptions().setStriped(true)).failed());
+  }
 }
@@ -417,4 +417,67 @@ public class TimerTest extends VertxTestBase {
     waitUntil(timer::failed);
     assertTrue(timer.cause() instanceof CancellationException);
   }
+
+  @Test
+  public void testTimerWheelTimeout() {
+    // Longer than a wheel revolution
+    testTimerWheelTimeout(1, 600);
+  }
+
+  @Test
+  public void testTimerWheelTimeoutShorterThanTick() {
+    testTimerWheelTimeout(50, 1);
+  }
+
+  private void testTimerWheelTimeout(long tick, long delay) {
+    Vertx vertx = vertx(new VertxOptions().setTimerWheelEnabled(true).setTimerWheelTickDuration(tick));
+    ContextInternal ctx = ((VertxInternal) vertx).createEventLoopContext();
+    ctx.runOnContext(v -> {
+      long now = System.nanoTime();
+      ctx.setTimeout(delay, id -> {
+        assertTrue(System.nanoTime() - now >= TimeUnit.MILLISECONDS.toNanos(delay));
+        assertSame(ctx, Vertx.currentContext());
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testTimerWheelCancelTimeout() {
+    Vertx vertx = vertx(new VertxOptions().setTimerWheelEnabled(true).setTimerWheelTickDuration(1));
+    ContextInternal ctx = ((VertxInternal) vertx).createEventLoopContext();
+    AtomicBoolean fired = new AtomicBoolean();
+    long id = ctx.setTimeout(20, timerID -> fired.set(true));
+    ctx.runOnContext(v -> {
+      ctx.setTimeout(50, timerID -> {
+        assertFalse(fired.get());
+        testComplete();
+      });
+    });
+    assertTrue(vertx.cancelTimer(id));
+    assertFalse(vertx.cancelTimer(id));
+    await();
+  }
+
+  @Test
+  public void testTimerWheelManyTimeouts() {
+    Vertx vertx = vertx(new VertxOptions().setTimerWheelEnabled(true).setTimerWheelTickDuration(1));
+    ContextInternal ctx = ((VertxInternal) vertx).createEventLoopContext();
+    int num = 10_000;
+    AtomicInteger fired = new AtomicInteger();
+    ctx.runOnContext(v -> {
+      for (int i = 0;i < num;i++) {
+        long id = ctx.setTimeout(1 + i % 100, timerID -> fired.incrementAndGet());
+        if (i % 2 == 0) {
+          vertx.cancelTimer(id);
+        }
+      }
+      ctx.setTimeout(200, id -> {
+        assertEquals(num / 2, fired.get());
+        testComplete();
+      });
+    });
+    await();
+  }
 }
@@ -254,6 +254,12 @@ public class VertxOptionsTest extends VertxTestBase {
     options.setWarningExceptionTimeUnit(warningExceptionTimeUnit);
     options.setBlockedThreadCheckIntervalUnit(blockedThreadCheckIntervalUnit);
     options.setUseDaemonThread(useDaemonThread);
+    options.setTimerWheelEnabled(true);
+    options.setTimerWheelTickDuration(5);
+    options.setTimerWheelTickDurationUnit(TimeUnit.MICROSECONDS);
+    options.setEventLoopSamplingInterval(50);
+    options.setEventLoopSamplingIntervalUnit(TimeUnit.MICROSECONDS);
+    options.setEventLoopSlowTaskSamples(7);
 
     options = new VertxOptions(options);
     assertEquals(clusterPort, options.getEventBusOptions().getPort());
@@ -282,6 +288,12 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(warningExceptionTimeUnit, options.getWarningExceptionTimeUnit());
     assertEquals(blockedThreadCheckIntervalUnit, options.getBlockedThreadCheckIntervalUnit());
     assertEquals(useDaemonThread, options.getUseDaemonThread());
+    assertTrue(options.isTimerWheelEnabled());
+    assertEquals(5, options.getTimerWheelTickDuration());
+    assertEquals(TimeUnit.MICROSECONDS, options.getTimerWheelTickDurationUnit());
+    assertEquals(50, options.getEventLoopSamplingInterval());
+    assertEquals(TimeUnit.MICROSECONDS, options.getEventLoopSamplingIntervalUnit());
+    assertEquals(7, options.getEventLoopSlowTaskSamples());
   }
 
   @Test
@@ -308,6 +320,12 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(def.getWarningExceptionTimeUnit(), json.getWarningExceptionTimeUnit());
     assertEquals(def.getBlockedThreadCheckIntervalUnit(), json.getBlockedThreadCheckIntervalUnit());
     assertEquals(def.getUseDaemonThread(), json.getUseDaemonThread());
+    assertEquals(def.isTimerWheelEnabled(), json.isTimerWheelEnabled());
+    assertEquals(def.getTimerWheelTickDuration(), json.getTimerWheelTickDuration());
+    assertEquals(def.getTimerWheelTickDurationUnit(), json.getTimerWheelTickDurationUnit());
+    assertEquals(def.getEventLoopSamplingInterval(), json.getEventLoopSamplingInterval());
+    assertEquals(def.getEventLoopSamplingIntervalUnit(), json.getEventLoopSamplingIntervalUnit());
+    assertEquals(def.getEventLoopSlowTaskSamples(), json.getEventLoopSlowTaskSamples());
   }
 
   @Test
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.virtualthread;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.*;
+import io.vertx.test.core.TestUtils;
+import io.vertx.test.core.VertxTestBase;
+import io.vertx.test.http.HttpTestBase;
+import io.vertx.tests.deployment.VirtualThreadDeploymentTest;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class VirtualThreadPerRequestTest extends VertxTestBase {
+
+  private HttpServer server;
+
+  private void startServer(HttpServerOptions options, Handler<HttpServerRequest> handler) {
+    server = vertx.createHttpServer(options.setVirtualThreadPerRequest(true)).requestHandler(handler);
+    server.listen(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST).await();
+  }
+
+  @Test
+  public void testRequestsAreConcurrent() {
+    Assume.assumeTrue(isVirtualThreadAvailable());
+    int numReq = 20;
+    AtomicInteger inflight = new AtomicInteger();
+    AtomicInteger max = new AtomicInteger();
+    startServer(new HttpServerOptions(), req -> {
+      assertTrue(VirtualThreadDeploymentTest.isVirtual(Thread.currentThread()));
+      max.accumulateAndGet(inflight.incrementAndGet(), Math::max);
+      try {
+        // Simulate a blocking backend
+        Thread.sleep(100);
+      } catch (InterruptedException e) {
+        fail(e);
+      }
+      inflight.decrementAndGet();
+      req.response().end();
+    });
+    HttpClient client = vertx.createHttpClient(new PoolOptions().setHttp1MaxSize(numReq));
+    List<Future<Buffer>> responses = new ArrayList<>();
+    for (int i = 0;i < numReq;i++) {
+      responses.add(client.request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/")
+        .compose(req -> req.send().compose(HttpClientResponse::body)));
+    }
+    Future.all(responses).await();
+    // More than the worker pool would allow with a worker verticle
+    assertEquals(numReq, max.get());
+  }
+
+  @Test
+  public void testHttp2StreamsAreConcurrent() {
+    Assume.assumeTrue(isVirtualThreadAvailable());
+    int numReq = 10;
+    AtomicInteger inflight = new AtomicInteger();
+    AtomicInteger max = new AtomicInteger();
+    startServer(new HttpServerOptions(), req -> {
+      max.accumulateAndGet(inflight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(100);
+      } catch (InterruptedException e) {
+        fail(e);
+      }
+      inflight.decrementAndGet();
+      req.response().end();
+    });
+    HttpClient client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false), new PoolOptions().setHttp2MaxSize(1));
+    List<Future<Buffer>> responses = new ArrayList<>();
+    for (int i = 0;i < numReq;i++) {
+      responses.add(client.request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/")
+        .compose(req -> req.send().compose(HttpClientResponse::body)));
+    }
+    Future.all(responses).await();
+    assertEquals(numReq, max.get());
+  }
+
+  @Test
+  public void testPipelinedRequestsStayInOrder() {
+    Assume.assumeTrue(isVirtualThreadAvailable());
+    int numReq = 5;
+    AtomicInteger inflight = new AtomicInteger();
+    List<String> received = Collections.synchronizedList(new ArrayList<>());
+    startServer(new HttpServerOptions(), req -> {
+      assertEquals(1, inflight.incrementAndGet());
+      received.add(req.path());
+      try {
+        Thread.sleep(20);
+      } catch (InterruptedException e) {
+        fail(e);
+      }
+      inflight.decrementAndGet();
+      req.response().end(req.path());
+    });
+    HttpClient client = vertx.createHttpClient(new HttpClientOptions().setPipelining(true), new PoolOptions().setHttp1MaxSize(1));
+    List<Future<Buffer>> responses = new ArrayList<>();
+    List<String> expected = new ArrayList<>();
+    for (int i = 0;i < numReq;i++) {
+      String path = "/" + i;
+      expected.add(path);
+      responses.add(client.request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, path)
+        .compose(req -> req.send().compose(HttpClientResponse::body)));
+    }
+    Future.all(responses).await();
+    assertEquals(expected, received);
+    for (int i = 0;i < numReq;i++) {
+      assertEquals(expected.get(i), responses.get(i).result().toString());
+    }
+  }
+
+  @Test
+  public void testAwaitRequestBody() {
+    Assume.assumeTrue(isVirtualThreadAvailable());
+    Buffer body = Buffer.buffer(TestUtils.randomAlphaString(1024 * 1024));
+    startServer(new HttpServerOptions(), req -> {
+      Buffer received = req.body().await();
+      req.response().end(String.valueOf(received.length()));
+    });
+    HttpClient client = vertx.createHttpClient();
+    Buffer response = client.request(HttpMethod.POST, HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/")
+      .compose(req -> req.send(body).compose(HttpClientResponse::body))
+      .await();
+    assertEquals(String.valueOf(body.length()), response.toString());
+  }
+
+  @Test
+  public void testVirtualThreadsNotAvailable() {
+    Assume.assumeFalse(isVirtualThreadAvailable());
+    vertx.createHttpServer(new HttpServerOptions().setVirtualThreadPerRequest(true))
+      .requestHandler(req -> {})
+      .listen(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST)
+      .onComplete(onFailure(err -> testComplete()));
+    await();
+  }
+}
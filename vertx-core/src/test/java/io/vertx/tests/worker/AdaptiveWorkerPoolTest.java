@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.worker;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.impl.AdaptivePoolSizer;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class AdaptiveWorkerPoolTest extends VertxTestBase {
+
+  @Override
+  protected VertxOptions getOptions() {
+    return super.getOptions()
+      .setWorkerPoolSize(8)
+      .setWorkerPoolMinSize(1)
+      .setWorkerPoolTargetLatency(5)
+      .setWorkerPoolTargetLatencyUnit(TimeUnit.MILLISECONDS);
+  }
+
+  private AdaptivePoolSizer sizer() {
+    return (AdaptivePoolSizer) ((VertxInternal) vertx).workerPool().metrics();
+  }
+
+  private Future<?> executeBlocking(Set<Thread> threads, long sleepMillis) {
+    return vertx.executeBlocking(() -> {
+      threads.add(Thread.currentThread());
+      Thread.sleep(sleepMillis);
+      return null;
+    }, false);
+  }
+
+  @Test
+  public void testGrowUnderLoad() throws Exception {
+    assertEquals(1, sizer().size());
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0;i < 64;i++) {
+      futures.add(executeBlocking(threads, 20));
+    }
+    awaitFuture(Future.all(futures));
+    assertTrue(threads.size() > 1);
+    assertTrue(threads.size() <= 8);
+    assertTrue(sizer().size() > 1);
+  }
+
+  @Test
+  public void testShrinkWhenIdle() throws Exception {
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0;i < 64;i++) {
+      futures.add(executeBlocking(threads, 20));
+    }
+    awaitFuture(Future.all(futures));
+    int size = sizer().size();
+    assertTrue(size > 1);
+    // Queue latency of light tasks is well under the target
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (sizer().size() > 1 && System.currentTimeMillis() < deadline) {
+      awaitFuture(executeBlocking(threads, 0));
+      Thread.sleep(5);
+    }
+    assertEquals(1, sizer().size());
+  }
+
+  @Test
+  public void testGrowWhenWorkersAreBlocked() throws Exception {
+    CountDownLatch blocked = new CountDownLatch(1);
+    Future<?> blocking = vertx.executeBlocking(() -> {
+      blocked.await(20, TimeUnit.SECONDS);
+      return null;
+    }, false);
+    try {
+      // No task is ever dequeued while the single worker is blocked, the pool must grow on enqueue
+      Set<Thread> threads = ConcurrentHashMap.newKeySet();
+      Future<?> task = executeBlocking(threads, 0);
+      long deadline = System.currentTimeMillis() + 10_000;
+      while (!task.isComplete() && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+        executeBlocking(threads, 0);
+      }
+      assertTrue(task.isComplete());
+      assertTrue(sizer().size() > 1);
+    } finally {
+      blocked.countDown();
+    }
+    awaitFuture(blocking);
+  }
+
+  @Test
+  public void testOrderedTasksDoNotGrowThePool() throws Exception {
+    Context context = vertx.getOrCreateContext();
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0;i < 20;i++) {
+      futures.add(context.executeBlocking(() -> {
+        threads.add(Thread.currentThread());
+        Thread.sleep(10);
+        return null;
+      }));
+    }
+    awaitFuture(Future.all(futures));
+    assertEquals(1, sizer().size());
+  }
+}